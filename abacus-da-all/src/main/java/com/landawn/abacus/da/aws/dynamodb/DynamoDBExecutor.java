@@ -26,6 +26,8 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.IntFunction;
@@ -176,15 +178,20 @@ public final class DynamoDBExecutor {
         N.registerConverter(AttributeValue.class, converter);
     }
 
+    /**
+     * The system property which, when set to {@code true}, makes {@link #DEFAULT_ASYNC_EXECUTOR} run each task on a new
+     * virtual thread instead of a platform thread pool. It's ignored, with a warning, if the JVM doesn't support virtual
+     * threads (JDK 21+).
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY = "abacus.da.async.virtualThreads";
+
     /**
      * Shared, library-default {@link AsyncExecutor} used for asynchronous operations by all executors
      * constructed without an explicit {@code AsyncExecutor}. It is a single static, CPU-sized thread
-     * pool (core threads = max(64, CPU_CORES * 8), max threads = max(128, CPU_CORES * 16)).
+     * pool (core threads = max(64, CPU_CORES * 8), max threads = max(128, CPU_CORES * 16)), or a
+     * virtual-thread-per-task executor if the system property {@link #VIRTUAL_THREADS_PROPERTY} is {@code true}.
      */
-    static final AsyncExecutor DEFAULT_ASYNC_EXECUTOR = new AsyncExecutor(//
-            N.max(64, IOUtil.CPU_CORES * 8), // coreThreadPoolSize
-            N.max(128, IOUtil.CPU_CORES * 16), // maxThreadPoolSize
-            180L, TimeUnit.SECONDS);
+    static final AsyncExecutor DEFAULT_ASYNC_EXECUTOR = createDefaultAsyncExecutor();
 
     private final AmazonDynamoDBClient dynamoDBClient;
 
@@ -527,6 +534,50 @@ public final class DynamoDBExecutor {
         return asyncDBExecutor;
     }
 
+    /**
+     * Creates an {@link AsyncExecutor} which runs each task on a new virtual thread. A blocking call on a virtual
+     * thread doesn't hold a platform thread, so the number of requests in flight isn't bounded by a thread pool.
+     *
+     * <p>On JDK 21 to 23, a virtual thread which blocks inside a {@code synchronized} block of the client library is
+     * pinned to its carrier thread; run with {@code -Djdk.tracePinnedThreads=short} to find such blocks.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * DynamoDBExecutor executor = new DynamoDBExecutor(dynamoDBClient, null, DynamoDBExecutor.newVirtualThreadAsyncExecutor());
+     * executor.async().getItem("users", key);   // runs on a virtual thread
+     * }</pre>
+     *
+     * @return a new virtual-thread-per-task {@code AsyncExecutor}
+     * @throws UnsupportedOperationException if the JVM doesn't support virtual threads (JDK 21+)
+     * @see #VIRTUAL_THREADS_PROPERTY
+     */
+    public static AsyncExecutor newVirtualThreadAsyncExecutor() throws UnsupportedOperationException {
+        final ExecutorService executorService;
+
+        try {
+            executorService = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads require JDK 21 or later", e);
+        }
+
+        return new AsyncExecutor(executorService);
+    }
+
+    private static AsyncExecutor createDefaultAsyncExecutor() {
+        if (Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY)) {
+            try {
+                return newVirtualThreadAsyncExecutor();
+            } catch (final UnsupportedOperationException e) {
+                logger.warn("System property " + VIRTUAL_THREADS_PROPERTY + " is ignored: virtual threads require JDK 21 or later");
+            }
+        }
+
+        return new AsyncExecutor(//
+                N.max(64, IOUtil.CPU_CORES * 8), // coreThreadPoolSize
+                N.max(128, IOUtil.CPU_CORES * 16), // maxThreadPoolSize
+                180L, TimeUnit.SECONDS);
+    }
+
     /**
      * Creates a single-attribute key map for DynamoDB operations.
      *
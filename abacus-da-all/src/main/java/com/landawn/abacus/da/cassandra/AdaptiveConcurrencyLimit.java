@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.cassandra;
+
+/**
+ * A limit on the number of requests in flight which adapts to the latency and the failures of the requests, by
+ * additive increase and multiplicative decrease.
+ *
+ * <p>While the requests complete within twice the lowest latency observed, which approximates the latency of an idle
+ * cluster, and the limit is reached, the limit grows by one per limit's worth of completed requests, i.e. by about
+ * one per round trip. A slower request shrinks the limit by 10%, and a failed one by half, so a cluster which starts
+ * queueing or timing out gets fewer requests until it recovers. The lowest latency slowly drifts up to the observed
+ * latencies, so that a lasting change of the cluster's latency doesn't pin the limit to its minimum.</p>
+ */
+final class AdaptiveConcurrencyLimit {
+
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double SLOW_BACKOFF = 0.9;
+    private static final double FAILURE_BACKOFF = 0.5;
+    private static final long BASELINE_DRIFT = 1000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private double limit;
+    private int inFlight = 0;
+    private long baselineNanos = Long.MAX_VALUE;
+
+    AdaptiveConcurrencyLimit(final int initialLimit, final int minLimit, final int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Waits until fewer requests than the limit are in flight, and counts one more.
+     */
+    synchronized void acquire() throws InterruptedException {
+        while (inFlight >= (int) limit) {
+            wait();
+        }
+
+        inFlight++;
+    }
+
+    /**
+     * Counts a completed request, and adapts the limit to its latency or failure.
+     */
+    synchronized void release(final long latencyNanos, final boolean failed) {
+        final boolean limited = inFlight >= (int) limit;
+        inFlight--;
+
+        if (failed) {
+            limit = Math.max(minLimit, limit * FAILURE_BACKOFF);
+        } else {
+            if (latencyNanos < baselineNanos) {
+                baselineNanos = latencyNanos;
+            } else {
+                baselineNanos += (latencyNanos - baselineNanos) / BASELINE_DRIFT;
+            }
+
+            if (latencyNanos > baselineNanos * LATENCY_TOLERANCE) {
+                limit = Math.max(minLimit, limit * SLOW_BACKOFF);
+            } else if (limited) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+
+        notifyAll();
+    }
+
+    /**
+     * Waits until no request is in flight.
+     */
+    synchronized void awaitIdle() {
+        boolean interrupted = false;
+
+        while (inFlight > 0) {
+            try {
+                wait();
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    synchronized int limit() {
+        return (int) limit;
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+}
@@ -15,7 +15,10 @@ package com.landawn.abacus.da.cassandra;
 
 import java.util.Map;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BatchType;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
@@ -29,6 +32,8 @@ import com.landawn.abacus.util.u.Nullable;
 import com.landawn.abacus.util.u.Optional;
 import com.landawn.abacus.util.stream.Stream;
 
+import reactor.core.publisher.Flux;
+
 /**
  * Asynchronous facade for {@link CassandraExecutor} backed by the DataStax OSS Java driver.
  *
@@ -42,6 +47,10 @@ import com.landawn.abacus.util.stream.Stream;
  * {@code query}, {@code stream}, {@code exists}, {@code count}, {@code insert}/{@code update}/{@code delete});
  * each result is wrapped in a {@code ContinuableFuture}.</p>
  *
+ * <p><b>Reactive queries:</b> the {@code flux} methods return a cold Reactor {@code Flux} of mapped
+ * rows which fetches the pages of the result as the subscriber requests rows, with backpressure
+ * and cancellation, instead of blocking the consuming thread at each page boundary.</p>
+ *
  * @see CassandraExecutor
  * @see AsyncCassandraExecutorBase
  */
@@ -49,6 +58,10 @@ public final class AsyncCassandraExecutor extends AsyncCassandraExecutorBase<Row
 
     private final CassandraExecutor cassandraExecutor;
 
+    private volatile int prefetchPages = ResultSets.DEFAULT_PREFETCH_PAGES; //NOSONAR
+
+    private volatile int maxPrefetchedRows = ResultSets.DEFAULT_MAX_PREFETCHED_ROWS; //NOSONAR
+
     /**
      * Package-private constructor invoked by {@link CassandraExecutor#async()}; not intended for
      * direct use.
@@ -85,6 +98,52 @@ public final class AsyncCassandraExecutor extends AsyncCassandraExecutorBase<Row
         return cassandraExecutor;
     }
 
+    /**
+     * Returns the maximum number of pages fetched ahead of the page being iterated by the result sets and streams
+     * returned by this executor.
+     *
+     * @return the number of pages fetched ahead
+     * @see #setPagePrefetch(int, int)
+     */
+    public int getPrefetchPages() {
+        return prefetchPages;
+    }
+
+    /**
+     * Returns the maximum number of rows held by the pages fetched ahead by the result sets and streams returned by
+     * this executor.
+     *
+     * @return the maximum number of rows fetched ahead
+     * @see #setPagePrefetch(int, int)
+     */
+    public int getMaxPrefetchedRows() {
+        return maxPrefetchedRows;
+    }
+
+    /**
+     * Sets how far the result sets and streams returned by this executor fetch pages ahead of the page being iterated,
+     * as {@link ResultSets#wrap(com.datastax.oss.driver.api.core.cql.AsyncResultSet, int, int)} does. By default, no
+     * page is fetched ahead, so a query which reads a single row doesn't request a page for nothing; fetching pages
+     * ahead keeps a large export from stopping for a round trip at each page boundary.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * executor.async().setPagePrefetch(3, 50_000);   // up to 3 pages, 50k rows, fetched ahead
+     * executor.async().setPagePrefetch(0, 0);        // fetch each page once the previous one is exhausted (the default)
+     * }</pre>
+     *
+     * @param prefetchPages the maximum number of pages fetched ahead
+     * @param maxPrefetchedRows the maximum number of rows held by the pages fetched ahead
+     * @throws IllegalArgumentException if {@code prefetchPages} or {@code maxPrefetchedRows} is negative
+     */
+    public void setPagePrefetch(final int prefetchPages, final int maxPrefetchedRows) {
+        N.checkArgNotNegative(prefetchPages, "prefetchPages");
+        N.checkArgNotNegative(maxPrefetchedRows, "maxPrefetchedRows");
+
+        this.prefetchPages = prefetchPages;
+        this.maxPrefetchedRows = maxPrefetchedRows;
+    }
+
     /**
      * Asynchronously executes the given CQL query and returns a future that completes with a
      * {@link Stream} where each row is exposed as an {@link Object} array of column values.
@@ -200,6 +259,138 @@ public final class AsyncCassandraExecutor extends AsyncCassandraExecutorBase<Row
         return execute(statement).map(resultSet -> Stream.of(resultSet.iterator()).map(cassandraExecutor.createRowMapper(rowMapper)));
     }
 
+    /**
+     * Returns a cold {@link Flux} of the rows of the given CQL query, each mapped to an instance of
+     * {@code targetClass}. The query is prepared, if it isn't cached yet, and executed when the
+     * first row is requested, and each further page is fetched with
+     * {@link AsyncResultSet#fetchNextPage()} only once the rows of the previous one have been
+     * emitted and more are requested.
+     *
+     * <p>Unlike {@link #stream(String, BiFunction, Object...)}, no thread is blocked waiting for
+     * a page, and at most one page is held per subscriber. Cancelling the subscription stops the
+     * paging. Each subscription executes the query again.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * AsyncCassandraExecutor async = executor.async();
+     *
+     * // Typical: process a large table with bounded memory, 100 rows at a time.
+     * async.flux(User.class, "SELECT * FROM users WHERE status = ?", "active")
+     *      .limitRate(100)
+     *      .subscribe(user -> index(user));
+     *
+     * // Typical: only the pages needed for the first 10 rows are fetched.
+     * List<User> first = async.flux(User.class, "SELECT * FROM users").take(10).collectList().block();
+     *
+     * // Edge: the statement is prepared asynchronously on subscription, so a malformed query
+     * // fails the Flux rather than throwing from async.flux(...).
+     * async.flux(User.class, "SELECT FROM users").blockFirst();   // throws the driver parse failure
+     * }</pre>
+     *
+     * @param <T> the type of the emitted elements
+     * @param targetClass the class to map each row to
+     * @param query the CQL query to execute
+     * @param parameters the positional query parameters
+     * @return a Flux of the mapped rows
+     * @throws IllegalArgumentException if {@code targetClass} is {@code null}
+     */
+    public <T> Flux<T> flux(final Class<T> targetClass, final String query, final Object... parameters) throws IllegalArgumentException {
+        N.checkArgNotNull(targetClass, "targetClass");
+
+        return rowFlux(query, parameters, () -> cassandraExecutor.createRowMapper(targetClass));
+    }
+
+    /**
+     * Returns a cold {@link Flux} of the rows of the given statement, each mapped to an instance
+     * of {@code targetClass}, fetching the pages on demand as described in
+     * {@link #flux(Class, String, Object...)}.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * AsyncCassandraExecutor async = executor.async();
+     *
+     * Statement<?> stmt = SimpleStatement.newInstance("SELECT * FROM users").setPageSize(500);
+     * Flux<User> users = async.flux(User.class, stmt);  // nothing is executed until subscription
+     * long count = users.count().block();                // fetches every page, 500 rows at a time
+     * }</pre>
+     *
+     * @param <T> the type of the emitted elements
+     * @param targetClass the class to map each row to
+     * @param statement the CQL statement to execute
+     * @return a Flux of the mapped rows
+     * @throws IllegalArgumentException if {@code targetClass} or {@code statement} is {@code null}
+     */
+    public <T> Flux<T> flux(final Class<T> targetClass, final Statement<?> statement) throws IllegalArgumentException {
+        N.checkArgNotNull(targetClass, "targetClass");
+        N.checkArgNotNull(statement, "statement");
+
+        return rowFlux(statement, () -> cassandraExecutor.createRowMapper(targetClass));
+    }
+
+    /**
+     * Returns a cold {@link Flux} of the rows of the given CQL query, each mapped by the supplied
+     * row mapper, fetching the pages on demand as described in {@link #flux(Class, String, Object...)}.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * AsyncCassandraExecutor async = executor.async();
+     *
+     * Flux<String> names = async.flux("SELECT name FROM users WHERE status = ?",
+     *     (defs, row) -> row.getString("name"), "active");
+     * names.buffer(1000).concatMap(batch -> Mono.fromFuture(export(batch))).blockLast();
+     * }</pre>
+     *
+     * @param <T> the type of the emitted elements
+     * @param query the CQL query to execute
+     * @param rowMapper a function that maps the column definitions and each row to a result object
+     * @param parameters the positional query parameters
+     * @return a Flux of the mapped rows
+     * @throws IllegalArgumentException if {@code rowMapper} is {@code null}
+     */
+    public <T> Flux<T> flux(final String query, final BiFunction<ColumnDefinitions, Row, T> rowMapper, final Object... parameters)
+            throws IllegalArgumentException {
+        N.checkArgNotNull(rowMapper, cs.rowMapper);
+
+        return rowFlux(query, parameters, () -> cassandraExecutor.createRowMapper(rowMapper));
+    }
+
+    /**
+     * Returns a cold {@link Flux} of the rows of the given statement, each mapped by the supplied
+     * row mapper, fetching the pages on demand as described in {@link #flux(Class, String, Object...)}.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * AsyncCassandraExecutor async = executor.async();
+     *
+     * Statement<?> stmt = SimpleStatement.newInstance("SELECT id FROM users").setPageSize(1000);
+     * Flux<Integer> ids = async.flux(stmt, (defs, row) -> row.getInt("id"));
+     * ids.takeWhile(id -> id < 100).subscribe(System.out::println); // paging stops once takeWhile cancels
+     * }</pre>
+     *
+     * @param <T> the type of the emitted elements
+     * @param statement the CQL statement to execute
+     * @param rowMapper a function that maps the column definitions and each row to a result object
+     * @return a Flux of the mapped rows
+     * @throws IllegalArgumentException if {@code statement} or {@code rowMapper} is {@code null}
+     */
+    public <T> Flux<T> flux(final Statement<?> statement, final BiFunction<ColumnDefinitions, Row, T> rowMapper) throws IllegalArgumentException {
+        N.checkArgNotNull(statement, "statement");
+        N.checkArgNotNull(rowMapper, cs.rowMapper);
+
+        return rowFlux(statement, () -> cassandraExecutor.createRowMapper(rowMapper));
+    }
+
+    private <T> Flux<T> rowFlux(final Statement<?> statement, final Supplier<? extends Function<? super Row, ? extends T>> mapperFactory) {
+        return RowPublisher.create(() -> cassandraExecutor.session().executeAsync(statement), mapperFactory);
+    }
+
+    private <T> Flux<T> rowFlux(final String query, final Object[] parameters, final Supplier<? extends Function<? super Row, ? extends T>> mapperFactory) {
+        // prepared on subscription, without blocking the subscribing thread on the PREPARE round trip.
+        return RowPublisher.create(
+                () -> cassandraExecutor.prepareStatementAsync(query, parameters).thenCompose(statement -> cassandraExecutor.session().executeAsync(statement)),
+                mapperFactory);
+    }
+
     /**
      * Asynchronously executes the given CQL query and returns a future that completes with the
      * first row mapped to an instance of {@code targetClass}, or an empty {@link Optional} if
@@ -327,7 +518,8 @@ public final class AsyncCassandraExecutor extends AsyncCassandraExecutorBase<Row
     /**
      * Asynchronously executes a parameterless CQL query. The driver's
      * {@link com.datastax.oss.driver.api.core.cql.AsyncResultSet AsyncResultSet} is wrapped via
-     * {@link ResultSets#wrap(com.datastax.oss.driver.api.core.cql.AsyncResultSet)} so that callers
+     * {@link ResultSets#wrap(com.datastax.oss.driver.api.core.cql.AsyncResultSet, int, int)}, with the
+     * {@linkplain #setPagePrefetch(int, int) page prefetch} of this executor, so that callers
      * receive a familiar synchronous {@link ResultSet} interface.
      *
      * <p><b>Usage Examples:</b></p>
@@ -358,13 +550,14 @@ public final class AsyncCassandraExecutor extends AsyncCassandraExecutorBase<Row
     @Override
     public ContinuableFuture<ResultSet> execute(final String query) {
         return ContinuableFuture.wrap(cassandraExecutor.session().executeAsync(cassandraExecutor.prepareStatement(query)).toCompletableFuture())
-                .map(ResultSets::wrap);
+                .map(this::wrap);
     }
 
     /**
      * Asynchronously executes a CQL query with positional parameters. The driver's
      * {@link com.datastax.oss.driver.api.core.cql.AsyncResultSet AsyncResultSet} is wrapped via
-     * {@link ResultSets#wrap(com.datastax.oss.driver.api.core.cql.AsyncResultSet)}.
+     * {@link ResultSets#wrap(com.datastax.oss.driver.api.core.cql.AsyncResultSet, int, int)}, with the
+     * {@linkplain #setPagePrefetch(int, int) page prefetch} of this executor.
      *
      * <p><b>Usage Examples:</b></p>
      * <pre>{@code
@@ -395,13 +588,14 @@ public final class AsyncCassandraExecutor extends AsyncCassandraExecutorBase<Row
     @Override
     public ContinuableFuture<ResultSet> execute(final String query, final Object... parameters) {
         return ContinuableFuture.wrap(cassandraExecutor.session().executeAsync(cassandraExecutor.prepareStatement(query, parameters)).toCompletableFuture())
-                .map(ResultSets::wrap);
+                .map(this::wrap);
     }
 
     /**
      * Asynchronously executes a CQL query with named parameters. The driver's
      * {@link com.datastax.oss.driver.api.core.cql.AsyncResultSet AsyncResultSet} is wrapped via
-     * {@link ResultSets#wrap(com.datastax.oss.driver.api.core.cql.AsyncResultSet)}.
+     * {@link ResultSets#wrap(com.datastax.oss.driver.api.core.cql.AsyncResultSet, int, int)}, with the
+     * {@linkplain #setPagePrefetch(int, int) page prefetch} of this executor.
      *
      * <p><b>Usage Examples:</b></p>
      * <pre>{@code
@@ -430,13 +624,14 @@ public final class AsyncCassandraExecutor extends AsyncCassandraExecutorBase<Row
     @Override
     public ContinuableFuture<ResultSet> execute(final String query, final Map<String, Object> parameters) {
         return ContinuableFuture.wrap(cassandraExecutor.session().executeAsync(cassandraExecutor.prepareStatement(query, parameters)).toCompletableFuture())
-                .map(ResultSets::wrap);
+                .map(this::wrap);
     }
 
     /**
      * Asynchronously executes a pre-built {@link Statement}. The driver's
      * {@link com.datastax.oss.driver.api.core.cql.AsyncResultSet AsyncResultSet} is wrapped via
-     * {@link ResultSets#wrap(com.datastax.oss.driver.api.core.cql.AsyncResultSet)}.
+     * {@link ResultSets#wrap(com.datastax.oss.driver.api.core.cql.AsyncResultSet, int, int)}, with the
+     * {@linkplain #setPagePrefetch(int, int) page prefetch} of this executor.
      *
      * <p><b>Usage Examples:</b></p>
      * <pre>{@code
@@ -465,6 +660,38 @@ public final class AsyncCassandraExecutor extends AsyncCassandraExecutorBase<Row
      */
     @Override
     public ContinuableFuture<ResultSet> execute(final Statement<?> statement) {
-        return ContinuableFuture.wrap(cassandraExecutor.session().executeAsync(statement).toCompletableFuture()).map(ResultSets::wrap);
+        return ContinuableFuture.wrap(cassandraExecutor.session().executeAsync(statement).toCompletableFuture()).map(this::wrap);
+    }
+
+    /**
+     * Asynchronously prepares the given CQL query, or mapper identifier, through the prepared
+     * statement cache of the backing executor, without blocking the calling thread.
+     *
+     * <p>If the statement is already cached, the returned future is already completed; if another
+     * caller is preparing it, the future completes with that preparation. The statement is then
+     * reused by every synchronous and asynchronous execution of the same CQL.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * AsyncCassandraExecutor async = executor.async();
+     *
+     * // Typical: prepare the hot queries at startup, in parallel.
+     * List<ContinuableFuture<PreparedStatement>> futures = N.map(queries, async::prepare);
+     * for (ContinuableFuture<PreparedStatement> f : futures) {
+     *     f.get();                                       // throws if a query is malformed
+     * }
+     * }</pre>
+     *
+     * @param query the CQL text or mapper identifier
+     * @return a future that completes with the prepared statement
+     * @throws IllegalArgumentException if {@code query} is {@code null}
+     * @see CassandraExecutor#preparedStatementCache()
+     */
+    public ContinuableFuture<PreparedStatement> prepare(final String query) throws IllegalArgumentException {
+        return ContinuableFuture.wrap(cassandraExecutor.getOrPrepareStatementAsync(query).toCompletableFuture());
+    }
+
+    private ResultSet wrap(final AsyncResultSet asyncResultSet) {
+        return ResultSets.wrap(asyncResultSet, prefetchPages, maxPrefetchedRows);
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.cassandra;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.landawn.abacus.da.cassandra.CassandraExecutor.BulkExecuteSettings;
+
+/**
+ * Executes one statement per item of an iterator with {@code executeAsync}, keeping the number of requests in flight
+ * under an {@link AdaptiveConcurrencyLimit}. The iterator is consumed as the requests complete, so it may be larger
+ * than the heap.
+ */
+final class BulkExecution {
+
+    private BulkExecution() {
+        // utility class.
+    }
+
+    static BulkWriteResult execute(final CqlSession session, final Iterator<?> items, final Function<Object, ? extends Statement<?>> binder,
+            final BulkExecuteSettings settings) {
+        final long startTime = System.nanoTime();
+        final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(settings.initialInFlight(), settings.minInFlight(), settings.maxInFlight());
+        final Queue<BulkWriteResult.Failure> failures = new ConcurrentLinkedQueue<>();
+        long itemCount = 0;
+        long requestCount = 0;
+
+        try {
+            while (items.hasNext()) {
+                final Object item = items.next();
+                itemCount++;
+
+                final Statement<?> stmt = binder.apply(item);
+
+                try {
+                    limit.acquire();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failures.add(new BulkWriteResult.Failure(Collections.singletonList(item), e));
+                    break;
+                }
+
+                final long requestStartTime = System.nanoTime();
+                requestCount++;
+
+                try {
+                    session.executeAsync(stmt).whenComplete((resultSet, e) -> {
+                        if (e != null) {
+                            failures.add(new BulkWriteResult.Failure(Collections.singletonList(item),
+                                    e instanceof CompletionException && e.getCause() != null ? e.getCause() : e));
+                        }
+
+                        limit.release(System.nanoTime() - requestStartTime, e != null);
+                    });
+                } catch (final RuntimeException e) {
+                    failures.add(new BulkWriteResult.Failure(Collections.singletonList(item), e));
+                    limit.release(System.nanoTime() - requestStartTime, true);
+                }
+            }
+        } finally {
+            limit.awaitIdle();
+        }
+
+        return new BulkWriteResult(itemCount, requestCount, System.nanoTime() - startTime, new ArrayList<>(failures));
+    }
+}
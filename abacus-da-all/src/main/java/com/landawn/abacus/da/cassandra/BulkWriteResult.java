@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.cassandra;
+
+import java.util.List;
+
+import com.landawn.abacus.util.ImmutableList;
+
+/**
+ * The outcome of a bulk write, such as {@link CassandraExecutor#batchInsertByPartition(java.util.Collection)}: how many
+ * items were written by how many requests, how long it took, and which items failed and why.
+ *
+ * <p>A bulk write does not stop at the first failed request: the other requests are still sent, and each failure is
+ * reported with the items of its request, so that they can be retried or logged.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * BulkWriteResult result = executor.batchInsertByPartition(events);
+ *
+ * for (BulkWriteResult.Failure failure : result.failures()) {
+ *     logger.warn("Failed to write " + failure.items().size() + " events", failure.cause());
+ * }
+ * }</pre>
+ */
+public final class BulkWriteResult {
+
+    private final long itemCount;
+    private final long requestCount;
+    private final long elapsedNanos;
+    private final ImmutableList<Failure> failures;
+
+    BulkWriteResult(final long itemCount, final long requestCount, final long elapsedNanos, final List<Failure> failures) {
+        this.itemCount = itemCount;
+        this.requestCount = requestCount;
+        this.elapsedNanos = elapsedNanos;
+        this.failures = ImmutableList.copyOf(failures);
+    }
+
+    /**
+     * Returns the number of items submitted.
+     *
+     * @return the number of items
+     */
+    public long itemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Returns the number of requests sent: statements or batches.
+     *
+     * @return the number of requests
+     */
+    public long requestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Returns the number of items which failed.
+     *
+     * @return the number of failed items
+     */
+    public long failedItemCount() {
+        long count = 0;
+
+        for (final Failure failure : failures) {
+            count += failure.items().size();
+        }
+
+        return count;
+    }
+
+    /**
+     * Checks whether every item was written.
+     *
+     * @return {@code true} if no request failed
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Returns the failed requests, with their items and causes.
+     *
+     * @return the failures, empty if every request succeeded
+     */
+    public List<Failure> failures() {
+        return failures;
+    }
+
+    /**
+     * Returns the duration of the bulk write, in nanoseconds.
+     *
+     * @return the elapsed time
+     */
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of items written per second.
+     *
+     * @return the throughput, in items per second
+     */
+    public double itemsPerSecond() {
+        return elapsedNanos == 0 ? 0 : (itemCount - failedItemCount()) * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "{itemCount=" + itemCount + ", requestCount=" + requestCount + ", failedItemCount=" + failedItemCount() + ", elapsedMillis="
+                + elapsedNanos / 1_000_000 + "}";
+    }
+
+    /**
+     * A failed request of a bulk write.
+     */
+    public static final class Failure {
+        private final ImmutableList<Object> items;
+        private final Throwable cause;
+
+        Failure(final List<?> items, final Throwable cause) {
+            this.items = ImmutableList.copyOf(items);
+            this.cause = cause;
+        }
+
+        /**
+         * Returns the items of the failed request: entities or parameters, as they were submitted.
+         *
+         * @return the items which weren't written
+         */
+        public List<Object> items() {
+            return items;
+        }
+
+        /**
+         * Returns the cause of the failure.
+         *
+         * @return the exception which failed the request
+         */
+        public Throwable cause() {
+            return cause;
+        }
+
+        @Override
+        public String toString() {
+            return "{items=" + items.size() + ", cause=" + cause + "}";
+        }
+    }
+}
@@ -27,11 +27,17 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
 import java.util.function.BiFunction;
 import java.util.function.IntFunction;
 
@@ -66,10 +72,6 @@ import com.landawn.abacus.logging.LoggerFactory;
 import com.landawn.abacus.parser.ParserUtil;
 import com.landawn.abacus.parser.ParserUtil.BeanInfo;
 import com.landawn.abacus.parser.ParserUtil.PropInfo;
-import com.landawn.abacus.pool.KeyedObjectPool;
-import com.landawn.abacus.pool.PoolFactory;
-import com.landawn.abacus.pool.Poolable;
-import com.landawn.abacus.pool.PoolableAdapter;
 import com.landawn.abacus.query.AbstractQueryBuilder.SP;
 import com.landawn.abacus.query.QueryUtil;
 import com.landawn.abacus.query.condition.Condition;
@@ -111,10 +113,11 @@ import lombok.experimental.Accessors;
  *
  * <h2>Prepared Statement Caching</h2>
  * <p>Parameterized queries are parsed once via {@link ParsedCql} (which also extracts {@code :name}
- * named-parameter positions) and prepared on first use. The {@link PreparedStatement} is pooled
- * (keyed by the resolved CQL text) up to {@code POOLABLE_LENGTH} characters of query text, so
- * subsequent identical CQL strings reuse the cached server-side preparation; a fresh
- * {@link BoundStatement} is created from the cached preparation on every call. Bind values are
+ * named-parameter positions) and prepared on first use. The {@link PreparedStatement} is cached
+ * (keyed by the resolved CQL text) in a {@link PreparedStatementCache} bounded by the total length
+ * of the cached CQL, so subsequent identical CQL strings reuse the cached server-side preparation,
+ * and concurrent first uses of a CQL string share one preparation; a fresh {@link BoundStatement}
+ * is created from the cached preparation on every call. Bind values are
  * positionally bound after parameter-name resolution and best-effort type conversion against the
  * prepared statement's metadata.</p>
  *
@@ -123,7 +126,10 @@ import lombok.experimental.Accessors;
  * by {@code prepareBatchStatement} when {@code type} is {@code null}) uses Cassandra's batch log for
  * atomicity across partitions at the cost of extra coordination; {@link BatchType#UNLOGGED UNLOGGED}
  * skips the batch log (recommended only for single-partition batches); {@link BatchType#COUNTER
- * COUNTER} is required for counter mutations. Batches do <i>not</i> provide ACID transactions.</p>
+ * COUNTER} is required for counter mutations. Batches do <i>not</i> provide ACID transactions.
+ * {@code batchInsertByPartition}/{@code batchUpdateByPartition} split a large write into concurrent
+ * {@code UNLOGGED} batches which each only target one partition, and {@code bulkExecute} runs one
+ * statement per item of a stream with an adaptive limit on the requests in flight.</p>
  *
  * <h2>Consistency Levels &amp; Statement Settings</h2>
  * <p>Default consistency, serial consistency, page size, per-statement timeout, and query tracing from
@@ -160,7 +166,7 @@ import lombok.experimental.Accessors;
  * </li>
  * <li><strong>Performance Optimizations:</strong>
  *     <ul>
- *     <li>PreparedStatement caching (keyed by resolved CQL text up to {@code POOLABLE_LENGTH}); a fresh BoundStatement per call</li>
+ *     <li>PreparedStatement caching (keyed by resolved CQL text, single-flight, weight-bounded); a fresh BoundStatement per call</li>
  *     <li>Connection reuse and session management</li>
  *     <li>Asynchronous execution exposed via {@link #async()} returning ContinuableFuture-typed results</li>
  *     <li>Efficient type conversion and codec registry support</li>
@@ -303,7 +309,13 @@ public final class CassandraExecutor extends CassandraExecutorBase<Row, ResultSe
 
     private static final Logger logger = LoggerFactory.getLogger(CassandraExecutor.class);
 
-    private final KeyedObjectPool<String, PoolableAdapter<PreparedStatement>> preparedStatementPool = PoolFactory.createKeyedObjectPool(1024, 3000);
+    /**
+     * The maximum weight of the prepared statement cache: about 1M characters of CQL, including a fixed weight per
+     * statement for its metadata.
+     */
+    static final long DEFAULT_PREPARED_STATEMENT_CACHE_WEIGHT = 1024L * 1024;
+
+    private final PreparedStatementCache preparedStatementCache = new PreparedStatementCache(DEFAULT_PREPARED_STATEMENT_CACHE_WEIGHT);
 
     private final CqlSession session;
 
@@ -493,6 +505,125 @@ public final class CassandraExecutor extends CassandraExecutorBase<Row, ResultSe
         return asyncCassandraExecutor;
     }
 
+    /**
+     * Returns the cache of the {@link PreparedStatement}s of this executor, keyed by resolved CQL text, for its
+     * statistics or to invalidate it.
+     *
+     * <p>Concurrent first uses of the same CQL share one {@code PREPARE} request, and the cache is bounded by the
+     * total length of the cached CQL rather than by a number of statements, so long statements are cached too.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * PreparedStatementCache.Stats stats = executor.preparedStatementCache().stats();
+     * logger.info("prepared statements: {}, hit rate: {}", stats.size(), stats.hitRate());
+     * }</pre>
+     *
+     * @return the prepared statement cache of this executor
+     * @see PreparedStatementCache
+     */
+    public PreparedStatementCache preparedStatementCache() {
+        return preparedStatementCache;
+    }
+
+    /**
+     * Prepares, in parallel on the async session, every statement of the {@link CqlMapper} of this executor and the
+     * entity statements of every entity class known so far: those registered by {@link #registerKeys(Class, Collection)}
+     * or already used by an entity method. See {@link #warmUp(Collection)}.
+     *
+     * @return the counts, timings and failures of the warm-up
+     * @see #warmUp(Collection)
+     */
+    public WarmUpResult warmUp() {
+        return warmUp(new ArrayList<>(entityKeyNamesMap.keySet()));
+    }
+
+    /**
+     * Prepares, in parallel on the async session, every statement of the {@link CqlMapper} of this executor and the
+     * entity statements of {@code entityClasses}: the insert and the update of all their properties, and the get and
+     * the delete by key. The prepared statements go into the {@link #preparedStatementCache()}, so that the first
+     * requests after a restart don't pay for a {@code PREPARE} round trip each.
+     *
+     * <p>Only the statement shapes listed above are warmed up, for entities with every property set. Their CQL is
+     * generated with placeholder values, and the CQL templates of the insert, the update and the get are learned from
+     * it, so the first such calls only bind their values. An insert or update which leaves out null or default
+     * properties, or updates only some of them, has another CQL and is still built and prepared on its first use.</p>
+     *
+     * <p>A statement which fails to prepare doesn't stop the warm-up: the failure is reported in the result, and the
+     * statement is prepared again on its first use. The method returns once every preparation has completed.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * CassandraExecutor executor = new CassandraExecutor(session, null, CqlMapper.loadFrom("queries.cql"));
+     *
+     * WarmUpResult result = executor.warmUp(List.of(User.class, Order.class));
+     * logger.info("Warm-up: {}", result); // counts and timings
+     *
+     * if (!result.isSuccess()) {
+     *     result.failures().forEach((statement, cause) -> logger.warn("Failed to prepare: " + statement, cause));
+     * }
+     * }</pre>
+     *
+     * @param entityClasses the entity classes whose statements to prepare
+     * @return the counts, timings and failures of the warm-up
+     * @throws IllegalArgumentException if {@code entityClasses} is {@code null}
+     */
+    public WarmUpResult warmUp(final Collection<? extends Class<?>> entityClasses) throws IllegalArgumentException {
+        N.checkArgNotNull(entityClasses, "entityClasses");
+
+        final long startTime = System.nanoTime();
+        final Map<String, String> statements = new LinkedHashMap<>(); // CqlMapper id or CQL -> query to prepare
+        final Map<String, Throwable> failures = new ConcurrentHashMap<>();
+        int entityClassCount = 0;
+
+        if (cqlMapper != null) {
+            for (final String id : cqlMapper.ids()) {
+                statements.put(id, id);
+            }
+        }
+
+        for (final Class<?> entityClass : entityClasses) {
+            try {
+                for (final String cql : entityCqls(entityClass)) {
+                    statements.putIfAbsent(cql, cql);
+                }
+
+                entityClassCount++;
+            } catch (final RuntimeException e) {
+                failures.put(entityClass.getName(), e);
+            }
+        }
+
+        final long prepareStartTime = System.nanoTime();
+        final LongAccumulator maxPrepareNanos = new LongAccumulator(Math::max, 0);
+        final List<CompletableFuture<PreparedStatement>> futures = new ArrayList<>(statements.size());
+
+        for (final Map.Entry<String, String> entry : statements.entrySet()) {
+            final long statementStartTime = System.nanoTime();
+
+            try {
+                futures.add(getOrPrepareStatementAsync(entry.getValue()).toCompletableFuture().whenComplete((preparedStatement, e) -> {
+                    maxPrepareNanos.accumulate(System.nanoTime() - statementStartTime);
+
+                    if (e != null) {
+                        failures.put(entry.getKey(), e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                    }
+                }));
+            } catch (final RuntimeException e) {
+                failures.put(entry.getKey(), e);
+            }
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).handle((r, e) -> null).join();
+
+        final long endTime = System.nanoTime();
+        final WarmUpResult result = new WarmUpResult(statements.size(), entityClassCount, prepareStartTime - startTime, endTime - prepareStartTime,
+                maxPrepareNanos.get(), failures);
+
+        logger.info("Warmed up prepared statements: {}", result);
+
+        return result;
+    }
+
     /**
      * Registers a custom type codec for the specified Java class.
      *
@@ -1510,6 +1641,210 @@ public final class CassandraExecutor extends CassandraExecutorBase<Row, ResultSe
         return session.execute(statement);
     }
 
+    /**
+     * Inserts {@code entities} as {@code UNLOGGED} batches which each only target one partition, with the default
+     * {@link PartitionBatchSettings}.
+     *
+     * @param entities the entities to insert
+     * @return the numbers of entities and requests, and the failed requests with their entities
+     * @throws IllegalArgumentException if {@code entities} is {@code null} or empty, or contains {@code null}
+     * @see #batchInsertByPartition(Collection, PartitionBatchSettings)
+     */
+    public BulkWriteResult batchInsertByPartition(final Collection<?> entities) {
+        return batchInsertByPartition(entities, new PartitionBatchSettings());
+    }
+
+    /**
+     * Inserts {@code entities} as {@code UNLOGGED} batches which each only target one partition, sent concurrently.
+     *
+     * <p>{@link #batchInsert(Collection, BatchType)} sends all the entities in one {@code LOGGED} batch: when they belong
+     * to many partitions, the coordinator must write the batch log and forward each write to its replicas, and a large
+     * batch triggers the "batch too large" warning or failure. Here, the insert statements are grouped by entity class
+     * and by the routing key the driver computes from the partition key, and each group is sent as one or more batches of
+     * at most {@code maxStatements} statements and {@code maxBytes} bytes, with at most {@code maxInFlight} requests in
+     * flight. A single-partition batch is applied atomically by the replicas of the partition without the batch log.</p>
+     *
+     * <p>Atomicity across partitions is not provided: a failed request leaves the other requests applied, and is reported
+     * with its entities in the returned result rather than thrown.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * BulkWriteResult result = executor.batchInsertByPartition(events, new PartitionBatchSettings().maxInFlight(64));
+     *
+     * if (!result.isSuccess()) {
+     *     retry(result.failures());
+     * }
+     * }</pre>
+     *
+     * @param entities the entities to insert
+     * @param settings the batch size limits and the maximum number of requests in flight
+     * @return the numbers of entities and requests, and the failed requests with their entities
+     * @throws IllegalArgumentException if {@code entities} is {@code null} or empty, or contains {@code null}, or if
+     *         {@code settings} is {@code null}
+     */
+    public BulkWriteResult batchInsertByPartition(final Collection<?> entities, final PartitionBatchSettings settings) {
+        N.checkArgument(N.notEmpty(entities), "'entities' can't be null or empty.");
+        N.checkElementNotNull(entities);
+        N.checkArgNotNull(settings, "settings");
+
+        final List<Object> items = new ArrayList<>(entities);
+        final List<BoundStatement> statements = new ArrayList<>(items.size());
+
+        for (final Object entity : items) {
+            final SP cp = prepareInsert(entity);
+            statements.add(prepareStatement(cp.query(), cp.parameters().toArray()));
+        }
+
+        return PartitionedBatch.execute(this, items, statements, settings.copy());
+    }
+
+    /**
+     * Updates the {@code propNamesToUpdate} of {@code entities} as {@code UNLOGGED} batches which each only target one
+     * partition, with the default {@link PartitionBatchSettings}.
+     *
+     * @param entities the entities to update
+     * @param propNamesToUpdate the properties to update
+     * @return the numbers of entities and requests, and the failed requests with their entities
+     * @throws IllegalArgumentException if {@code entities} or {@code propNamesToUpdate} is {@code null} or empty, or
+     *         {@code entities} contains {@code null}
+     * @see #batchUpdateByPartition(Collection, Collection, PartitionBatchSettings)
+     */
+    public BulkWriteResult batchUpdateByPartition(final Collection<?> entities, final Collection<String> propNamesToUpdate) {
+        return batchUpdateByPartition(entities, propNamesToUpdate, new PartitionBatchSettings());
+    }
+
+    /**
+     * Updates the {@code propNamesToUpdate} of {@code entities} as {@code UNLOGGED} batches which each only target one
+     * partition, sent concurrently, as {@link #batchInsertByPartition(Collection, PartitionBatchSettings)} does for
+     * inserts.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * BulkWriteResult result = executor.batchUpdateByPartition(users, N.asList("status"), new PartitionBatchSettings());
+     * }</pre>
+     *
+     * @param entities the entities to update
+     * @param propNamesToUpdate the properties to update
+     * @param settings the batch size limits and the maximum number of requests in flight
+     * @return the numbers of entities and requests, and the failed requests with their entities
+     * @throws IllegalArgumentException if {@code entities} or {@code propNamesToUpdate} is {@code null} or empty, if
+     *         {@code entities} contains {@code null}, if {@code settings} is {@code null}, or if
+     *         {@code propNamesToUpdate} contains a primary-key property
+     */
+    public BulkWriteResult batchUpdateByPartition(final Collection<?> entities, final Collection<String> propNamesToUpdate,
+            final PartitionBatchSettings settings) {
+        N.checkArgument(N.notEmpty(entities), "'entities' can't be null or empty.");
+        N.checkArgument(N.notEmpty(propNamesToUpdate), "'propNamesToUpdate' can't be null or empty");
+        N.checkElementNotNull(entities);
+        N.checkArgNotNull(settings, "settings");
+
+        final List<Object> items = new ArrayList<>(entities);
+        final List<BoundStatement> statements = new ArrayList<>(items.size());
+
+        for (final Object entity : items) {
+            final SP cp = prepareUpdate(entity, propNamesToUpdate);
+            statements.add(prepareStatement(cp.query(), cp.parameters().toArray()));
+        }
+
+        return PartitionedBatch.execute(this, items, statements, settings.copy());
+    }
+
+    /**
+     * Executes {@code query} once per item of {@code parameters}, with the default {@link BulkExecuteSettings}.
+     *
+     * @param query the CQL text or {@link CqlMapper} id of the statement
+     * @param parameters the parameters of each execution: an entity, a map, an array of values, or a single value
+     * @return the numbers of items and requests, the throughput, and the failed items with their causes
+     * @throws IllegalArgumentException if {@code query} or {@code parameters} is {@code null}, or an item can't be bound
+     * @see #bulkExecute(String, Iterator, BulkExecuteSettings)
+     */
+    public BulkWriteResult bulkExecute(final String query, final Iterator<?> parameters) {
+        return bulkExecute(query, parameters, new BulkExecuteSettings());
+    }
+
+    /**
+     * Executes {@code query} once per item of {@code parameters} with {@code executeAsync}, keeping the number of
+     * requests in flight under a limit which adapts to the cluster.
+     *
+     * <p>Calling {@code async().execute(...)} in a loop either floods the connections, which fail with
+     * {@code BusyConnectionException}, or needs a hand-written semaphore. Here, the limit starts at
+     * {@code initialInFlight} and stays between {@code minInFlight} and {@code maxInFlight}: it grows by about one per
+     * round trip while the requests complete within twice the lowest latency observed, shrinks by 10% when a request is
+     * slower, and by half when a request fails. The items are consumed as the requests complete, so {@code parameters}
+     * may be larger than the heap.</p>
+     *
+     * <p>A failed request doesn't stop the execution: it's reported with its item in the returned result. An item which
+     * can't be bound to {@code query} does stop it, after the requests in flight have completed. If the calling thread
+     * is interrupted, the execution stops and reports the item it was about to send as failed.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * BulkWriteResult result = executor.bulkExecute("INSERT INTO events (id, type, payload) VALUES (?, ?, ?)",
+     *         rows.iterator(), new BulkExecuteSettings().maxInFlight(512));    // rows: Iterator<Object[]>
+     *
+     * logger.info("{} events/s, {} failed", result.itemsPerSecond(), result.failedItemCount());
+     * }</pre>
+     *
+     * @param query the CQL text or {@link CqlMapper} id of the statement
+     * @param parameters the parameters of each execution: an entity, a map, an array of values, or a single value
+     * @param settings the initial, minimum and maximum number of requests in flight
+     * @return the numbers of items and requests, the throughput, and the failed items with their causes
+     * @throws IllegalArgumentException if {@code query}, {@code parameters} or {@code settings} is {@code null}, if
+     *         {@code settings} isn't consistent, or if an item can't be bound
+     */
+    public BulkWriteResult bulkExecute(final String query, final Iterator<?> parameters, final BulkExecuteSettings settings) {
+        N.checkArgNotNull(query, "query");
+        N.checkArgNotNull(parameters, "parameters");
+        N.checkArgNotNull(settings, "settings");
+
+        final BulkExecuteSettings copy = settings.copy();
+        N.checkArgument(copy.minInFlight() <= copy.initialInFlight() && copy.initialInFlight() <= copy.maxInFlight(),
+                "'minInFlight' <= 'initialInFlight' <= 'maxInFlight' is required: {}", copy);
+
+        return BulkExecution.execute(session, parameters, item -> prepareStatement(query, new Object[] { item }), copy);
+    }
+
+    /**
+     * Executes {@code query} once per item of {@code parameters}, with the default {@link BulkExecuteSettings}. The
+     * stream is closed when the execution ends.
+     *
+     * @param query the CQL text or {@link CqlMapper} id of the statement
+     * @param parameters the parameters of each execution: an entity, a map, an array of values, or a single value
+     * @return the numbers of items and requests, the throughput, and the failed items with their causes
+     * @throws IllegalArgumentException if {@code query} or {@code parameters} is {@code null}, or an item can't be bound
+     * @see #bulkExecute(String, Iterator, BulkExecuteSettings)
+     */
+    public BulkWriteResult bulkExecute(final String query, final Stream<?> parameters) {
+        return bulkExecute(query, parameters, new BulkExecuteSettings());
+    }
+
+    /**
+     * Executes {@code query} once per item of {@code parameters}, as {@link #bulkExecute(String, Iterator, BulkExecuteSettings)}
+     * does. The stream is closed when the execution ends.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * try (Stream<User> users = loadUsers()) {
+     *     BulkWriteResult result = executor.bulkExecute("INSERT INTO users (id, name) VALUES (:id, :name)", users,
+     *             new BulkExecuteSettings());
+     * }
+     * }</pre>
+     *
+     * @param query the CQL text or {@link CqlMapper} id of the statement
+     * @param parameters the parameters of each execution: an entity, a map, an array of values, or a single value
+     * @param settings the initial, minimum and maximum number of requests in flight
+     * @return the numbers of items and requests, the throughput, and the failed items with their causes
+     * @throws IllegalArgumentException if {@code query}, {@code parameters} or {@code settings} is {@code null}, if
+     *         {@code settings} isn't consistent, or if an item can't be bound
+     */
+    public BulkWriteResult bulkExecute(final String query, final Stream<?> parameters, final BulkExecuteSettings settings) {
+        N.checkArgNotNull(parameters, "parameters");
+
+        try (parameters) {
+            return bulkExecute(query, parameters.iterator(), settings);
+        }
+    }
+
     /**
      * Closes this executor and releases all associated resources.
      *
@@ -1538,7 +1873,7 @@ public final class CassandraExecutor extends CassandraExecutorBase<Row, ResultSe
                 session.close();
             }
         } finally {
-            preparedStatementPool.close();
+            preparedStatementCache.invalidateAll();
         }
     }
 
@@ -1667,10 +2002,45 @@ public final class CassandraExecutor extends CassandraExecutorBase<Row, ResultSe
         }
 
         final ParsedCql parseCql = parseCql(query);
-        final String cql = parseCql.parameterizedCql();
 
-        final PreparedStatement preStmt = getOrPrepareStatement(cql);
+        return bindParameters(query, parseCql, getOrPrepareStatement(parseCql.parameterizedCql()), parameters);
+    }
+
+    /**
+     * Resolves and binds {@code query} like {@link #prepareStatement(String, Object...)}, but takes its prepared
+     * statement from {@link #getOrPrepareStatementAsync(String)}, so that no thread waits for a {@code PREPARE} round
+     * trip. A query which can't be resolved, prepared or bound completes the stage exceptionally.
+     *
+     * @param query the CQL text or mapper identifier
+     * @param parameters positional values, a single positional array/collection, or a named map/bean
+     * @return a stage completed with the newly bound, configured statement
+     */
+    CompletionStage<BoundStatement> prepareStatementAsync(final String query, final Object... parameters) {
+        final ParsedCql parseCql;
+
+        try {
+            N.checkArgNotNull(query, "query");
+
+            parseCql = parseCql(query);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return getOrPrepareStatementAsync(query).thenApply(preStmt -> {
+            if (N.isEmpty(parameters)) {
+                if (parseCql.parameterCount() > 0) {
+                    throw new IllegalArgumentException(
+                            "No parameters supplied for parameterized query: expected " + parseCql.parameterCount() + " for query: " + query);
+                }
+
+                return bind(preStmt);
+            }
+
+            return bindParameters(query, parseCql, preStmt, parameters);
+        });
+    }
 
+    private BoundStatement bindParameters(final String query, final ParsedCql parseCql, final PreparedStatement preStmt, final Object... parameters) {
         final ColumnDefinitions columnDefinitions = preStmt.getVariableDefinitions();
         final int parameterCount = columnDefinitions.size();
         DataType colType = null;
@@ -1789,25 +2159,26 @@ public final class CassandraExecutor extends CassandraExecutorBase<Row, ResultSe
     }
 
     private PreparedStatement getOrPrepareStatement(final String cql) {
-        PreparedStatement preStmt = null;
-
-        if (cql.length() <= POOLABLE_LENGTH) {
-            final PoolableAdapter<PreparedStatement> wrapper = preparedStatementPool.get(cql);
-
-            if (wrapper != null) {
-                preStmt = wrapper.value();
-            }
-        }
+        return preparedStatementCache.get(cql, this::prepare);
+    }
 
-        if (preStmt == null) {
-            preStmt = prepare(cql);
+    /**
+     * Resolves {@code query} like {@link #prepareStatement(String)} and returns its cached prepared statement,
+     * preparing it with {@link CqlSession#prepareAsync(String)} if it isn't cached or being prepared yet.
+     *
+     * @param query the CQL text or mapper identifier
+     * @return a stage completed with the prepared statement
+     */
+    CompletionStage<PreparedStatement> getOrPrepareStatementAsync(final String query) {
+        N.checkArgNotNull(query, "query");
 
-            if (cql.length() <= POOLABLE_LENGTH) {
-                preparedStatementPool.put(cql, Poolable.wrap(preStmt));
+        return preparedStatementCache.getAsync(parseCql(query).parameterizedCql(), cql -> {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Preparing CQL: {}", cql);
             }
-        }
 
-        return preStmt;
+            return session.prepareAsync(cql);
+        });
     }
 
     @Override
@@ -2618,4 +2989,214 @@ public final class CassandraExecutor extends CassandraExecutorBase<Row, ResultSe
         }
 
     }
+
+    /**
+     * The limits of the batches written by {@link CassandraExecutor#batchInsertByPartition(Collection, PartitionBatchSettings)}
+     * and {@link CassandraExecutor#batchUpdateByPartition(Collection, Collection, PartitionBatchSettings)}.
+     *
+     * <ul>
+     *   <li>{@code maxStatements} &mdash; the maximum number of statements in a batch; {@code 100} by default.</li>
+     *   <li>{@code maxBytes} &mdash; the maximum encoded size of the statements of a batch; {@code 5120} by default,
+     *       the default {@code batch_size_warn_threshold} of Cassandra. A statement larger than that is sent alone.</li>
+     *   <li>{@code maxInFlight} &mdash; the maximum number of requests in flight; {@code 32} by default.</li>
+     * </ul>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * PartitionBatchSettings settings = new PartitionBatchSettings().maxStatements(50).maxInFlight(64);
+     * }</pre>
+     */
+    public static final class PartitionBatchSettings {
+
+        private int maxStatements = 100;
+        private int maxBytes = 5 * 1024;
+        private int maxInFlight = 32;
+
+        /**
+         * Creates settings with the default limits.
+         */
+        public PartitionBatchSettings() {
+        }
+
+        /**
+         * Returns the maximum number of statements in a batch.
+         *
+         * @return the maximum number of statements in a batch
+         */
+        public int maxStatements() {
+            return maxStatements;
+        }
+
+        /**
+         * Sets the maximum number of statements in a batch.
+         *
+         * @param maxStatements the maximum number of statements in a batch
+         * @return this settings
+         * @throws IllegalArgumentException if {@code maxStatements} is not positive
+         */
+        public PartitionBatchSettings maxStatements(final int maxStatements) {
+            N.checkArgPositive(maxStatements, "maxStatements");
+
+            this.maxStatements = maxStatements;
+            return this;
+        }
+
+        /**
+         * Returns the maximum encoded size of the statements of a batch, in bytes.
+         *
+         * @return the maximum size of a batch
+         */
+        public int maxBytes() {
+            return maxBytes;
+        }
+
+        /**
+         * Sets the maximum encoded size of the statements of a batch, in bytes. {@link Integer#MAX_VALUE} disables the
+         * limit, and the computation of the statement sizes.
+         *
+         * @param maxBytes the maximum size of a batch
+         * @return this settings
+         * @throws IllegalArgumentException if {@code maxBytes} is not positive
+         */
+        public PartitionBatchSettings maxBytes(final int maxBytes) {
+            N.checkArgPositive(maxBytes, "maxBytes");
+
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Returns the maximum number of requests in flight.
+         *
+         * @return the maximum number of requests in flight
+         */
+        public int maxInFlight() {
+            return maxInFlight;
+        }
+
+        /**
+         * Sets the maximum number of requests in flight.
+         *
+         * @param maxInFlight the maximum number of requests in flight
+         * @return this settings
+         * @throws IllegalArgumentException if {@code maxInFlight} is not positive
+         */
+        public PartitionBatchSettings maxInFlight(final int maxInFlight) {
+            N.checkArgPositive(maxInFlight, "maxInFlight");
+
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        PartitionBatchSettings copy() {
+            return new PartitionBatchSettings().maxStatements(maxStatements).maxBytes(maxBytes).maxInFlight(maxInFlight);
+        }
+    }
+
+    /**
+     * The limits of the number of requests in flight of {@link CassandraExecutor#bulkExecute(String, Iterator, BulkExecuteSettings)}.
+     *
+     * <ul>
+     *   <li>{@code initialInFlight} &mdash; the limit the execution starts with; {@code 32} by default.</li>
+     *   <li>{@code minInFlight} &mdash; the lowest the limit can shrink to; {@code 1} by default.</li>
+     *   <li>{@code maxInFlight} &mdash; the highest the limit can grow to; {@code 1024} by default. Keep it under the
+     *       number of requests the driver's connections to a node accept at once, summed over the nodes.</li>
+     * </ul>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * BulkExecuteSettings settings = new BulkExecuteSettings().initialInFlight(64).maxInFlight(512);
+     * }</pre>
+     */
+    public static final class BulkExecuteSettings {
+
+        private int initialInFlight = 32;
+        private int minInFlight = 1;
+        private int maxInFlight = 1024;
+
+        /**
+         * Creates settings with the default limits.
+         */
+        public BulkExecuteSettings() {
+        }
+
+        /**
+         * Returns the number of requests in flight the execution starts with.
+         *
+         * @return the initial limit
+         */
+        public int initialInFlight() {
+            return initialInFlight;
+        }
+
+        /**
+         * Sets the number of requests in flight the execution starts with.
+         *
+         * @param initialInFlight the initial limit
+         * @return this settings
+         * @throws IllegalArgumentException if {@code initialInFlight} is not positive
+         */
+        public BulkExecuteSettings initialInFlight(final int initialInFlight) {
+            N.checkArgPositive(initialInFlight, "initialInFlight");
+
+            this.initialInFlight = initialInFlight;
+            return this;
+        }
+
+        /**
+         * Returns the lowest number of requests in flight the limit can shrink to.
+         *
+         * @return the minimum limit
+         */
+        public int minInFlight() {
+            return minInFlight;
+        }
+
+        /**
+         * Sets the lowest number of requests in flight the limit can shrink to.
+         *
+         * @param minInFlight the minimum limit
+         * @return this settings
+         * @throws IllegalArgumentException if {@code minInFlight} is not positive
+         */
+        public BulkExecuteSettings minInFlight(final int minInFlight) {
+            N.checkArgPositive(minInFlight, "minInFlight");
+
+            this.minInFlight = minInFlight;
+            return this;
+        }
+
+        /**
+         * Returns the highest number of requests in flight the limit can grow to.
+         *
+         * @return the maximum limit
+         */
+        public int maxInFlight() {
+            return maxInFlight;
+        }
+
+        /**
+         * Sets the highest number of requests in flight the limit can grow to. Setting it to {@code initialInFlight}
+         * and {@code minInFlight} to {@code 1} only lets the limit shrink; setting all three to the same value fixes it.
+         *
+         * @param maxInFlight the maximum limit
+         * @return this settings
+         * @throws IllegalArgumentException if {@code maxInFlight} is not positive
+         */
+        public BulkExecuteSettings maxInFlight(final int maxInFlight) {
+            N.checkArgPositive(maxInFlight, "maxInFlight");
+
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        BulkExecuteSettings copy() {
+            return new BulkExecuteSettings().initialInFlight(initialInFlight).minInFlight(minInFlight).maxInFlight(maxInFlight);
+        }
+
+        @Override
+        public String toString() {
+            return "{initialInFlight=" + initialInFlight + ", minInFlight=" + minInFlight + ", maxInFlight=" + maxInFlight + "}";
+        }
+    }
 }
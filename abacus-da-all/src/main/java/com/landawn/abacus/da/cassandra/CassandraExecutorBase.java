@@ -19,22 +19,29 @@ import static com.landawn.abacus.da.cassandra.CqlBuilder.Dsl.NLC;
 import static com.landawn.abacus.da.cassandra.CqlBuilder.Dsl.NSC;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.landawn.abacus.annotation.Beta;
 import com.landawn.abacus.exception.DuplicateResultException;
 import com.landawn.abacus.query.AbstractQueryBuilder.SP;
 import com.landawn.abacus.query.Filters;
 import com.landawn.abacus.query.QueryUtil;
+import com.landawn.abacus.query.condition.Binary;
 import com.landawn.abacus.query.condition.Condition;
+import com.landawn.abacus.query.condition.Junction;
+import com.landawn.abacus.query.condition.Operator;
 import com.landawn.abacus.util.Beans;
 import com.landawn.abacus.util.ClassUtil;
 import com.landawn.abacus.util.Clazz;
@@ -250,6 +257,13 @@ public abstract class CassandraExecutorBase<RW, RS extends Iterable<RW>, ST, PS,
      */
     protected static final Map<Class<?>, Tuple2<ImmutableList<String>, ImmutableSet<String>>> entityKeyNamesMap = new ConcurrentHashMap<>();
 
+    /**
+     * Process-wide cache of the CQL of the statements built by {@link #prepareInsert(Object)},
+     * {@link #prepareUpdate(Object, Collection)} and {@link #prepareQuery(Class, Collection, Condition, int)}, by entity
+     * class, naming policy and statement shape, so that a statement of a shape already built only binds its values.
+     */
+    static final CqlTemplateCache entityCqlTemplates = new CqlTemplateCache(4096);
+
     /**
      * The optional registry of named CQL fragments consulted first when a query string is resolved,
      * or {@code null} when named-CQL lookup is disabled for this executor. Set once at construction.
@@ -3088,6 +3102,25 @@ public abstract class CassandraExecutorBase<RW, RS extends Iterable<RW>, ST, PS,
     protected SP prepareInsert(final Object entity) {
         N.checkArgNotNull(entity, "entity");
 
+        final Class<?> targetClass = entity.getClass();
+        final List<String> propNames = new ArrayList<>(QueryUtil.insertPropNames(targetClass, null));
+        final List<Object> propValues = new ArrayList<>(propNames.size());
+
+        for (final String propName : propNames) {
+            propValues.add(Beans.getPropValue(entity, propName));
+        }
+
+        return cachedInsert(targetClass, propNames, propValues, () -> buildInsert(entity));
+    }
+
+    /**
+     * Returns the insert of {@code propValues}, from its CQL template if the shape was built before.
+     */
+    private SP cachedInsert(final Class<?> targetClass, final List<String> propNames, final List<Object> propValues, final Supplier<SP> builder) {
+        return entityCqlTemplates.get(Tuple.of(targetClass, namingPolicy), propNames, propValues, builder);
+    }
+
+    private SP buildInsert(final Object entity) {
         final Class<?> targetClass = entity.getClass();
 
         switch (namingPolicy) {
@@ -3170,19 +3203,31 @@ public abstract class CassandraExecutorBase<RW, RS extends Iterable<RW>, ST, PS,
         checkNoPrimaryKeyProperties(targetClass, propNamesToUpdate, "propNamesToUpdate");
         final Condition cond = entityToCondition(entity);
 
-        switch (namingPolicy) {
-            case SNAKE_CASE:
-                return NSC.update(targetClass).set(Beans.beanToMap(entity, propNamesToUpdate)).where(cond).build();
+        final List<String> propNames = new ArrayList<>(propNamesToUpdate);
+        final List<Object> propValues = new ArrayList<>(propNames.size());
 
-            case SCREAMING_SNAKE_CASE:
-                return NAC.update(targetClass).set(Beans.beanToMap(entity, propNamesToUpdate)).where(cond).build();
+        for (final String propName : propNames) {
+            propValues.add(Beans.getPropValue(entity, propName));
+        }
 
-            case CAMEL_CASE:
-                return NLC.update(targetClass).set(Beans.beanToMap(entity, propNamesToUpdate)).where(cond).build();
+        return cachedUpdate(targetClass, propNames, propValues, cond,
+                () -> buildUpdate(targetClass, Beans.beanToMap(entity, propNamesToUpdate), cond));
+    }
 
-            default:
-                throw new RuntimeException("Unsupported naming policy: " + namingPolicy);
+    /**
+     * Returns the update of {@code propValues} where {@code cond}, from its CQL template if the shape was built before.
+     */
+    private SP cachedUpdate(final Class<?> targetClass, final List<String> propNames, final List<Object> propValues, final Condition cond,
+            final Supplier<SP> builder) {
+        final List<String> names = new ArrayList<>(propNames);
+        final List<Object> values = new ArrayList<>(propValues);
+        final List<Object> conditionShape = conditionShape(cond, names, values);
+
+        if (conditionShape == null) {
+            return builder.get();
         }
+
+        return entityCqlTemplates.get(Tuple.of(targetClass, namingPolicy, propNames, conditionShape), names, values, builder);
     }
 
     private static void checkNoPrimaryKeyProperties(final Class<?> targetClass, final Collection<String> propNames, final String argumentName) {
@@ -3209,6 +3254,10 @@ public abstract class CassandraExecutorBase<RW, RS extends Iterable<RW>, ST, PS,
         N.checkArgNotNull(whereClause, "whereClause");
         checkNoPrimaryKeyProperties(targetClass, props.keySet(), "props");
 
+        return buildUpdate(targetClass, props, whereClause);
+    }
+
+    private SP buildUpdate(final Class<?> targetClass, final Map<String, Object> props, final Condition whereClause) {
         switch (namingPolicy) {
             case SNAKE_CASE:
                 return NSC.update(targetClass).set(props).where(whereClause).build();
@@ -3386,6 +3435,55 @@ public abstract class CassandraExecutorBase<RW, RS extends Iterable<RW>, ST, PS,
      * @return an SP (Statement/Parameters) pair ready for execution
      */
     protected SP prepareQuery(final Class<?> targetClass, final Collection<String> selectPropNames, final Condition whereClause, final int count) {
+        final List<String> names = new ArrayList<>();
+        final List<Object> values = new ArrayList<>();
+        final List<Object> conditionShape = whereClause == null ? Collections.emptyList() : conditionShape(whereClause, names, values);
+
+        if (conditionShape == null) {
+            return buildQuery(targetClass, selectPropNames, whereClause, count);
+        }
+
+        final List<String> selectShape = N.isEmpty(selectPropNames) ? null : new ArrayList<>(selectPropNames);
+
+        return entityCqlTemplates.get(Tuple.of(targetClass, namingPolicy, selectShape, Math.max(count, 0), conditionShape), names, values,
+                () -> buildQuery(targetClass, selectPropNames, whereClause, count));
+    }
+
+    /**
+     * Returns the shape of {@code whereClause}: the property names and operators of its relations, if it's a relation
+     * or a conjunction of relations, whose names and values are added to {@code names} and {@code values}.
+     *
+     * @return the shape, or {@code null} if the condition has another form, which isn't cached
+     */
+    private static List<Object> conditionShape(final Condition whereClause, final List<String> names, final List<Object> values) {
+        final List<Condition> conditions;
+
+        if (whereClause instanceof Binary) {
+            conditions = List.of(whereClause);
+        } else if (whereClause instanceof final Junction junction && junction.operator() == Operator.AND) {
+            conditions = junction.conditions();
+        } else {
+            return null;
+        }
+
+        final List<Object> shape = new ArrayList<>(conditions.size() * 2 + 1);
+        shape.add(whereClause.operator());
+
+        for (final Condition condition : conditions) {
+            if (!(condition instanceof final Binary binary)) {
+                return null;
+            }
+
+            shape.add(binary.propName());
+            shape.add(binary.operator());
+            names.add(binary.propName());
+            values.add(binary.propValue());
+        }
+
+        return shape;
+    }
+
+    private SP buildQuery(final Class<?> targetClass, final Collection<String> selectPropNames, final Condition whereClause, final int count) {
         final boolean isNonNullCond = whereClause != null;
         CqlBuilder cqlBuilder = null;
 
@@ -3428,6 +3526,62 @@ public abstract class CassandraExecutorBase<RW, RS extends Iterable<RW>, ST, PS,
         return cqlBuilder.build();
     }
 
+    /**
+     * Generates the CQL of the statements issued by the entity CRUD methods for {@code entityClass}: the insert and
+     * the update of all its insertable and updatable properties, and the get and the delete by key, as produced by
+     * {@link #insert(Object)}, {@link #update(Object)}, {@link #get(Class, Object...)} and
+     * {@link #delete(Class, Object...)}. The update, get and delete are skipped if the class has no key.
+     *
+     * <p>Used to warm up the prepared statement cache: the CQL only depends on the shape of the statements, so the
+     * key and property values are placeholders, none of them null or default. The CQL is the one the entity methods
+     * produce when every property is set, and the insert, the update and the get are added to their CQL template
+     * cache under that shape, so that the first such calls only bind their values.</p>
+     *
+     * @param entityClass the entity class
+     * @return the CQL of the entity statements, with named or positional parameters
+     */
+    protected List<String> entityCqls(final Class<?> entityClass) {
+        N.checkArgNotNull(entityClass, "entityClass");
+
+        // neither null nor default, which the builder could leave out: the CQL has every property, as for an entity with all of them set.
+        final Integer placeholder = 1;
+        final List<String> cqls = new ArrayList<>(4);
+        final Map<String, Object> insertProps = new LinkedHashMap<>();
+
+        for (final String propName : QueryUtil.insertPropNames(entityClass, null)) {
+            insertProps.put(propName, placeholder);
+        }
+
+        cqls.add(cachedInsert(entityClass, new ArrayList<>(insertProps.keySet()), new ArrayList<>(insertProps.values()),
+                () -> prepareInsert(entityClass, insertProps)).query());
+
+        final ImmutableList<String> keyNames = getKeyNames(entityClass);
+
+        if (keyNames.isEmpty()) {
+            return cqls;
+        }
+
+        final Object[] ids = new Object[keyNames.size()];
+        Arrays.fill(ids, placeholder);
+
+        final Condition keyCondition = idsToCondition(entityClass, ids);
+        final Map<String, Object> updateProps = new LinkedHashMap<>();
+
+        for (final String propName : QueryUtil.updatePropNames(entityClass, getKeyNameSet(entityClass))) {
+            updateProps.put(propName, placeholder);
+        }
+
+        if (!updateProps.isEmpty()) {
+            cqls.add(cachedUpdate(entityClass, new ArrayList<>(updateProps.keySet()), new ArrayList<>(updateProps.values()), keyCondition,
+                    () -> prepareUpdate(entityClass, updateProps, keyCondition)).query());
+        }
+
+        cqls.add(prepareQuery(entityClass, null, keyCondition, 2).query());
+        cqls.add(prepareDelete(entityClass, null, keyCondition).query());
+
+        return cqls;
+    }
+
     /**
      * Prepares a statement from a CQL query string.
      *
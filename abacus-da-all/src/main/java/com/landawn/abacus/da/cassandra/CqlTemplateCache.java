@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.cassandra;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.landawn.abacus.query.AbstractQueryBuilder.SP;
+import com.landawn.abacus.query.condition.Condition;
+import com.landawn.abacus.util.ImmutableMap;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.Tuple;
+
+/**
+ * Caches the CQL built by {@link CqlBuilder} for the entity statements, by statement shape, so that a statement of a
+ * known shape is produced by binding the values to its cached CQL instead of building it again.
+ *
+ * <p>The shape of a statement is given by the caller, e.g. the entity class, the naming policy and the property
+ * names, and is completed here by which of the values are null or default (zero, {@code false}, empty), since the
+ * builder may leave those out, e.g. an id with a default value isn't inserted. Statements with a {@link Condition}
+ * value, which the builder inlines into the CQL, aren't cached.</p>
+ *
+ * <p>The parameter plan of a template, the value bound to each parameter of its CQL, is learned from the first
+ * statement built for the shape, by matching the named parameters of its CQL to the names of the values. The
+ * template is only cached if the names are distinct, e.g. not both bounds of a range on one property, and the plan
+ * gives back the parameters of that statement exactly, so a shape the plan can't reproduce keeps being built on every
+ * call.</p>
+ */
+final class CqlTemplateCache {
+
+    private final int maxSize;
+    private final Map<Object, Template> templates = new ConcurrentHashMap<>();
+
+    CqlTemplateCache(final int maxSize) {
+        N.checkArgPositive(maxSize, "maxSize");
+
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the statement of {@code shape} bound to {@code values}, built by {@code builder} if its template isn't
+     * cached yet.
+     *
+     * @param shape the shape of the statement, with value equality
+     * @param names the names of the values, as named in the CQL built
+     * @param values the values the statement is built from, in the order of {@code names}
+     * @param builder builds the statement from the same values
+     */
+    SP get(final Object shape, final List<String> names, final List<Object> values, final Supplier<SP> builder) {
+        final String valueShape = valueShape(values);
+
+        if (valueShape == null) {
+            return builder.get();
+        }
+
+        final Object key = Tuple.of(shape, valueShape);
+        final Template template = templates.get(key);
+
+        if (template != null) {
+            return template.bind(values);
+        }
+
+        final SP sp = builder.get();
+
+        if (templates.size() < maxSize) {
+            final Template newTemplate = Template.learn(sp, names, values);
+
+            if (newTemplate != null) {
+                templates.putIfAbsent(key, newTemplate);
+            }
+        }
+
+        return sp;
+    }
+
+    int size() {
+        return templates.size();
+    }
+
+    void clear() {
+        templates.clear();
+    }
+
+    /**
+     * Classifies each value as null ({@code '0'}), default ({@code '1'}) or other ({@code '2'}).
+     *
+     * @return the classification, or {@code null} if a value is a {@link Condition}
+     */
+    private static String valueShape(final List<Object> values) {
+        final char[] chars = new char[values.size()];
+        int i = 0;
+
+        for (final Object value : values) {
+            if (value == null) {
+                chars[i++] = '0';
+            } else if (value instanceof Condition) {
+                return null;
+            } else if ((value instanceof Number && ((Number) value).doubleValue() == 0) || Boolean.FALSE.equals(value)
+                    || (value instanceof Character && (Character) value == 0) || (value instanceof CharSequence && ((CharSequence) value).isEmpty())) {
+                chars[i++] = '1';
+            } else {
+                chars[i++] = '2';
+            }
+        }
+
+        return new String(chars);
+    }
+
+    private static final class Template {
+        private final String cql;
+        private final int[] valueIndexes;
+
+        private Template(final String cql, final int[] valueIndexes) {
+            this.cql = cql;
+            this.valueIndexes = valueIndexes;
+        }
+
+        /**
+         * Learns the parameter plan of {@code sp} from the named parameters of its CQL.
+         *
+         * @return the template, or {@code null} if two values have the same name, which can't be told apart in the
+         *         CQL, or the plan doesn't give back the parameters of {@code sp}
+         */
+        static Template learn(final SP sp, final List<String> names, final List<Object> values) {
+            if (new HashSet<>(names).size() != names.size()) {
+                return null;
+            }
+
+            final List<Object> parameters = sp.parameters();
+            final ParsedCql parsedCql = ParsedCql.parse(sp.query());
+            final ImmutableMap<Integer, String> namedParameters = parsedCql.namedParameters();
+
+            if (parsedCql.parameterCount() != parameters.size() || namedParameters.size() != parameters.size()) {
+                return null;
+            }
+
+            final int[] valueIndexes = new int[parameters.size()];
+
+            for (int i = 0; i < valueIndexes.length; i++) {
+                final int valueIndex = names.indexOf(namedParameters.get(i));
+
+                if (valueIndex < 0 || !N.equals(values.get(valueIndex), parameters.get(i))) {
+                    return null;
+                }
+
+                valueIndexes[i] = valueIndex;
+            }
+
+            return new Template(sp.query(), valueIndexes);
+        }
+
+        SP bind(final List<Object> values) {
+            final List<Object> parameters = new ArrayList<>(valueIndexes.length);
+
+            for (final int valueIndex : valueIndexes) {
+                parameters.add(values.get(valueIndex));
+            }
+
+            return new SP(cql, parameters);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.cassandra;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.landawn.abacus.da.cassandra.CassandraExecutor.PartitionBatchSettings;
+import com.landawn.abacus.util.Tuple;
+
+/**
+ * Writes a list of bound statements as {@code UNLOGGED} batches which each only target one partition.
+ *
+ * <p>The statements are grouped by the class of their item and by their routing key, which the driver computes from
+ * the partition key columns of the prepared statement, so each group holds the writes to one partition of one table.
+ * A group is split into batches of at most {@code maxStatements} statements and {@code maxBytes} bytes. A batch of one
+ * statement is sent as the statement itself, and so is a statement without a routing key.</p>
+ *
+ * <p>A single-partition batch is applied atomically by the replicas of the partition without the batch log, so it
+ * costs the coordinator no more than one write. The batches are sent with {@code executeAsync}, with at most
+ * {@code maxInFlight} of them in flight.</p>
+ */
+final class PartitionedBatch {
+
+    private PartitionedBatch() {
+        // utility class.
+    }
+
+    static BulkWriteResult execute(final CassandraExecutor executor, final List<?> items, final List<BoundStatement> statements,
+            final PartitionBatchSettings settings) {
+        final long startTime = System.nanoTime();
+        final List<List<Integer>> batches = split(statements, executor.session().getContext(), items, settings);
+        final Queue<BulkWriteResult.Failure> failures = new ConcurrentLinkedQueue<>();
+        final Semaphore inFlight = new Semaphore(settings.maxInFlight());
+        int sent = 0;
+
+        try {
+            for (final List<Integer> batch : batches) {
+                final List<Object> batchItems = new ArrayList<>(batch.size());
+
+                for (final int index : batch) {
+                    batchItems.add(items.get(index));
+                }
+
+                inFlight.acquire();
+
+                try {
+                    executor.session().executeAsync(toStatement(executor, statements, batch)).whenComplete((resultSet, e) -> {
+                        if (e != null) {
+                            failures.add(new BulkWriteResult.Failure(batchItems, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e));
+                        }
+
+                        inFlight.release();
+                    });
+                } catch (final RuntimeException e) {
+                    failures.add(new BulkWriteResult.Failure(batchItems, e));
+                    inFlight.release();
+                }
+
+                sent++;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            for (int i = sent; i < batches.size(); i++) {
+                final List<Object> batchItems = new ArrayList<>(batches.get(i).size());
+
+                for (final int index : batches.get(i)) {
+                    batchItems.add(items.get(index));
+                }
+
+                failures.add(new BulkWriteResult.Failure(batchItems, e));
+            }
+        }
+
+        inFlight.acquireUninterruptibly(settings.maxInFlight());
+
+        return new BulkWriteResult(items.size(), sent, System.nanoTime() - startTime, new ArrayList<>(failures));
+    }
+
+    /**
+     * Groups the statements by item class and routing key, in order of first occurrence, and splits each group into
+     * batches under the size limits of {@code settings}.
+     */
+    static List<List<Integer>> split(final List<BoundStatement> statements, final DriverContext context, final List<?> items,
+            final PartitionBatchSettings settings) {
+        final Map<Object, List<Integer>> groups = new LinkedHashMap<>();
+        final List<List<Integer>> batches = new ArrayList<>();
+
+        for (int i = 0, size = statements.size(); i < size; i++) {
+            final ByteBuffer routingKey = statements.get(i).getRoutingKey();
+
+            if (routingKey == null) {
+                batches.add(List.of(i));
+            } else {
+                groups.computeIfAbsent(Tuple.of(items.get(i).getClass(), routingKey), k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        for (final List<Integer> group : groups.values()) {
+            List<Integer> batch = new ArrayList<>();
+            long batchBytes = 0;
+
+            for (final Integer index : group) {
+                final int statementBytes = settings.maxBytes() == Integer.MAX_VALUE ? 0 : statements.get(index).computeSizeInBytes(context);
+
+                if (!batch.isEmpty() && (batch.size() >= settings.maxStatements() || batchBytes + statementBytes > settings.maxBytes())) {
+                    batches.add(batch);
+                    batch = new ArrayList<>();
+                    batchBytes = 0;
+                }
+
+                batch.add(index);
+                batchBytes += statementBytes;
+            }
+
+            batches.add(batch);
+        }
+
+        return batches;
+    }
+
+    private static Statement<?> toStatement(final CassandraExecutor executor, final List<BoundStatement> statements, final List<Integer> batch) {
+        if (batch.size() == 1) {
+            return statements.get(batch.get(0));
+        }
+
+        BatchStatement stmt = executor.prepareBatchStatement(BatchType.UNLOGGED);
+
+        for (final int index : batch) {
+            stmt = stmt.add(statements.get(index));
+        }
+
+        return stmt;
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.cassandra;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.landawn.abacus.util.ExceptionUtil;
+import com.landawn.abacus.util.N;
+
+/**
+ * The cache of the {@link PreparedStatement}s of a {@link CassandraExecutor}, keyed by CQL text.
+ *
+ * <p>Concurrent requests for a CQL which isn't cached yet share one preparation: the first one prepares it, and the
+ * others wait for its result, so a cold start doesn't send the same {@code PREPARE} once per thread. A failed
+ * preparation isn't cached, and is retried by the next request.</p>
+ *
+ * <p>The cache is bounded by weight rather than by entry count: an entry weighs the length of its CQL plus
+ * 256, so long statements are cached too, without letting them take an unbounded amount of memory.
+ * When the cache is over its maximum weight, entries are evicted in insertion order, except that an entry which has
+ * been used since it was last considered gets a second chance. Lookups don't take any lock.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * PreparedStatementCache.Stats stats = executor.preparedStatementCache().stats();
+ * logger.info("{} prepared statements, hit rate: {}", stats.size(), stats.hitRate());
+ *
+ * // After a schema change which invalidates the prepared statements:
+ * executor.preparedStatementCache().invalidateAll();
+ * }</pre>
+ *
+ * @see CassandraExecutor#preparedStatementCache()
+ */
+public final class PreparedStatementCache {
+
+    /**
+     * The weight of an entry in addition to the length of its CQL, for the metadata of the prepared statement.
+     */
+    static final int ENTRY_WEIGHT = 256;
+
+    private final long maxWeight;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> evictionQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicLong weight = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+
+    PreparedStatementCache(final long maxWeight) {
+        N.checkArgPositive(maxWeight, "maxWeight");
+
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Returns the prepared statement of {@code cql}, preparing it with {@code preparer} on this thread if it's
+     * neither cached nor being prepared.
+     */
+    PreparedStatement get(final String cql, final Function<String, PreparedStatement> preparer) {
+        Entry entry = entries.get(cql);
+
+        if (entry == null) {
+            final Entry newEntry = new Entry(cql);
+
+            if (newEntry.weight > maxWeight) {
+                missCount.increment();
+                return preparer.apply(cql);
+            }
+
+            entry = entries.putIfAbsent(cql, newEntry);
+
+            if (entry == null) {
+                missCount.increment();
+                admit(newEntry);
+
+                final PreparedStatement preparedStatement;
+
+                try {
+                    preparedStatement = preparer.apply(cql);
+                } catch (RuntimeException | Error e) {
+                    fail(newEntry, e);
+                    throw e;
+                }
+
+                newEntry.future.complete(preparedStatement);
+
+                return preparedStatement;
+            }
+        }
+
+        hit(entry);
+
+        try {
+            return entry.future.join();
+        } catch (final CompletionException e) {
+            throw ExceptionUtil.toRuntimeException(e.getCause() == null ? e : e.getCause(), true);
+        }
+    }
+
+    /**
+     * Returns the prepared statement of {@code cql}, preparing it with {@code preparer} if it's neither cached nor
+     * being prepared. Doesn't block.
+     */
+    CompletionStage<PreparedStatement> getAsync(final String cql, final Function<String, ? extends CompletionStage<PreparedStatement>> preparer) {
+        Entry entry = entries.get(cql);
+
+        if (entry == null) {
+            final Entry newEntry = new Entry(cql);
+
+            if (newEntry.weight > maxWeight) {
+                missCount.increment();
+                return preparer.apply(cql);
+            }
+
+            entry = entries.putIfAbsent(cql, newEntry);
+
+            if (entry == null) {
+                missCount.increment();
+                admit(newEntry);
+
+                try {
+                    preparer.apply(cql).whenComplete((preparedStatement, e) -> {
+                        if (e == null) {
+                            newEntry.future.complete(preparedStatement);
+                        } else {
+                            fail(newEntry, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                        }
+                    });
+                } catch (RuntimeException | Error e) {
+                    fail(newEntry, e);
+                }
+
+                return newEntry.future.minimalCompletionStage();
+            }
+        }
+
+        hit(entry);
+
+        return entry.future.minimalCompletionStage();
+    }
+
+    private void hit(final Entry entry) {
+        hitCount.increment();
+
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+    }
+
+    private void admit(final Entry entry) {
+        weight.addAndGet(entry.weight);
+        evictionQueue.offer(entry);
+
+        evict();
+    }
+
+    private void fail(final Entry entry, final Throwable cause) {
+        loadFailureCount.increment();
+        remove(entry);
+        entry.future.completeExceptionally(cause);
+    }
+
+    /**
+     * Evicts entries from the head of the queue until the cache is under its maximum weight. A referenced entry is
+     * moved to the tail instead, after clearing its reference bit, and each entry is looked at no more than twice.
+     */
+    private void evict() {
+        for (long scanned = 0, maxScanned = 2L * entries.size() + 1; weight.get() > maxWeight && scanned < maxScanned; scanned++) {
+            final Entry entry = evictionQueue.poll();
+
+            if (entry == null) {
+                return;
+            }
+
+            if (entries.get(entry.cql) != entry) {
+                continue; // already removed.
+            }
+
+            if (entry.referenced) {
+                entry.referenced = false;
+                evictionQueue.offer(entry);
+            } else if (remove(entry)) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    private boolean remove(final Entry entry) {
+        if (entries.remove(entry.cql, entry)) {
+            weight.addAndGet(-entry.weight);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Discards the prepared statement of {@code cql}, if it's cached, so that it's prepared again on its next use.
+     *
+     * @param cql the CQL text, as prepared
+     */
+    public void invalidate(final String cql) {
+        final Entry entry = entries.get(cql);
+
+        if (entry != null) {
+            remove(entry);
+        }
+    }
+
+    /**
+     * Discards every cached prepared statement, e.g. after a schema change which the driver can't detect.
+     */
+    public void invalidateAll() {
+        for (final Entry entry : entries.values()) {
+            remove(entry);
+        }
+
+        evictionQueue.clear();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     *
+     * @return the statistics
+     */
+    public Stats stats() {
+        return new Stats(hitCount.sum(), missCount.sum(), evictionCount.sum(), loadFailureCount.sum(), entries.size(), weight.get(), maxWeight);
+    }
+
+    private static final class Entry {
+        private final String cql;
+        private final int weight;
+        private final CompletableFuture<PreparedStatement> future = new CompletableFuture<>();
+        private volatile boolean referenced; //NOSONAR
+
+        Entry(final String cql) {
+            this.cql = cql;
+            this.weight = ENTRY_WEIGHT + cql.length();
+        }
+    }
+
+    /**
+     * A snapshot of the statistics of a {@link PreparedStatementCache}.
+     */
+    public static final class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long loadFailureCount;
+        private final int size;
+        private final long weight;
+        private final long maxWeight;
+
+        Stats(final long hitCount, final long missCount, final long evictionCount, final long loadFailureCount, final int size, final long weight,
+                final long maxWeight) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.loadFailureCount = loadFailureCount;
+            this.size = size;
+            this.weight = weight;
+            this.maxWeight = maxWeight;
+        }
+
+        /**
+         * Returns the number of lookups which found the statement cached or being prepared.
+         *
+         * @return the number of hits
+         */
+        public long hitCount() {
+            return hitCount;
+        }
+
+        /**
+         * Returns the number of lookups which prepared the statement.
+         *
+         * @return the number of misses
+         */
+        public long missCount() {
+            return missCount;
+        }
+
+        /**
+         * Returns the ratio of hits to lookups.
+         *
+         * @return the hit rate, between 0 and 1, or 1 if there's been no lookup
+         */
+        public double hitRate() {
+            final long count = hitCount + missCount;
+
+            return count == 0 ? 1.0 : (double) hitCount / count;
+        }
+
+        /**
+         * Returns the number of statements evicted to keep the cache under its maximum weight.
+         *
+         * @return the number of evictions
+         */
+        public long evictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * Returns the number of preparations which failed.
+         *
+         * @return the number of failed preparations
+         */
+        public long loadFailureCount() {
+            return loadFailureCount;
+        }
+
+        /**
+         * Returns the number of statements cached or being prepared.
+         *
+         * @return the number of entries
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the total weight of the entries.
+         *
+         * @return the weight
+         */
+        public long weight() {
+            return weight;
+        }
+
+        /**
+         * Returns the weight above which entries are evicted.
+         *
+         * @return the maximum weight
+         */
+        public long maxWeight() {
+            return maxWeight;
+        }
+
+        @Override
+        public String toString() {
+            return "{hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount + ", loadFailureCount=" + loadFailureCount
+                    + ", size=" + size + ", weight=" + weight + ", maxWeight=" + maxWeight + "}";
+        }
+    }
+}
@@ -13,10 +13,13 @@
  */
 package com.landawn.abacus.da.cassandra;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
@@ -40,7 +43,8 @@ import com.landawn.abacus.util.N;
  * <ul>
  * <li><strong>Async-to-Sync Bridging:</strong> Wraps an {@link AsyncResultSet} as a {@link ResultSet}.</li>
  * <li><strong>Transparent Paging:</strong> Automatically fetches subsequent pages during iteration.</li>
- * <li><strong>Memory Efficient:</strong> Keeps only the current page in memory.</li>
+ * <li><strong>Page Prefetch:</strong> Fetches the next pages in the background while the current one is iterated.</li>
+ * <li><strong>Memory Bounded:</strong> Keeps only the current page and a bounded number of prefetched pages in memory.</li>
  * </ul>
  *
  * <h2>Thread Safety</h2>
@@ -55,13 +59,44 @@ final class ResultSets {
         // utility class - no instances allowed
     }
 
+    /**
+     * The default number of pages fetched ahead of the page being iterated: {@value}, i.e. each page is only fetched
+     * once the previous one is exhausted, so a caller which reads a single row doesn't request a page for nothing.
+     */
+    static final int DEFAULT_PREFETCH_PAGES = 0;
+
+    /**
+     * The default maximum number of rows held by the pages fetched ahead: {@value}.
+     */
+    static final int DEFAULT_MAX_PREFETCHED_ROWS = Integer.MAX_VALUE;
+
+    /**
+     * Wraps an {@link AsyncResultSet} as a synchronous {@link ResultSet} which fetches each page once the previous one
+     * is exhausted.
+     *
+     * <p>Same as {@code wrap(asyncResultSet, DEFAULT_PREFETCH_PAGES, DEFAULT_MAX_PREFETCHED_ROWS)}.</p>
+     *
+     * @param asyncResultSet the async result set to wrap; must not be {@code null}
+     * @return a {@link ResultSet} that lazily iterates over all rows produced by
+     *         {@code asyncResultSet} and its subsequent pages
+     * @throws IllegalArgumentException if {@code asyncResultSet} is {@code null}
+     * @see #wrap(AsyncResultSet, int, int)
+     */
+    public static ResultSet wrap(final AsyncResultSet asyncResultSet) {
+        return wrap(asyncResultSet, DEFAULT_PREFETCH_PAGES, DEFAULT_MAX_PREFETCHED_ROWS);
+    }
+
     /**
      * Wraps an {@link AsyncResultSet} as a synchronous {@link ResultSet}.
      *
      * <p>The returned {@code ResultSet} iterates over the rows currently held by
-     * {@code asyncResultSet} and, when the current page is exhausted, transparently blocks to
-     * fetch the next page via {@link AsyncResultSet#fetchNextPage()}. The execution info of
-     * every fetched page is accumulated and returned by {@link ResultSet#getExecutionInfos()}.</p>
+     * {@code asyncResultSet} and the pages after it. As soon as a page starts being handed out, up to
+     * {@code prefetchPages} following pages are requested via {@link AsyncResultSet#fetchNextPage()}, one after the
+     * other, as long as the rows of the pages fetched ahead and not yet iterated don't exceed
+     * {@code maxPrefetchedRows}; so the next page is usually there when the current one is exhausted, instead of
+     * costing a round trip. At least one page is always fetched, whatever {@code maxPrefetchedRows}; with
+     * {@code prefetchPages == 0}, each page is only fetched once the previous one is exhausted. The execution info of
+     * every page handed out is accumulated and returned by {@link ResultSet#getExecutionInfos()}.</p>
      *
      * <h2>Behavior</h2>
      * <ul>
@@ -74,18 +109,21 @@ final class ResultSets {
      * known to the driver; it does not guarantee that all rows have already been iterated.</li>
      * <li>{@link ResultSet#getAvailableWithoutFetching()} is <strong>not</strong> supported by
      * this wrapper and always throws {@link UnsupportedOperationException}.</li>
-     * <li>Checked exceptions raised while fetching the next page (e.g.
+     * <li>A page which fails to be fetched fails the iteration when it's reached, not before.
+     * Checked exceptions raised while waiting for the next page (e.g.
      * {@link java.util.concurrent.ExecutionException} or {@link InterruptedException}) are
      * converted into runtime exceptions via {@link com.landawn.abacus.util.ExceptionUtil}.
      * If the wait is interrupted, the current thread's interrupt status is restored first.</li>
+     * <li>A result set which isn't iterated to the end leaves at most {@code prefetchPages} pages
+     * fetched for nothing.</li>
      * </ul>
      *
      * <h2>Usage Example</h2>
      * <pre>{@code
-     * CompletionStage<AsyncResultSet> stage = session.executeAsync(statement);
+     * CompletionStage<AsyncResultSet> stage = session.executeAsync(statement.setPageSize(5000));
      * AsyncResultSet asyncRs = stage.toCompletableFuture().get();
      *
-     * ResultSet rs = ResultSets.wrap(asyncRs);
+     * ResultSet rs = ResultSets.wrap(asyncRs, 2, 20_000);   // up to 2 pages, 20k rows, fetched ahead
      * for (Row row : rs) {
      *     String name = row.getString("name");
      *     int age = row.getInt("age");
@@ -94,88 +132,190 @@ final class ResultSets {
      * }</pre>
      *
      * @param asyncResultSet the async result set to wrap; must not be {@code null}
+     * @param prefetchPages the maximum number of pages fetched ahead of the page being iterated
+     * @param maxPrefetchedRows the maximum number of rows held by the pages fetched ahead, above which no more page is
+     *        requested until the consumer catches up
      * @return a {@link ResultSet} that lazily iterates over all rows produced by
      *         {@code asyncResultSet} and its subsequent pages
-     * @throws IllegalArgumentException if {@code asyncResultSet} is {@code null}
+     * @throws IllegalArgumentException if {@code asyncResultSet} is {@code null}, or {@code prefetchPages} or
+     *         {@code maxPrefetchedRows} is negative
      * @see com.datastax.oss.driver.api.core.cql.AsyncResultSet
      * @see com.datastax.oss.driver.api.core.cql.ResultSet
      */
-    public static ResultSet wrap(final AsyncResultSet asyncResultSet) {
+    public static ResultSet wrap(final AsyncResultSet asyncResultSet, final int prefetchPages, final int maxPrefetchedRows) {
         N.checkArgNotNull(asyncResultSet, "asyncResultSet");
+        N.checkArgNotNegative(prefetchPages, "prefetchPages");
+        N.checkArgNotNegative(maxPrefetchedRows, "maxPrefetchedRows");
+
+        return new PrefetchingResultSet(asyncResultSet, prefetchPages, maxPrefetchedRows);
+    }
+
+    /**
+     * The pages after the current one are kept as futures, in order: each is requested from the previous page once
+     * that page has arrived, by the consumer thread or by the driver thread which completed it. The next page is always
+     * requested from the last page requested, the tail, never from the current page: the consumer may have taken the
+     * tail already, and be waiting for it, while the current page is still the one before.
+     */
+    private static final class PrefetchingResultSet implements ResultSet {
+        private final int prefetchPages;
+        private final int maxPrefetchedRows;
+        private final Deque<CompletableFuture<AsyncResultSet>> pages = new ArrayDeque<>();
+        private final List<ExecutionInfo> executionInfos = new ArrayList<>(1);
+        private AsyncResultSet currentResultSet; // guarded by this
+        private CompletableFuture<AsyncResultSet> tail; // guarded by this: the last page requested, or the first page
+        private Iterator<Row> currentRows;
+
+        private final Iterator<Row> rowIterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                while (currentRows == null || !currentRows.hasNext()) {
+                    final CompletableFuture<AsyncResultSet> nextPage = pollNextPage();
 
-        return new ResultSet() {
-            private AsyncResultSet currentResultSet = asyncResultSet;
-            private final List<ExecutionInfo> executionInfos = new ArrayList<>(1);
-            private Iterator<Row> currentRows = N.iterate(asyncResultSet.currentPage());
-
-            private final Iterator<Row> rowIterator = new Iterator<>() {
-                @Override
-                public boolean hasNext() {
-                    while ((currentRows == null || !currentRows.hasNext()) && currentResultSet.hasMorePages()) {
-                        try {
-                            currentResultSet = currentResultSet.fetchNextPage().toCompletableFuture().get();
-                            executionInfos.add(currentResultSet.getExecutionInfo());
-                        } catch (final InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                            throw ExceptionUtil.toRuntimeException(e, true);
-                        } catch (final ExecutionException e) {
-                            throw ExceptionUtil.toRuntimeException(e, true);
-                        }
-
-                        currentRows = N.iterate(currentResultSet.currentPage());
+                    if (nextPage == null) {
+                        return false;
                     }
 
-                    return currentRows != null && currentRows.hasNext();
-                }
+                    final AsyncResultSet resultSet;
+
+                    try {
+                        resultSet = nextPage.get();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw ExceptionUtil.toRuntimeException(e, true);
+                    } catch (final ExecutionException e) {
+                        throw ExceptionUtil.toRuntimeException(e, true);
+                    }
 
-                @Override
-                public Row next() {
-                    if (!hasNext()) {
-                        throw new NoSuchElementException();
+                    synchronized (PrefetchingResultSet.this) {
+                        currentResultSet = resultSet;
                     }
 
-                    return currentRows.next();
+                    executionInfos.add(resultSet.getExecutionInfo());
+                    currentRows = N.iterate(resultSet.currentPage());
+
+                    prefetch();
                 }
-            };
 
-            {
-                executionInfos.add(asyncResultSet.getExecutionInfo());
+                return true;
             }
 
             @Override
-            public ColumnDefinitions getColumnDefinitions() {
-                return currentResultSet.getColumnDefinitions();
+            public Row next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return currentRows.next();
             }
+        };
 
-            @Override
-            public List<ExecutionInfo> getExecutionInfos() {
-                return ImmutableList.copyOf(executionInfos);
+        PrefetchingResultSet(final AsyncResultSet asyncResultSet, final int prefetchPages, final int maxPrefetchedRows) {
+            this.prefetchPages = prefetchPages;
+            this.maxPrefetchedRows = maxPrefetchedRows;
+            this.currentResultSet = asyncResultSet;
+            this.tail = CompletableFuture.completedFuture(asyncResultSet);
+            this.currentRows = N.iterate(asyncResultSet.currentPage());
+
+            executionInfos.add(asyncResultSet.getExecutionInfo());
+
+            prefetch();
+        }
+
+        /**
+         * Takes the future of the page after the current one, requesting it if it hasn't been.
+         *
+         * @return the future of the next page, or {@code null} if the current page is the last one
+         */
+        private synchronized CompletableFuture<AsyncResultSet> pollNextPage() {
+            if (pages.isEmpty() && !requestNextPage()) {
+                return null;
             }
 
-            @Override
-            public boolean isFullyFetched() {
-                return !currentResultSet.hasMorePages();
+            return pages.pollFirst();
+        }
+
+        /**
+         * Requests the pages after the tail, while the tail has arrived and has more pages, and the limits allow it.
+         * Called again whenever a requested page arrives.
+         */
+        private synchronized void prefetch() {
+            while (pages.size() < prefetchPages && prefetchedRows() < maxPrefetchedRows && requestNextPage()) {
+                // keep requesting.
             }
+        }
 
-            @Override
-            public boolean wasApplied() {
-                return currentResultSet.wasApplied();
+        /**
+         * Requests the page after the tail, which becomes the tail.
+         *
+         * @return {@code false} if the tail hasn't arrived, has failed or is the last page
+         */
+        private boolean requestNextPage() {
+            if (!tail.isDone() || tail.isCompletedExceptionally()) {
+                return false;
             }
 
-            @Override
-            public int getAvailableWithoutFetching() throws UnsupportedOperationException {
-                throw new UnsupportedOperationException();
+            final AsyncResultSet last = tail.join();
+
+            if (!last.hasMorePages()) {
+                return false;
             }
 
-            @Override
-            public List<Row> all() {
-                return N.toList(iterator());
+            final CompletableFuture<AsyncResultSet> nextPage = last.fetchNextPage().toCompletableFuture();
+            pages.addLast(nextPage);
+            tail = nextPage;
+
+            if (!nextPage.isDone()) {
+                nextPage.whenComplete((resultSet, e) -> prefetch());
             }
 
-            @Override
-            public Iterator<Row> iterator() {
-                return rowIterator;
+            return true;
+        }
+
+        private long prefetchedRows() {
+            long count = 0;
+
+            for (final CompletableFuture<AsyncResultSet> page : pages) {
+                if (page.isDone() && !page.isCompletedExceptionally()) {
+                    count += page.join().remaining();
+                }
             }
-        };
+
+            return count;
+        }
+
+        @Override
+        public synchronized ColumnDefinitions getColumnDefinitions() {
+            return currentResultSet.getColumnDefinitions();
+        }
+
+        @Override
+        public List<ExecutionInfo> getExecutionInfos() {
+            return ImmutableList.copyOf(executionInfos);
+        }
+
+        @Override
+        public synchronized boolean isFullyFetched() {
+            return !currentResultSet.hasMorePages();
+        }
+
+        @Override
+        public synchronized boolean wasApplied() {
+            return currentResultSet.wasApplied();
+        }
+
+        @Override
+        public int getAvailableWithoutFetching() throws UnsupportedOperationException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Row> all() {
+            return N.toList(iterator());
+        }
+
+        @Override
+        public Iterator<Row> iterator() {
+            return rowIterator;
+        }
     }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.cassandra;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * Publishes the rows of a query page by page, as the subscriber requests them.
+ *
+ * <p>The first page is requested on the first demand, and each following page only once the rows of the previous
+ * one have all been emitted and more are requested, so no more than one page is held per subscription. Cancelling
+ * the subscription stops the paging: a page already in flight is dropped when it arrives.</p>
+ */
+final class RowPublisher {
+
+    private RowPublisher() {
+        // utility class.
+    }
+
+    /**
+     * Creates a cold {@link Flux}: each subscription runs the query again.
+     *
+     * @param firstPage executes the query, and returns its first page
+     * @param mapperFactory creates the row mapper of a subscription
+     */
+    static <T> Flux<T> create(final Supplier<? extends CompletionStage<AsyncResultSet>> firstPage,
+            final Supplier<? extends Function<? super Row, ? extends T>> mapperFactory) {
+        return Flux.create(sink -> new Subscription<T>(sink, firstPage, mapperFactory.get()).start());
+    }
+
+    private static final class Subscription<T> {
+        private final FluxSink<T> sink;
+        private final Supplier<? extends CompletionStage<AsyncResultSet>> firstPage;
+        private final Function<? super Row, ? extends T> mapper;
+        private final AtomicInteger wip = new AtomicInteger();
+
+        // guarded by wip, or handed over by the page callback while fetching is true.
+        private AsyncResultSet page;
+        private Iterator<Row> rows;
+        private boolean done;
+
+        private volatile boolean fetching;
+
+        Subscription(final FluxSink<T> sink, final Supplier<? extends CompletionStage<AsyncResultSet>> firstPage,
+                final Function<? super Row, ? extends T> mapper) {
+            this.sink = sink;
+            this.firstPage = firstPage;
+            this.mapper = mapper;
+        }
+
+        void start() {
+            sink.onRequest(n -> drain());
+            sink.onCancel(this::drain);
+        }
+
+        /**
+         * Emits the rows of the current page while there's demand, then requests the next page if there's still
+         * demand. Runs on one thread at a time: a call made while another one runs makes that one loop again.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+
+            do {
+                if (!fetching && !done) {
+                    if (sink.isCancelled()) {
+                        done = true;
+                    } else if (rows == null) {
+                        if (sink.requestedFromDownstream() > 0) {
+                            fetch(firstPage);
+                        }
+                    } else {
+                        emit();
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            while (sink.requestedFromDownstream() > 0 && rows.hasNext()) {
+                final T value;
+
+                try {
+                    value = mapper.apply(rows.next());
+                } catch (final Throwable e) { //NOSONAR
+                    done = true;
+                    sink.error(e);
+                    return;
+                }
+
+                sink.next(value);
+
+                if (sink.isCancelled()) {
+                    done = true;
+                    return;
+                }
+            }
+
+            if (!rows.hasNext()) {
+                if (!page.hasMorePages()) {
+                    done = true;
+                    sink.complete();
+                } else if (sink.requestedFromDownstream() > 0) {
+                    fetch(page::fetchNextPage);
+                }
+            }
+        }
+
+        private void fetch(final Supplier<? extends CompletionStage<AsyncResultSet>> nextPage) {
+            final CompletionStage<AsyncResultSet> stage;
+
+            try {
+                stage = nextPage.get();
+            } catch (final RuntimeException e) {
+                done = true;
+                sink.error(e);
+                return;
+            }
+
+            fetching = true;
+
+            stage.whenComplete((resultSet, e) -> {
+                if (e != null) {
+                    done = true;
+                    fetching = false;
+                    sink.error(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                    return;
+                }
+
+                page = resultSet;
+                rows = resultSet.currentPage().iterator();
+                fetching = false;
+
+                drain();
+            });
+        }
+    }
+}
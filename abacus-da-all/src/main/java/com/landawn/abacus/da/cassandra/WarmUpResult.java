@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.cassandra;
+
+import java.util.Map;
+
+import com.landawn.abacus.util.ImmutableMap;
+
+/**
+ * The outcome of {@link CassandraExecutor#warmUp()}: how many statements were prepared, how long the generation of the
+ * entity CQL and the preparation took, and which statements failed and why.
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * WarmUpResult result = executor.warmUp();
+ * logger.info("Warmed up {} statements in {}ms", result.statementCount(), result.elapsedNanos() / 1_000_000);
+ *
+ * result.failures().forEach((statement, cause) -> logger.warn("Failed to prepare " + statement, cause));
+ * }</pre>
+ */
+public final class WarmUpResult {
+
+    private final int statementCount;
+    private final int entityClassCount;
+    private final long cqlGenerationNanos;
+    private final long prepareNanos;
+    private final long maxPrepareNanos;
+    private final ImmutableMap<String, Throwable> failures;
+
+    WarmUpResult(final int statementCount, final int entityClassCount, final long cqlGenerationNanos, final long prepareNanos, final long maxPrepareNanos,
+            final Map<String, Throwable> failures) {
+        this.statementCount = statementCount;
+        this.entityClassCount = entityClassCount;
+        this.cqlGenerationNanos = cqlGenerationNanos;
+        this.prepareNanos = prepareNanos;
+        this.maxPrepareNanos = maxPrepareNanos;
+        this.failures = ImmutableMap.copyOf(failures);
+    }
+
+    /**
+     * Returns the number of distinct statements submitted for preparation: the CQL of the mapper and of the entity
+     * classes.
+     *
+     * @return the number of statements
+     */
+    public int statementCount() {
+        return statementCount;
+    }
+
+    /**
+     * Returns the number of entity classes whose CQL was generated.
+     *
+     * @return the number of entity classes
+     */
+    public int entityClassCount() {
+        return entityClassCount;
+    }
+
+    /**
+     * Checks whether every statement was prepared, and the CQL of every entity class generated.
+     *
+     * @return {@code true} if nothing failed
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Returns the failures, by CqlMapper id, CQL, or entity class name when its CQL couldn't be generated.
+     *
+     * @return the causes of the failures, empty if nothing failed
+     */
+    public Map<String, Throwable> failures() {
+        return failures;
+    }
+
+    /**
+     * Returns the time spent generating the CQL of the entity classes, in nanoseconds.
+     *
+     * @return the CQL generation time
+     */
+    public long cqlGenerationNanos() {
+        return cqlGenerationNanos;
+    }
+
+    /**
+     * Returns the time from the first preparation sent to the last one completed, in nanoseconds.
+     *
+     * @return the preparation time
+     */
+    public long prepareNanos() {
+        return prepareNanos;
+    }
+
+    /**
+     * Returns the duration of the slowest preparation, in nanoseconds.
+     *
+     * @return the maximum preparation time
+     */
+    public long maxPrepareNanos() {
+        return maxPrepareNanos;
+    }
+
+    /**
+     * Returns the duration of the warm-up, in nanoseconds.
+     *
+     * @return the elapsed time
+     */
+    public long elapsedNanos() {
+        return cqlGenerationNanos + prepareNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "{statementCount=" + statementCount + ", entityClassCount=" + entityClassCount + ", failureCount=" + failures.size() + ", cqlGenerationMillis="
+                + cqlGenerationNanos / 1_000_000 + ", prepareMillis=" + prepareNanos / 1_000_000 + ", maxPrepareMillis=" + maxPrepareNanos / 1_000_000 + "}";
+    }
+}
@@ -34,6 +34,7 @@ import com.landawn.abacus.da.hbase.annotation.ColumnFamily;
 import com.landawn.abacus.parser.ParserUtil;
 import com.landawn.abacus.parser.ParserUtil.BeanInfo;
 import com.landawn.abacus.parser.ParserUtil.PropInfo;
+import com.landawn.abacus.type.Type;
 import com.landawn.abacus.util.Beans;
 import com.landawn.abacus.util.ClassUtil;
 import com.landawn.abacus.util.HBaseColumn;
@@ -155,6 +156,8 @@ import com.landawn.abacus.util.Tuple.Tuple3;
  *     {@code Map<Long, HBaseColumn>} properties are expanded into one cell per element, each at
  *     its own version, enabling multi-version storage.</li>
  * <li><strong>Null values</strong>: Properties whose value is {@code null} are skipped.</li>
+ * <li><strong>Cell Encoding</strong>: Values are encoded by the {@link HBaseCellCodec} declared through
+ *     {@link ColumnFamily#codec()}, or by {@link HBaseCellCodec#STRING} when none is declared.</li>
  * </ul>
  *
  * <h3>Performance Considerations:</h3>
@@ -164,6 +167,8 @@ import com.landawn.abacus.util.Tuple.Tuple3;
  * <li><strong>Byte Array Allocation</strong>: Family/qualifier strings are freshly encoded to bytes on every call — never
  *     pooled or interned, because HBase operations retain the arrays and expose them through live maps</li>
  * <li><strong>Entity Validation</strong>: Entity structure is validated when {@code create} is first called for a class</li>
+ * <li><strong>Property Access</strong>: Entity properties are read reflectively unless generated accessors are enabled by
+ *     {@link HBaseExecutor#setGeneratedPropAccessorsEnabled(boolean)}</li>
  * </ul>
  *
  * @see Put
@@ -616,7 +621,8 @@ public final class AnyPut extends AnyMutation<AnyPut> {
      * converting them to HBase column families and qualifiers. The entity class must have a row-key
      * property — either annotated with {@code @Id} or registered via
      * {@link HBaseExecutor#registerRowKeyProperty(Class, String)} — whose value becomes the HBase
-     * row key. Properties whose value is {@code null} are skipped. See the class-level "Entity
+     * row key, mapped by the {@link RowKeyDistributor} registered for the class, if any. Properties whose value is
+     * {@code null} are skipped. See the class-level "Entity
      * Mapping Rules" section for full details, including how nested beans, {@link HBaseColumn}
      * values, and {@code Collection}/{@code Map} of {@link HBaseColumn} are mapped.</p>
      *
@@ -964,7 +970,8 @@ public final class AnyPut extends AnyMutation<AnyPut> {
                             + ClassUtil.getCanonicalClassName(cls));
         }
 
-        final AnyPut anyPut = new AnyPut(rowKeyValue);
+        final RowKeyDistributor rowKeyDistributor = HBaseExecutor.getRowKeyDistributor(cls);
+        final AnyPut anyPut = new AnyPut(rowKeyDistributor == null ? rowKeyValue : rowKeyDistributor.toStoredRowKey(toRowKeyBytes(rowKeyValue)));
         final boolean annotatedByDefaultColumnFamily = HBaseExecutor.hasColumnFamilyValue(entityInfo.getAnnotation(ColumnFamily.class));
 
         PropInfo columnPropInfo = null;
@@ -974,13 +981,16 @@ public final class AnyPut extends AnyMutation<AnyPut> {
         Object propValue = null;
         Tuple3<String, String, Boolean> tp = null;
         String columnName = null;
+        HBaseCellCodec codec = null;
+        HBaseCellCodec columnCodec = null;
+        Type<?> valueType = null;
 
         for (final PropInfo propInfo : selectPropInfos) {
             if (propInfo.getMethod.equals(rowKeyGetMethod)) {
                 continue;
             }
 
-            propValue = propInfo.getPropValue(entity);
+            propValue = HBaseExecutor.getPropAccessor(cls, propInfo).getPropValue(entity);
 
             if (propValue == null) {
                 continue;
@@ -989,6 +999,7 @@ public final class AnyPut extends AnyMutation<AnyPut> {
             tp = classFamilyColumnNameMap.get(propInfo.name);
             columnName = tp._3 || annotatedByDefaultColumnFamily || HBaseExecutor.hasColumnFamilyValue(propInfo.getAnnotation(ColumnFamily.class)) ? tp._2
                     : HBaseExecutor.EMPTY_QUALIFIER; //NOSONAR
+            codec = HBaseExecutor.getCellCodec(cls, propInfo.name, HBaseCellCodec.STRING);
 
             if (propInfo.jsonXmlType.isBean() && !tp._3) { //NOSONAR
                 final Map<String, Tuple3<String, String, Boolean>> propEntityFamilyColumnNameMap = HBaseExecutor.getClassFamilyColumnNameMap(propInfo.clazz,
@@ -1003,55 +1014,61 @@ public final class AnyPut extends AnyMutation<AnyPut> {
                 for (final Map.Entry<String, Method> columnGetMethodEntry : columnGetMethodMap.entrySet()) {
                     columnPropInfo = propBeanInfo.getPropInfo(columnGetMethodEntry.getKey());
 
-                    propValue = columnPropInfo.getPropValue(propEntity);
+                    propValue = HBaseExecutor.getPropAccessor(propEntityClass, columnPropInfo).getPropValue(propEntity);
 
                     if (propValue == null) {
                         continue;
                     }
 
                     propEntityTP = propEntityFamilyColumnNameMap.get(columnPropInfo.name);
+                    columnCodec = HBaseExecutor.getCellCodec(propEntityClass, columnPropInfo.name, codec);
 
                     if (columnPropInfo.jsonXmlType.isMap() && columnPropInfo.jsonXmlType.parameterTypes().get(1).javaType().equals(HBaseColumn.class)) {
                         columnMap = (Map<Long, HBaseColumn<?>>) propValue;
+                        valueType = columnPropInfo.jsonXmlType.parameterTypes().get(1).elementType();
 
                         for (final HBaseColumn<?> e : columnMap.values()) {
-                            anyPut.addColumn(tp._1, propEntityTP._2, e.version(), e.value());
+                            anyPut.addColumn(tp._1, propEntityTP._2, e.version(), columnCodec.encode(e.value(), valueType));
 
                         }
                     } else if (columnPropInfo.jsonXmlType.isCollection()
                             && columnPropInfo.jsonXmlType.parameterTypes().get(0).javaType().equals(HBaseColumn.class)) {
                         columnColl = (Collection<HBaseColumn<?>>) propValue;
+                        valueType = columnPropInfo.jsonXmlType.parameterTypes().get(0).elementType();
 
                         for (final HBaseColumn<?> e : columnColl) {
-                            anyPut.addColumn(tp._1, propEntityTP._2, e.version(), e.value());
+                            anyPut.addColumn(tp._1, propEntityTP._2, e.version(), columnCodec.encode(e.value(), valueType));
 
                         }
                     } else if (columnPropInfo.jsonXmlType.javaType().equals(HBaseColumn.class)) {
                         column = (HBaseColumn<?>) propValue;
-                        anyPut.addColumn(tp._1, propEntityTP._2, column.version(), column.value());
+                        anyPut.addColumn(tp._1, propEntityTP._2, column.version(),
+                                columnCodec.encode(column.value(), columnPropInfo.jsonXmlType.parameterTypes().get(0)));
                     } else {
-                        anyPut.addColumn(tp._1, propEntityTP._2, propValue);
+                        anyPut.addColumn(tp._1, propEntityTP._2, columnCodec.encode(propValue, columnPropInfo.jsonXmlType));
                     }
                 }
             } else if (propInfo.jsonXmlType.isMap() && propInfo.jsonXmlType.parameterTypes().get(1).javaType().equals(HBaseColumn.class)) {
                 columnMap = (Map<Long, HBaseColumn<?>>) propValue;
+                valueType = propInfo.jsonXmlType.parameterTypes().get(1).elementType();
 
                 for (final HBaseColumn<?> e : columnMap.values()) {
-                    anyPut.addColumn(tp._1, columnName, e.version(), e.value());
+                    anyPut.addColumn(tp._1, columnName, e.version(), codec.encode(e.value(), valueType));
 
                 }
             } else if (propInfo.jsonXmlType.isCollection() && propInfo.jsonXmlType.parameterTypes().get(0).javaType().equals(HBaseColumn.class)) {
                 columnColl = (Collection<HBaseColumn<?>>) propValue;
+                valueType = propInfo.jsonXmlType.parameterTypes().get(0).elementType();
 
                 for (final HBaseColumn<?> e : columnColl) {
-                    anyPut.addColumn(tp._1, columnName, e.version(), e.value());
+                    anyPut.addColumn(tp._1, columnName, e.version(), codec.encode(e.value(), valueType));
 
                 }
             } else if (propInfo.jsonXmlType.javaType().equals(HBaseColumn.class)) {
                 column = (HBaseColumn<?>) propValue;
-                anyPut.addColumn(tp._1, columnName, column.version(), column.value());
+                anyPut.addColumn(tp._1, columnName, column.version(), codec.encode(column.value(), propInfo.jsonXmlType.parameterTypes().get(0)));
             } else {
-                anyPut.addColumn(tp._1, columnName, propValue);
+                anyPut.addColumn(tp._1, columnName, codec.encode(propValue, propInfo.jsonXmlType));
             }
         }
 
@@ -107,6 +107,12 @@ public final class AnyScan extends AnyQuery<AnyScan> {
      */
     private final Scan scan;
 
+    /**
+     * The number of rows read ahead on a background thread by {@link HBaseExecutor#scan(String, AnyScan)}; {@code 0}
+     * (the default) reads rows on demand. A client-side setting, not part of the wrapped {@link Scan}.
+     */
+    private int clientPrefetchRows = 0;
+
     /**
      * Constructs a new AnyScan with default configuration.
      *
@@ -1925,6 +1931,66 @@ public final class AnyScan extends AnyQuery<AnyScan> {
         return this;
     }
 
+    /**
+     * Returns the number of rows read ahead on a background thread when this scan is run through
+     * {@link HBaseExecutor#scan(String, AnyScan)}.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * AnyScan scan = AnyScan.create();
+     * int def = scan.getClientPrefetchRows();   // returns 0 (rows are read on demand)
+     *
+     * scan.setClientPrefetchRows(2000);
+     * int rows = scan.getClientPrefetchRows();  // returns 2000
+     * }</pre>
+     *
+     * @return the number of rows read ahead, or {@code 0} if read-ahead is disabled
+     * @see #setClientPrefetchRows(int)
+     */
+    public int getClientPrefetchRows() {
+        return clientPrefetchRows;
+    }
+
+    /**
+     * Sets the number of rows read ahead on a background thread when this scan is run through
+     * {@link HBaseExecutor#scan(String, AnyScan)} and the overloads which map the rows to entities.
+     * <p>
+     * With read-ahead enabled, a task on the executor's {@link com.landawn.abacus.util.AsyncExecutor} pulls rows from
+     * the {@code ResultScanner} into a queue bounded by {@code clientPrefetchRows} while the consumer processes the
+     * rows already fetched, so that the RegionServer round trips overlap with the consumer's work, including the
+     * mapping of rows to entities. Unlike {@link #setAsyncPrefetch(boolean)}, which lets the HBase client fetch the
+     * next RPC batch in the background, read-ahead also moves {@code ResultScanner.next()} itself off the consuming
+     * thread. At most {@code clientPrefetchRows} rows are held in memory on top of the scanner's caching.
+     * </p>
+     * <p>
+     * This is a client-side setting of this {@code AnyScan}; it is not part of the wrapped {@link Scan} returned by
+     * {@link #val()} and has no effect on the {@code scan(String, Scan)} overloads.
+     * </p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * AnyScan scan = AnyScan.create()
+     *                      .setCaching(500)
+     *                      .setClientPrefetchRows(2000);   // returns this scan
+     *
+     * try (Stream<User> users = executor.scan("users", scan, User.class)) {
+     *     users.forEach(this::process);                  // mapping overlaps the next fetches
+     * }
+     * }</pre>
+     *
+     * @param clientPrefetchRows the number of rows to read ahead, or {@code 0} to read rows on demand
+     * @return this AnyScan instance for method chaining
+     * @throws IllegalArgumentException if {@code clientPrefetchRows} is negative
+     * @see #getClientPrefetchRows()
+     */
+    public AnyScan setClientPrefetchRows(final int clientPrefetchRows) {
+        N.checkArgNotNegative(clientPrefetchRows, "clientPrefetchRows");
+
+        this.clientPrefetchRows = clientPrefetchRows;
+
+        return this;
+    }
+
     /**
      * Returns the read type for this scan operation.
      * <p>
@@ -17,6 +17,7 @@ package com.landawn.abacus.da.hbase;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.apache.hadoop.hbase.client.Append;
 import org.apache.hadoop.hbase.client.Delete;
@@ -25,6 +26,7 @@ import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Increment;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Row;
 import org.apache.hadoop.hbase.client.RowMutations;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.coprocessor.Batch;
@@ -42,7 +44,8 @@ import com.landawn.abacus.util.stream.Stream;
 /**
  * Thread-offloading wrapper for the blocking {@link HBaseExecutor} API. Each operation is submitted
  * to an {@link AsyncExecutor} and represented by a {@link ContinuableFuture}; it does not use HBase's
- * native asynchronous client.
+ * native asynchronous client. {@link NativeAsyncHBaseExecutor} is the alternative built on the native client,
+ * which doesn't hold a thread per in-flight request.
  *
  * <p>All methods in this class are asynchronous counterparts to the synchronous methods in {@link HBaseExecutor}.
  * Each method submits a task that invokes the corresponding synchronous method on the {@link AsyncExecutor}
@@ -123,6 +126,7 @@ import com.landawn.abacus.util.stream.Stream;
  *
  * @see HBaseExecutor
  * @see HBaseExecutor#async()
+ * @see NativeAsyncHBaseExecutor
  * @see ContinuableFuture
  * @see AsyncExecutor
  * @see <a href="https://hbase.apache.org/devapidocs/index.html">Apache HBase Java API Documentation</a>
@@ -1461,6 +1465,55 @@ public final class AsyncHBaseExecutor {
         });
     }
 
+    /**
+     * Asynchronously runs a batch of mixed actions and returns the outcome of each action.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * AsyncHBaseExecutor async = hbaseExecutor.async();
+     *
+     * async.batch("users", N.asList(AnyPut.of("user1").addColumn("info", "name", "John"), AnyGet.of("user2")))
+     *      .thenRunAsync(results -> results.stream().filter(r -> !r.isSuccess()).forEach(this::retry));
+     * }</pre>
+     *
+     * @param tableName the name of the HBase table
+     * @param actions the actions to run
+     * @return a {@link ContinuableFuture} that completes with the outcome of each action, in the order of
+     *         {@code actions}. Wraps {@link HBaseExecutor#batch(String, List)}.
+     * @see HBaseExecutor#batch(String, List)
+     * @see HBaseBatchResult
+     */
+    public ContinuableFuture<List<HBaseBatchResult>> batch(final String tableName, final List<? extends Row> actions) {
+        return asyncExecutor.execute(() -> hbaseExecutor.batch(tableName, actions));
+    }
+
+    /**
+     * Asynchronously runs a batch of mixed actions as per-region chunks and passes the outcomes of each chunk to
+     * {@code onResult} as soon as the chunk completes, before the returned future completes.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * AsyncHBaseExecutor async = hbaseExecutor.async();
+     *
+     * ContinuableFuture<List<HBaseBatchResult>> done = async.batch("events", actions, result -> {
+     *     if (!result.isSuccess()) {
+     *         failures.add(result);   // called as results come in
+     *     }
+     * });
+     * }</pre>
+     *
+     * @param tableName the name of the HBase table
+     * @param actions the actions to run
+     * @param onResult the thread-safe consumer of the outcome of each action, called as the outcomes come in
+     * @return a {@link ContinuableFuture} that completes with the outcome of each action, in the order of
+     *         {@code actions}. Wraps {@link HBaseExecutor#batch(String, List, Consumer)}.
+     * @see HBaseExecutor#batch(String, List, Consumer)
+     */
+    public ContinuableFuture<List<HBaseBatchResult>> batch(final String tableName, final List<? extends Row> actions,
+            final Consumer<? super HBaseBatchResult> onResult) {
+        return asyncExecutor.execute(() -> hbaseExecutor.batch(tableName, actions, onResult));
+    }
+
     /**
      * Asynchronously performs atomic mutations on a single row using a fluent {@link AnyRowMutations}
      * builder.
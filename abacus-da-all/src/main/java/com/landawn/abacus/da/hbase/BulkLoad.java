@@ -0,0 +1,579 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellComparator;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.KeyValueUtil;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.ColumnFamilyDescriptor;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.TableDescriptor;
+import org.apache.hadoop.hbase.io.hfile.CacheConfig;
+import org.apache.hadoop.hbase.io.hfile.HFileContext;
+import org.apache.hadoop.hbase.io.hfile.HFileContextBuilder;
+import org.apache.hadoop.hbase.regionserver.HStoreFile;
+import org.apache.hadoop.hbase.regionserver.StoreFileWriter;
+import org.apache.hadoop.hbase.tool.BulkLoadHFiles;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import com.landawn.abacus.da.hbase.HBaseExecutor.BulkLoadSettings;
+import com.landawn.abacus.exception.UncheckedIOException;
+import com.landawn.abacus.logging.Logger;
+import com.landawn.abacus.logging.LoggerFactory;
+import com.landawn.abacus.util.AsyncExecutor;
+import com.landawn.abacus.util.ContinuableFuture;
+import com.landawn.abacus.util.ExceptionUtil;
+import com.landawn.abacus.util.IOUtil;
+import com.landawn.abacus.util.stream.Stream;
+
+/**
+ * Loads a stream of puts of any size into a table by writing them as HFiles and handing the HFiles to
+ * {@link BulkLoadHFiles}, so that none of the data goes through the write-ahead log or the memstore of a region server.
+ *
+ * <p>The cells of the puts are sorted with an external merge sort: they are collected into buffers of about
+ * {@link BulkLoadSettings#sortBufferSize()} bytes, and each full buffer is sorted and spilled as a run to a local file
+ * on the {@link AsyncExecutor} while the next one is filled. The last buffer stays in memory. The runs are then merged
+ * region by region, up to {@link BulkLoadSettings#parallelism()} regions at a time, into one HFile per region and column
+ * family under a staging directory, which is finally loaded with {@link BulkLoadHFiles}.</p>
+ */
+final class BulkLoad {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkLoad.class);
+
+    private static final CellComparator CELL_COMPARATOR = CellComparator.getInstance();
+
+    private static final int SPILL_BUFFER_SIZE = 64 * 1024;
+
+    private BulkLoad() {
+        // utility class.
+    }
+
+    static long load(final HBaseExecutor hbaseExecutor, final String tableName, final Stream<? extends AnyPut> anyPuts, final BulkLoadSettings settings,
+            final AsyncExecutor asyncExecutor) throws UncheckedIOException {
+        final Connection conn = hbaseExecutor.connection();
+        final Configuration conf = conn.getConfiguration();
+        final TableName table = HBaseTableCache.toTableName(tableName);
+
+        final TableDescriptor tableDescriptor;
+        final byte[][] regionStartKeys;
+        final java.nio.file.Path spillDir;
+
+        try (RegionLocator regionLocator = conn.getRegionLocator(table)) {
+            tableDescriptor = hbaseExecutor.admin().getDescriptor(table);
+            regionStartKeys = regionLocator.getStartKeys();
+            spillDir = Files.createTempDirectory(Paths.get(settings.spillDir() == null ? System.getProperty("java.io.tmpdir") : settings.spillDir()),
+                    "abacus-bulkload-");
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final List<Run> runs = new ArrayList<>();
+
+        try {
+            final long count = sort(anyPuts.iterator(), tableDescriptor, regionStartKeys, spillDir, settings, asyncExecutor, runs);
+
+            if (count == 0) {
+                return 0;
+            }
+
+            final Path stagingDir = new Path(settings.stagingDir() == null ? conf.get("hbase.fs.tmp.dir") : settings.stagingDir(),
+                    "abacus-bulkload-" + UUID.randomUUID().toString().replace("-", ""));
+            final FileSystem fs = stagingDir.getFileSystem(conf);
+            final long bulkLoadTime = System.currentTimeMillis();
+
+            try {
+                ChunkedMultiGet.run(regionStartKeys.length, settings.parallelism(), asyncExecutor, regionIndex -> {
+                    try {
+                        writeRegion(regionIndex, runs, tableDescriptor, conf, fs, stagingDir, bulkLoadTime);
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (final RuntimeException | Error e) {
+                deleteQuietly(fs, stagingDir);
+                throw e;
+            }
+
+            try {
+                BulkLoadHFiles.create(conf).bulkLoad(table, stagingDir);
+            } catch (final IOException e) {
+                // the HFiles which haven't been loaded are left in place, to be loaded again from the staging directory.
+                throw new UncheckedIOException(
+                        new IOException("Failed to bulk load the HFiles staged in " + stagingDir + " into table " + tableName, e));
+            }
+
+            deleteQuietly(fs, stagingDir);
+
+            logger.debug("Bulk loaded {} puts into table {} from {} sorted runs", count, tableName, runs.size());
+
+            return count;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            final File[] spillFiles = spillDir.toFile().listFiles();
+
+            if (spillFiles != null) {
+                for (final File spillFile : spillFiles) {
+                    spillFile.delete(); // NOSONAR
+                }
+            }
+
+            spillDir.toFile().delete(); // NOSONAR
+        }
+    }
+
+    /**
+     * Reads all the puts into sorted runs, added to {@code runs} in the order of the stream, and returns the number of
+     * puts read. The full buffers are sorted and spilled on {@code asyncExecutor}, at most {@code parallelism - 1} (and
+     * at least one) at a time, while the calling thread fills the next buffer.
+     */
+    private static long sort(final Iterator<? extends AnyPut> iter, final TableDescriptor tableDescriptor, final byte[][] regionStartKeys,
+            final java.nio.file.Path spillDir, final BulkLoadSettings settings, final AsyncExecutor asyncExecutor, final List<Run> runs) throws IOException {
+        final int maxSpillsInFlight = Math.max(settings.parallelism() - 1, 1);
+        final List<ContinuableFuture<Run>> spills = new ArrayList<>();
+        final long now = System.currentTimeMillis();
+        List<KeyValue> buffer = new ArrayList<>();
+        long bufferedBytes = 0;
+        long count = 0;
+        int spilled = 0;
+
+        try {
+            while (iter.hasNext()) {
+                final Put put = iter.next().val();
+
+                for (final Map.Entry<byte[], List<Cell>> entry : put.getFamilyCellMap().entrySet()) {
+                    if (!tableDescriptor.hasColumnFamily(entry.getKey())) {
+                        throw new IllegalArgumentException(
+                                "Column family " + Bytes.toString(entry.getKey()) + " doesn't exist in table " + tableDescriptor.getTableName());
+                    }
+
+                    for (final Cell cell : entry.getValue()) {
+                        // copied: the puts of the caller are left as they are, and cells without a timestamp get the one of the load.
+                        final KeyValue kv = KeyValueUtil.copyToNewKeyValue(cell);
+
+                        if (kv.getTimestamp() == HConstants.LATEST_TIMESTAMP) {
+                            kv.setTimestamp(now);
+                        }
+
+                        buffer.add(kv);
+                        bufferedBytes += kv.heapSize();
+                    }
+                }
+
+                count++;
+
+                if (bufferedBytes >= settings.sortBufferSize()) {
+                    final KeyValue[] kvs = buffer.toArray(new KeyValue[0]);
+                    final java.nio.file.Path spillFile = spillDir.resolve("run-" + spills.size());
+
+                    buffer = new ArrayList<>();
+                    bufferedBytes = 0;
+
+                    if (spills.size() - spilled >= maxSpillsInFlight) {
+                        runs.add(await(spills.get(spilled++)));
+                    }
+
+                    spills.add(asyncExecutor.execute(() -> SpilledRun.write(sorted(kvs), regionStartKeys, spillFile)));
+                }
+            }
+
+            while (spilled < spills.size()) {
+                runs.add(await(spills.get(spilled++)));
+            }
+        } finally {
+            // nothing may still write to the spill directory once this returns.
+            boolean interrupted = false;
+
+            for (int i = spilled; i < spills.size(); i++) {
+                while (true) {
+                    try {
+                        spills.get(i).get();
+                        break;
+                    } catch (final InterruptedException e) {
+                        interrupted = true;
+                    } catch (final ExecutionException e) {
+                        break; // already failing.
+                    }
+                }
+            }
+
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (!buffer.isEmpty()) {
+            final KeyValue[] kvs = sorted(buffer.toArray(new KeyValue[0]));
+
+            runs.add(new MemoryRun(kvs, regionBounds(kvs, regionStartKeys)));
+        }
+
+        return count;
+    }
+
+    /**
+     * Merges the cells of region {@code regionIndex} from all the runs into one HFile per column family. Of the cells with
+     * the same key, only the one put last is written, like a put overwrites a previous put of the same cell.
+     */
+    private static void writeRegion(final int regionIndex, final List<Run> runs, final TableDescriptor tableDescriptor, final Configuration conf,
+            final FileSystem fs, final Path stagingDir, final long bulkLoadTime) throws IOException {
+        final PriorityQueue<Head> heads = new PriorityQueue<>(Math.max(runs.size(), 1), Head.COMPARATOR);
+        final Map<byte[], StoreFileWriter> writers = new TreeMap<>(Bytes.BYTES_COMPARATOR);
+        final List<Source> sources = new ArrayList<>(runs.size());
+        boolean closed = false;
+
+        try {
+            for (int i = 0, size = runs.size(); i < size; i++) {
+                final Source source = runs.get(i).open(regionIndex);
+
+                if (source != null) {
+                    sources.add(source);
+
+                    final KeyValue kv = source.next();
+
+                    if (kv != null) {
+                        heads.add(new Head(kv, i, source));
+                    }
+                }
+            }
+
+            KeyValue pending = null;
+
+            while (!heads.isEmpty()) {
+                final Head head = heads.poll();
+                final KeyValue kv = head.kv;
+
+                head.kv = head.source.next();
+
+                if (head.kv != null) {
+                    heads.add(head);
+                }
+
+                if (pending != null && CELL_COMPARATOR.compare(pending, kv) != 0) {
+                    writer(writers, pending, tableDescriptor, conf, fs, stagingDir).append(pending);
+                }
+
+                pending = kv;
+            }
+
+            if (pending != null) {
+                writer(writers, pending, tableDescriptor, conf, fs, stagingDir).append(pending);
+            }
+
+            for (final StoreFileWriter writer : writers.values()) {
+                writer.appendFileInfo(HStoreFile.BULKLOAD_TIME_KEY, Bytes.toBytes(bulkLoadTime));
+                writer.appendFileInfo(HStoreFile.MAJOR_COMPACTION_KEY, Bytes.toBytes(true));
+                writer.appendFileInfo(HStoreFile.EXCLUDE_FROM_MINOR_COMPACTION_KEY, Bytes.toBytes(false));
+                writer.appendTrackedTimestampsToMetadata();
+            }
+
+            for (final StoreFileWriter writer : writers.values()) {
+                writer.close();
+            }
+
+            closed = true;
+        } finally {
+            for (final Source source : sources) {
+                IOUtil.closeQuietly(source);
+            }
+
+            if (!closed) {
+                for (final StoreFileWriter writer : writers.values()) {
+                    try {
+                        writer.close();
+                    } catch (final IOException e) {
+                        logger.warn("Failed to close the HFile writer of " + writer.getPath(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static StoreFileWriter writer(final Map<byte[], StoreFileWriter> writers, final KeyValue kv, final TableDescriptor tableDescriptor,
+            final Configuration conf, final FileSystem fs, final Path stagingDir) throws IOException {
+        final byte[] family = CellUtil.cloneFamily(kv);
+        StoreFileWriter writer = writers.get(family);
+
+        if (writer == null) {
+            final ColumnFamilyDescriptor familyDescriptor = tableDescriptor.getColumnFamily(family);
+
+            // the same file settings as the stores of the family, as HFileOutputFormat2 does.
+            final HFileContext fileContext = new HFileContextBuilder().withCompression(familyDescriptor.getCompressionType())
+                    .withDataBlockEncoding(familyDescriptor.getDataBlockEncoding())
+                    .withBlockSize(familyDescriptor.getBlocksize())
+                    .withIncludesTags(true)
+                    .withColumnFamily(family)
+                    .withTableName(tableDescriptor.getTableName().getName())
+                    .build();
+
+            writer = new StoreFileWriter.Builder(conf, CacheConfig.DISABLED, fs).withOutputDir(new Path(stagingDir, Bytes.toString(family)))
+                    .withBloomType(familyDescriptor.getBloomFilterType())
+                    .withFileContext(fileContext)
+                    .build();
+
+            writers.put(family, writer);
+        }
+
+        return writer;
+    }
+
+    private static KeyValue[] sorted(final KeyValue[] kvs) {
+        // stable: the cells with the same key stay in the order they were put.
+        Arrays.parallelSort(kvs, CELL_COMPARATOR);
+
+        return kvs;
+    }
+
+    /**
+     * Returns the index of the first cell of each region in the sorted {@code kvs}, followed by {@code kvs.length}.
+     */
+    static int[] regionBounds(final KeyValue[] kvs, final byte[][] regionStartKeys) {
+        final int[] bounds = new int[regionStartKeys.length + 1];
+
+        for (int i = 1; i < regionStartKeys.length; i++) {
+            final byte[] startKey = regionStartKeys[i];
+            int low = bounds[i - 1];
+            int high = kvs.length;
+
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                final KeyValue kv = kvs[mid];
+
+                if (Bytes.compareTo(kv.getRowArray(), kv.getRowOffset(), kv.getRowLength(), startKey, 0, startKey.length) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            bounds[i] = low;
+        }
+
+        bounds[regionStartKeys.length] = kvs.length;
+
+        return bounds;
+    }
+
+    private static <T> T await(final ContinuableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            throw ExceptionUtil.toRuntimeException(e, true);
+        } catch (final ExecutionException e) {
+            throw ExceptionUtil.toRuntimeException(e.getCause(), true);
+        }
+    }
+
+    private static void deleteQuietly(final FileSystem fs, final Path dir) {
+        try {
+            fs.delete(dir, true);
+        } catch (final IOException e) {
+            logger.warn("Failed to delete the bulk load staging directory " + dir, e);
+        }
+    }
+
+    /**
+     * A sorted run of cells, read region by region.
+     */
+    abstract static class Run {
+
+        /**
+         * Opens the cells of region {@code regionIndex}, or returns {@code null} if there are none.
+         */
+        abstract Source open(int regionIndex) throws IOException;
+    }
+
+    /**
+     * The cells of one region of a run, in order.
+     */
+    interface Source extends AutoCloseable {
+
+        /**
+         * Returns the next cell, or {@code null} at the end.
+         */
+        KeyValue next() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /**
+     * The last run, which is never spilled.
+     */
+    static final class MemoryRun extends Run {
+
+        private final KeyValue[] kvs;
+        private final int[] bounds;
+
+        MemoryRun(final KeyValue[] kvs, final int[] bounds) {
+            this.kvs = kvs;
+            this.bounds = bounds;
+        }
+
+        @Override
+        Source open(final int regionIndex) {
+            final int end = bounds[regionIndex + 1];
+
+            if (bounds[regionIndex] == end) {
+                return null;
+            }
+
+            return new Source() {
+                private int cursor = bounds[regionIndex];
+
+                @Override
+                public KeyValue next() {
+                    return cursor < end ? kvs[cursor++] : null;
+                }
+
+                @Override
+                public void close() {
+                    // nothing to release.
+                }
+            };
+        }
+    }
+
+    /**
+     * A run spilled to a local file as length-prefixed {@link KeyValue}s, with the offset of the first cell of each
+     * region, so that the regions can be read back independently of each other.
+     */
+    static final class SpilledRun extends Run {
+
+        private final java.nio.file.Path file;
+        private final long[] offsets;
+
+        private SpilledRun(final java.nio.file.Path file, final long[] offsets) {
+            this.file = file;
+            this.offsets = offsets;
+        }
+
+        static SpilledRun write(final KeyValue[] kvs, final byte[][] regionStartKeys, final java.nio.file.Path file) throws IOException {
+            final int[] bounds = regionBounds(kvs, regionStartKeys);
+            final long[] offsets = new long[bounds.length];
+            long position = 0;
+            int region = 0;
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), SPILL_BUFFER_SIZE))) {
+                for (int i = 0; i < kvs.length; i++) {
+                    while (region < bounds.length && bounds[region] == i) {
+                        offsets[region++] = position;
+                    }
+
+                    out.writeInt(kvs[i].getLength());
+                    out.write(kvs[i].getBuffer(), kvs[i].getOffset(), kvs[i].getLength());
+                    position += Integer.BYTES + kvs[i].getLength();
+                }
+            }
+
+            while (region < bounds.length) {
+                offsets[region++] = position;
+            }
+
+            return new SpilledRun(file, offsets);
+        }
+
+        @Override
+        Source open(final int regionIndex) throws IOException {
+            final long start = offsets[regionIndex];
+            final long end = offsets[regionIndex + 1];
+
+            if (start == end) {
+                return null;
+            }
+
+            final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            channel.position(start);
+
+            final DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), SPILL_BUFFER_SIZE));
+
+            return new Source() {
+                private long remaining = end - start;
+
+                @Override
+                public KeyValue next() throws IOException {
+                    if (remaining == 0) {
+                        return null;
+                    }
+
+                    final int length = in.readInt();
+                    final byte[] bytes = new byte[length];
+                    in.readFully(bytes);
+                    remaining -= Integer.BYTES + length;
+
+                    return new KeyValue(bytes, 0, length);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    in.close();
+                }
+            };
+        }
+    }
+
+    /**
+     * The current cell of a source in the merge. Ties are broken by run, so that the cell put last comes last.
+     */
+    private static final class Head {
+
+        static final Comparator<Head> COMPARATOR = (a, b) -> {
+            final int result = CELL_COMPARATOR.compare(a.kv, b.kv);
+
+            return result != 0 ? result : Integer.compare(a.runIndex, b.runIndex);
+        };
+
+        KeyValue kv;
+        final int runIndex;
+        final Source source;
+
+        Head(final KeyValue kv, final int runIndex, final Source source) {
+            this.kv = kv;
+            this.runIndex = runIndex;
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Row;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import com.landawn.abacus.exception.UncheckedIOException;
+import com.landawn.abacus.util.AsyncExecutor;
+import com.landawn.abacus.util.ContinuableFuture;
+import com.landawn.abacus.util.ExceptionUtil;
+import com.landawn.abacus.util.IntList;
+import com.landawn.abacus.util.N;
+
+/**
+ * Runs a large multi-get as chunks of at most {@code chunkSize} {@link Get}s, each of which only targets one region,
+ * with up to {@code parallelism} chunks in flight.
+ *
+ * <p>The calling thread takes part: it runs chunks itself, and {@code parallelism - 1} tasks on the
+ * {@link AsyncExecutor} run the others. Since the calling thread keeps taking chunks until there are none left, tasks
+ * which haven't started by then are cancelled rather than waited for, so a multi-get called from a thread of the same
+ * executor can't deadlock on a saturated pool.</p>
+ *
+ * <p>The results are returned in the order of the gets. The first failure stops the chunks which haven't started yet and
+ * is rethrown once the running chunks are done.</p>
+ */
+final class ChunkedMultiGet {
+
+    private ChunkedMultiGet() {
+        // utility class.
+    }
+
+    static List<Result> get(final HBaseExecutor hbaseExecutor, final String tableName, final List<Get> gets, final byte[][] regionStartKeys,
+            final int chunkSize, final int parallelism, final AsyncExecutor asyncExecutor) throws UncheckedIOException {
+        final List<int[]> chunks = split(gets, regionStartKeys, chunkSize);
+        final Result[] results = new Result[gets.size()];
+
+        run(chunks.size(), parallelism, asyncExecutor, chunkIndex -> {
+            final int[] indices = chunks.get(chunkIndex);
+            final List<Get> chunkGets = new ArrayList<>(indices.length);
+
+            for (final int index : indices) {
+                chunkGets.add(gets.get(index));
+            }
+
+            final Table table = hbaseExecutor.borrowTable(tableName);
+
+            try {
+                final Result[] chunkResults = table.get(chunkGets);
+
+                for (int i = 0; i < indices.length; i++) {
+                    results[indices[i]] = chunkResults[i];
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                hbaseExecutor.releaseTable(tableName, table);
+            }
+        });
+
+        return N.toList(results);
+    }
+
+    /**
+     * Runs {@code chunkTask} for each chunk index in {@code [0, chunkCount)}, with up to {@code parallelism} chunks in
+     * flight on the calling thread and {@code asyncExecutor}. The first failure stops the chunks which haven't started
+     * yet and is rethrown once the running chunks are done.
+     *
+     * @param chunkCount the number of chunks
+     * @param parallelism the maximum number of chunks in flight, including the one run by the calling thread
+     * @param asyncExecutor the executor of the other chunks
+     * @param chunkTask the task run for each chunk index
+     */
+    static void run(final int chunkCount, final int parallelism, final AsyncExecutor asyncExecutor, final IntConsumer chunkTask) {
+        final AtomicInteger nextChunk = new AtomicInteger();
+        final AtomicBoolean failed = new AtomicBoolean();
+
+        final Runnable worker = () -> {
+            int chunkIndex = 0;
+
+            while (!failed.get() && (chunkIndex = nextChunk.getAndIncrement()) < chunkCount) {
+                try {
+                    chunkTask.accept(chunkIndex);
+                } catch (final RuntimeException | Error e) {
+                    failed.set(true);
+                    throw e;
+                }
+            }
+        };
+
+        final int taskCount = Math.min(parallelism, chunkCount) - 1;
+        final List<ContinuableFuture<Void>> futures = new ArrayList<>(Math.max(taskCount, 0));
+
+        for (int i = 0; i < taskCount; i++) {
+            futures.add(asyncExecutor.execute(() -> {
+                worker.run();
+
+                return null;
+            }));
+        }
+
+        Throwable failure = null;
+
+        try {
+            worker.run();
+        } catch (final Throwable e) { // NOSONAR
+            failure = e;
+        }
+
+        for (final ContinuableFuture<Void> future : futures) {
+            if (future.cancel(false)) {
+                continue; // never started: all chunks have been taken.
+            }
+
+            try {
+                future.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.set(true);
+
+                if (failure == null) {
+                    failure = e;
+                }
+
+                break;
+            } catch (final ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw ExceptionUtil.toRuntimeException(failure, true);
+        }
+    }
+
+    /**
+     * Groups the indices of {@code rows} by the region of their rows, in region order, and splits each group into chunks
+     * of at most {@code chunkSize} indices. The indices of a chunk keep the order of {@code rows}.
+     *
+     * @param rows the gets, or other row operations, to split
+     * @param regionStartKeys the start keys of the regions of the table, in order; the first one is empty
+     * @param chunkSize the maximum number of rows per chunk
+     * @return the chunks, as arrays of indices into {@code rows}
+     */
+    static List<int[]> split(final List<? extends Row> rows, final byte[][] regionStartKeys, final int chunkSize) {
+        final int regionCount = Math.max(regionStartKeys.length, 1);
+        final IntList[] regionIndices = new IntList[regionCount];
+
+        for (int i = 0, size = rows.size(); i < size; i++) {
+            final int region = regionCount == 1 ? 0 : regionOf(rows.get(i).getRow(), regionStartKeys);
+
+            if (regionIndices[region] == null) {
+                regionIndices[region] = new IntList();
+            }
+
+            regionIndices[region].add(i);
+        }
+
+        final List<int[]> chunks = new ArrayList<>();
+
+        for (final IntList indices : regionIndices) {
+            if (indices == null) {
+                continue;
+            }
+
+            for (int from = 0, size = indices.size(); from < size; from += chunkSize) {
+                final int[] chunk = new int[Math.min(chunkSize, size - from)];
+
+                for (int i = 0; i < chunk.length; i++) {
+                    chunk[i] = indices.get(from + i);
+                }
+
+                chunks.add(chunk);
+            }
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Returns the index of the last region whose start key is less than or equal to {@code row}.
+     */
+    private static int regionOf(final byte[] row, final byte[][] regionStartKeys) {
+        int low = 0;
+        int high = regionStartKeys.length - 1;
+
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+
+            if (Bytes.compareTo(regionStartKeys[mid], row) <= 0) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return low;
+    }
+}
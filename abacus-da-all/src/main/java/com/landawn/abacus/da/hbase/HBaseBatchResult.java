@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Row;
+
+/**
+ * The outcome of one action of a mixed batch run by {@link HBaseExecutor#batch(String, java.util.List)}: either the
+ * {@link Result} of the action or the failure which still occurred after the client retries.
+ *
+ * <p>The result of a {@code Get} holds the cells read; the result of an {@code Increment} or {@code Append} holds the
+ * new values, unless the action asked for no results. The result of a {@code Put}, {@code Delete} or
+ * {@code RowMutations} is empty.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * List<HBaseBatchResult> results = executor.batch("users", N.asList(
+ *         AnyPut.of("user1").addColumn("info", "name", "John"),
+ *         AnyDelete.of("user2"),
+ *         AnyGet.of("user3")));
+ *
+ * for (HBaseBatchResult result : results) {
+ *     if (!result.isSuccess()) {
+ *         logger.warn("Action " + result.index() + " failed", result.failure());
+ *     }
+ * }
+ *
+ * User user3 = results.get(2).result(User.class);
+ * }</pre>
+ *
+ * @see HBaseExecutor#batch(String, java.util.List)
+ */
+public final class HBaseBatchResult {
+
+    private final int index;
+    private final Row action;
+    private final Result result;
+    private final Throwable failure;
+
+    HBaseBatchResult(final int index, final Row action, final Result result, final Throwable failure) {
+        this.index = index;
+        this.action = action;
+        this.result = result;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the index of the action in the batch.
+     *
+     * @return the index of the action
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Returns the action, as it was passed to the batch.
+     *
+     * @return the action
+     */
+    public Row action() {
+        return action;
+    }
+
+    /**
+     * Checks whether the action succeeded.
+     *
+     * @return {@code true} if the action succeeded, {@code false} if it failed
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    /**
+     * Returns the result of the action.
+     *
+     * @return the result, or {@code null} if the action failed
+     */
+    public Result result() {
+        return result;
+    }
+
+    /**
+     * Converts the result of the action to {@code targetType}, as by {@link HBaseExecutor#toEntity(Result, Class)}.
+     *
+     * @param <T> the target type
+     * @param targetType the target class
+     * @return the converted result, or the default value of {@code targetType} if the result is empty
+     * @throws IllegalStateException if the action failed
+     */
+    public <T> T result(final Class<T> targetType) throws IllegalStateException {
+        if (failure != null) {
+            throw new IllegalStateException("Action " + index + " failed: " + failure.getMessage(), failure);
+        }
+
+        return HBaseExecutor.toEntity(result, targetType);
+    }
+
+    /**
+     * Returns the failure of the action.
+     *
+     * @return the failure, or {@code null} if the action succeeded
+     */
+    public Throwable failure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return "{index=" + index + (failure == null ? ", result=" + result : ", failure=" + failure) + "}";
+    }
+}
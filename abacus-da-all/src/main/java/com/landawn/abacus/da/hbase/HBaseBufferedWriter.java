@@ -0,0 +1,489 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.BufferedMutatorParams;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Delete;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.RetriesExhaustedWithDetailsException;
+
+import com.landawn.abacus.exception.UncheckedIOException;
+import com.landawn.abacus.logging.Logger;
+import com.landawn.abacus.logging.LoggerFactory;
+import com.landawn.abacus.util.ExceptionUtil;
+import com.landawn.abacus.util.N;
+
+/**
+ * A long-lived, thread-safe write pipeline for one HBase table, backed by a {@link BufferedMutator}.
+ *
+ * <p>Mutations submitted to the writer are buffered on the client and sent to the RegionServers in large batches
+ * when the write buffer fills up, when the flush interval elapses, or when {@link #flush()}/{@link #close()} is
+ * called. Many small writes from many threads are thereby coalesced into a few large RPCs, instead of the one
+ * {@code Table} acquisition plus one RPC per call of {@link HBaseExecutor#put(String, Put)}.</p>
+ *
+ * <p><b>Backpressure:</b> at most {@link Settings#maxPendingMutations()} mutations may be pending, i.e. submitted
+ * but not yet confirmed by a {@link #flush()}. A writer which would exceed the limit flushes the buffer itself,
+ * on the calling thread, and waits briefly for the permits freed by the flush; if other writers took them first, it
+ * flushes again, until its mutations are accepted.</p>
+ *
+ * <p><b>Failures:</b> a mutation which still fails after the client retries is reported to
+ * {@link Settings#failureListener()}, on the thread which sent the batch. Without a failure listener, the failure is
+ * logged and rethrown as an {@link UncheckedIOException} by the next {@link #flush()} or {@link #close()}.</p>
+ *
+ * <p>Obtain a writer shared by all callers of an executor through {@link HBaseExecutor#bufferedWriter(String)}, or a
+ * dedicated one through {@link HBaseExecutor#createBufferedWriter(String, Settings)}.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * HBaseBufferedWriter writer = executor.bufferedWriter("events");
+ *
+ * // from any number of threads:
+ * writer.put(AnyPut.of(eventId).addColumn("e", "payload", payload));
+ *
+ * // make everything written so far durable:
+ * writer.flush();
+ * }</pre>
+ *
+ * @see BufferedMutator
+ * @see HBaseExecutor#bufferedWriter(String)
+ */
+public final class HBaseBufferedWriter implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HBaseBufferedWriter.class);
+
+    private static final long ACQUIRE_RETRY_MILLIS = 10;
+
+    private final String tableName;
+    private final BufferedMutator mutator;
+    private final int maxPendingMutations;
+    private final Semaphore permits;
+    private final AtomicInteger pendingMutationCount = new AtomicInteger();
+    private final AtomicLong failedMutationCount = new AtomicLong();
+    private final BiConsumer<? super Mutation, ? super Throwable> failureListener;
+
+    private volatile RetriesExhaustedWithDetailsException unreportedFailure = null;
+    private volatile boolean isClosed = false;
+
+    HBaseBufferedWriter(final Connection conn, final String tableName, final Settings settings) throws UncheckedIOException {
+        N.checkArgNotNull(tableName, "tableName");
+        N.checkArgNotNull(settings, "settings");
+
+        this.tableName = tableName;
+        this.maxPendingMutations = settings.maxPendingMutations() == null ? Settings.DEFAULT_MAX_PENDING_MUTATIONS : settings.maxPendingMutations();
+        this.permits = new Semaphore(maxPendingMutations);
+        this.failureListener = settings.failureListener();
+
+        final BufferedMutatorParams params = new BufferedMutatorParams(TableName.valueOf(tableName)).listener((e, m) -> onFailure(e));
+
+        if (settings.writeBufferSize() != null) {
+            params.writeBufferSize(settings.writeBufferSize());
+        }
+
+        final Duration flushInterval = settings.flushInterval() == null ? Settings.DEFAULT_FLUSH_INTERVAL : settings.flushInterval();
+
+        if (flushInterval.toMillis() > 0) {
+            params.setWriteBufferPeriodicFlushTimeoutMs(flushInterval.toMillis());
+        }
+
+        try {
+            this.mutator = conn.getBufferedMutator(params);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the name of the table this writer writes to.
+     *
+     * @return the table name
+     */
+    public String tableName() {
+        return tableName;
+    }
+
+    /**
+     * Buffers the specified put.
+     *
+     * @param put the put to write
+     * @throws UncheckedIOException if the buffered mutations can't be sent
+     */
+    public void put(final Put put) throws UncheckedIOException {
+        mutate(put);
+    }
+
+    /**
+     * Buffers the specified put.
+     *
+     * @param anyPut the put to write
+     * @throws UncheckedIOException if the buffered mutations can't be sent
+     */
+    public void put(final AnyPut anyPut) throws UncheckedIOException {
+        mutate(anyPut.val());
+    }
+
+    /**
+     * Buffers the specified puts.
+     *
+     * @param anyPuts the puts to write
+     * @throws UncheckedIOException if the buffered mutations can't be sent
+     */
+    public void put(final Collection<AnyPut> anyPuts) throws UncheckedIOException {
+        mutate(AnyPut.toPut(anyPuts));
+    }
+
+    /**
+     * Buffers the specified delete.
+     *
+     * @param delete the delete to write
+     * @throws UncheckedIOException if the buffered mutations can't be sent
+     */
+    public void delete(final Delete delete) throws UncheckedIOException {
+        mutate(delete);
+    }
+
+    /**
+     * Buffers the specified delete.
+     *
+     * @param anyDelete the delete to write
+     * @throws UncheckedIOException if the buffered mutations can't be sent
+     */
+    public void delete(final AnyDelete anyDelete) throws UncheckedIOException {
+        mutate(anyDelete.val());
+    }
+
+    /**
+     * Buffers the specified mutation, flushing first if {@link Settings#maxPendingMutations()} mutations are pending.
+     *
+     * @param mutation the mutation to write
+     * @throws IllegalStateException if this writer is closed
+     * @throws UncheckedIOException if the buffered mutations can't be sent
+     */
+    public void mutate(final Mutation mutation) throws IllegalStateException, UncheckedIOException {
+        N.checkArgNotNull(mutation, "mutation");
+
+        acquire(1);
+
+        try {
+            mutator.mutate(mutation);
+        } catch (final IOException e) {
+            permits.release(1);
+            throw new UncheckedIOException(e);
+        }
+
+        pendingMutationCount.incrementAndGet();
+    }
+
+    /**
+     * Buffers the specified mutations, flushing first whenever {@link Settings#maxPendingMutations()} mutations are
+     * pending.
+     *
+     * @param mutations the mutations to write
+     * @throws IllegalStateException if this writer is closed
+     * @throws UncheckedIOException if the buffered mutations can't be sent
+     */
+    public void mutate(final List<? extends Mutation> mutations) throws IllegalStateException, UncheckedIOException {
+        N.checkArgNotNull(mutations, "mutations");
+
+        for (int from = 0, size = mutations.size(); from < size; from += maxPendingMutations) {
+            final List<? extends Mutation> chunk = mutations.subList(from, Math.min(size, from + maxPendingMutations));
+
+            acquire(chunk.size());
+
+            try {
+                mutator.mutate(chunk);
+            } catch (final IOException e) {
+                permits.release(chunk.size());
+                throw new UncheckedIOException(e);
+            }
+
+            pendingMutationCount.addAndGet(chunk.size());
+        }
+    }
+
+    /**
+     * Sends all buffered mutations and waits until they are written, or reported as failed.
+     *
+     * @throws UncheckedIOException if the mutations can't be sent, or if some mutations failed and no
+     *         {@link Settings#failureListener()} is set
+     */
+    public void flush() throws UncheckedIOException {
+        final int flushed = pendingMutationCount.getAndSet(0);
+
+        try {
+            mutator.flush();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            permits.release(flushed);
+        }
+
+        throwUnreportedFailure();
+    }
+
+    /**
+     * Returns the number of mutations submitted since the last {@link #flush()}. Some of them may already have been
+     * sent by a size- or interval-triggered flush.
+     *
+     * @return the number of pending mutations
+     */
+    public int getPendingMutationCount() {
+        return pendingMutationCount.get();
+    }
+
+    /**
+     * Returns the number of mutations which failed since this writer was created.
+     *
+     * @return the number of failed mutations
+     */
+    public long getFailedMutationCount() {
+        return failedMutationCount.get();
+    }
+
+    /**
+     * Returns whether this writer is closed.
+     *
+     * @return {@code true} if {@link #close()} has been called
+     */
+    public boolean isClosed() {
+        return isClosed;
+    }
+
+    /**
+     * Sends all buffered mutations and releases the underlying {@link BufferedMutator}. Subsequent writes fail with
+     * an {@link IllegalStateException}; calling this method again has no effect.
+     *
+     * @throws UncheckedIOException if the mutations can't be sent, or if some mutations failed and no
+     *         {@link Settings#failureListener()} is set
+     */
+    @Override
+    public void close() throws UncheckedIOException {
+        if (isClosed) {
+            return;
+        }
+
+        isClosed = true;
+
+        try {
+            mutator.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            pendingMutationCount.set(0);
+            // wake up the writers blocked on backpressure; they fail on the closed check.
+            permits.release(maxPendingMutations);
+        }
+
+        throwUnreportedFailure();
+    }
+
+    private void acquire(final int count) {
+        if (isClosed) {
+            throw new IllegalStateException("The buffered writer for table: " + tableName + " has been closed");
+        }
+
+        // permits are only released by flush(), not by the size- or interval-triggered flushes of the mutator, so a
+        // writer whose freed permits were taken by other writers must flush again instead of waiting for them.
+        while (!permits.tryAcquire(count)) {
+            if (isClosed) {
+                throw new IllegalStateException("The buffered writer for table: " + tableName + " has been closed");
+            }
+
+            flush();
+
+            try {
+                if (permits.tryAcquire(count, ACQUIRE_RETRY_MILLIS, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw ExceptionUtil.toRuntimeException(e, true);
+            }
+        }
+
+        if (isClosed) {
+            permits.release(count);
+            throw new IllegalStateException("The buffered writer for table: " + tableName + " has been closed");
+        }
+    }
+
+    private void onFailure(final RetriesExhaustedWithDetailsException e) {
+        final int numExceptions = e.getNumExceptions();
+
+        failedMutationCount.addAndGet(numExceptions);
+
+        if (failureListener == null) {
+            logger.error("Failed to write " + numExceptions + " mutations to table: " + tableName, e);
+            unreportedFailure = e;
+            return;
+        }
+
+        for (int i = 0; i < numExceptions; i++) {
+            try {
+                failureListener.accept((Mutation) e.getRow(i), e.getCause(i));
+            } catch (final RuntimeException ex) {
+                logger.warn("Failure listener of the buffered writer for table: " + tableName + " threw an exception", ex);
+            }
+        }
+    }
+
+    private void throwUnreportedFailure() {
+        final RetriesExhaustedWithDetailsException failure = unreportedFailure;
+
+        if (failure != null) {
+            unreportedFailure = null;
+            throw new UncheckedIOException(failure);
+        }
+    }
+
+    /**
+     * The settings of an {@link HBaseBufferedWriter}. Every {@code null} setting keeps its default.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * HBaseBufferedWriter.Settings settings = new HBaseBufferedWriter.Settings()
+     *         .writeBufferSize(8L * 1024 * 1024)
+     *         .flushInterval(Duration.ofMillis(200))
+     *         .failureListener((mutation, cause) -> deadLetters.add(mutation));
+     *
+     * try (HBaseBufferedWriter writer = executor.createBufferedWriter("events", settings)) {
+     *     events.forEach(e -> writer.put(toPut(e)));
+     * }
+     * }</pre>
+     */
+    public static final class Settings {
+
+        /** The default flush interval: one second. */
+        public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+        /** The default maximum number of pending mutations: {@value}. */
+        public static final int DEFAULT_MAX_PENDING_MUTATIONS = 10_000;
+
+        private Long writeBufferSize;
+        private Duration flushInterval;
+        private Integer maxPendingMutations;
+        private BiConsumer<? super Mutation, ? super Throwable> failureListener;
+
+        /**
+         * Creates settings with every value at its default.
+         */
+        public Settings() {
+        }
+
+        /**
+         * Returns the size of the write buffer, in bytes, which triggers a flush when exceeded.
+         *
+         * @return the write buffer size, or {@code null} for the {@code hbase.client.write.buffer} setting of the connection
+         */
+        public Long writeBufferSize() {
+            return writeBufferSize;
+        }
+
+        /**
+         * Sets the size of the write buffer, in bytes, which triggers a flush when exceeded.
+         *
+         * @param writeBufferSize the write buffer size, or {@code null} for the {@code hbase.client.write.buffer}
+         *        setting of the connection
+         * @return this settings instance
+         */
+        public Settings writeBufferSize(final Long writeBufferSize) {
+            this.writeBufferSize = writeBufferSize;
+            return this;
+        }
+
+        /**
+         * Returns the maximum time a mutation stays in the write buffer before it's sent.
+         *
+         * @return the flush interval, or {@code null} for {@link #DEFAULT_FLUSH_INTERVAL}
+         */
+        public Duration flushInterval() {
+            return flushInterval;
+        }
+
+        /**
+         * Sets the maximum time a mutation stays in the write buffer before it's sent. A zero interval disables the
+         * periodic flush.
+         *
+         * @param flushInterval the flush interval, or {@code null} for {@link #DEFAULT_FLUSH_INTERVAL}
+         * @return this settings instance
+         */
+        public Settings flushInterval(final Duration flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * Returns the maximum number of mutations submitted but not yet confirmed by a flush.
+         *
+         * @return the maximum number of pending mutations, or {@code null} for {@link #DEFAULT_MAX_PENDING_MUTATIONS}
+         */
+        public Integer maxPendingMutations() {
+            return maxPendingMutations;
+        }
+
+        /**
+         * Sets the maximum number of mutations submitted but not yet confirmed by a flush.
+         *
+         * @param maxPendingMutations the maximum number of pending mutations, or {@code null} for
+         *        {@link #DEFAULT_MAX_PENDING_MUTATIONS}
+         * @return this settings instance
+         * @throws IllegalArgumentException if {@code maxPendingMutations} is not positive
+         */
+        public Settings maxPendingMutations(final Integer maxPendingMutations) {
+            if (maxPendingMutations != null) {
+                N.checkArgPositive(maxPendingMutations, "maxPendingMutations");
+            }
+
+            this.maxPendingMutations = maxPendingMutations;
+            return this;
+        }
+
+        /**
+         * Returns the callback which receives each mutation that failed after the client retries, with the cause.
+         *
+         * @return the failure listener, or {@code null} to rethrow failures from {@link HBaseBufferedWriter#flush()}
+         */
+        public BiConsumer<? super Mutation, ? super Throwable> failureListener() {
+            return failureListener;
+        }
+
+        /**
+         * Sets the callback which receives each mutation that failed after the client retries, with the cause. The
+         * callback runs on the thread which sent the batch and must not block.
+         *
+         * @param failureListener the failure listener, or {@code null} to rethrow failures from
+         *        {@link HBaseBufferedWriter#flush()}
+         * @return this settings instance
+         */
+        public Settings failureListener(final BiConsumer<? super Mutation, ? super Throwable> failureListener) {
+            this.failureListener = failureListener;
+            return this;
+        }
+    }
+}
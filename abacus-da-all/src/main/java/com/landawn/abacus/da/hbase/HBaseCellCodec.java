@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+import org.apache.hadoop.hbase.util.Bytes;
+
+import com.landawn.abacus.type.Type;
+import com.landawn.abacus.util.ClassUtil;
+
+/**
+ * Encodes entity property values to HBase cell bytes and decodes cell bytes back to property values.
+ *
+ * <p>The codec used for a property is selected through {@link com.landawn.abacus.da.hbase.annotation.ColumnFamily#codec()}
+ * on the property (field-level) or on the entity class (class-level). A field-level codec overrides the class-level one;
+ * properties of a nested bean inherit the codec of the parent property unless the nested class or field declares its own.
+ * Properties without any codec declaration use {@link #STRING}, which is the historical encoding of {@link HBaseExecutor}.</p>
+ *
+ * <p>Both directions are driven by the <i>declared</i> property type, never by the runtime class of the value, so a value
+ * written by a codec is always read back through the same branch of the same codec. Row keys are not affected by codecs;
+ * they keep the string encoding so that their lexicographic order stays meaningful.</p>
+ *
+ * <p>Implementations must be stateless and thread-safe: a single instance is created per codec class and shared by every
+ * entity class that references it. Custom implementations must declare a public no-arg constructor.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * @Table("metrics")
+ * @ColumnFamily(value = "m", codec = HBaseCellCodec.BinaryCodec.class)
+ * public static class Metric {
+ *     @Id
+ *     private String id;
+ *     private long count;          // stored as 8 bytes via Bytes.toBytes(long)
+ *     private double avg;          // stored as 8 bytes via Bytes.toBytes(double)
+ *     private BigDecimal total;    // stored via Bytes.toBytes(BigDecimal)
+ *     @ColumnFamily(value = "d", codec = HBaseCellCodec.StringCodec.class)
+ *     private String description;  // stored as UTF-8 text
+ * }
+ * }</pre>
+ *
+ * @see com.landawn.abacus.da.hbase.annotation.ColumnFamily#codec()
+ * @see HBaseExecutor#toEntity(org.apache.hadoop.hbase.client.Result, Class)
+ * @see AnyPut#create(Object)
+ */
+public interface HBaseCellCodec {
+
+    /**
+     * The default codec: values are stored as the UTF-8 bytes of their {@code N.stringOf} form and parsed back with
+     * {@link Type#valueOf(String)}; {@code byte[]} and {@link ByteBuffer} values are stored raw.
+     */
+    HBaseCellCodec STRING = new StringCodec();
+
+    /**
+     * The binary codec: {@code long}, {@code int}, {@code short}, {@code byte}, {@code double}, {@code float},
+     * {@code boolean} (primitive or boxed) and {@link BigDecimal} values are stored with the fixed-width
+     * {@link Bytes#toBytes} encodings; every other type falls back to {@link #STRING}.
+     */
+    HBaseCellCodec BINARY = new BinaryCodec();
+
+    /**
+     * Encodes {@code value}, declared as {@code type}, to cell bytes.
+     *
+     * @param value the property value; may be {@code null}
+     * @param type the declared type of the property (or the element type of an {@code HBaseColumn} property)
+     * @return the encoded bytes, or {@code null} if {@code value} is {@code null}
+     */
+    byte[] encode(Object value, Type<?> type);
+
+    /**
+     * Decodes {@code len} bytes of {@code bytes} starting at {@code offset} to a value of {@code type}.
+     *
+     * <p>The supplied array is typically the backing array of an HBase {@link org.apache.hadoop.hbase.Cell} and must not
+     * be retained or modified; implementations copy whatever they need to keep.</p>
+     *
+     * @param bytes the array holding the cell value
+     * @param offset the offset of the value in {@code bytes}
+     * @param len the length of the value
+     * @param type the declared type of the property (or the element type of an {@code HBaseColumn} property)
+     * @return the decoded value
+     */
+    Object decode(byte[] bytes, int offset, int len, Type<?> type);
+
+    /**
+     * The string codec backing {@link HBaseCellCodec#STRING}. Declare it through
+     * {@code @ColumnFamily(codec = HBaseCellCodec.StringCodec.class)} to opt a property out of a class-level codec.
+     */
+    final class StringCodec implements HBaseCellCodec {
+
+        /**
+         * Creates a new string codec. Prefer the shared {@link HBaseCellCodec#STRING} instance.
+         */
+        public StringCodec() {
+        }
+
+        @Override
+        public byte[] encode(final Object value, final Type<?> type) {
+            return HBaseExecutor.toValueBytes(value);
+        }
+
+        // ByteBuffer is special-cased to mirror the write side (toValueBytes stores a ByteBuffer's raw remaining
+        // bytes): reading it back through Type.valueOf(String) would base64-decode the UTF-8 string of those raw
+        // bytes and silently corrupt the value.
+        @Override
+        public Object decode(final byte[] bytes, final int offset, final int len, final Type<?> type) {
+            if (byte[].class.equals(type.javaType())) {
+                return copyOf(bytes, offset, len);
+            } else if (ByteBuffer.class.equals(type.javaType())) {
+                return ByteBuffer.wrap(copyOf(bytes, offset, len));
+            } else {
+                return type.valueOf(HBaseExecutor.toValueString(bytes, offset, len));
+            }
+        }
+
+        private static byte[] copyOf(final byte[] bytes, final int offset, final int len) {
+            final byte[] result = new byte[len];
+            System.arraycopy(bytes, offset, result, 0, len);
+            return result;
+        }
+    }
+
+    /**
+     * The binary codec backing {@link HBaseCellCodec#BINARY}. Declare it through
+     * {@code @ColumnFamily(codec = HBaseCellCodec.BinaryCodec.class)}.
+     *
+     * <p>An empty cell value decodes to the default value of the declared type. A non-empty value whose length
+     * doesn't match the fixed width of the declared numeric type is rejected with an {@link IllegalArgumentException},
+     * which typically means the column still holds string-encoded data.</p>
+     */
+    final class BinaryCodec implements HBaseCellCodec {
+
+        /**
+         * Creates a new binary codec. Prefer the shared {@link HBaseCellCodec#BINARY} instance.
+         */
+        public BinaryCodec() {
+        }
+
+        @Override
+        public byte[] encode(final Object value, final Type<?> type) {
+            if (value == null) {
+                return null; // NOSONAR
+            }
+
+            final Class<?> cls = type.javaType();
+
+            if (cls == long.class || cls == Long.class) {
+                return Bytes.toBytes(((Number) value).longValue());
+            } else if (cls == int.class || cls == Integer.class) {
+                return Bytes.toBytes(((Number) value).intValue());
+            } else if (cls == double.class || cls == Double.class) {
+                return Bytes.toBytes(((Number) value).doubleValue());
+            } else if (cls == float.class || cls == Float.class) {
+                return Bytes.toBytes(((Number) value).floatValue());
+            } else if (cls == short.class || cls == Short.class) {
+                return Bytes.toBytes(((Number) value).shortValue());
+            } else if (cls == byte.class || cls == Byte.class) {
+                return new byte[] { ((Number) value).byteValue() };
+            } else if (cls == boolean.class || cls == Boolean.class) {
+                return Bytes.toBytes((Boolean) value);
+            } else if (cls == BigDecimal.class) {
+                return Bytes.toBytes((BigDecimal) value);
+            } else {
+                return STRING.encode(value, type);
+            }
+        }
+
+        @Override
+        public Object decode(final byte[] bytes, final int offset, final int len, final Type<?> type) {
+            final Class<?> cls = type.javaType();
+
+            if (cls == long.class || cls == Long.class) {
+                return len == 0 ? type.defaultValue() : Bytes.toLong(bytes, offset, len);
+            } else if (cls == int.class || cls == Integer.class) {
+                return len == 0 ? type.defaultValue() : Bytes.toInt(bytes, offset, len);
+            } else if (cls == double.class || cls == Double.class) {
+                return len == 0 ? type.defaultValue() : Double.longBitsToDouble(Bytes.toLong(bytes, offset, len));
+            } else if (cls == float.class || cls == Float.class) {
+                return len == 0 ? type.defaultValue() : Float.intBitsToFloat(Bytes.toInt(bytes, offset, len));
+            } else if (cls == short.class || cls == Short.class) {
+                return len == 0 ? type.defaultValue() : Bytes.toShort(bytes, offset, len);
+            } else if (cls == byte.class || cls == Byte.class) {
+                return len == 0 ? type.defaultValue() : checkLength(bytes[offset], len, 1, type);
+            } else if (cls == boolean.class || cls == Boolean.class) {
+                return len == 0 ? type.defaultValue() : checkLength(bytes[offset] != 0, len, 1, type);
+            } else if (cls == BigDecimal.class) {
+                return len == 0 ? type.defaultValue() : Bytes.toBigDecimal(bytes, offset, len);
+            } else {
+                return STRING.decode(bytes, offset, len, type);
+            }
+        }
+
+        private static Object checkLength(final Object value, final int len, final int expectedLen, final Type<?> type) {
+            if (len != expectedLen) {
+                throw new IllegalArgumentException("Wrong length: " + len + " for binary-encoded " + ClassUtil.getCanonicalClassName(type.javaType()) + ", expected: " + expectedLen);
+            }
+
+            return value;
+        }
+    }
+}
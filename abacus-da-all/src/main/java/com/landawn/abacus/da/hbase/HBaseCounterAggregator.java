@@ -0,0 +1,795 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.client.Durability;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Increment;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import com.landawn.abacus.exception.UncheckedIOException;
+import com.landawn.abacus.logging.Logger;
+import com.landawn.abacus.logging.LoggerFactory;
+import com.landawn.abacus.util.ExceptionUtil;
+import com.landawn.abacus.util.N;
+
+/**
+ * A long-lived, thread-safe aggregator of counter increments for one HBase table.
+ *
+ * <p>Each call of {@link #increment(Object, String, String, long)} only adds its delta to an in-memory accumulator of
+ * the (row, family, qualifier) cell. The accumulated deltas are sent as one {@link Increment} per row, in a single
+ * batch, when {@link Settings#maxPendingCounters()} cells have pending deltas, when the flush interval elapses, or when
+ * {@link #flush()}/{@link #close()} is called. A hot counter updated a million times between two flushes thereby costs
+ * one RPC instead of a million, and never waits for the row lock on the RegionServer.</p>
+ *
+ * <p>The accumulators are striped: the cells are spread over several independently locked maps, so that threads
+ * updating different counters rarely contend.</p>
+ *
+ * <p>A flush only holds off the increments while it takes the pending deltas out of the accumulators; the batch is
+ * sent without blocking them. One batch is sent at a time.</p>
+ *
+ * <p><b>Read-your-writes:</b> {@link #getPendingDelta(Object, String, String)} returns the delta of a cell which hasn't
+ * been written yet, counting the deltas of the batch being sent until it completes, and
+ * {@link #getValue(Object, String, String)} returns the stored value plus that delta. {@code getValue} reads the stored
+ * value again if a flush took the pending deltas meanwhile, so a delta is never counted twice or missed.</p>
+ *
+ * <p><b>Failures:</b> increments are not idempotent, so a batch which fails is not retried by the aggregator. Each
+ * failed {@link Increment} is reported to {@link Settings#failureListener()}. Without a failure listener, the failure
+ * is logged and rethrown as an {@link UncheckedIOException} by the next {@link #flush()} or {@link #close()}.</p>
+ *
+ * <p>Obtain an aggregator shared by all callers of an executor through {@link HBaseExecutor#counterAggregator(String)},
+ * or a dedicated one through {@link HBaseExecutor#createCounterAggregator(String, Settings)}.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * HBaseCounterAggregator counters = executor.counterAggregator("page_stats");
+ *
+ * // from any number of threads:
+ * counters.increment(pageId, "s", "views", 1);
+ *
+ * // the stored value plus what hasn't been sent yet:
+ * long views = counters.getValue(pageId, "s", "views");
+ * }</pre>
+ *
+ * @see HBaseExecutor#counterAggregator(String)
+ * @see HBaseExecutor#incrementColumnValue(String, Object, String, String, long)
+ */
+public final class HBaseCounterAggregator implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HBaseCounterAggregator.class);
+
+    private static final int STRIPE_COUNT = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1;
+
+    // only triggers the periodic flushes, which run on the async executor of the HBaseExecutor: a slow table
+    // mustn't delay the flushes of the other tables.
+    private static final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        final Thread thread = new Thread(r, "HBaseCounterAggregator-flush-trigger");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final HBaseExecutor hbaseExecutor;
+    private final String tableName;
+    private final int maxPendingCounters;
+    private final Durability durability;
+    private final BiConsumer<? super Increment, ? super Throwable> failureListener;
+
+    @SuppressWarnings("unchecked")
+    private final Map<CounterKey, long[]>[] stripes = new Map[STRIPE_COUNT];
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private final ReentrantLock sendLock = new ReentrantLock();
+    private final ScheduledFuture<?> scheduledFlush;
+
+    private final AtomicBoolean isScheduledFlushRunning = new AtomicBoolean();
+    private final AtomicInteger pendingCounterCount = new AtomicInteger();
+    private final AtomicLong acceptedDeltaCount = new AtomicLong();
+    private final AtomicLong sentIncrementCount = new AtomicLong();
+    private final AtomicLong failedIncrementCount = new AtomicLong();
+
+    // the deltas of the batch being sent, and the number of non-empty drains: guarded by flushLock.
+    private Map<CounterKey, long[]> inFlightDeltas = Collections.emptyMap();
+    private long drainCount = 0;
+
+    private volatile Throwable unreportedFailure = null;
+    private volatile boolean isClosed = false;
+
+    HBaseCounterAggregator(final HBaseExecutor hbaseExecutor, final String tableName, final Settings settings) {
+        N.checkArgNotNull(tableName, "tableName");
+        N.checkArgNotNull(settings, "settings");
+
+        this.hbaseExecutor = hbaseExecutor;
+        this.tableName = tableName;
+        this.maxPendingCounters = settings.maxPendingCounters() == null ? Settings.DEFAULT_MAX_PENDING_COUNTERS : settings.maxPendingCounters();
+        this.durability = settings.durability();
+        this.failureListener = settings.failureListener();
+
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new HashMap<>();
+        }
+
+        final Duration flushInterval = settings.flushInterval() == null ? Settings.DEFAULT_FLUSH_INTERVAL : settings.flushInterval();
+        final long flushIntervalMillis = flushInterval.toMillis();
+
+        this.scheduledFlush = flushIntervalMillis > 0
+                ? flushScheduler.scheduleWithFixedDelay(this::scheduledFlush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS)
+                : null;
+    }
+
+    /**
+     * Returns the name of the table this aggregator writes to.
+     *
+     * @return the table name
+     */
+    public String tableName() {
+        return tableName;
+    }
+
+    /**
+     * Adds {@code amount} to the pending delta of the specified cell.
+     *
+     * <p>{@code rowKey} is converted via {@link HBaseExecutor#toRowKeyBytes(Object)}; {@code family} and
+     * {@code qualifier} via {@link HBaseExecutor#toFamilyQualifierBytes(String)}.</p>
+     *
+     * @param rowKey the row key
+     * @param family the column family name
+     * @param qualifier the column qualifier name
+     * @param amount the amount to add (negative values decrement)
+     * @throws IllegalStateException if this aggregator is closed
+     * @throws UncheckedIOException if a size-triggered flush can't send the pending deltas
+     */
+    public void increment(final Object rowKey, final String family, final String qualifier, final long amount)
+            throws IllegalStateException, UncheckedIOException {
+        increment(rowKey, HBaseExecutor.toFamilyQualifierBytes(family), HBaseExecutor.toFamilyQualifierBytes(qualifier), amount);
+    }
+
+    /**
+     * Byte-array variant of {@link #increment(Object, String, String, long)}.
+     *
+     * @param rowKey the row key
+     * @param family the column family bytes (used as-is)
+     * @param qualifier the column qualifier bytes (used as-is)
+     * @param amount the amount to add (negative values decrement)
+     * @throws IllegalStateException if this aggregator is closed
+     * @throws UncheckedIOException if a size-triggered flush can't send the pending deltas
+     */
+    public void increment(final Object rowKey, final byte[] family, final byte[] qualifier, final long amount)
+            throws IllegalStateException, UncheckedIOException {
+        N.checkArgNotNull(rowKey, "rowKey");
+        N.checkArgNotNull(family, "family");
+        N.checkArgNotNull(qualifier, "qualifier");
+
+        add(new CounterKey(HBaseExecutor.toRowKeyBytes(rowKey), family, qualifier), amount);
+    }
+
+    /**
+     * Adds the amounts of every column of the specified increment to the pending deltas of its row. Attributes, time
+     * range and durability of the increment are not kept.
+     *
+     * @param increment the increment to aggregate
+     * @throws IllegalStateException if this aggregator is closed
+     * @throws UncheckedIOException if a size-triggered flush can't send the pending deltas
+     */
+    public void increment(final AnyIncrement increment) throws IllegalStateException, UncheckedIOException {
+        increment(increment.val());
+    }
+
+    /**
+     * Adds the amounts of every column of the specified increment to the pending deltas of its row. Attributes, time
+     * range and durability of the increment are not kept.
+     *
+     * @param increment the increment to aggregate
+     * @throws IllegalStateException if this aggregator is closed
+     * @throws UncheckedIOException if a size-triggered flush can't send the pending deltas
+     */
+    public void increment(final Increment increment) throws IllegalStateException, UncheckedIOException {
+        N.checkArgNotNull(increment, "increment");
+
+        final byte[] row = increment.getRow();
+
+        for (final List<Cell> cells : increment.getFamilyCellMap().values()) {
+            for (final Cell cell : cells) {
+                add(new CounterKey(row, CellUtil.cloneFamily(cell), CellUtil.cloneQualifier(cell)),
+                        Bytes.toLong(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength()));
+            }
+        }
+    }
+
+    /**
+     * Returns the delta of the specified cell which hasn't been written yet: the pending delta plus the delta of the
+     * batch being sent, if any.
+     *
+     * @param rowKey the row key
+     * @param family the column family name
+     * @param qualifier the column qualifier name
+     * @return the pending delta, or {@code 0} if there is none
+     */
+    public long getPendingDelta(final Object rowKey, final String family, final String qualifier) {
+        return getPendingDelta(rowKey, HBaseExecutor.toFamilyQualifierBytes(family), HBaseExecutor.toFamilyQualifierBytes(qualifier));
+    }
+
+    /**
+     * Byte-array variant of {@link #getPendingDelta(Object, String, String)}.
+     *
+     * @param rowKey the row key
+     * @param family the column family bytes (used as-is)
+     * @param qualifier the column qualifier bytes (used as-is)
+     * @return the pending delta, or {@code 0} if there is none
+     */
+    public long getPendingDelta(final Object rowKey, final byte[] family, final byte[] qualifier) {
+        final CounterKey key = new CounterKey(HBaseExecutor.toRowKeyBytes(rowKey), family, qualifier);
+
+        flushLock.readLock().lock();
+
+        try {
+            return pendingDelta(key);
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the value of the specified counter as stored in HBase plus its pending delta. The stored value is read
+     * once no batch is being sent, and read again if a flush takes the pending deltas before the pending delta is read.
+     *
+     * @param rowKey the row key
+     * @param family the column family name
+     * @param qualifier the column qualifier name
+     * @return the current value of the counter, counting a missing cell as zero
+     * @throws UncheckedIOException if the stored value can't be read
+     */
+    public long getValue(final Object rowKey, final String family, final String qualifier) throws UncheckedIOException {
+        return getValue(rowKey, HBaseExecutor.toFamilyQualifierBytes(family), HBaseExecutor.toFamilyQualifierBytes(qualifier));
+    }
+
+    /**
+     * Byte-array variant of {@link #getValue(Object, String, String)}.
+     *
+     * @param rowKey the row key
+     * @param family the column family bytes (used as-is)
+     * @param qualifier the column qualifier bytes (used as-is)
+     * @return the current value of the counter, counting a missing cell as zero
+     * @throws UncheckedIOException if the stored value can't be read
+     */
+    public long getValue(final Object rowKey, final byte[] family, final byte[] qualifier) throws UncheckedIOException {
+        final CounterKey key = new CounterKey(HBaseExecutor.toRowKeyBytes(rowKey), family, qualifier);
+
+        while (true) {
+            final long expectedDrainCount;
+
+            // waits for the batch being sent, whose deltas may or may not be read with the stored value.
+            sendLock.lock();
+
+            try {
+                expectedDrainCount = drainCount;
+            } finally {
+                sendLock.unlock();
+            }
+
+            // the RPC holds no lock: the increments and the flushes go on meanwhile.
+            final Result result = hbaseExecutor.get(tableName, new Get(key.row).addColumn(family, qualifier));
+            final byte[] value = result == null ? null : result.getValue(family, qualifier);
+
+            flushLock.readLock().lock();
+
+            try {
+                if (drainCount == expectedDrainCount) {
+                    return (value == null ? 0 : Bytes.toLong(value)) + pendingDelta(key);
+                }
+            } finally {
+                flushLock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Sends all pending deltas and waits until they are written, or reported as failed.
+     *
+     * @throws UncheckedIOException if some increments failed and no {@link Settings#failureListener()} is set
+     */
+    public void flush() throws UncheckedIOException {
+        doFlush();
+
+        throwUnreportedFailure();
+    }
+
+    /**
+     * Returns the number of cells which have a pending delta.
+     *
+     * @return the number of pending counters
+     */
+    public int getPendingCounterCount() {
+        return pendingCounterCount.get();
+    }
+
+    /**
+     * Returns the number of deltas accepted since this aggregator was created.
+     *
+     * @return the number of accepted deltas
+     */
+    public long getAcceptedDeltaCount() {
+        return acceptedDeltaCount.get();
+    }
+
+    /**
+     * Returns the number of {@link Increment}s sent since this aggregator was created, one per row and flush.
+     *
+     * @return the number of sent increments
+     */
+    public long getSentIncrementCount() {
+        return sentIncrementCount.get();
+    }
+
+    /**
+     * Returns the number of {@link Increment}s which failed since this aggregator was created.
+     *
+     * @return the number of failed increments
+     */
+    public long getFailedIncrementCount() {
+        return failedIncrementCount.get();
+    }
+
+    /**
+     * Returns whether this aggregator is closed.
+     *
+     * @return {@code true} if {@link #close()} has been called
+     */
+    public boolean isClosed() {
+        return isClosed;
+    }
+
+    /**
+     * Stops the periodic flush and sends all pending deltas. Subsequent increments fail with an
+     * {@link IllegalStateException}; calling this method again has no effect.
+     *
+     * @throws UncheckedIOException if some increments failed and no {@link Settings#failureListener()} is set
+     */
+    @Override
+    public void close() throws UncheckedIOException {
+        // set under the write lock, so that no add() which saw this aggregator open is still running.
+        flushLock.writeLock().lock();
+
+        try {
+            if (isClosed) {
+                return;
+            }
+
+            isClosed = true;
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+        }
+
+        flush();
+    }
+
+    private void add(final CounterKey key, final long amount) {
+        final Map<CounterKey, long[]> stripe = stripes[key.hash & (STRIPE_COUNT - 1)];
+        boolean isNewCounter = false;
+
+        // under the read lock, so that close() can't drain the stripes between the check and the update.
+        flushLock.readLock().lock();
+
+        try {
+            if (isClosed) {
+                throw new IllegalStateException("The counter aggregator for table: " + tableName + " has been closed");
+            }
+
+            synchronized (stripe) {
+                final long[] delta = stripe.get(key);
+
+                if (delta == null) {
+                    stripe.put(key, new long[] { amount });
+                    isNewCounter = true;
+                } else {
+                    delta[0] += amount;
+                }
+            }
+        } finally {
+            flushLock.readLock().unlock();
+        }
+
+        acceptedDeltaCount.incrementAndGet();
+
+        if (isNewCounter && pendingCounterCount.incrementAndGet() >= maxPendingCounters) {
+            flush();
+        }
+    }
+
+    // called under the read lock of flushLock.
+    private long pendingDelta(final CounterKey key) {
+        final Map<CounterKey, long[]> stripe = stripes[key.hash & (STRIPE_COUNT - 1)];
+        final long[] inFlightDelta = inFlightDeltas.get(key);
+        final long pending = inFlightDelta == null ? 0 : inFlightDelta[0];
+
+        synchronized (stripe) {
+            final long[] delta = stripe.get(key);
+
+            return delta == null ? pending : pending + delta[0];
+        }
+    }
+
+    private void scheduledFlush() {
+        if (!isScheduledFlushRunning.compareAndSet(false, true)) {
+            return; // the previous one is still running.
+        }
+
+        try {
+            hbaseExecutor.asyncExecutor().execute(() -> {
+                try {
+                    doFlush();
+                } catch (final RuntimeException e) {
+                    logger.warn("Periodic flush of the counter aggregator for table: " + tableName + " failed", e);
+                } finally {
+                    isScheduledFlushRunning.set(false);
+                }
+            });
+        } catch (final RuntimeException e) {
+            isScheduledFlushRunning.set(false);
+            logger.warn("Failed to start the periodic flush of the counter aggregator for table: " + tableName, e);
+        }
+    }
+
+    private void doFlush() {
+        sendLock.lock();
+
+        try {
+            final Map<CounterKey, long[]> deltas;
+
+            // the write lock is only held to move the pending deltas to the batch, not while the batch is sent.
+            flushLock.writeLock().lock();
+
+            try {
+                deltas = drain();
+
+                if (!deltas.isEmpty()) {
+                    inFlightDeltas = deltas;
+                    drainCount++;
+                }
+            } finally {
+                flushLock.writeLock().unlock();
+            }
+
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            try {
+                final List<Increment> increments = toIncrements(deltas);
+
+                if (!increments.isEmpty()) {
+                    send(increments);
+                }
+            } finally {
+                flushLock.writeLock().lock();
+
+                try {
+                    inFlightDeltas = Collections.emptyMap();
+                } finally {
+                    flushLock.writeLock().unlock();
+                }
+            }
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the pending deltas from every stripe.
+     */
+    private Map<CounterKey, long[]> drain() {
+        final Map<CounterKey, long[]> deltas = new HashMap<>();
+
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            synchronized (stripes[i]) {
+                if (stripes[i].isEmpty()) {
+                    continue;
+                }
+
+                pendingCounterCount.addAndGet(-stripes[i].size());
+                deltas.putAll(stripes[i]);
+                stripes[i].clear();
+            }
+        }
+
+        return deltas;
+    }
+
+    /**
+     * Groups the deltas into one {@link Increment} per row, in row order, leaving out the deltas which add up to zero.
+     */
+    private List<Increment> toIncrements(final Map<CounterKey, long[]> deltas) {
+        final Map<byte[], Increment> incrementsByRow = new TreeMap<>(Bytes.BYTES_COMPARATOR);
+
+        for (final Map.Entry<CounterKey, long[]> entry : deltas.entrySet()) {
+            final CounterKey key = entry.getKey();
+            final long amount = entry.getValue()[0];
+
+            if (amount != 0) {
+                incrementsByRow.computeIfAbsent(key.row, Increment::new).addColumn(key.family, key.qualifier, amount);
+            }
+        }
+
+        final List<Increment> increments = new ArrayList<>(incrementsByRow.values());
+
+        for (final Increment increment : increments) {
+            increment.setReturnResults(false);
+
+            if (durability != null) {
+                increment.setDurability(durability);
+            }
+        }
+
+        return increments;
+    }
+
+    private void send(final List<Increment> increments) {
+        final Object[] results = new Object[increments.size()];
+        Throwable cause = null;
+
+        try {
+            final Table table = hbaseExecutor.borrowTable(tableName);
+
+            try {
+                table.batch(increments, results);
+            } finally {
+                hbaseExecutor.releaseTable(tableName, table);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cause = e;
+        } catch (final IOException | RuntimeException e) {
+            cause = e;
+        }
+
+        sentIncrementCount.addAndGet(increments.size());
+
+        int failedCount = 0;
+        Throwable firstFailure = null;
+
+        for (int i = 0, size = increments.size(); i < size; i++) {
+            if (results[i] != null && !(results[i] instanceof Throwable)) {
+                continue;
+            }
+
+            final Throwable failure = results[i] instanceof Throwable ? (Throwable) results[i]
+                    : cause == null ? new IOException("No result for the increment of row: " + Bytes.toStringBinary(increments.get(i).getRow())) : cause;
+
+            failedCount++;
+
+            if (firstFailure == null) {
+                firstFailure = failure;
+            }
+
+            if (failureListener != null) {
+                try {
+                    failureListener.accept(increments.get(i), failure);
+                } catch (final RuntimeException ex) {
+                    logger.warn("Failure listener of the counter aggregator for table: " + tableName + " threw an exception", ex);
+                }
+            }
+        }
+
+        if (failedCount > 0) {
+            failedIncrementCount.addAndGet(failedCount);
+
+            if (failureListener == null) {
+                logger.error("Failed to send " + failedCount + " increments to table: " + tableName, firstFailure);
+                unreportedFailure = firstFailure;
+            }
+        }
+    }
+
+    private void throwUnreportedFailure() {
+        final Throwable failure = unreportedFailure;
+
+        if (failure != null) {
+            unreportedFailure = null;
+
+            if (failure instanceof IOException) {
+                throw new UncheckedIOException((IOException) failure);
+            }
+
+            throw ExceptionUtil.toRuntimeException(failure, true);
+        }
+    }
+
+    private static final class CounterKey {
+        private final byte[] row;
+        private final byte[] family;
+        private final byte[] qualifier;
+        private final int hash;
+
+        CounterKey(final byte[] row, final byte[] family, final byte[] qualifier) {
+            this.row = row;
+            this.family = family;
+            this.qualifier = qualifier;
+
+            final int h = (Arrays.hashCode(row) * 31 + Arrays.hashCode(family)) * 31 + Arrays.hashCode(qualifier);
+            this.hash = h ^ (h >>> 16);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (!(obj instanceof CounterKey)) {
+                return false;
+            }
+
+            final CounterKey other = (CounterKey) obj;
+
+            return hash == other.hash && Arrays.equals(row, other.row) && Arrays.equals(qualifier, other.qualifier) && Arrays.equals(family, other.family);
+        }
+    }
+
+    /**
+     * The settings of an {@link HBaseCounterAggregator}. Every {@code null} setting keeps its default.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * HBaseCounterAggregator.Settings settings = new HBaseCounterAggregator.Settings()
+     *         .maxPendingCounters(50_000)
+     *         .flushInterval(Duration.ofMillis(500))
+     *         .durability(Durability.ASYNC_WAL);
+     *
+     * try (HBaseCounterAggregator counters = executor.createCounterAggregator("page_stats", settings)) {
+     *     views.forEach(pageId -> counters.increment(pageId, "s", "views", 1));
+     * }
+     * }</pre>
+     */
+    public static final class Settings {
+
+        /** The default flush interval: one second. */
+        public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+        /** The default maximum number of cells with a pending delta: {@value}. */
+        public static final int DEFAULT_MAX_PENDING_COUNTERS = 10_000;
+
+        private Integer maxPendingCounters;
+        private Duration flushInterval;
+        private Durability durability;
+        private BiConsumer<? super Increment, ? super Throwable> failureListener;
+
+        /**
+         * Creates settings with every value at its default.
+         */
+        public Settings() {
+        }
+
+        /**
+         * Returns the number of cells with a pending delta which triggers a flush.
+         *
+         * @return the maximum number of pending counters, or {@code null} for {@link #DEFAULT_MAX_PENDING_COUNTERS}
+         */
+        public Integer maxPendingCounters() {
+            return maxPendingCounters;
+        }
+
+        /**
+         * Sets the number of cells with a pending delta which triggers a flush, on the thread which adds the last one.
+         *
+         * @param maxPendingCounters the maximum number of pending counters, or {@code null} for
+         *        {@link #DEFAULT_MAX_PENDING_COUNTERS}
+         * @return this settings instance
+         * @throws IllegalArgumentException if {@code maxPendingCounters} is not positive
+         */
+        public Settings maxPendingCounters(final Integer maxPendingCounters) {
+            if (maxPendingCounters != null) {
+                N.checkArgPositive(maxPendingCounters, "maxPendingCounters");
+            }
+
+            this.maxPendingCounters = maxPendingCounters;
+            return this;
+        }
+
+        /**
+         * Returns the maximum time a delta stays pending before it's sent.
+         *
+         * @return the flush interval, or {@code null} for {@link #DEFAULT_FLUSH_INTERVAL}
+         */
+        public Duration flushInterval() {
+            return flushInterval;
+        }
+
+        /**
+         * Sets the maximum time a delta stays pending before it's sent. A zero interval disables the periodic flush.
+         *
+         * @param flushInterval the flush interval, or {@code null} for {@link #DEFAULT_FLUSH_INTERVAL}
+         * @return this settings instance
+         */
+        public Settings flushInterval(final Duration flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * Returns the durability of the sent increments.
+         *
+         * @return the durability, or {@code null} for the durability of the table
+         */
+        public Durability durability() {
+            return durability;
+        }
+
+        /**
+         * Sets the durability of the sent increments.
+         *
+         * @param durability the durability, or {@code null} for the durability of the table
+         * @return this settings instance
+         */
+        public Settings durability(final Durability durability) {
+            this.durability = durability;
+            return this;
+        }
+
+        /**
+         * Returns the callback which receives each increment that failed, with the cause.
+         *
+         * @return the failure listener, or {@code null} to rethrow failures from {@link HBaseCounterAggregator#flush()}
+         */
+        public BiConsumer<? super Increment, ? super Throwable> failureListener() {
+            return failureListener;
+        }
+
+        /**
+         * Sets the callback which receives each increment that failed, with the cause. The callback runs on the thread
+         * which sent the batch and must not block.
+         *
+         * @param failureListener the failure listener, or {@code null} to rethrow failures from
+         *        {@link HBaseCounterAggregator#flush()}
+         * @return this settings instance
+         */
+        public Settings failureListener(final BiConsumer<? super Increment, ? super Throwable> failureListener) {
+            this.failureListener = failureListener;
+            return this;
+        }
+    }
+}
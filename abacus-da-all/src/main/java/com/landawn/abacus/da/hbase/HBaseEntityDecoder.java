@@ -0,0 +1,609 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import com.landawn.abacus.parser.ParserUtil;
+import com.landawn.abacus.parser.ParserUtil.BeanInfo;
+import com.landawn.abacus.parser.ParserUtil.PropInfo;
+import com.landawn.abacus.type.Type;
+import com.landawn.abacus.util.Beans;
+import com.landawn.abacus.util.HBaseColumn;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.Tuple.Tuple2;
+
+/**
+ * Precompiled {@link Result}-to-entity decoder for one entity class.
+ *
+ * <p>The family/qualifier-to-property resolution of {@link HBaseExecutor} is evaluated once per entity class, when the
+ * decoder is built, for every family/qualifier name known from the entity metadata. The outcome is stored in
+ * byte-keyed lookup tables so that decoding a row matches each cell's family and qualifier directly against the cell's
+ * backing array: no family or qualifier {@code String} is built and no per-cell map lookup by name is performed.
+ * Decoding a row allocates the entity and its field values only, plus a small bitmap when the entity maps more than
+ * 64 family/qualifier combinations.</p>
+ *
+ * <p>Qualifiers that are not known up front (e.g. qualifiers that only resolve through the permissive property-name
+ * lookup of {@link BeanInfo#getPropInfo(String)}) fall back to the string-based resolution, which gives exactly the
+ * same result as before at the cost of the string allocations.</p>
+ *
+ * <p>Instances are immutable and thread-safe; obtain them through {@link HBaseExecutor#getEntityDecoder(Class)}.</p>
+ *
+ * @param <T> the entity type
+ */
+final class HBaseEntityDecoder<T> {
+
+    private static final int SCALAR = 0;
+    private static final int COLUMN = 1;
+    private static final int COLUMN_COLLECTION = 2;
+    private static final int COLUMN_MAP = 3;
+    private static final int IGNORE = 4;
+
+    /** Marks a known family/qualifier whose cells are ignored without creating anything. */
+    private static final Slot IGNORED = new Slot(-1, -1, null, null, null);
+
+    private final Class<T> entityClass;
+    private final BeanInfo entityInfo;
+    private final boolean mutableEntity;
+    private final Method rowKeySetMethod;
+    private final HBasePropAccessor rowKeyAccessor;
+    private final Type<?> rowKeyType;
+    private final int rowKeyColumn;
+    private final RowKeyDistributor rowKeyDistributor;
+    private final Map<String, Map<String, Tuple2<String, Boolean>>> familyFieldNameMap;
+    private final ByteKeyTable<FamilyDecoder> familyTable;
+    private final int slotCount;
+
+    HBaseEntityDecoder(final Class<T> entityClass) {
+        this.entityClass = entityClass;
+        entityInfo = ParserUtil.getBeanInfo(entityClass);
+        // immutable entities are assembled in an intermediate result object, which only the bean metadata can write to.
+        mutableEntity = entityClass.isInstance(entityInfo.createBeanResult());
+        rowKeySetMethod = HBaseExecutor.getRowKeySetMethod(entityClass);
+        final HBasePropAccessor rowKeyPropAccessor = rowKeySetMethod == null || !mutableEntity ? null
+                : getRootPropAccessor(entityInfo.getPropInfo(Beans.getPropNameByMethod(rowKeySetMethod)));
+        rowKeyAccessor = rowKeyPropAccessor != null && rowKeyPropAccessor.hasGeneratedSetter() ? rowKeyPropAccessor : null;
+        rowKeyType = rowKeySetMethod == null ? null : N.typeOf(rowKeySetMethod.getParameterTypes()[0]);
+        rowKeyColumn = rowKeySetMethod == null ? -1 : entityInfo.propInfoList.indexOf(entityInfo.getPropInfo(Beans.getPropNameByMethod(rowKeySetMethod)));
+        rowKeyDistributor = HBaseExecutor.getRowKeyDistributor(entityClass);
+        familyFieldNameMap = HBaseExecutor.getFamilyColumnFieldNameMap(entityClass)._1;
+
+        final Map<String, FamilyDecoder> familyDecoderMap = new LinkedHashMap<>(familyFieldNameMap.size());
+        int index = 0;
+
+        for (final Map.Entry<String, Map<String, Tuple2<String, Boolean>>> familyEntry : familyFieldNameMap.entrySet()) {
+            final String family = familyEntry.getKey();
+            final Set<String> qualifiers = new LinkedHashSet<>(familyEntry.getValue().keySet());
+
+            // Qualifiers of nested beans are only reachable through the EMPTY_QUALIFIER fallback entry; resolve them up front too.
+            for (final Tuple2<String, Boolean> tp : familyEntry.getValue().values()) {
+                final PropInfo propInfo = entityInfo.getPropInfo(tp._1);
+
+                if (propInfo != null && propInfo.jsonXmlType.isBean() && !tp._2) {
+                    qualifiers.addAll(HBaseExecutor.getFamilyColumnFieldNameMap(propInfo.jsonXmlType.javaType())._2.keySet());
+                }
+            }
+
+            final Map<String, Slot> slotMap = new LinkedHashMap<>(qualifiers.size());
+
+            for (final String qualifier : qualifiers) {
+                final Slot slot = resolveSlot(family, qualifier, index);
+
+                if (slot == null) {
+                    slotMap.put(qualifier, IGNORED);
+                } else {
+                    slotMap.put(qualifier, slot);
+                    index++;
+                }
+            }
+
+            familyDecoderMap.put(family, new FamilyDecoder(family, new ByteKeyTable<>(slotMap)));
+        }
+
+        familyTable = new ByteKeyTable<>(familyDecoderMap);
+        slotCount = index;
+    }
+
+    /**
+     * Decodes a non-empty {@link Result} to a new entity.
+     *
+     * @param result the result to decode; must not be empty
+     * @return the decoded entity
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    T decode(final Result result) {
+        final Object entity = entityInfo.createBeanResult();
+        final long[] assignedBits = slotCount > Long.SIZE ? new long[(slotCount + Long.SIZE - 1) / Long.SIZE] : null;
+        long assigned = 0;
+        Set<String> slowPathAssigned = null;
+        boolean rowKeyAssigned = rowKeyType == null;
+
+        for (final Cell cell : result.rawCells()) {
+            if (!rowKeyAssigned) {
+                final Object rowKey = rowKeyDistributor == null ? HBaseExecutor.getRowKeyValue(cell, rowKeyType) : getOriginalRowKeyValue(cell);
+
+                if (rowKey != null) {
+                    if (rowKeyAccessor == null) {
+                        Beans.setPropValue(entity, rowKeySetMethod, rowKey);
+                    } else {
+                        rowKeyAccessor.setPropValue(entity, rowKey);
+                    }
+
+                    rowKeyAssigned = true;
+                }
+            }
+
+            final FamilyDecoder familyDecoder = familyTable.get(cell.getFamilyArray(), cell.getFamilyOffset(), cell.getFamilyLength());
+
+            // ignore unknown column family.
+            if (familyDecoder == null) {
+                continue;
+            }
+
+            Slot slot = familyDecoder.qualifierTable.get(cell.getQualifierArray(), cell.getQualifierOffset(), cell.getQualifierLength());
+            boolean firstOccurrence;
+
+            if (slot == IGNORED) {
+                continue;
+            } else if (slot != null) {
+                final long bit = 1L << (slot.index & (Long.SIZE - 1));
+
+                if (assignedBits == null) {
+                    firstOccurrence = (assigned & bit) == 0;
+                    assigned |= bit;
+                } else {
+                    final int word = slot.index / Long.SIZE;
+                    firstOccurrence = (assignedBits[word] & bit) == 0;
+                    assignedBits[word] |= bit;
+                }
+            } else {
+                final String qualifier = HBaseExecutor.getQualifierString(cell);
+                slot = resolveSlot(familyDecoder.family, qualifier, -1);
+
+                // ignore the unknown column.
+                if (slot == null) {
+                    continue;
+                }
+
+                if (slowPathAssigned == null) {
+                    slowPathAssigned = new HashSet<>();
+                }
+
+                firstOccurrence = slowPathAssigned.add(familyDecoder.family + '\0' + qualifier);
+            }
+
+            Object owner = entity;
+
+            if (slot.ownerAccessor != null) {
+                owner = slot.ownerAccessor.getPropValue(entity);
+
+                if (owner == null) {
+                    owner = N.newInstance(slot.ownerAccessor.propInfo.jsonXmlType.javaType());
+
+                    slot.ownerAccessor.setPropValue(entity, owner);
+                }
+            }
+
+            switch (slot.kind) {
+                case SCALAR:
+                    if (firstOccurrence) {
+                        slot.accessor.setPropValue(owner, decodeValue(cell, slot));
+                    }
+
+                    break;
+
+                case COLUMN:
+                    if (firstOccurrence) {
+                        slot.accessor.setPropValue(owner, HBaseColumn.valueOf(decodeValue(cell, slot), cell.getTimestamp()));
+                    }
+
+                    break;
+
+                case COLUMN_COLLECTION: {
+                    Collection<HBaseColumn<?>> columnColl = firstOccurrence ? null : (Collection<HBaseColumn<?>>) slot.accessor.getPropValue(owner);
+
+                    if (columnColl == null) {
+                        columnColl = N.newCollection((Class) slot.accessor.propInfo.jsonXmlType.javaType());
+                        slot.accessor.setPropValue(owner, columnColl);
+                    }
+
+                    columnColl.add(HBaseColumn.valueOf(decodeValue(cell, slot), cell.getTimestamp()));
+
+                    break;
+                }
+
+                case COLUMN_MAP: {
+                    Map<Long, HBaseColumn<?>> columnMap = firstOccurrence ? null : (Map<Long, HBaseColumn<?>>) slot.accessor.getPropValue(owner);
+
+                    if (columnMap == null) {
+                        columnMap = N.<Long, HBaseColumn<?>> newMap((Class) slot.accessor.propInfo.jsonXmlType.javaType());
+                        slot.accessor.setPropValue(owner, columnMap);
+                    }
+
+                    final HBaseColumn<?> column = HBaseColumn.valueOf(decodeValue(cell, slot), cell.getTimestamp());
+                    columnMap.put(column.version(), column);
+
+                    break;
+                }
+
+                default:
+                    // IGNORE: the nested bean is created (as above) but the unknown nested property is skipped.
+                    break;
+            }
+        }
+
+        return (T) entityInfo.finishBeanResult(entity);
+    }
+
+    /**
+     * Returns the names of the columns filled by {@link #decodeInto(Result, List)}: the properties of the entity class,
+     * in declaration order.
+     *
+     * @return the column names
+     */
+    List<String> columnNames() {
+        return N.map(entityInfo.propInfoList, propInfo -> propInfo.name);
+    }
+
+    /**
+     * Decodes {@code result} into a new row of {@code columns}, one list per property of the entity class as returned
+     * by {@link #columnNames()}, the same way {@link #decode(Result)} decodes it into an entity, but without creating
+     * the entity. Only the values of nested bean properties are created per row. Nothing is decoded if the entity
+     * class has no properties, i.e. {@code columns} is empty.
+     *
+     * @param result the result to decode; must not be empty
+     * @param columns the columns to append the row to
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void decodeInto(final Result result, final List<List<Object>> columns) {
+        if (columns.isEmpty()) {
+            return;
+        }
+
+        for (final List<Object> column : columns) {
+            column.add(null);
+        }
+
+        final int row = columns.get(0).size() - 1;
+        final long[] assignedBits = slotCount > Long.SIZE ? new long[(slotCount + Long.SIZE - 1) / Long.SIZE] : null;
+        long assigned = 0;
+        Set<String> slowPathAssigned = null;
+
+        if (rowKeyColumn >= 0) {
+            final byte[] rowKey = rowKeyDistributor == null ? result.getRow() : rowKeyDistributor.toOriginalRowKey(result.getRow());
+
+            columns.get(rowKeyColumn).set(row, HBaseExecutor.getRowKeyValue(rowKey, 0, rowKey.length, rowKeyType));
+        }
+
+        for (final Cell cell : result.rawCells()) {
+            final FamilyDecoder familyDecoder = familyTable.get(cell.getFamilyArray(), cell.getFamilyOffset(), cell.getFamilyLength());
+
+            // ignore unknown column family.
+            if (familyDecoder == null) {
+                continue;
+            }
+
+            Slot slot = familyDecoder.qualifierTable.get(cell.getQualifierArray(), cell.getQualifierOffset(), cell.getQualifierLength());
+            boolean firstOccurrence;
+
+            if (slot == IGNORED) {
+                continue;
+            } else if (slot != null) {
+                final long bit = 1L << (slot.index & (Long.SIZE - 1));
+
+                if (assignedBits == null) {
+                    firstOccurrence = (assigned & bit) == 0;
+                    assigned |= bit;
+                } else {
+                    final int word = slot.index / Long.SIZE;
+                    firstOccurrence = (assignedBits[word] & bit) == 0;
+                    assignedBits[word] |= bit;
+                }
+            } else {
+                final String qualifier = HBaseExecutor.getQualifierString(cell);
+                slot = resolveSlot(familyDecoder.family, qualifier, -1);
+
+                // ignore the unknown column.
+                if (slot == null) {
+                    continue;
+                }
+
+                if (slowPathAssigned == null) {
+                    slowPathAssigned = new HashSet<>();
+                }
+
+                firstOccurrence = slowPathAssigned.add(familyDecoder.family + '\0' + qualifier);
+            }
+
+            final List<Object> column = columns.get(slot.column);
+
+            if (slot.ownerAccessor != null) {
+                Object owner = column.get(row);
+
+                if (owner == null) {
+                    owner = N.newInstance(slot.ownerAccessor.propInfo.jsonXmlType.javaType());
+                    column.set(row, owner);
+                }
+
+                if (slot.kind != IGNORE) {
+                    final Object value = nextValue(slot, firstOccurrence ? null : slot.accessor.getPropValue(owner), cell, firstOccurrence);
+
+                    if (value != null) {
+                        slot.accessor.setPropValue(owner, value);
+                    }
+                }
+            } else {
+                final Object value = nextValue(slot, firstOccurrence ? null : column.get(row), cell, firstOccurrence);
+
+                if (value != null) {
+                    column.set(row, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the value of the property of {@code slot} after {@code cell}, given its value {@code current} after the
+     * previous cells of the row, or {@code null} if it's unchanged.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Object nextValue(final Slot slot, final Object current, final Cell cell, final boolean firstOccurrence) {
+        switch (slot.kind) {
+            case SCALAR:
+                return firstOccurrence ? decodeValue(cell, slot) : null;
+
+            case COLUMN:
+                return firstOccurrence ? HBaseColumn.valueOf(decodeValue(cell, slot), cell.getTimestamp()) : null;
+
+            case COLUMN_COLLECTION: {
+                final Collection<HBaseColumn<?>> columnColl = current == null ? N.newCollection((Class) slot.accessor.propInfo.jsonXmlType.javaType())
+                        : (Collection<HBaseColumn<?>>) current;
+
+                columnColl.add(HBaseColumn.valueOf(decodeValue(cell, slot), cell.getTimestamp()));
+
+                return columnColl;
+            }
+
+            case COLUMN_MAP: {
+                final Map<Long, HBaseColumn<?>> columnMap = current == null ? N.<Long, HBaseColumn<?>> newMap((Class) slot.accessor.propInfo.jsonXmlType.javaType())
+                        : (Map<Long, HBaseColumn<?>>) current;
+
+                final HBaseColumn<?> column = HBaseColumn.valueOf(decodeValue(cell, slot), cell.getTimestamp());
+                columnMap.put(column.version(), column);
+
+                return columnMap;
+            }
+
+            default:
+                return null;
+        }
+    }
+
+    private Object getOriginalRowKeyValue(final Cell cell) {
+        final byte[] originalRowKey = rowKeyDistributor.toOriginalRowKey(CellUtil.cloneRow(cell));
+
+        return HBaseExecutor.getRowKeyValue(originalRowKey, 0, originalRowKey.length, rowKeyType);
+    }
+
+    private static Object decodeValue(final Cell cell, final Slot slot) {
+        return slot.codec.decode(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength(), slot.valueType);
+    }
+
+    /**
+     * Resolves the property a cell of {@code family}/{@code qualifier} is mapped to, following the rules of
+     * {@link HBaseExecutor}'s entity mapping, including the empty-qualifier fallback for nested beans sharing a family.
+     *
+     * @return the resolved slot, or {@code null} if cells of {@code family}/{@code qualifier} are ignored
+     */
+    private Slot resolveSlot(final String family, final String qualifier, final int index) {
+        final Map<String, Tuple2<String, Boolean>> familyTPMap = familyFieldNameMap.get(family);
+
+        // ignore unknown column family.
+        if (familyTPMap == null) {
+            return null;
+        }
+
+        Tuple2<String, Boolean> familyTP = familyTPMap.get(qualifier);
+
+        if (familyTP == null) {
+            familyTP = familyTPMap.get(HBaseExecutor.EMPTY_QUALIFIER);
+
+            // The family map keeps a single EMPTY_QUALIFIER fallback entry which the last-registered
+            // bean-typed property sharing this family overwrites. When the fallback's bean class doesn't
+            // own this qualifier, resolve it against each candidate bean property of the family so cells
+            // of the other nested beans are not dropped or misrouted.
+            if (familyTP != null) {
+                final PropInfo fallbackPropInfo = entityInfo.getPropInfo(familyTP._1);
+
+                // This branch is only reached with a non-empty, unknown qualifier (the empty qualifier
+                // resolves directly above). The fallback entry exists for bean-typed properties, whose
+                // nested field names are the qualifiers; routing a foreign qualifier into a scalar or
+                // versioned property would overwrite its real (empty-qualifier) cell value, so ignore it.
+                if (fallbackPropInfo == null || !fallbackPropInfo.jsonXmlType.isBean()) {
+                    familyTP = null;
+                } else if (!HBaseExecutor.getFamilyColumnFieldNameMap(fallbackPropInfo.jsonXmlType.javaType())._2.containsKey(qualifier)) {
+                    for (final Tuple2<String, Boolean> candidateTP : familyTPMap.values()) {
+                        final PropInfo candidatePropInfo = candidateTP == familyTP ? null : entityInfo.getPropInfo(candidateTP._1);
+
+                        if (candidatePropInfo != null && candidatePropInfo.jsonXmlType.isBean()
+                                && HBaseExecutor.getFamilyColumnFieldNameMap(candidatePropInfo.jsonXmlType.javaType())._2.containsKey(qualifier)) {
+                            familyTP = candidateTP;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        // ignore the unknown column:
+        if (familyTP == null) {
+            return null;
+        }
+
+        final PropInfo familyPropInfo = entityInfo.getPropInfo(familyTP._1);
+
+        // ignore the unknown field/property:
+        if (familyPropInfo == null) {
+            return null;
+        }
+
+        final HBaseCellCodec codec = HBaseExecutor.getCellCodec(entityClass, familyPropInfo.name, HBaseCellCodec.STRING);
+
+        if (familyPropInfo.jsonXmlType.isBean() && !familyTP._2) {
+            final Class<?> propEntityClass = familyPropInfo.jsonXmlType.javaType();
+            final Map<String, String> propEntityColumnFieldNameMap = HBaseExecutor.getFamilyColumnFieldNameMap(propEntityClass)._2;
+            final PropInfo columnPropInfo = ParserUtil.getBeanInfo(propEntityClass).getPropInfo(propEntityColumnFieldNameMap.getOrDefault(qualifier, qualifier));
+
+            // the nested bean is still created for an unknown nested property, as it always has been.
+            if (columnPropInfo == null) {
+                return new Slot(index, columnOf(familyPropInfo), getRootPropAccessor(familyPropInfo), null, null);
+            }
+
+            return new Slot(index, columnOf(familyPropInfo), getRootPropAccessor(familyPropInfo), HBaseExecutor.getPropAccessor(propEntityClass, columnPropInfo),
+                    HBaseExecutor.getCellCodec(propEntityClass, columnPropInfo.name, codec));
+        }
+
+        return new Slot(index, columnOf(familyPropInfo), null, getRootPropAccessor(familyPropInfo), codec);
+    }
+
+    private int columnOf(final PropInfo propInfo) {
+        return entityInfo.propInfoList.indexOf(propInfo);
+    }
+
+    private HBasePropAccessor getRootPropAccessor(final PropInfo propInfo) {
+        return mutableEntity ? HBaseExecutor.getPropAccessor(entityClass, propInfo) : HBasePropAccessor.reflective(propInfo);
+    }
+
+    /**
+     * The precompiled mapping of one family/qualifier combination to the property its cells are decoded into.
+     */
+    private static final class Slot {
+        final int index;
+        /** The index, in the properties of the entity class, of the top-level property the cells are decoded into. */
+        final int column;
+        final HBasePropAccessor ownerAccessor;
+        final HBasePropAccessor accessor;
+        final int kind;
+        final Type<?> valueType;
+        final HBaseCellCodec codec;
+
+        Slot(final int index, final int column, final HBasePropAccessor ownerAccessor, final HBasePropAccessor accessor, final HBaseCellCodec codec) {
+            this.index = index;
+            this.column = column;
+            this.ownerAccessor = ownerAccessor;
+            this.accessor = accessor;
+            this.codec = codec;
+
+            final Type<?> propType = accessor == null ? null : accessor.propInfo.jsonXmlType;
+
+            if (propType == null) {
+                kind = IGNORE;
+                valueType = null;
+            } else if (propType.isMap() && propType.parameterTypes().get(1).javaType().equals(HBaseColumn.class)) {
+                kind = COLUMN_MAP;
+                valueType = propType.parameterTypes().get(1).elementType();
+            } else if (propType.isCollection() && propType.parameterTypes().get(0).javaType().equals(HBaseColumn.class)) {
+                kind = COLUMN_COLLECTION;
+                valueType = propType.parameterTypes().get(0).elementType();
+            } else if (propType.javaType().equals(HBaseColumn.class)) {
+                kind = COLUMN;
+                valueType = propType.parameterTypes().get(0);
+            } else {
+                kind = SCALAR;
+                valueType = propType;
+            }
+        }
+    }
+
+    private static final class FamilyDecoder {
+        final String family;
+        final ByteKeyTable<Slot> qualifierTable;
+
+        FamilyDecoder(final String family, final ByteKeyTable<Slot> qualifierTable) {
+            this.family = family;
+            this.qualifierTable = qualifierTable;
+        }
+    }
+
+    /**
+     * An immutable open-addressing hash table keyed by the UTF-8 bytes of a name and probed with a slice of a byte
+     * array, so that a lookup with a cell's family or qualifier allocates nothing.
+     *
+     * @param <V> the value type
+     */
+    static final class ByteKeyTable<V> {
+        private final byte[][] keys;
+        private final Object[] values;
+        private final int mask;
+
+        ByteKeyTable(final Map<String, V> map) {
+            int capacity = 2;
+
+            while (capacity < map.size() * 2) {
+                capacity <<= 1;
+            }
+
+            keys = new byte[capacity][];
+            values = new Object[capacity];
+            mask = capacity - 1;
+
+            for (final Map.Entry<String, V> entry : map.entrySet()) {
+                final byte[] key = Bytes.toBytes(entry.getKey());
+                int i = hash(key, 0, key.length) & mask;
+
+                while (keys[i] != null) {
+                    i = (i + 1) & mask;
+                }
+
+                keys[i] = key;
+                values[i] = entry.getValue();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        V get(final byte[] bytes, final int offset, final int len) {
+            int i = hash(bytes, offset, len) & mask;
+            byte[] key = null;
+
+            while ((key = keys[i]) != null) {
+                if (Bytes.equals(key, 0, key.length, bytes, offset, len)) {
+                    return (V) values[i];
+                }
+
+                i = (i + 1) & mask;
+            }
+
+            return null;
+        }
+
+        private static int hash(final byte[] bytes, final int offset, final int len) {
+            final int h = Bytes.hashCode(bytes, offset, len);
+
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -20,14 +20,17 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.CellScanner;
@@ -40,14 +43,20 @@ import org.apache.hadoop.hbase.client.Durability;
 import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Increment;
 import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.RegionLocator;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Row;
 import org.apache.hadoop.hbase.client.RowMutations;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.Table;
 import org.apache.hadoop.hbase.client.coprocessor.Batch;
+import org.apache.hadoop.hbase.filter.Filter;
+import org.apache.hadoop.hbase.filter.FilterList;
+import org.apache.hadoop.hbase.filter.PageFilter;
 import org.apache.hadoop.hbase.ipc.CoprocessorRpcChannel;
 import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.hbase.util.Pair;
 
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.Message;
@@ -65,11 +74,13 @@ import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.Beans;
 import com.landawn.abacus.util.BooleanList;
 import com.landawn.abacus.util.ClassUtil;
+import com.landawn.abacus.util.Dataset;
 import com.landawn.abacus.util.ExceptionUtil;
 import com.landawn.abacus.util.HBaseColumn;
 import com.landawn.abacus.util.IOUtil;
 import com.landawn.abacus.util.N;
 import com.landawn.abacus.util.NamingPolicy;
+import com.landawn.abacus.util.RowDataset;
 import com.landawn.abacus.util.Strings;
 import com.landawn.abacus.util.Tuple;
 import com.landawn.abacus.util.cs;
@@ -130,6 +141,16 @@ import com.landawn.abacus.util.stream.Stream;
  * <p>A class-level {@link ColumnFamily} sets the default family for every field, and a
  * field-level {@link ColumnFamily} overrides it. {@code @Column} customizes the qualifier.</p>
  *
+ * <p>Cell values of mapped entities are encoded and decoded by the {@link HBaseCellCodec} declared
+ * through {@link ColumnFamily#codec()}. The default {@link HBaseCellCodec#STRING} codec uses the
+ * string form described above; {@link HBaseCellCodec#BINARY} stores numeric and boolean properties
+ * in their fixed-width {@link Bytes} form and decodes them straight from the cell without building
+ * a {@code String}.</p>
+ *
+ * <p>Entity properties are read and written through reflection by default;
+ * {@link #setGeneratedPropAccessorsEnabled(boolean)} switches the mapping to accessors bound once per
+ * class with {@link java.lang.invoke.LambdaMetafactory}.</p>
+ *
  * <p><b>Example (annotated):</b></p>
  * <pre>{@code
  * @ColumnFamily("cf")
@@ -150,12 +171,22 @@ import com.landawn.abacus.util.stream.Stream;
  * the {@link AsyncExecutor} supplied at construction (or the shared
  * {@link #DEFAULT_ASYNC_EXECUTOR}).</p>
  *
+ * <h2>Table handles</h2>
+ * <p>Each operation uses a {@link Table} handle of its own, which is opened from the {@link Connection}
+ * and closed when the operation completes. An executor constructed with a positive
+ * {@code maxIdleTablesPerTable} keeps the handles in its {@link #tableCache()} instead, so they're reused
+ * by the following operations on the same table.</p>
+ *
  * <h2>Scan streams</h2>
  * <p>{@code scan(...)} returns a lazy {@link Stream} that opens the underlying
- * {@link Table} and {@link ResultScanner} only when iteration begins; both are closed
+ * {@link Table} and {@link ResultScanner} only when iteration begins; both are released
  * when the stream is closed. Always consume scan streams inside a try-with-resources
  * block to avoid leaking the table or scanner.</p>
  *
+ * <p>{@code parallelScan(...)} splits a scan on region boundaries and runs the per-region
+ * sub-scans concurrently on the {@link AsyncExecutor} of this executor, merging their results
+ * in row-key order or in arrival order.</p>
+ *
  * <h2>Basic usage</h2>
  * <pre>{@code
  * HBaseExecutor executor = new HBaseExecutor(connection);
@@ -199,28 +230,48 @@ public final class HBaseExecutor {
     /** The empty-string column qualifier used for properties stored directly under a column family without a qualifier. */
     static final String EMPTY_QUALIFIER = Strings.EMPTY;
 
+    /**
+     * The system property which, when set to {@code true}, makes {@link #DEFAULT_ASYNC_EXECUTOR} run each task on a new
+     * virtual thread instead of a platform thread pool. It's ignored, with a warning, if the JVM doesn't support virtual
+     * threads (JDK 21+).
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY = "abacus.da.async.virtualThreads";
+
     /**
      * The shared {@link AsyncExecutor} that backs {@link #async()} when no executor is supplied
      * at construction. It is sized to {@code max(64, IOUtil.CPU_CORES * 8)} core threads and
      * {@code max(128, IOUtil.CPU_CORES * 16)} maximum threads with a 180-second keep-alive,
-     * and is never shut down by {@link #close()}.
+     * and is never shut down by {@link #close()}. With the system property
+     * {@link #VIRTUAL_THREADS_PROPERTY} set to {@code true}, it runs each task on a new virtual thread instead.
      */
-    static final AsyncExecutor DEFAULT_ASYNC_EXECUTOR = new AsyncExecutor(//
-            N.max(64, IOUtil.CPU_CORES * 8), // coreThreadPoolSize
-            N.max(128, IOUtil.CPU_CORES * 16), // maxThreadPoolSize
-            180L, TimeUnit.SECONDS);
+    static final AsyncExecutor DEFAULT_ASYNC_EXECUTOR = createDefaultAsyncExecutor();
 
     private static final Map<Class<?>, Method> classRowKeySetMethodPool = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, RowKeyDistributor> classRowKeyDistributorPool = new ConcurrentHashMap<>();
 
     private static final Map<Class<?>, Map<NamingPolicy, Map<String, Tuple3<String, String, Boolean>>>> classFamilyColumnNamePool = new ConcurrentHashMap<>();
     private static final Map<Class<?>, Tuple2<Map<String, Map<String, Tuple2<String, Boolean>>>, Map<String, String>>> classFamilyColumnFieldNamePool = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Map<String, HBaseCellCodec>> classPropCellCodecPool = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, HBaseCellCodec> cellCodecPool = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, HBaseEntityDecoder<?>> classEntityDecoderPool = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Map<String, HBasePropAccessor>> classPropAccessorPool = new ConcurrentHashMap<>();
+
+    private static volatile boolean generatedPropAccessorsEnabled = false; //NOSONAR
 
     private final Admin admin;
 
     private final Connection conn;
 
+    private final AsyncExecutor asyncExecutor;
+
     private final AsyncHBaseExecutor asyncHBaseExecutor;
 
+    private final HBaseTableCache tableCache;
+
+    private volatile MultiGetSettings multiGetSettings = new MultiGetSettings(); //NOSONAR
+
+    private volatile HBaseMetricsListener metricsListener; //NOSONAR
+
     /**
      * Constructs an {@code HBaseExecutor} bound to the given HBase {@link Connection},
      * using the shared {@link #DEFAULT_ASYNC_EXECUTOR} for async operations.
@@ -290,8 +341,43 @@ public final class HBaseExecutor {
      *         connection fails with an {@link IOException}
      */
     public HBaseExecutor(final Connection conn, final AsyncExecutor asyncExecutor) {
+        this(conn, asyncExecutor, 0);
+    }
+
+    /**
+     * Constructs an {@code HBaseExecutor} bound to the given HBase {@link Connection} and {@link AsyncExecutor}, which
+     * keeps up to {@code maxIdleTablesPerTable} idle {@link Table} handles per table for reuse by its operations.
+     *
+     * <p>By default, every operation opens a {@link Table} handle from the connection and closes it when it's done.
+     * Under a high operation rate, reusing the handles saves the allocation and the contention of opening them. The
+     * idle handles are closed by {@link #close()}, and the cache statistics are reported by {@link #tableCache()}.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * HBaseExecutor executor = new HBaseExecutor(conn, asyncExecutor, 16);
+     * try {
+     *     // ... perform HBase operations
+     *     double hitRate = executor.tableCache().getHitRate();
+     * } finally {
+     *     executor.close();
+     * }
+     * }</pre>
+     *
+     * @param conn the HBase connection to use for database operations; not copied — closing
+     *        this executor closes the connection
+     * @param asyncExecutor the executor that drives the {@link AsyncHBaseExecutor}
+     * @param maxIdleTablesPerTable the maximum number of idle {@link Table} handles kept per table; {@code 0} disables
+     *        the cache
+     * @throws IllegalArgumentException if {@code conn} or {@code asyncExecutor} is {@code null}, or
+     *         {@code maxIdleTablesPerTable} is negative
+     * @throws UncheckedIOException if obtaining the {@link Admin} interface from the
+     *         connection fails with an {@link IOException}
+     * @see HBaseTableCache
+     */
+    public HBaseExecutor(final Connection conn, final AsyncExecutor asyncExecutor, final int maxIdleTablesPerTable) {
         N.checkArgNotNull(conn, "conn");
         N.checkArgNotNull(asyncExecutor, "asyncExecutor");
+        N.checkArgNotNegative(maxIdleTablesPerTable, "maxIdleTablesPerTable");
 
         Admin tmpAdmin = null;
         boolean noException = false;
@@ -299,7 +385,9 @@ public final class HBaseExecutor {
             tmpAdmin = conn.getAdmin();
             this.admin = tmpAdmin;
             this.conn = conn;
+            this.asyncExecutor = asyncExecutor;
             this.asyncHBaseExecutor = new AsyncHBaseExecutor(this, asyncExecutor);
+            this.tableCache = new HBaseTableCache(conn, maxIdleTablesPerTable);
             noException = true;
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
@@ -376,6 +464,135 @@ public final class HBaseExecutor {
         return asyncHBaseExecutor;
     }
 
+    /**
+     * Returns the cache of the {@link Table} handles used by the operations of this executor, which reports its hit
+     * rate. The cache is disabled unless this executor is constructed by
+     * {@link #HBaseExecutor(Connection, AsyncExecutor, int)} with a positive {@code maxIdleTablesPerTable}.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * HBaseTableCache tableCache = executor.tableCache();
+     * logger.info("hits: {}, misses: {}, hit rate: {}", tableCache.getHitCount(), tableCache.getMissCount(), tableCache.getHitRate());
+     * }</pre>
+     *
+     * @return the table handle cache of this executor
+     */
+    public HBaseTableCache tableCache() {
+        return tableCache;
+    }
+
+    /**
+     * Returns a copy of the settings which control how {@link #get(String, List)} and the other multi-gets split large
+     * lists of Gets.
+     *
+     * @return a copy of the multi-get settings of this executor
+     * @see #setMultiGetSettings(MultiGetSettings)
+     */
+    public MultiGetSettings getMultiGetSettings() {
+        return multiGetSettings.copy();
+    }
+
+    /**
+     * Sets the settings which control how {@link #get(String, List)} and the other multi-gets split large lists of
+     * Gets. The settings are copied: changing {@code settings} afterwards has no effect.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * executor.setMultiGetSettings(new MultiGetSettings().chunkSize(500).parallelism(16));
+     * List<User> users = executor.mapper(User.class).get(userIds);   // 100k ids: 200 chunks, 16 in flight
+     * }</pre>
+     *
+     * @param settings the multi-get settings
+     * @throws IllegalArgumentException if {@code settings} is {@code null}
+     */
+    public void setMultiGetSettings(final MultiGetSettings settings) {
+        N.checkArgNotNull(settings, "settings");
+
+        multiGetSettings = settings.copy();
+    }
+
+    /**
+     * Returns the listener which receives the latency and volume of the HBase calls made by this executor.
+     *
+     * @return the metrics listener, or {@code null} if none is set
+     * @see #setMetricsListener(HBaseMetricsListener)
+     */
+    public HBaseMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * Sets the listener which receives the latency and volume of the HBase calls made by this executor, by its
+     * {@link #async()} executor, and by its mappers and counter aggregators. Every {@code Table} call is reported to
+     * {@link HBaseMetricsListener#onOperation}, and every scan to {@link HBaseMetricsListener#onScan} when its
+     * scanner is closed, with the RPCs, regions and bytes of the scan.
+     *
+     * <p>Calls which don't go through a {@code Table} borrowed by this executor are not reported: those on a handle
+     * returned by {@link #getTable(String)}, the mutations sent by a {@link #bufferedWriter(String) buffered writer},
+     * which uses a {@code BufferedMutator}, and the calls of a {@link NativeAsyncHBaseExecutor}.</p>
+     *
+     * <p>Without a listener, which is the default, the calls are not measured at all.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * HBaseMetricsRecorder recorder = new HBaseMetricsRecorder();
+     * executor.setMetricsListener(recorder);
+     *
+     * executor.scan("users", AnyScan.create()).forEach(...);
+     * logger.info("{}", recorder.getStats("users", "scan"));   // rows, RPCs, regions, bytes, latency percentiles
+     * }</pre>
+     *
+     * @param listener the metrics listener, or {@code null} to stop measuring
+     * @see HBaseMetricsRecorder
+     */
+    public void setMetricsListener(final HBaseMetricsListener listener) {
+        metricsListener = listener;
+    }
+
+    /**
+     * Creates an {@link AsyncExecutor} which runs each task on a new virtual thread. A blocking call on a virtual
+     * thread doesn't hold a platform thread, so the number of requests in flight isn't bounded by a thread pool.
+     *
+     * <p>On JDK 21 to 23, a virtual thread which blocks inside a {@code synchronized} block of the client library is
+     * pinned to its carrier thread; run with {@code -Djdk.tracePinnedThreads=short} to find such blocks.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * HBaseExecutor executor = new HBaseExecutor(conn, HBaseExecutor.newVirtualThreadAsyncExecutor());
+     * executor.async().get("users", AnyGet.of("user123"));   // runs on a virtual thread
+     * }</pre>
+     *
+     * @return a new virtual-thread-per-task {@code AsyncExecutor}
+     * @throws UnsupportedOperationException if the JVM doesn't support virtual threads (JDK 21+)
+     * @see #VIRTUAL_THREADS_PROPERTY
+     */
+    public static AsyncExecutor newVirtualThreadAsyncExecutor() throws UnsupportedOperationException {
+        final ExecutorService executorService;
+
+        try {
+            executorService = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads require JDK 21 or later", e);
+        }
+
+        return new AsyncExecutor(executorService);
+    }
+
+    private static AsyncExecutor createDefaultAsyncExecutor() {
+        if (Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY)) {
+            try {
+                return newVirtualThreadAsyncExecutor();
+            } catch (final UnsupportedOperationException e) {
+                logger.warn("System property " + VIRTUAL_THREADS_PROPERTY + " is ignored: virtual threads require JDK 21 or later");
+            }
+        }
+
+        return new AsyncExecutor(//
+                N.max(64, IOUtil.CPU_CORES * 8), // coreThreadPoolSize
+                N.max(128, IOUtil.CPU_CORES * 16), // maxThreadPoolSize
+                180L, TimeUnit.SECONDS);
+    }
+
     /**
      * Manually registers a property of {@code cls} as the HBase row-key for the entity class.
      *
@@ -437,6 +654,56 @@ public final class HBaseExecutor {
 
         classFamilyColumnNamePool.remove(cls);
         classFamilyColumnFieldNamePool.remove(cls);
+        classEntityDecoderPool.remove(cls);
+    }
+
+    /**
+     * Registers a property of {@code cls} as the HBase row-key for the entity class, stored under the row keys of
+     * {@code distributor}.
+     *
+     * <p>The {@code distributor} is applied transparently by {@link AnyPut#create(Object)}, by the
+     * {@link HBaseMapper} methods which take entities or row keys, by the {@link HBaseMapper} scans, which fan out over
+     * the stored-key ranges and merge their results in row-key order, and when the row key of an entity is read. See
+     * {@link RowKeyDistributor} for the details. The property may also be the {@code @Id} property of the class.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * // spread the monotonic event ids over 16 buckets
+     * HBaseExecutor.registerRowKeyProperty(Event.class, "id", RowKeyDistributor.hashPrefix(16));
+     *
+     * executor.mapper(Event.class).put(event);   // stored under the bucket prefix of event.getId()
+     * }</pre>
+     *
+     * @param cls the entity class (must be a JavaBean class) on which to register the row-key property
+     * @param rowKeyPropertyName the name of the property to use as the row key
+     * @param distributor the mapping from the row keys of the entities to the stored row keys, or {@code null} to store
+     *        the row keys as they are
+     * @throws IllegalArgumentException if the property can't be the row key, as for
+     *         {@link #registerRowKeyProperty(Class, String)}
+     * @see RowKeyDistributor#hashPrefix(int)
+     */
+    @SuppressWarnings("deprecation")
+    public static void registerRowKeyProperty(final Class<?> cls, final String rowKeyPropertyName, final RowKeyDistributor distributor) {
+        // validate before the distributor is recorded; the registration also drops the decoders built without it.
+        registerRowKeyProperty(cls, rowKeyPropertyName);
+
+        if (distributor == null) {
+            classRowKeyDistributorPool.remove(cls);
+        } else {
+            classRowKeyDistributorPool.put(cls, distributor);
+        }
+
+        classEntityDecoderPool.remove(cls);
+    }
+
+    /**
+     * Returns the {@link RowKeyDistributor} registered for {@code cls}.
+     *
+     * @param cls the entity class
+     * @return the registered distributor, or {@code null} if the row keys of {@code cls} are stored as they are
+     */
+    static RowKeyDistributor getRowKeyDistributor(final Class<?> cls) {
+        return classRowKeyDistributorPool.get(cls);
     }
 
     /**
@@ -524,7 +791,61 @@ public final class HBaseExecutor {
         });
     }
 
-    private static Tuple2<Map<String, Map<String, Tuple2<String, Boolean>>>, Map<String, String>> getFamilyColumnFieldNameMap(final Class<?> entityClass) {
+    /**
+     * Returns the family/qualifier pairs which {@link AnyPut#create(Object, Collection, NamingPolicy)} writes for the
+     * specified properties of {@code entityClass}, i.e. the columns a read needs to fetch to populate them. The row-key
+     * property has no column and is skipped; a nested bean property contributes the columns of its properties.
+     *
+     * @param entityClass the entity class
+     * @param namingPolicy the naming policy applied to property names without annotations
+     * @param selectPropNames the properties to read, or {@code null} for all properties
+     * @return the distinct (family, qualifier) pairs, in property order
+     * @throws IllegalArgumentException if {@code entityClass} has no property named by {@code selectPropNames}
+     */
+    static List<Tuple2<String, String>> getProjectedColumns(final Class<?> entityClass, final NamingPolicy namingPolicy,
+            final Collection<String> selectPropNames) {
+        final BeanInfo entityInfo = ParserUtil.getBeanInfo(entityClass);
+        final Map<String, Tuple3<String, String, Boolean>> classFamilyColumnNameMap = getClassFamilyColumnNameMap(entityClass, namingPolicy);
+        final boolean annotatedByDefaultColumnFamily = hasColumnFamilyValue(entityInfo.getAnnotation(ColumnFamily.class));
+        final Method rowKeySetMethod = getRowKeySetMethod(entityClass);
+        final String rowKeyPropName = rowKeySetMethod == null ? null : Beans.getPropNameByMethod(rowKeySetMethod);
+
+        final Collection<PropInfo> selectPropInfos = selectPropNames == null ? entityInfo.propInfoList : N.map(selectPropNames, propName -> {
+            final PropInfo propInfo = entityInfo.getPropInfo(propName);
+
+            if (propInfo == null) {
+                throw new IllegalArgumentException(
+                        "The specified class: " + ClassUtil.getCanonicalClassName(entityClass) + " doesn't have the specified property: " + propName);
+            }
+
+            return propInfo;
+        });
+
+        final Set<Tuple2<String, String>> columns = new LinkedHashSet<>();
+
+        for (final PropInfo propInfo : selectPropInfos) {
+            if (propInfo.name.equals(rowKeyPropName)) {
+                continue;
+            }
+
+            final Tuple3<String, String, Boolean> tp = classFamilyColumnNameMap.get(propInfo.name);
+
+            if (propInfo.jsonXmlType.isBean() && !tp._3) {
+                final Map<String, Tuple3<String, String, Boolean>> propEntityFamilyColumnNameMap = getClassFamilyColumnNameMap(propInfo.clazz, namingPolicy);
+
+                for (final PropInfo columnPropInfo : ParserUtil.getBeanInfo(propInfo.jsonXmlType.javaType()).propInfoList) {
+                    columns.add(Tuple.of(tp._1, propEntityFamilyColumnNameMap.get(columnPropInfo.name)._2));
+                }
+            } else {
+                columns.add(Tuple.of(tp._1, tp._3 || annotatedByDefaultColumnFamily || hasColumnFamilyValue(propInfo.getAnnotation(ColumnFamily.class)) ? tp._2
+                        : EMPTY_QUALIFIER));
+            }
+        }
+
+        return new ArrayList<>(columns);
+    }
+
+    static Tuple2<Map<String, Map<String, Tuple2<String, Boolean>>>, Map<String, String>> getFamilyColumnFieldNameMap(final Class<?> entityClass) {
         Tuple2<Map<String, Map<String, Tuple2<String, Boolean>>>, Map<String, String>> familyColumnFieldNameMapTP = classFamilyColumnFieldNamePool
                 .get(entityClass);
 
@@ -592,6 +913,95 @@ public final class HBaseExecutor {
         return familyColumnFieldNameMapTP;
     }
 
+    /**
+     * Returns the precompiled {@link HBaseEntityDecoder} for {@code entityClass}, building and caching it on first use.
+     *
+     * @param <T> the entity type
+     * @param entityClass the entity class
+     * @return the decoder for {@code entityClass}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> HBaseEntityDecoder<T> getEntityDecoder(final Class<T> entityClass) {
+        HBaseEntityDecoder<T> entityDecoder = (HBaseEntityDecoder<T>) classEntityDecoderPool.get(entityClass);
+
+        if (entityDecoder == null) {
+            entityDecoder = new HBaseEntityDecoder<>(entityClass);
+            classEntityDecoderPool.put(entityClass, entityDecoder);
+        }
+
+        return entityDecoder;
+    }
+
+    /**
+     * Enables or disables generated property accessors for the entity mapping of {@link #toEntity(Result, Class)},
+     * {@link #toList(ResultScanner, Class)} and {@link AnyPut#create(Object)}.
+     *
+     * <p>By default entity properties are read and written reflectively, through the abacus bean metadata. When enabled,
+     * the getter and setter of each mapped property are bound once per class to directly-invoking lambdas (via
+     * {@link java.lang.invoke.LambdaMetafactory}), which removes the reflective call from the per-cell path of wide
+     * rows and large scans. Properties whose accessors can't be bound keep using reflection; the mapped values are the
+     * same in both modes.</p>
+     *
+     * <p>The setting is global. Changing it discards the accessors and decoders cached so far, so it should be set once,
+     * at startup, before entities are mapped.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * HBaseExecutor.setGeneratedPropAccessorsEnabled(true);
+     *
+     * List<Account> accounts = hbaseExecutor.scan("account", AnyScan.create(), Account.class).toList();
+     * }</pre>
+     *
+     * @param enabled {@code true} to bind generated accessors, {@code false} to use reflection
+     * @see #isGeneratedPropAccessorsEnabled()
+     */
+    public static void setGeneratedPropAccessorsEnabled(final boolean enabled) {
+        if (generatedPropAccessorsEnabled != enabled) {
+            generatedPropAccessorsEnabled = enabled;
+
+            classPropAccessorPool.clear();
+            classEntityDecoderPool.clear();
+        }
+    }
+
+    /**
+     * Returns whether generated property accessors are enabled.
+     *
+     * @return {@code true} if generated property accessors are enabled, {@code false} (the default) otherwise
+     * @see #setGeneratedPropAccessorsEnabled(boolean)
+     */
+    public static boolean isGeneratedPropAccessorsEnabled() {
+        return generatedPropAccessorsEnabled;
+    }
+
+    /**
+     * Returns the {@link HBasePropAccessor} for {@code propInfo} of {@code entityClass}, generated or reflective
+     * according to {@link #isGeneratedPropAccessorsEnabled()}, building and caching the accessors of the class on first use.
+     *
+     * @param entityClass the entity class declaring the property
+     * @param propInfo the property
+     * @return the accessor for {@code propInfo}
+     */
+    static HBasePropAccessor getPropAccessor(final Class<?> entityClass, final PropInfo propInfo) {
+        Map<String, HBasePropAccessor> propAccessorMap = classPropAccessorPool.get(entityClass);
+
+        if (propAccessorMap == null) {
+            final boolean generated = generatedPropAccessorsEnabled;
+
+            propAccessorMap = new HashMap<>();
+
+            for (final PropInfo e : ParserUtil.getBeanInfo(entityClass).propInfoList) {
+                propAccessorMap.put(e.name, generated ? HBasePropAccessor.generate(e) : HBasePropAccessor.reflective(e));
+            }
+
+            classPropAccessorPool.put(entityClass, propAccessorMap);
+        }
+
+        final HBasePropAccessor propAccessor = propAccessorMap.get(propInfo.name);
+
+        return propAccessor == null ? HBasePropAccessor.reflective(propInfo) : propAccessor;
+    }
+
     /**
      * Returns whether the given {@link ColumnFamily} annotation carries a usable family name.
      *
@@ -607,6 +1017,57 @@ public final class HBaseExecutor {
         return N.checkArgNotEmpty(defaultColumnFamilyAnno.value(), "Column Family can't be null or empty");
     }
 
+    /**
+     * Returns the {@link HBaseCellCodec} declared for property {@code propName} of {@code entityClass},
+     * either on the property itself or on the class, through {@link ColumnFamily#codec()}.
+     *
+     * @param entityClass the entity class declaring the property
+     * @param propName the property name
+     * @param defaultCodec the codec to return if neither the property nor the class declares one; for a property of a
+     *        nested bean this is the codec of the parent property
+     * @return the declared codec, or {@code defaultCodec}
+     */
+    static HBaseCellCodec getCellCodec(final Class<?> entityClass, final String propName, final HBaseCellCodec defaultCodec) {
+        Map<String, HBaseCellCodec> propCellCodecMap = classPropCellCodecPool.get(entityClass);
+
+        if (propCellCodecMap == null) {
+            final BeanInfo entityInfo = ParserUtil.getBeanInfo(entityClass);
+            final HBaseCellCodec classCellCodec = getCellCodec(entityInfo.getAnnotation(ColumnFamily.class));
+
+            propCellCodecMap = new HashMap<>();
+
+            for (final PropInfo propInfo : entityInfo.propInfoList) {
+                final HBaseCellCodec propCellCodec = getCellCodec(propInfo.getAnnotation(ColumnFamily.class));
+
+                if (propCellCodec != null) {
+                    propCellCodecMap.put(propInfo.name, propCellCodec);
+                } else if (classCellCodec != null) {
+                    propCellCodecMap.put(propInfo.name, classCellCodec);
+                }
+            }
+
+            classPropCellCodecPool.put(entityClass, propCellCodecMap);
+        }
+
+        return propCellCodecMap.getOrDefault(propName, defaultCodec);
+    }
+
+    private static HBaseCellCodec getCellCodec(final ColumnFamily columnFamily) {
+        if (columnFamily == null || columnFamily.codec() == HBaseCellCodec.class) {
+            return null;
+        }
+
+        return cellCodecPool.computeIfAbsent(columnFamily.codec(), codecClass -> {
+            if (codecClass == HBaseCellCodec.StringCodec.class) {
+                return HBaseCellCodec.STRING;
+            } else if (codecClass == HBaseCellCodec.BinaryCodec.class) {
+                return HBaseCellCodec.BINARY;
+            } else {
+                return (HBaseCellCodec) N.newInstance(codecClass);
+            }
+        });
+    }
+
     /**
      * Reads every {@link Result} from {@code resultScanner}, converts each into
      * {@code targetType}, and returns them as a {@link List}.
@@ -680,10 +1141,7 @@ public final class HBaseExecutor {
 
             final Type<T> type = N.typeOf(targetType);
 
-            final BeanInfo entityInfo = type.isBean() ? ParserUtil.getBeanInfo(targetType) : null;
-            final Method rowKeySetMethod = type.isBean() ? getRowKeySetMethod(targetType) : null;
-            final Type<?> rowKeyType = rowKeySetMethod == null ? null : N.typeOf(rowKeySetMethod.getParameterTypes()[0]);
-            final Map<String, Map<String, Tuple2<String, Boolean>>> familyFieldNameMap = type.isBean() ? getFamilyColumnFieldNameMap(targetType)._1 : null;
+            final HBaseEntityDecoder<T> entityDecoder = type.isBean() ? getEntityDecoder(targetType) : null;
 
             final List<T> resultList = new ArrayList<>();
 
@@ -697,7 +1155,7 @@ public final class HBaseExecutor {
 
             while (count > 0 && (result = resultScanner.next()) != null) {
                 if (!result.isEmpty()) {
-                    resultList.add(toValue(type, entityInfo, rowKeySetMethod, rowKeyType, familyFieldNameMap, result));
+                    resultList.add(toValue(type, entityDecoder, result));
                     count--;
                 }
             }
@@ -729,10 +1187,7 @@ public final class HBaseExecutor {
     static <T> List<T> toList(final List<Result> results, final Class<T> targetType) {
         final Type<T> type = N.typeOf(targetType);
 
-        final BeanInfo entityInfo = type.isBean() ? ParserUtil.getBeanInfo(targetType) : null;
-        final Method rowKeySetMethod = type.isBean() ? getRowKeySetMethod(targetType) : null;
-        final Type<?> rowKeyType = rowKeySetMethod == null ? null : N.typeOf(rowKeySetMethod.getParameterTypes()[0]);
-        final Map<String, Map<String, Tuple2<String, Boolean>>> familyFieldNameMap = type.isBean() ? getFamilyColumnFieldNameMap(targetType)._1 : null;
+        final HBaseEntityDecoder<T> entityDecoder = type.isBean() ? getEntityDecoder(targetType) : null;
 
         final List<T> resultList = new ArrayList<>(results.size());
 
@@ -742,7 +1197,7 @@ public final class HBaseExecutor {
                     continue;
                 }
 
-                resultList.add(toValue(type, entityInfo, rowKeySetMethod, rowKeyType, familyFieldNameMap, result));
+                resultList.add(toValue(type, entityDecoder, result));
             }
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
@@ -849,12 +1304,7 @@ public final class HBaseExecutor {
         }
 
         if (type.isBean()) {
-            final BeanInfo entityInfo = ParserUtil.getBeanInfo(targetType);
-            final Method rowKeySetMethod = getRowKeySetMethod(targetType);
-            final Type<?> rowKeyType = rowKeySetMethod == null ? null : N.typeOf(rowKeySetMethod.getParameterTypes()[0]);
-            final Map<String, Map<String, Tuple2<String, Boolean>>> familyFieldNameMap = getFamilyColumnFieldNameMap(targetType)._1;
-
-            return toValue(type, entityInfo, rowKeySetMethod, rowKeyType, familyFieldNameMap, result);
+            return getEntityDecoder(targetType).decode(result);
         } else {
             final CellScanner cellScanner = result.cellScanner();
 
@@ -877,9 +1327,7 @@ public final class HBaseExecutor {
         }
     }
 
-    @SuppressWarnings({ "null", "rawtypes" })
-    private static <T> T toValue(final Type<T> type, final BeanInfo entityInfo, final Method rowKeySetMethod, final Type<?> rowKeyType,
-            final Map<String, Map<String, Tuple2<String, Boolean>>> familyFieldNameMap, final Result result) throws IOException {
+    private static <T> T toValue(final Type<T> type, final HBaseEntityDecoder<T> entityDecoder, final Result result) throws IOException {
         if (type.isMap()) {
             throw new IllegalArgumentException("Map type is not supported for HBase result conversion");
         }
@@ -887,439 +1335,83 @@ public final class HBaseExecutor {
         // Don't call result.advance() here as the empty check: a non-empty Result always has at least one cell,
         // and this method may be entered after the caller (3-arg toValue) already advanced the Result's internal
         // cell cursor. A second advance() would skip/consume the only cell of a single-cell Result and make it
-        // look empty. Both branches below call result.cellScanner() which resets the cursor before reading.
+        // look empty. The bean branch reads Result.rawCells() and the single-value branch calls result.cellScanner(),
+        // which resets the cursor, so neither depends on the cursor position.
         if (result.isEmpty()) {
             return type.defaultValue();
         }
 
         if (type.isBean()) {
-            final Object entity = entityInfo.createBeanResult();
+            return entityDecoder.decode(result);
+        } else {
             final CellScanner cellScanner = result.cellScanner();
 
-            Map<String, Map<String, Type<?>>> familyColumnValueTypeMap = null;
-            Map<String, Map<String, Collection<HBaseColumn<?>>>> familyColumnCollectionMap = null;
-            Map<String, Map<String, Map<Long, HBaseColumn<?>>>> familyColumnMapMap = null;
-
-            Object rowKey = null;
-            String family = null;
-            String qualifier = null;
-            String fieldName = null;
-            PropInfo familyPropInfo = null;
-            PropInfo columnPropInfo = null;
-            Type<?> columnValueType = null;
-            Map<String, Tuple2<String, Boolean>> familyTPMap = null;
-            Tuple2<String, Boolean> familyTP = null;
-            Set<String> assignedSingleVersionColumns = null;
-
-            Map<String, Type<?>> columnValueTypeMap = null;
-            Collection<HBaseColumn<?>> columnColl = null;
-            Map<String, Collection<HBaseColumn<?>>> columnCollectionMap = null;
-            Map<Long, HBaseColumn<?>> columnMap = null;
-            Map<String, Map<Long, HBaseColumn<?>>> columnMapMap = null;
-            HBaseColumn<?> column = null;
-
-            while (cellScanner.advance()) {
-                final Cell cell = cellScanner.current();
-
-                if (rowKeyType != null && rowKey == null) {
-                    rowKey = getRowKeyValue(cell, rowKeyType);
-                    Beans.setPropValue(entity, rowKeySetMethod, rowKey);
-                }
+            if (!cellScanner.advance()) {
+                return type.defaultValue();
+            }
 
-                family = getFamilyString(cell);
-                qualifier = getQualifierString(cell);
+            final Cell cell = cellScanner.current();
 
-                // .....................................................................................
-                columnMapMap = familyColumnMapMap == null ? null : familyColumnMapMap.get(family);
+            final T value = (T) getCellValue(cell, type);
 
-                if (N.notEmpty(columnMapMap)) {
-                    columnMap = columnMapMap.get(qualifier);
+            if (cellScanner.advance()) {
+                final Cell extraCell = cellScanner.current();
+                throw new IllegalArgumentException(
+                        "Cannot convert a result with more than one cell to class: " + ClassUtil.getCanonicalClassName(type.javaType())
+                                + ". Found unexpected extra column: " + getFamilyString(extraCell) + ":" + getQualifierString(extraCell));
+            }
 
-                    if (N.notEmpty(columnMap)) {
-                        final Map<String, Type<?>> familyTypeMap = familyColumnValueTypeMap.get(family);
-                        if (familyTypeMap != null) {
-                            columnValueType = familyTypeMap.get(qualifier);
-                            column = HBaseColumn.valueOf(getCellValue(cell, columnValueType), cell.getTimestamp()); //NOSONAR
-                            columnMap.put(column.version(), column);
+            return value;
+        }
+    }
 
-                            continue;
-                        }
-                    }
-                }
+    private static <T> Function<Result, T> createRowMapper(final Class<T> targetType) {
+        return t -> toValue(t, targetType);
+    }
 
-                // .....................................................................................
-                columnCollectionMap = familyColumnCollectionMap == null ? null : familyColumnCollectionMap.get(family);
+    private static <T> Stream<T> mapResults(final Stream<Result> results, final Class<T> targetType) {
+        return results.filter(result -> !result.isEmpty()).map(createRowMapper(targetType));
+    }
 
-                if (N.notEmpty(columnCollectionMap)) {
-                    columnColl = columnCollectionMap.get(qualifier);
+    // ByteBuffer is special-cased to mirror the write side (toValueBytes stores a ByteBuffer's raw remaining
+    // bytes): reading it back through Type.valueOf(String) would base64-decode the UTF-8 string of those raw
+    // bytes and silently corrupt the value.
+    static Object getRowKeyValue(final Cell cell, final Type<?> targetType) {
+        return getRowKeyValue(cell.getRowArray(), cell.getRowOffset(), cell.getRowLength(), targetType);
+    }
 
-                    if (N.notEmpty(columnColl)) {
-                        final Map<String, Type<?>> familyTypeMap = familyColumnValueTypeMap.get(family);
-                        if (familyTypeMap != null) {
-                            columnValueType = familyTypeMap.get(qualifier);
-                            column = HBaseColumn.valueOf(getCellValue(cell, columnValueType), cell.getTimestamp());
-                            columnColl.add(column);
+    static Object getRowKeyValue(final byte[] bytes, final int offset, final int len, final Type<?> targetType) {
+        if (byte[].class.equals(targetType.javaType())) {
+            return copyOf(bytes, offset, len);
+        } else if (ByteBuffer.class.equals(targetType.javaType())) {
+            return ByteBuffer.wrap(copyOf(bytes, offset, len));
+        } else {
+            return targetType.valueOf(toRowKeyString(bytes, offset, len));
+        }
+    }
 
-                            continue;
-                        }
-                    }
-                }
+    private static Object getCellValue(final Cell cell, final Type<?> targetType) {
+        return HBaseCellCodec.STRING.decode(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength(), targetType);
+    }
 
-                // .....................................................................................
-                familyTPMap = familyFieldNameMap.get(family);
+    private static byte[] copyOf(final byte[] bytes, final int offset, final int len) {
+        final byte[] result = new byte[len];
+        System.arraycopy(bytes, offset, result, 0, len);
+        return result;
+    }
 
-                // ignore unknown column family.
-                if (familyTPMap == null) {
-                    continue;
-                }
-
-                familyTP = familyTPMap.get(qualifier);
-
-                if (familyTP == null) {
-                    familyTP = familyTPMap.get(EMPTY_QUALIFIER);
-
-                    // The family map keeps a single EMPTY_QUALIFIER fallback entry which the last-registered
-                    // bean-typed property sharing this family overwrites. When the fallback's bean class doesn't
-                    // own this qualifier, resolve it against each candidate bean property of the family so cells
-                    // of the other nested beans are not dropped or misrouted.
-                    if (familyTP != null) {
-                        final PropInfo fallbackPropInfo = entityInfo.getPropInfo(familyTP._1);
-
-                        // This branch is only reached with a non-empty, unknown qualifier (the empty qualifier
-                        // resolves directly above). The fallback entry exists for bean-typed properties, whose
-                        // nested field names are the qualifiers; routing a foreign qualifier into a scalar or
-                        // versioned property would overwrite its real (empty-qualifier) cell value, so ignore it.
-                        if (fallbackPropInfo == null || !fallbackPropInfo.jsonXmlType.isBean()) {
-                            familyTP = null;
-                        } else if (!getFamilyColumnFieldNameMap(fallbackPropInfo.jsonXmlType.javaType())._2.containsKey(qualifier)) {
-                            for (final Tuple2<String, Boolean> candidateTP : familyTPMap.values()) {
-                                final PropInfo candidatePropInfo = candidateTP == familyTP ? null : entityInfo.getPropInfo(candidateTP._1);
-
-                                if (candidatePropInfo != null && candidatePropInfo.jsonXmlType.isBean()
-                                        && getFamilyColumnFieldNameMap(candidatePropInfo.jsonXmlType.javaType())._2.containsKey(qualifier)) {
-                                    familyTP = candidateTP;
-                                    break;
-                                }
-                            }
-                        }
-                    }
-                }
-
-                // ignore the unknown column:
-                if (familyTP == null) {
-                    continue;
-                }
-
-                fieldName = familyTP._1;
-                familyPropInfo = entityInfo.getPropInfo(fieldName);
-
-                // ignore the unknown field/property:
-                if (familyPropInfo == null) {
-                    continue;
-                }
-
-                if (familyPropInfo.jsonXmlType.isBean() && !familyTP._2) {
-                    final Class<?> propEntityClass = familyPropInfo.jsonXmlType.javaType();
-                    final Map<String, String> propEntityColumnFieldNameMap = getFamilyColumnFieldNameMap(propEntityClass)._2;
-                    final BeanInfo propBeanInfo = ParserUtil.getBeanInfo(propEntityClass);
-                    Object propEntity = familyPropInfo.getPropValue(entity);
-
-                    if (propEntity == null) {
-                        propEntity = N.newInstance(propEntityClass);
-
-                        familyPropInfo.setPropValue(entity, propEntity);
-                    }
-
-                    columnPropInfo = propBeanInfo.getPropInfo(propEntityColumnFieldNameMap.getOrDefault(qualifier, qualifier));
-
-                    // ignore the unknown property.
-                    if (columnPropInfo == null) {
-                        continue;
-                    }
-
-                    if (columnPropInfo.jsonXmlType.isMap() && columnPropInfo.jsonXmlType.parameterTypes().get(1).javaType().equals(HBaseColumn.class)) {
-                        columnValueType = columnPropInfo.jsonXmlType.parameterTypes().get(1).elementType();
-
-                        if (familyColumnValueTypeMap == null) {
-                            familyColumnValueTypeMap = new HashMap<>();
-                        } else {
-                            columnValueTypeMap = familyColumnValueTypeMap.get(family);
-                        }
-
-                        if (columnValueTypeMap == null) {
-                            columnValueTypeMap = new HashMap<>();
-                            familyColumnValueTypeMap.put(family, columnValueTypeMap);
-                        }
-
-                        columnValueTypeMap.put(qualifier, columnValueType);
-                        columnMap = N.<Long, HBaseColumn<?>> newMap((Class) columnPropInfo.jsonXmlType.javaType());
-                        columnPropInfo.setPropValue(propEntity, columnMap);
-
-                        if (columnMapMap == null) {
-                            if (familyColumnMapMap == null) {
-                                familyColumnMapMap = new HashMap<>();
-                            }
-
-                            columnMapMap = new HashMap<>();
-                            familyColumnMapMap.put(family, columnMapMap);
-                        }
-
-                        columnMapMap.put(qualifier, columnMap);
-
-                        column = HBaseColumn.valueOf(getCellValue(cell, columnValueType), cell.getTimestamp());
-                        columnMap.put(column.version(), column);
-                    } else if (columnPropInfo.jsonXmlType.isCollection()
-                            && columnPropInfo.jsonXmlType.parameterTypes().get(0).javaType().equals(HBaseColumn.class)) {
-                        columnValueType = columnPropInfo.jsonXmlType.parameterTypes().get(0).elementType();
-
-                        if (familyColumnValueTypeMap == null) {
-                            familyColumnValueTypeMap = new HashMap<>();
-                        } else {
-                            columnValueTypeMap = familyColumnValueTypeMap.get(family);
-                        }
-
-                        if (columnValueTypeMap == null) {
-                            columnValueTypeMap = new HashMap<>();
-                            familyColumnValueTypeMap.put(family, columnValueTypeMap);
-                        }
-
-                        columnValueTypeMap.put(qualifier, columnValueType);
-                        columnColl = N.newCollection((Class) columnPropInfo.jsonXmlType.javaType());
-                        columnPropInfo.setPropValue(propEntity, columnColl);
-
-                        if (columnCollectionMap == null) {
-                            if (familyColumnCollectionMap == null) {
-                                familyColumnCollectionMap = new HashMap<>();
-                            }
-
-                            columnCollectionMap = new HashMap<>();
-                            familyColumnCollectionMap.put(family, columnCollectionMap);
-                        }
-
-                        columnCollectionMap.put(qualifier, columnColl);
-
-                        column = HBaseColumn.valueOf(getCellValue(cell, columnValueType), cell.getTimestamp());
-                        columnColl.add(column);
-                    } else if (columnPropInfo.jsonXmlType.javaType().equals(HBaseColumn.class)) {
-                        if (familyColumnValueTypeMap == null) {
-                            familyColumnValueTypeMap = new HashMap<>();
-                        } else {
-                            columnValueTypeMap = familyColumnValueTypeMap.get(family);
-                        }
-
-                        if (columnValueTypeMap == null) {
-                            columnValueTypeMap = new HashMap<>();
-                            familyColumnValueTypeMap.put(family, columnValueTypeMap);
-                        }
-
-                        columnValueType = columnValueTypeMap.get(qualifier);
-
-                        if (columnValueType == null) {
-                            columnValueType = columnPropInfo.jsonXmlType.parameterTypes().get(0);
-                            columnValueTypeMap.put(qualifier, columnValueType);
-                        }
-
-                        if (assignedSingleVersionColumns == null) {
-                            assignedSingleVersionColumns = new HashSet<>();
-                        }
-
-                        if (assignedSingleVersionColumns.add(family + '\0' + qualifier) == false) {
-                            continue;
-                        }
-
-                        column = HBaseColumn.valueOf(getCellValue(cell, columnValueType), cell.getTimestamp());
-
-                        columnPropInfo.setPropValue(propEntity, column);
-                    } else {
-                        if (assignedSingleVersionColumns == null) {
-                            assignedSingleVersionColumns = new HashSet<>();
-                        }
-
-                        if (assignedSingleVersionColumns.add(family + '\0' + qualifier) == false) {
-                            continue;
-                        }
-
-                        columnPropInfo.setPropValue(propEntity, getCellValue(cell, columnPropInfo.jsonXmlType));
-                    }
-
-                } else if (familyPropInfo.jsonXmlType.isMap() && familyPropInfo.jsonXmlType.parameterTypes().get(1).javaType().equals(HBaseColumn.class)) {
-                    columnValueType = familyPropInfo.jsonXmlType.parameterTypes().get(1).elementType();
-
-                    if (familyColumnValueTypeMap == null) {
-                        familyColumnValueTypeMap = new HashMap<>();
-                    } else {
-                        columnValueTypeMap = familyColumnValueTypeMap.get(family);
-                    }
-
-                    if (columnValueTypeMap == null) {
-                        columnValueTypeMap = new HashMap<>();
-                        familyColumnValueTypeMap.put(family, columnValueTypeMap);
-                    }
-
-                    columnValueTypeMap.put(qualifier, columnValueType);
-                    columnMap = N.<Long, HBaseColumn<?>> newMap((Class) familyPropInfo.jsonXmlType.javaType());
-                    familyPropInfo.setPropValue(entity, columnMap);
-
-                    if (columnMapMap == null) {
-                        if (familyColumnMapMap == null) {
-                            familyColumnMapMap = new HashMap<>();
-                        }
-
-                        columnMapMap = new HashMap<>();
-                        familyColumnMapMap.put(family, columnMapMap);
-                    }
-
-                    columnMapMap.put(qualifier, columnMap);
-
-                    column = HBaseColumn.valueOf(getCellValue(cell, columnValueType), cell.getTimestamp());
-                    columnMap.put(column.version(), column);
-                } else if (familyPropInfo.jsonXmlType.isCollection()
-                        && familyPropInfo.jsonXmlType.parameterTypes().get(0).javaType().equals(HBaseColumn.class)) {
-                    columnValueType = familyPropInfo.jsonXmlType.parameterTypes().get(0).elementType();
-
-                    if (familyColumnValueTypeMap == null) {
-                        familyColumnValueTypeMap = new HashMap<>();
-                    } else {
-                        columnValueTypeMap = familyColumnValueTypeMap.get(family);
-                    }
-
-                    if (columnValueTypeMap == null) {
-                        columnValueTypeMap = new HashMap<>();
-                        familyColumnValueTypeMap.put(family, columnValueTypeMap);
-                    }
-
-                    columnValueTypeMap.put(qualifier, columnValueType);
-                    columnColl = N.newCollection((Class) familyPropInfo.jsonXmlType.javaType());
-                    familyPropInfo.setPropValue(entity, columnColl);
-
-                    if (columnCollectionMap == null) {
-                        if (familyColumnCollectionMap == null) {
-                            familyColumnCollectionMap = new HashMap<>();
-                        }
-
-                        columnCollectionMap = new HashMap<>();
-                        familyColumnCollectionMap.put(family, columnCollectionMap);
-                    }
-
-                    columnCollectionMap.put(qualifier, columnColl);
-
-                    column = HBaseColumn.valueOf(getCellValue(cell, columnValueType), cell.getTimestamp());
-                    columnColl.add(column);
-                } else if (familyPropInfo.jsonXmlType.javaType().equals(HBaseColumn.class)) {
-                    if (familyColumnValueTypeMap == null) {
-                        familyColumnValueTypeMap = new HashMap<>();
-                    } else {
-                        columnValueTypeMap = familyColumnValueTypeMap.get(family);
-                    }
-
-                    if (columnValueTypeMap == null) {
-                        columnValueTypeMap = new HashMap<>();
-                        familyColumnValueTypeMap.put(family, columnValueTypeMap);
-                    }
-
-                    columnValueType = columnValueTypeMap.get(qualifier);
-
-                    if (columnValueType == null) {
-                        columnValueType = familyPropInfo.jsonXmlType.parameterTypes().get(0);
-                        columnValueTypeMap.put(qualifier, columnValueType);
-                    }
-
-                    if (assignedSingleVersionColumns == null) {
-                        assignedSingleVersionColumns = new HashSet<>();
-                    }
-
-                    if (assignedSingleVersionColumns.add(family + '\0' + qualifier) == false) {
-                        continue;
-                    }
-
-                    column = HBaseColumn.valueOf(getCellValue(cell, columnValueType), cell.getTimestamp());
-
-                    familyPropInfo.setPropValue(entity, column);
-                } else {
-                    if (assignedSingleVersionColumns == null) {
-                        assignedSingleVersionColumns = new HashSet<>();
-                    }
-
-                    if (assignedSingleVersionColumns.add(family + '\0' + qualifier) == false) {
-                        continue;
-                    }
-
-                    familyPropInfo.setPropValue(entity, getCellValue(cell, familyPropInfo.jsonXmlType));
-                }
-            }
-
-            return entityInfo.finishBeanResult(entity);
-        } else {
-            final CellScanner cellScanner = result.cellScanner();
-
-            if (!cellScanner.advance()) {
-                return type.defaultValue();
-            }
-
-            final Cell cell = cellScanner.current();
-
-            final T value = (T) getCellValue(cell, type);
-
-            if (cellScanner.advance()) {
-                final Cell extraCell = cellScanner.current();
-                throw new IllegalArgumentException(
-                        "Cannot convert a result with more than one cell to class: " + ClassUtil.getCanonicalClassName(type.javaType())
-                                + ". Found unexpected extra column: " + getFamilyString(extraCell) + ":" + getQualifierString(extraCell));
-            }
-
-            return value;
-        }
-    }
-
-    private static <T> Function<Result, T> createRowMapper(final Class<T> targetType) {
-        return t -> toValue(t, targetType);
-    }
-
-    private static <T> Stream<T> mapResults(final Stream<Result> results, final Class<T> targetType) {
-        return results.filter(result -> !result.isEmpty()).map(createRowMapper(targetType));
-    }
-
-    // ByteBuffer is special-cased to mirror the write side (toValueBytes stores a ByteBuffer's raw remaining
-    // bytes): reading it back through Type.valueOf(String) would base64-decode the UTF-8 string of those raw
-    // bytes and silently corrupt the value.
-    private static Object getRowKeyValue(final Cell cell, final Type<?> targetType) {
-        if (byte[].class.equals(targetType.javaType())) {
-            return copyOf(cell.getRowArray(), cell.getRowOffset(), cell.getRowLength());
-        } else if (ByteBuffer.class.equals(targetType.javaType())) {
-            return ByteBuffer.wrap(copyOf(cell.getRowArray(), cell.getRowOffset(), cell.getRowLength()));
-        } else {
-            return targetType.valueOf(getRowKeyString(cell));
-        }
-    }
-
-    private static Object getCellValue(final Cell cell, final Type<?> targetType) {
-        if (byte[].class.equals(targetType.javaType())) {
-            return copyOf(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
-        } else if (ByteBuffer.class.equals(targetType.javaType())) {
-            return ByteBuffer.wrap(copyOf(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength()));
-        } else {
-            return targetType.valueOf(getValueString(cell));
-        }
-    }
-
-    private static byte[] copyOf(final byte[] bytes, final int offset, final int len) {
-        final byte[] result = new byte[len];
-        System.arraycopy(bytes, offset, result, 0, len);
-        return result;
-    }
-
-    /**
-     * Verifies that {@code targetType} is a JavaBean entity class with getter/setter methods.
-     *
-     * @param targetType the class to validate
-     * @throws IllegalArgumentException if {@code targetType} is not a bean class
-     */
-    static void checkEntityClass(final Class<?> targetType) {
-        if (!Beans.isBeanClass(targetType)) {
-            throw new IllegalArgumentException(
-                    "Unsupported type: " + ClassUtil.getCanonicalClassName(targetType) + ". Only bean classes with getter/setter methods are supported");
-        }
-    }
+    /**
+     * Verifies that {@code targetType} is a JavaBean entity class with getter/setter methods.
+     *
+     * @param targetType the class to validate
+     * @throws IllegalArgumentException if {@code targetType} is not a bean class
+     */
+    static void checkEntityClass(final Class<?> targetType) {
+        if (!Beans.isBeanClass(targetType)) {
+            throw new IllegalArgumentException(
+                    "Unsupported type: " + ClassUtil.getCanonicalClassName(targetType) + ". Only bean classes with getter/setter methods are supported");
+        }
+    }
 
     private static String formatName(final String name, final NamingPolicy namingPolicy) {
         return namingPolicy == NamingPolicy.CAMEL_CASE ? name : namingPolicy.convert(name);
@@ -1331,7 +1423,8 @@ public final class HBaseExecutor {
      *
      * <p>Useful for direct access to HBase APIs that are not surfaced by this executor.
      * Note that {@link Connection#getTable(TableName)} returns a new lightweight wrapper
-     * on each call — it does not validate that the table exists.</p>
+     * on each call — it does not validate that the table exists. The returned handle is never
+     * taken from, or added to, the {@link #tableCache()} of this executor.</p>
      *
      * <p><strong>Resource ownership:</strong> the caller owns the returned {@link Table}
      * and must close it (typically via try-with-resources) to release any associated
@@ -1357,12 +1450,115 @@ public final class HBaseExecutor {
         }
 
         try {
-            return conn.getTable(TableName.valueOf(tableName));
+            return conn.getTable(HBaseTableCache.toTableName(tableName));
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    private final Map<String, HBaseBufferedWriter> bufferedWriterPool = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the {@link HBaseBufferedWriter} of the specified table shared by all callers of this executor, creating
+     * it with default {@link HBaseBufferedWriter.Settings} on first use.
+     *
+     * <p>The shared writer lives until this executor is closed, which flushes and closes it. Writes through it are
+     * buffered and sent in batches; call {@link HBaseBufferedWriter#flush()} to wait until they're written.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * executor.bufferedWriter("events").put(AnyPut.of(eventId).addColumn("e", "payload", payload));
+     * }</pre>
+     *
+     * @param tableName the name of the HBase table to write to
+     * @return the shared buffered writer of {@code tableName}
+     * @throws IllegalArgumentException if {@code tableName} is {@code null}
+     * @throws UncheckedIOException if the underlying {@link org.apache.hadoop.hbase.client.BufferedMutator} can't be created
+     * @see #createBufferedWriter(String, HBaseBufferedWriter.Settings)
+     */
+    public HBaseBufferedWriter bufferedWriter(final String tableName) throws UncheckedIOException {
+        N.checkArgNotNull(tableName, "tableName");
+
+        return bufferedWriterPool.computeIfAbsent(tableName, k -> new HBaseBufferedWriter(conn, k, new HBaseBufferedWriter.Settings()));
+    }
+
+    /**
+     * Creates a new {@link HBaseBufferedWriter} for the specified table with the specified settings. The returned
+     * writer is owned by the caller, which must close it.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * HBaseBufferedWriter.Settings settings = new HBaseBufferedWriter.Settings()
+     *         .writeBufferSize(8L * 1024 * 1024)
+     *         .failureListener((mutation, cause) -> deadLetters.add(mutation));
+     *
+     * try (HBaseBufferedWriter writer = executor.createBufferedWriter("events", settings)) {
+     *     events.forEach(e -> writer.put(toPut(e)));
+     * }
+     * }</pre>
+     *
+     * @param tableName the name of the HBase table to write to
+     * @param settings the settings of the writer
+     * @return a new buffered writer of {@code tableName}
+     * @throws IllegalArgumentException if {@code tableName} or {@code settings} is {@code null}
+     * @throws UncheckedIOException if the underlying {@link org.apache.hadoop.hbase.client.BufferedMutator} can't be created
+     * @see #bufferedWriter(String)
+     */
+    public HBaseBufferedWriter createBufferedWriter(final String tableName, final HBaseBufferedWriter.Settings settings) throws UncheckedIOException {
+        return new HBaseBufferedWriter(conn, tableName, settings);
+    }
+
+    private final Map<String, HBaseCounterAggregator> counterAggregatorPool = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the {@link HBaseCounterAggregator} of the specified table shared by all callers of this executor, creating
+     * it with default {@link HBaseCounterAggregator.Settings} on first use.
+     *
+     * <p>The shared aggregator lives until this executor is closed, which flushes and closes it. Increments through it
+     * are summed per cell in memory and sent in batches; call {@link HBaseCounterAggregator#flush()} to wait until
+     * they're written.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * executor.counterAggregator("page_stats").increment(pageId, "s", "views", 1);
+     * }</pre>
+     *
+     * @param tableName the name of the HBase table to write to
+     * @return the shared counter aggregator of {@code tableName}
+     * @throws IllegalArgumentException if {@code tableName} is {@code null}
+     * @see #createCounterAggregator(String, HBaseCounterAggregator.Settings)
+     */
+    public HBaseCounterAggregator counterAggregator(final String tableName) {
+        N.checkArgNotNull(tableName, "tableName");
+
+        return counterAggregatorPool.computeIfAbsent(tableName, k -> new HBaseCounterAggregator(this, k, new HBaseCounterAggregator.Settings()));
+    }
+
+    /**
+     * Creates a new {@link HBaseCounterAggregator} for the specified table with the specified settings. The returned
+     * aggregator is owned by the caller, which must close it before this executor is closed.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * HBaseCounterAggregator.Settings settings = new HBaseCounterAggregator.Settings()
+     *         .flushInterval(Duration.ofMillis(200))
+     *         .failureListener((increment, cause) -> retryLater.add(increment));
+     *
+     * try (HBaseCounterAggregator counters = executor.createCounterAggregator("page_stats", settings)) {
+     *     views.forEach(pageId -> counters.increment(pageId, "s", "views", 1));
+     * }
+     * }</pre>
+     *
+     * @param tableName the name of the HBase table to write to
+     * @param settings the settings of the aggregator
+     * @return a new counter aggregator of {@code tableName}
+     * @throws IllegalArgumentException if {@code tableName} or {@code settings} is {@code null}
+     * @see #counterAggregator(String)
+     */
+    public HBaseCounterAggregator createCounterAggregator(final String tableName, final HBaseCounterAggregator.Settings settings) {
+        return new HBaseCounterAggregator(this, tableName, settings);
+    }
+
     @SuppressWarnings("rawtypes")
     private final Map<Class<?>, HBaseMapper> mapperPool = new ConcurrentHashMap<>();
 
@@ -1463,8 +1659,23 @@ public final class HBaseExecutor {
         return new HBaseMapper<>(targetEntityClass, this, tableName, namingPolicy);
     }
 
-    private static void closeQuietly(final Table table) {
-        IOUtil.closeQuietly(table);
+    Table borrowTable(final String tableName) throws UncheckedIOException {
+        return instrument(tableName, tableCache.borrow(tableName));
+    }
+
+    void releaseTable(final String tableName, final Table table) {
+        tableCache.release(tableName, InstrumentedTable.unwrap(table));
+    }
+
+    AsyncExecutor asyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Wraps {@code table} so that its calls are reported to the metrics listener, if one is set.
+     */
+    Table instrument(final String tableName, final Table table) {
+        return InstrumentedTable.wrap(tableName, table, metricsListener);
     }
 
     // There is no too much benefit to add method for "Object rowKey"
@@ -1505,14 +1716,14 @@ public final class HBaseExecutor {
      * @see Get
      */
     public boolean exists(final String tableName, final Get get) throws UncheckedIOException {
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             return table.exists(get);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -1545,18 +1756,18 @@ public final class HBaseExecutor {
      */
     public List<Boolean> exists(final String tableName, final List<Get> gets) throws UncheckedIOException {
         if (gets != null && gets.isEmpty()) {
-            TableName.valueOf(tableName); // preserve table-name validation without acquiring a Table
+            HBaseTableCache.toTableName(tableName); // preserve table-name validation without acquiring a Table
             return new ArrayList<>();
         }
 
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             return BooleanList.of(table.exists(gets)).boxed();
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -1651,14 +1862,14 @@ public final class HBaseExecutor {
      * @see Result
      */
     public Result get(final String tableName, final Get get) throws UncheckedIOException {
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             return table.get(get);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -1670,6 +1881,11 @@ public final class HBaseExecutor {
      * as the input Get operations. An empty list returns immediately without acquiring a table
      * handle.</p>
      *
+     * <p>A list larger than the {@linkplain MultiGetSettings#chunkSize() chunk size} of
+     * {@link #getMultiGetSettings()} is grouped by region and sent as chunks of at most that many
+     * Gets, with up to {@linkplain MultiGetSettings#parallelism() parallelism} chunks in flight on the
+     * {@link AsyncExecutor} of this executor and the calling thread.</p>
+     *
      * <p><b>Usage Examples:</b></p>
      * <pre>{@code
      * List<Get> gets = Arrays.asList(
@@ -1690,18 +1906,32 @@ public final class HBaseExecutor {
      */
     public List<Result> get(final String tableName, final List<Get> gets) throws UncheckedIOException {
         if (gets != null && gets.isEmpty()) {
-            TableName.valueOf(tableName); // preserve table-name validation without acquiring a Table
+            HBaseTableCache.toTableName(tableName); // preserve table-name validation without acquiring a Table
             return new ArrayList<>();
         }
 
-        final Table table = getTable(tableName);
+        final MultiGetSettings settings = multiGetSettings;
+
+        if (gets != null && gets.size() > settings.chunkSize()) {
+            final byte[][] regionStartKeys;
+
+            try (RegionLocator regionLocator = conn.getRegionLocator(HBaseTableCache.toTableName(tableName))) {
+                regionStartKeys = regionLocator.getStartKeys();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            return ChunkedMultiGet.get(this, tableName, gets, regionStartKeys, settings.chunkSize(), settings.parallelism(), asyncExecutor);
+        }
+
+        final Table table = borrowTable(tableName);
 
         try {
             return N.toList(table.get(gets));
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -2002,6 +2232,11 @@ public final class HBaseExecutor {
      * <p>This is a convenience wrapper around {@link #scan(String, Scan)} that accepts
      * an AnyScan instance, which provides a fluent API for building Scan operations.</p>
      *
+     * <p>If {@link AnyScan#setClientPrefetchRows(int)} is set, the rows are read from the
+     * {@link ResultScanner} by a task on the {@link AsyncExecutor} of this executor, up to that
+     * many rows ahead of the consumer. Closing the stream stops the task and closes the scanner and
+     * table; a failure of the task is rethrown from the stream.</p>
+     *
      * <p><b>Usage Examples:</b></p>
      * <pre>{@code
      * AnyScan anyScan = AnyScan.create()
@@ -2021,9 +2256,32 @@ public final class HBaseExecutor {
      * @see #scan(String, Scan)
      */
     public Stream<Result> scan(final String tableName, final AnyScan anyScan) {
+        if (anyScan.getClientPrefetchRows() > 0) {
+            return prefetchScan(tableName, anyScan.val(), anyScan.getClientPrefetchRows());
+        }
+
         return scan(tableName, anyScan.val());
     }
 
+    private Stream<Result> prefetchScan(final String tableName, final Scan scan, final int prefetchRows) {
+        N.checkArgNotNull(tableName, "tableName");
+
+        final ObjIteratorEx<Result> lazyIter = ObjIteratorEx.defer(new Supplier<ObjIteratorEx<Result>>() {
+            private ObjIteratorEx<Result> internalIter = null;
+
+            @Override
+            public ObjIteratorEx<Result> get() {
+                if (internalIter == null) {
+                    internalIter = new ParallelScanIterator(HBaseExecutor.this, tableName, N.asList(scan), 1, true, asyncExecutor, prefetchRows);
+                }
+
+                return internalIter;
+            }
+        });
+
+        return Stream.of(lazyIter).onClose(lazyIter::closeResource);
+    }
+
     /**
      * Performs a scan against the specified HBase table and returns a lazy {@link Stream}
      * of {@link Result}s.
@@ -2070,7 +2328,7 @@ public final class HBaseExecutor {
             @Override
             public ObjIteratorEx<Result> get() {
                 if (internalIter == null) {
-                    final Table table = getTable(tableName);
+                    final Table table = borrowTable(tableName);
                     ResultScanner scannerToClose = null;
 
                     try {
@@ -2094,7 +2352,7 @@ public final class HBaseExecutor {
                                 try {
                                     IOUtil.closeQuietly(resultScanner);
                                 } finally {
-                                    IOUtil.closeQuietly(table);
+                                    releaseTable(tableName, table);
                                 }
                             }
                         };
@@ -2105,7 +2363,7 @@ public final class HBaseExecutor {
                             try {
                                 IOUtil.closeQuietly(scannerToClose);
                             } finally {
-                                IOUtil.closeQuietly(table);
+                                releaseTable(tableName, table);
                             }
                         }
                     }
@@ -2286,16 +2544,204 @@ public final class HBaseExecutor {
     }
 
     /**
-     * Stores data in HBase using the specified Put operation.
+     * Scans the specified table straight into a column-oriented {@link Dataset}, with one column per property of
+     * {@code entityClass}, in declaration order.
      *
-     * <p>This method executes a single Put operation to store data in the specified table.
-     * The Put operation can contain multiple column families and qualifiers with their values.</p>
+     * <p>The cells of each row are decoded, with the same mapping as {@link #scan(String, AnyScan, Class)}, directly into
+     * the per-property column lists: no entity is created per row and no {@link Result} is kept once it's decoded, so a
+     * scan of millions of rows holds only the column values. Only the values of nested bean properties are created
+     * per row. A property without a cell in a row is {@code null} in that row.</p>
      *
      * <p><b>Usage Examples:</b></p>
      * <pre>{@code
-     * Put put = new Put(Bytes.toBytes("user123"));
-     * put.addColumn(Bytes.toBytes("info"), Bytes.toBytes("name"), Bytes.toBytes("John Doe"));
-     * put.addColumn(Bytes.toBytes("info"), Bytes.toBytes("email"), Bytes.toBytes("john@example.com"));
+     * Dataset ds = executor.extractData("events", AnyScan.create().addFamily("e").setCaching(1000), Event.class);
+     * ds.size();                          // number of rows scanned
+     * ds.getColumn("type");               // the type of each event
+     * }</pre>
+     *
+     * @param tableName the name of the HBase table to scan
+     * @param anyScan the AnyScan operation defining the scan parameters
+     * @param entityClass the entity class whose properties define the columns and their types
+     * @return a {@link RowDataset} backed by per-property column lists
+     * @throws IllegalArgumentException if {@code entityClass} is not a bean class
+     * @throws UncheckedIOException if an I/O error occurs during the scan
+     * @see #scan(String, AnyScan, Class)
+     */
+    public Dataset extractData(final String tableName, final AnyScan anyScan, final Class<?> entityClass) throws UncheckedIOException {
+        N.checkArgNotNull(anyScan, "anyScan");
+        N.checkArgument(Beans.isBeanClass(entityClass), "{} is not a bean class", entityClass);
+
+        final HBaseEntityDecoder<?> entityDecoder = getEntityDecoder(entityClass);
+        final List<String> columnNameList = entityDecoder.columnNames();
+        final List<List<Object>> columnList = new ArrayList<>(columnNameList.size());
+
+        for (int i = 0, size = columnNameList.size(); i < size; i++) {
+            columnList.add(new ArrayList<>());
+        }
+
+        try (Stream<Result> results = scan(tableName, anyScan)) {
+            results.forEach(result -> {
+                if (!result.isEmpty()) {
+                    entityDecoder.decodeInto(result, columnList);
+                }
+            });
+        }
+
+        return new RowDataset(columnNameList, columnList);
+    }
+
+    /**
+     * Scans the specified table with up to {@code parallelism} concurrent sub-scans, one per region overlapped by
+     * {@code anyScan}, and returns the results in row-key order.
+     *
+     * <p>Equivalent to {@code parallelScan(tableName, anyScan, parallelism, true)}.</p>
+     *
+     * @param tableName the name of the HBase table to scan
+     * @param anyScan the AnyScan operation defining the scan parameters
+     * @param parallelism the maximum number of sub-scans running at the same time
+     * @return a lazy, closable {@link Stream} of HBase {@link Result}s
+     * @throws IllegalArgumentException if {@code tableName} or {@code anyScan} is {@code null}, {@code parallelism} is
+     *         not positive, or the scan is reversed
+     * @see #parallelScan(String, AnyScan, int, boolean)
+     */
+    public Stream<Result> parallelScan(final String tableName, final AnyScan anyScan, final int parallelism) {
+        return parallelScan(tableName, anyScan, parallelism, true);
+    }
+
+    /**
+     * Scans the specified table with up to {@code parallelism} concurrent sub-scans, one per region overlapped by
+     * {@code anyScan}, so that a large scan is served by several RegionServers at the same time instead of one region
+     * after another.
+     *
+     * <p>The row range of {@code anyScan} is split on the region boundaries reported by the table's
+     * {@link org.apache.hadoop.hbase.client.RegionLocator} when iteration begins. Each sub-scan is a copy of the scan
+     * (same families, columns, filter, caching, time range, etc.) restricted to one region, and runs on its own
+     * {@link Table} and {@link ResultScanner} on the {@link AsyncExecutor} of this executor. The results are merged:</p>
+     * <ul>
+     *   <li>{@code ordered == true}: region by region, i.e. in the same row-key order as {@link #scan(String, AnyScan)}.
+     *       Later regions are fetched ahead, up to {@code parallelism - 1} regions ahead of the one being consumed.</li>
+     *   <li>{@code ordered == false}: in arrival order, which keeps all {@code parallelism} sub-scans busy regardless
+     *       of how fast each region returns its rows.</li>
+     * </ul>
+     *
+     * <p>Each sub-scan buffers up to {@value ParallelScanIterator#BUFFER_SIZE_PER_SUB_SCAN} results ahead of the
+     * consumer. A filter (e.g. {@code PageFilter}) or a limit set on the scan applies per sub-scan; a limit is also
+     * applied to the merged stream. Reversed scans are not supported.</p>
+     *
+     * <p><strong>Resource ownership:</strong> closing the returned stream stops the sub-scans which haven't
+     * started, and waits for the running ones to close their scanners and tables. Always consume the stream inside a
+     * try-with-resources block. The first failure of a sub-scan is rethrown from the stream.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * AnyScan anyScan = AnyScan.create().addFamily("info").setCaching(500);
+     *
+     * try (Stream<Result> stream = executor.parallelScan("users", anyScan, 8, false)) {
+     *     stream.forEach(exporter::write);
+     * }
+     * }</pre>
+     *
+     * @param tableName the name of the HBase table to scan
+     * @param anyScan the AnyScan operation defining the scan parameters
+     * @param parallelism the maximum number of sub-scans running at the same time
+     * @param ordered {@code true} to return the results in row-key order, {@code false} to return them as they arrive
+     * @return a lazy, closable {@link Stream} of HBase {@link Result}s
+     * @throws IllegalArgumentException if {@code tableName} or {@code anyScan} is {@code null}, {@code parallelism} is
+     *         not positive, or the scan is reversed
+     * @throws UncheckedIOException if the region boundaries of the table can't be read
+     * @see #scan(String, AnyScan)
+     */
+    public Stream<Result> parallelScan(final String tableName, final AnyScan anyScan, final int parallelism, final boolean ordered) {
+        N.checkArgNotNull(tableName, "tableName");
+        N.checkArgNotNull(anyScan, "anyScan");
+        N.checkArgPositive(parallelism, "parallelism");
+
+        final Scan scan = anyScan.val();
+
+        N.checkArgument(!scan.isReversed(), "Reversed scan is not supported by parallelScan");
+
+        final ObjIteratorEx<Result> lazyIter = ObjIteratorEx.defer(new Supplier<ObjIteratorEx<Result>>() {
+            private ObjIteratorEx<Result> internalIter = null;
+
+            @Override
+            public ObjIteratorEx<Result> get() {
+                if (internalIter == null) {
+                    try (RegionLocator regionLocator = conn.getRegionLocator(HBaseTableCache.toTableName(tableName))) {
+                        final Pair<byte[][], byte[][]> startEndKeys = regionLocator.getStartEndKeys();
+                        final List<Scan> subScans = ParallelScanIterator.split(scan, startEndKeys.getFirst(), startEndKeys.getSecond());
+
+                        internalIter = new ParallelScanIterator(HBaseExecutor.this, tableName, subScans, parallelism, ordered, asyncExecutor,
+                                ParallelScanIterator.BUFFER_SIZE_PER_SUB_SCAN);
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                return internalIter;
+            }
+        });
+
+        final Stream<Result> stream = Stream.of(lazyIter).onClose(lazyIter::closeResource);
+
+        return scan.getLimit() > 0 ? stream.limit(scan.getLimit()) : stream;
+    }
+
+    /**
+     * Scans the specified table with up to {@code parallelism} concurrent region sub-scans and converts the results to
+     * the specified target type, in row-key order.
+     *
+     * <p>Equivalent to {@code parallelScan(tableName, anyScan, parallelism, true, targetType)}.</p>
+     *
+     * @param <T> the target type for conversion
+     * @param tableName the name of the HBase table to scan
+     * @param anyScan the AnyScan operation defining the scan parameters
+     * @param parallelism the maximum number of sub-scans running at the same time
+     * @param targetType the class to convert each result to
+     * @return a lazy stream of converted objects
+     * @see #parallelScan(String, AnyScan, int, boolean)
+     */
+    public <T> Stream<T> parallelScan(final String tableName, final AnyScan anyScan, final int parallelism, final Class<T> targetType) {
+        return parallelScan(tableName, anyScan, parallelism, true, targetType);
+    }
+
+    /**
+     * Scans the specified table with up to {@code parallelism} concurrent region sub-scans and converts the results to
+     * the specified target type. See {@link #parallelScan(String, AnyScan, int, boolean)} for how the scan is split and
+     * merged. Empty results are omitted, as in {@link #scan(String, AnyScan, Class)}.
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * try (Stream<User> users = executor.parallelScan("users", AnyScan.create(), 8, false, User.class)) {
+     *     users.forEach(exporter::write);
+     * }
+     * }</pre>
+     *
+     * @param <T> the target type for conversion
+     * @param tableName the name of the HBase table to scan
+     * @param anyScan the AnyScan operation defining the scan parameters
+     * @param parallelism the maximum number of sub-scans running at the same time
+     * @param ordered {@code true} to return the results in row-key order, {@code false} to return them as they arrive
+     * @param targetType the class to convert each result to
+     * @return a lazy stream of converted objects
+     * @see #parallelScan(String, AnyScan, int, boolean)
+     */
+    public <T> Stream<T> parallelScan(final String tableName, final AnyScan anyScan, final int parallelism, final boolean ordered,
+            final Class<T> targetType) {
+        //noinspection resource
+        return mapResults(parallelScan(tableName, anyScan, parallelism, ordered), targetType);
+    }
+
+    /**
+     * Stores data in HBase using the specified Put operation.
+     *
+     * <p>This method executes a single Put operation to store data in the specified table.
+     * The Put operation can contain multiple column families and qualifiers with their values.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * Put put = new Put(Bytes.toBytes("user123"));
+     * put.addColumn(Bytes.toBytes("info"), Bytes.toBytes("name"), Bytes.toBytes("John Doe"));
+     * put.addColumn(Bytes.toBytes("info"), Bytes.toBytes("email"), Bytes.toBytes("john@example.com"));
      * executor.put("users", put);
      * }</pre>
      *
@@ -2305,14 +2751,14 @@ public final class HBaseExecutor {
      * @see Put
      */
     public void put(final String tableName, final Put put) throws UncheckedIOException {
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             table.put(put);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -2341,18 +2787,18 @@ public final class HBaseExecutor {
      */
     public void put(final String tableName, final List<Put> puts) throws UncheckedIOException {
         if (puts != null && puts.isEmpty()) {
-            TableName.valueOf(tableName); // preserve table-name validation without acquiring a Table
+            HBaseTableCache.toTableName(tableName); // preserve table-name validation without acquiring a Table
             return;
         }
 
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             table.put(puts);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -2408,6 +2854,68 @@ public final class HBaseExecutor {
         put(tableName, AnyPut.toPut(anyPuts));
     }
 
+    /**
+     * Bulk loads a stream of puts of any size with the default {@link BulkLoadSettings}.
+     *
+     * @param tableName the name of the HBase table
+     * @param anyPuts the puts to load; the stream is consumed but not closed
+     * @return the number of puts loaded
+     * @throws UncheckedIOException if an I/O error occurs during the operation
+     * @see #bulkLoad(String, Stream, BulkLoadSettings)
+     */
+    public long bulkLoad(final String tableName, final Stream<? extends AnyPut> anyPuts) throws UncheckedIOException {
+        return bulkLoad(tableName, anyPuts, new BulkLoadSettings());
+    }
+
+    /**
+     * Bulk loads a stream of puts of any size, e.g. the initial load of a table, by writing their cells as HFiles and
+     * loading the HFiles with {@link org.apache.hadoop.hbase.tool.BulkLoadHFiles}. Unlike {@link #put(String, Collection)},
+     * none of the data goes through the write-ahead log or the memstores of the region servers, so a large load neither
+     * slows down the other writes nor triggers flushes and compactions while it runs.
+     *
+     * <p>The cells are sorted with an external merge sort: buffers of about
+     * {@linkplain BulkLoadSettings#sortBufferSize() sort buffer size} bytes are sorted and spilled to the
+     * {@linkplain BulkLoadSettings#spillDir(String) spill directory} on the {@link AsyncExecutor} of this executor while the
+     * stream is read, so the stream may be much larger than the heap. The sorted runs are then merged into one HFile per
+     * region and column family, up to {@linkplain BulkLoadSettings#parallelism() parallelism} regions at a time, under a
+     * new directory in the {@linkplain BulkLoadSettings#stagingDir(String) staging directory}, which is loaded into the
+     * table and deleted. The HFiles use the compression, data block encoding, block size and bloom filter of their
+     * column family.</p>
+     *
+     * <p>Cells without a timestamp get the time the load started. Of the cells with the same row, column and timestamp,
+     * the one put last is loaded, as if the puts had been sent in order. A region split during the load is handled by
+     * {@code BulkLoadHFiles}, which splits the HFiles which no longer fit in one region.</p>
+     *
+     * <p>This method needs {@code hbase-server} on the class path, and the region servers need read access to the staging
+     * directory. If loading the HFiles fails, the ones not loaded yet are left in the staging directory named in the
+     * exception, from where they can be loaded again with {@code BulkLoadHFiles}; a failure before that leaves nothing
+     * behind.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * try (Stream<Event> events = readEvents(file)) {
+     *     long count = executor.bulkLoad("events", events.map(AnyPut::create),
+     *             new BulkLoadSettings().stagingDir("hdfs:///tmp/hbase-staging").parallelism(8));
+     * }
+     * }</pre>
+     *
+     * @param tableName the name of the HBase table
+     * @param anyPuts the puts to load; the stream is consumed but not closed
+     * @param settings the settings of the load
+     * @return the number of puts loaded
+     * @throws IllegalArgumentException if {@code anyPuts} or {@code settings} is {@code null}, or if a put has a column
+     *         family which the table doesn't have
+     * @throws UncheckedIOException if an I/O error occurs during the operation
+     * @see BulkLoadSettings
+     * @see HBaseMapper#bulkLoad(Stream, BulkLoadSettings)
+     */
+    public long bulkLoad(final String tableName, final Stream<? extends AnyPut> anyPuts, final BulkLoadSettings settings) throws UncheckedIOException {
+        N.checkArgNotNull(anyPuts, "anyPuts");
+        N.checkArgNotNull(settings, "settings");
+
+        return BulkLoad.load(this, tableName, anyPuts, settings.copy(), asyncExecutor);
+    }
+
     // There is no too much benefit to add method for "Object rowKey"
     // And it may cause error because the "Object" is ambiguous to any type.
     /**
@@ -2448,14 +2956,14 @@ public final class HBaseExecutor {
      * @see Delete
      */
     public void delete(final String tableName, final Delete delete) throws UncheckedIOException {
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             table.delete(delete);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -2483,18 +2991,18 @@ public final class HBaseExecutor {
      */
     public void delete(final String tableName, final List<Delete> deletes) throws UncheckedIOException {
         if (deletes != null && deletes.isEmpty()) {
-            TableName.valueOf(tableName); // preserve table-name validation without acquiring a Table
+            HBaseTableCache.toTableName(tableName); // preserve table-name validation without acquiring a Table
             return;
         }
 
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             table.delete(deletes);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -2548,6 +3056,185 @@ public final class HBaseExecutor {
         delete(tableName, AnyDelete.toDelete(anyDeletes));
     }
 
+    /**
+     * Runs a batch of mixed actions in one call of {@link Table#batch(List, Object[])} and returns the outcome of
+     * each action, in the order of {@code actions}.
+     *
+     * <p>The actions may be any mix of {@code Get}, {@code Put}, {@code Delete}, {@code Increment}, {@code Append} and
+     * {@code RowMutations}, either native or wrapped as {@link AnyGet}, {@link AnyPut}, {@link AnyDelete},
+     * {@link AnyIncrement}, {@link AnyAppend} and {@link AnyRowMutations}. As for {@code Table.batch}, the order in which
+     * the actions are executed is not defined, so a batch should not hold two actions on the same cell whose outcome
+     * depends on their order.</p>
+     *
+     * <p>An action which still fails after the client retries doesn't fail the batch: its outcome holds the failure,
+     * and the other actions complete. If the whole call fails with an {@link IOException}, e.g. because the table
+     * doesn't exist, each action without an outcome fails with that exception; if the calling thread is interrupted,
+     * they fail with the {@link InterruptedException}, and the interrupt status is restored.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * List<HBaseBatchResult> results = executor.batch("users", N.asList(
+     *         AnyPut.of("user1").addColumn("info", "name", "John"),
+     *         AnyIncrement.of("user1").addColumn("stats", "logins", 1L),
+     *         AnyGet.of("user2")));
+     *
+     * long logins = Bytes.toLong(results.get(1).result().getValue(Bytes.toBytes("stats"), Bytes.toBytes("logins")));
+     * User user2 = results.get(2).result(User.class);
+     * }</pre>
+     *
+     * @param tableName the name of the HBase table
+     * @param actions the actions to run
+     * @return the outcome of each action, in the order of {@code actions}; an empty input produces an empty list
+     * @throws IllegalArgumentException if {@code actions} is {@code null}
+     * @see HBaseBatchResult
+     * @see #batch(String, List, Consumer)
+     */
+    public List<HBaseBatchResult> batch(final String tableName, final List<? extends Row> actions) {
+        N.checkArgNotNull(actions, "actions");
+
+        if (actions.isEmpty()) {
+            HBaseTableCache.toTableName(tableName); // preserve table-name validation without acquiring a Table
+            return new ArrayList<>();
+        }
+
+        final int[] indices = new int[actions.size()];
+
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+
+        return N.asList(batch(tableName, actions, indices));
+    }
+
+    /**
+     * Runs a batch of mixed actions like {@link #batch(String, List)}, but as chunks which each target one region, and
+     * passes the outcomes of each chunk to {@code onResult} as soon as the chunk completes, so that the caller can
+     * process the first outcomes while the others are still pending.
+     *
+     * <p>The actions are split like the Gets of a multi-get, by {@link #getMultiGetSettings()}: up to
+     * {@linkplain MultiGetSettings#chunkSize() chunk size} actions per chunk and up to
+     * {@linkplain MultiGetSettings#parallelism() parallelism} chunks in flight on the {@link AsyncExecutor} of this
+     * executor and the calling thread. {@code onResult} is called from those threads, one call at a time per chunk; it
+     * must therefore be thread-safe. An exception thrown by {@code onResult} stops the chunks which haven't started and
+     * is rethrown once the running chunks are done.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * Queue<HBaseBatchResult> failures = new ConcurrentLinkedQueue<>();
+     *
+     * executor.batch("events", actions, result -> {
+     *     if (!result.isSuccess()) {
+     *         failures.add(result);
+     *     }
+     * });
+     * }</pre>
+     *
+     * @param tableName the name of the HBase table
+     * @param actions the actions to run
+     * @param onResult the consumer of the outcome of each action, called as the outcomes come in
+     * @return the outcome of each action, in the order of {@code actions}
+     * @throws IllegalArgumentException if {@code actions} or {@code onResult} is {@code null}
+     * @throws UncheckedIOException if the region boundaries of the table can't be read
+     * @see #batch(String, List)
+     */
+    public List<HBaseBatchResult> batch(final String tableName, final List<? extends Row> actions, final Consumer<? super HBaseBatchResult> onResult)
+            throws UncheckedIOException {
+        N.checkArgNotNull(actions, "actions");
+        N.checkArgNotNull(onResult, "onResult");
+
+        if (actions.isEmpty()) {
+            HBaseTableCache.toTableName(tableName); // preserve table-name validation without acquiring a Table
+            return new ArrayList<>();
+        }
+
+        final MultiGetSettings settings = multiGetSettings;
+        final byte[][] regionStartKeys;
+
+        try (RegionLocator regionLocator = conn.getRegionLocator(HBaseTableCache.toTableName(tableName))) {
+            regionStartKeys = regionLocator.getStartKeys();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final List<int[]> chunks = ChunkedMultiGet.split(actions, regionStartKeys, settings.chunkSize());
+        final HBaseBatchResult[] results = new HBaseBatchResult[actions.size()];
+
+        ChunkedMultiGet.run(chunks.size(), settings.parallelism(), asyncExecutor, chunkIndex -> {
+            for (final HBaseBatchResult result : batch(tableName, actions, chunks.get(chunkIndex))) {
+                results[result.index()] = result;
+                onResult.accept(result);
+            }
+        });
+
+        return N.asList(results);
+    }
+
+    private HBaseBatchResult[] batch(final String tableName, final List<? extends Row> actions, final int[] indices) {
+        final List<Row> nativeActions = new ArrayList<>(indices.length);
+
+        for (final int index : indices) {
+            nativeActions.add(toNativeRow(actions.get(index)));
+        }
+
+        final Object[] values = new Object[indices.length];
+        Throwable cause = null;
+
+        try {
+            final Table table = borrowTable(tableName);
+
+            try {
+                table.batch(nativeActions, values);
+            } finally {
+                releaseTable(tableName, table);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cause = e;
+        } catch (final IOException e) {
+            cause = e; // the actions which failed hold their own failure; the others, if any, fail with the cause.
+        }
+
+        final HBaseBatchResult[] results = new HBaseBatchResult[indices.length];
+
+        for (int i = 0; i < indices.length; i++) {
+            final Row action = actions.get(indices[i]);
+
+            if (values[i] instanceof Result result) {
+                results[i] = new HBaseBatchResult(indices[i], action, result, null);
+            } else {
+                final Throwable failure = values[i] instanceof Throwable e ? e
+                        : cause != null ? cause : new IOException("No result for the action on row: " + Bytes.toStringBinary(action.getRow()));
+
+                results[i] = new HBaseBatchResult(indices[i], action, null, failure);
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Returns the native HBase operation of {@code action}, unwrapping the {@code AnyXxx} wrappers.
+     */
+    static Row toNativeRow(final Row action) {
+        N.checkArgNotNull(action, "action");
+
+        if (action instanceof AnyGet anyGet) {
+            return anyGet.val();
+        } else if (action instanceof AnyPut anyPut) {
+            return anyPut.val();
+        } else if (action instanceof AnyDelete anyDelete) {
+            return anyDelete.val();
+        } else if (action instanceof AnyIncrement anyIncrement) {
+            return anyIncrement.val();
+        } else if (action instanceof AnyAppend anyAppend) {
+            return anyAppend.val();
+        } else if (action instanceof AnyRowMutations anyRowMutations) {
+            return anyRowMutations.val();
+        } else {
+            return action;
+        }
+    }
+
     /**
      * Performs multiple mutations atomically on a single row using an AnyRowMutations operation.
      *
@@ -2596,14 +3283,14 @@ public final class HBaseExecutor {
      * @see RowMutations
      */
     public void mutateRow(final String tableName, final RowMutations rm) throws UncheckedIOException {
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             table.mutateRow(rm);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -2654,14 +3341,14 @@ public final class HBaseExecutor {
      * @see Append
      */
     public Result append(final String tableName, final Append append) throws UncheckedIOException {
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             return table.append(append);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -2713,14 +3400,14 @@ public final class HBaseExecutor {
      * @see Increment
      */
     public Result increment(final String tableName, final Increment increment) throws UncheckedIOException {
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             return table.increment(increment);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -2802,14 +3489,14 @@ public final class HBaseExecutor {
      */
     public long incrementColumnValue(final String tableName, final Object rowKey, final byte[] family, final byte[] qualifier, final long amount)
             throws UncheckedIOException {
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             return table.incrementColumnValue(toRowKeyBytes(rowKey), family, qualifier, amount);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -2839,14 +3526,14 @@ public final class HBaseExecutor {
      */
     public long incrementColumnValue(final String tableName, final Object rowKey, final byte[] family, final byte[] qualifier, final long amount,
             final Durability durability) throws UncheckedIOException {
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             return table.incrementColumnValue(toRowKeyBytes(rowKey), family, qualifier, amount, durability);
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -2876,12 +3563,12 @@ public final class HBaseExecutor {
         // The returned CoprocessorRpcChannel uses the underlying Connection (not the Table)
         // for region lookup and RPC, so the Table can be safely closed before returning the channel.
         // Without this close, every call leaks one Table (and its associated thread-local state).
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             return table.coprocessorService(toRowKeyBytes(rowKey));
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -2921,7 +3608,7 @@ public final class HBaseExecutor {
             final Object endRowKey, final Batch.Call<T, R> callable) throws IllegalArgumentException, UncheckedIOException {
         N.checkArgNotNull(callable, cs.callable);
 
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             return table.coprocessorService(service, toRowKeyBytes(startRowKey), toRowKeyBytes(endRowKey), callable);
@@ -2935,7 +3622,7 @@ public final class HBaseExecutor {
 
             throw ExceptionUtil.toRuntimeException(e, true);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -2978,7 +3665,7 @@ public final class HBaseExecutor {
         N.checkArgNotNull(callable, cs.callable);
         N.checkArgNotNull(callback, "callback");
 
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             table.coprocessorService(service, toRowKeyBytes(startRowKey), toRowKeyBytes(endRowKey), callable, callback);
@@ -2992,7 +3679,7 @@ public final class HBaseExecutor {
 
             throw e instanceof Exception exception ? exception : new Exception(e);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -3031,7 +3718,7 @@ public final class HBaseExecutor {
      */
     public <R extends Message> Map<byte[], R> batchCoprocessorService(final String tableName, final Descriptors.MethodDescriptor methodDescriptor,
             final Message request, final Object startRowKey, final Object endRowKey, final R responsePrototype) throws UncheckedIOException, Exception {
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             return table.batchCoprocessorService(methodDescriptor, request, toRowKeyBytes(startRowKey), toRowKeyBytes(endRowKey), responsePrototype);
@@ -3045,7 +3732,7 @@ public final class HBaseExecutor {
 
             throw e instanceof Exception exception ? exception : new Exception(e);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -3089,7 +3776,7 @@ public final class HBaseExecutor {
             throws IllegalArgumentException, UncheckedIOException, Exception {
         N.checkArgNotNull(callback, "callback");
 
-        final Table table = getTable(tableName);
+        final Table table = borrowTable(tableName);
 
         try {
             table.batchCoprocessorService(methodDescriptor, request, toRowKeyBytes(startRowKey), toRowKeyBytes(endRowKey), responsePrototype, callback);
@@ -3103,7 +3790,7 @@ public final class HBaseExecutor {
 
             throw e instanceof Exception exception ? exception : new Exception(e);
         } finally {
-            closeQuietly(table);
+            releaseTable(tableName, table);
         }
     }
 
@@ -3250,11 +3937,12 @@ public final class HBaseExecutor {
     /**
      * Closes this executor, releasing the underlying {@link Admin} and {@link Connection}.
      *
-     * <p>This method closes the {@link Admin} first and then the wrapped {@link Connection}
-     * (if it has not already been closed). After this call, the executor must not be used
-     * for further operations. Because the connection supplied at construction is shared with
-     * this executor and closed here, do not pass in a connection that other components
-     * still need.</p>
+     * <p>The shared {@link HBaseCounterAggregator}s returned by {@link #counterAggregator(String)} and the shared
+     * {@link HBaseBufferedWriter}s returned by {@link #bufferedWriter(String)} are flushed and closed first, and the
+     * idle {@link Table} handles of {@link #tableCache()} are closed next. This method then closes the {@link Admin}
+     * and then the wrapped {@link Connection} (if it has not already been closed). After this call, the executor must
+     * not be used for further operations. Because the connection supplied at construction is shared with this executor
+     * and closed here, do not pass in a connection that other components still need.</p>
      *
      * <p><strong>Note:</strong> the {@link AsyncExecutor} passed at construction is
      * <em>not</em> shut down by this method; its lifecycle is the caller's responsibility.</p>
@@ -3271,18 +3959,53 @@ public final class HBaseExecutor {
      *
      * @throws IOException if closing {@link Admin} or {@link Connection} fails. If both fail with distinct
      *         exceptions, the admin failure is thrown and the connection failure is attached as suppressed.
-     * @throws RuntimeException if either resource throws a runtime exception while closing
+     * @throws RuntimeException if either resource throws a runtime exception while closing, or if a shared buffered
+     *         writer fails to flush ({@link UncheckedIOException}); every resource is still closed
      * @throws Error if either resource throws an error while closing
      */
     public void close() throws IOException {
         Throwable failure = null;
 
+        for (final HBaseCounterAggregator counterAggregator : counterAggregatorPool.values()) {
+            try {
+                counterAggregator.close();
+            } catch (final Throwable e) { // close the other aggregators and the connection even when a flush fails
+                if (failure == null) {
+                    failure = e;
+                } else if (failure != e) {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        counterAggregatorPool.clear();
+
+        for (final HBaseBufferedWriter bufferedWriter : bufferedWriterPool.values()) {
+            try {
+                bufferedWriter.close();
+            } catch (final Throwable e) { // close the other writers and the connection even when a flush fails
+                if (failure == null) {
+                    failure = e;
+                } else if (failure != e) {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        bufferedWriterPool.clear();
+
+        tableCache.close();
+
         try {
             if (admin != null) {
                 admin.close();
             }
         } catch (final Throwable e) { // close the connection even when Admin.close fails
-            failure = e;
+            if (failure == null) {
+                failure = e;
+            } else if (failure != e) {
+                failure.addSuppressed(e);
+            }
         }
 
         try {
@@ -3308,6 +4031,208 @@ public final class HBaseExecutor {
         }
     }
 
+    /**
+     * Settings of the multi-gets of an {@link HBaseExecutor}: a list of Gets larger than {@link #chunkSize()} is grouped
+     * by region and sent as chunks of at most {@code chunkSize()} Gets, up to {@link #parallelism()} at a time. The
+     * results are returned in the order of the Gets.
+     *
+     * @see HBaseExecutor#setMultiGetSettings(MultiGetSettings)
+     */
+    public static final class MultiGetSettings {
+
+        /** The default maximum number of Gets per chunk: {@value}. */
+        public static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+        /** The default maximum number of chunks in flight: {@value}. */
+        public static final int DEFAULT_PARALLELISM = 8;
+
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int parallelism = DEFAULT_PARALLELISM;
+
+        /**
+         * Creates settings with every value at its default.
+         */
+        public MultiGetSettings() {
+        }
+
+        /**
+         * Returns the maximum number of Gets sent in one request. Smaller lists are sent as a single request.
+         *
+         * @return the chunk size
+         */
+        public int chunkSize() {
+            return chunkSize;
+        }
+
+        /**
+         * Sets the maximum number of Gets sent in one request. Smaller lists are sent as a single request.
+         *
+         * @param chunkSize the chunk size; {@link Integer#MAX_VALUE} disables chunking
+         * @return this settings instance
+         * @throws IllegalArgumentException if {@code chunkSize} is not positive
+         */
+        public MultiGetSettings chunkSize(final int chunkSize) {
+            N.checkArgPositive(chunkSize, "chunkSize");
+
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Returns the maximum number of chunks in flight, including the one run by the calling thread.
+         *
+         * @return the parallelism
+         */
+        public int parallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Sets the maximum number of chunks in flight, including the one run by the calling thread.
+         *
+         * @param parallelism the parallelism; {@code 1} runs the chunks one by one on the calling thread
+         * @return this settings instance
+         * @throws IllegalArgumentException if {@code parallelism} is not positive
+         */
+        public MultiGetSettings parallelism(final int parallelism) {
+            N.checkArgPositive(parallelism, "parallelism");
+
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        MultiGetSettings copy() {
+            return new MultiGetSettings().chunkSize(chunkSize).parallelism(parallelism);
+        }
+    }
+
+    /**
+     * Settings of {@link HBaseExecutor#bulkLoad(String, Stream, BulkLoadSettings)}: the cells are sorted in buffers of
+     * {@link #sortBufferSize()} bytes spilled to {@link #spillDir()}, and written as HFiles to {@link #stagingDir()},
+     * up to {@link #parallelism()} regions at a time.
+     *
+     * @see HBaseExecutor#bulkLoad(String, Stream, BulkLoadSettings)
+     */
+    public static final class BulkLoadSettings {
+
+        /** The default size, in bytes of heap, of the cells sorted in memory before they're spilled: {@value}. */
+        public static final long DEFAULT_SORT_BUFFER_SIZE = 64L * 1024 * 1024;
+
+        /** The default maximum number of buffers sorted, or regions written, at a time: {@value}. */
+        public static final int DEFAULT_PARALLELISM = 4;
+
+        private long sortBufferSize = DEFAULT_SORT_BUFFER_SIZE;
+        private int parallelism = DEFAULT_PARALLELISM;
+        private String stagingDir = null;
+        private String spillDir = null;
+
+        /**
+         * Creates settings with every value at its default.
+         */
+        public BulkLoadSettings() {
+        }
+
+        /**
+         * Returns the size, in bytes of heap, of the cells sorted in memory before they're spilled to a local file.
+         *
+         * @return the sort buffer size
+         */
+        public long sortBufferSize() {
+            return sortBufferSize;
+        }
+
+        /**
+         * Sets the size, in bytes of heap, of the cells sorted in memory before they're spilled to a local file. Up to
+         * {@code max(2, parallelism)} buffers are held in memory at a time: the one being filled, and the ones being
+         * sorted and spilled.
+         *
+         * @param sortBufferSize the sort buffer size
+         * @return this settings instance
+         * @throws IllegalArgumentException if {@code sortBufferSize} is not positive
+         */
+        public BulkLoadSettings sortBufferSize(final long sortBufferSize) {
+            N.checkArgPositive(sortBufferSize, "sortBufferSize");
+
+            this.sortBufferSize = sortBufferSize;
+            return this;
+        }
+
+        /**
+         * Returns the maximum number of regions whose HFiles are written at a time, including the one written by the
+         * calling thread, which also bounds the number of buffers sorted and spilled at a time.
+         *
+         * @return the parallelism
+         */
+        public int parallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Sets the maximum number of regions whose HFiles are written at a time, including the one written by the
+         * calling thread, which also bounds the number of buffers sorted and spilled at a time.
+         *
+         * @param parallelism the parallelism; {@code 1} writes the regions one by one on the calling thread
+         * @return this settings instance
+         * @throws IllegalArgumentException if {@code parallelism} is not positive
+         */
+        public BulkLoadSettings parallelism(final int parallelism) {
+            N.checkArgPositive(parallelism, "parallelism");
+
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Returns the directory, on a file system of the cluster, under which the HFiles are written, or {@code null}
+         * for the {@code hbase.fs.tmp.dir} of the configuration of the connection.
+         *
+         * @return the staging directory, or {@code null}
+         */
+        public String stagingDir() {
+            return stagingDir;
+        }
+
+        /**
+         * Sets the directory, on a file system of the cluster, e.g. {@code hdfs:///tmp/hbase-staging}, under which the
+         * HFiles are written, or {@code null} for the {@code hbase.fs.tmp.dir} of the configuration of the connection.
+         * Each load writes to a new directory of its own under it.
+         *
+         * @param stagingDir the staging directory, or {@code null}
+         * @return this settings instance
+         */
+        public BulkLoadSettings stagingDir(final String stagingDir) {
+            this.stagingDir = stagingDir;
+            return this;
+        }
+
+        /**
+         * Returns the local directory to which the sorted buffers are spilled, or {@code null} for
+         * {@code java.io.tmpdir}.
+         *
+         * @return the spill directory, or {@code null}
+         */
+        public String spillDir() {
+            return spillDir;
+        }
+
+        /**
+         * Sets the local directory to which the sorted buffers are spilled, or {@code null} for {@code java.io.tmpdir}.
+         * It needs room for about the size of the cells of the whole load. Each load spills to a new directory of its
+         * own under it, which is deleted at the end of the load.
+         *
+         * @param spillDir the spill directory, or {@code null}
+         * @return this settings instance
+         */
+        public BulkLoadSettings spillDir(final String spillDir) {
+            this.spillDir = spillDir;
+            return this;
+        }
+
+        BulkLoadSettings copy() {
+            return new BulkLoadSettings().sortBufferSize(sortBufferSize).parallelism(parallelism).stagingDir(stagingDir).spillDir(spillDir);
+        }
+    }
+
     /**
      * A type-safe mapper that provides simplified CRUD operations for a specific entity type.
      *
@@ -3327,6 +4252,11 @@ public final class HBaseExecutor {
      * <p>This class is typically obtained through {@link HBaseExecutor#mapper(Class)} or
      * {@link HBaseExecutor#mapper(Class, String, NamingPolicy)} methods.</p>
      *
+     * <p>If a {@link RowKeyDistributor} is registered for the entity class with
+     * {@link HBaseExecutor#registerRowKeyProperty(Class, String, RowKeyDistributor)}, the methods which take entities
+     * or row keys and the scans apply it transparently; the methods which take {@link AnyGet}, {@link AnyDelete},
+     * {@link AnyPut} or {@link AnyScan} operations send them as they are, except for the scans.</p>
+     *
      * @param <T> the entity type that this mapper handles
      * @param <K> the row key type for the entity
      * @since 1.0
@@ -3393,7 +4323,7 @@ public final class HBaseExecutor {
          * @throws UncheckedIOException if an I/O error occurs during the operation
          */
         public boolean exists(final K rowKey) throws UncheckedIOException {
-            return hbaseExecutor.exists(tableName, AnyGet.of(rowKey));
+            return hbaseExecutor.exists(tableName, AnyGet.of(toStoredRowKey(rowKey)));
         }
 
         /**
@@ -3413,7 +4343,7 @@ public final class HBaseExecutor {
          * @throws UncheckedIOException if an I/O error occurs during the operation
          */
         public List<Boolean> exists(final Collection<? extends K> rowKeys) throws UncheckedIOException {
-            final List<AnyGet> anyGets = N.map(rowKeys, AnyGet::of);
+            final List<AnyGet> anyGets = N.map(rowKeys, rowKey -> AnyGet.of(toStoredRowKey(rowKey)));
 
             return hbaseExecutor.exists(tableName, anyGets);
         }
@@ -3433,7 +4363,34 @@ public final class HBaseExecutor {
          * @throws UncheckedIOException if an I/O error occurs during the operation
          */
         public T get(final K rowKey) throws UncheckedIOException {
-            return hbaseExecutor.get(tableName, AnyGet.of(rowKey), targetEntityClass);
+            return hbaseExecutor.get(tableName, AnyGet.of(toStoredRowKey(rowKey)), targetEntityClass);
+        }
+
+        /**
+         * Retrieves the specified properties of an entity by its row key. Only the columns mapped to
+         * {@code selectPropNames} by the naming policy of this mapper are fetched; the other properties of the
+         * returned entity are not set.
+         *
+         * <p><b>Usage Examples:</b></p>
+         * <pre>{@code
+         * User user = mapper.get("user123", N.asList("name", "email"));   // fetches two columns
+         * }</pre>
+         *
+         * @param rowKey the row key of the entity to retrieve
+         * @param selectPropNames the properties to retrieve, or {@code null} to fetch the whole row as {@link #get(Object)}
+         * @return the entity object, or the type's default value (typically {@code null} for bean classes)
+         *         when no row matches the given key or the row has none of the selected columns
+         * @throws IllegalArgumentException if the entity class has no property named by {@code selectPropNames}
+         * @throws UncheckedIOException if an I/O error occurs during the operation
+         */
+        public T get(final K rowKey, final Collection<String> selectPropNames) throws UncheckedIOException {
+            if (selectPropNames == null) {
+                return get(rowKey);
+            }
+
+            final List<Tuple2<String, String>> columns = HBaseExecutor.getProjectedColumns(targetEntityClass, namingPolicy, selectPropNames);
+
+            return hbaseExecutor.get(tableName, addColumns(AnyGet.of(toStoredRowKey(rowKey)), columns), targetEntityClass);
         }
 
         /**
@@ -3456,7 +4413,35 @@ public final class HBaseExecutor {
          * @throws UncheckedIOException if an I/O error occurs during the operation
          */
         public List<T> get(final Collection<? extends K> rowKeys) throws UncheckedIOException {
-            final List<AnyGet> anyGets = N.map(rowKeys, AnyGet::of);
+            final List<AnyGet> anyGets = N.map(rowKeys, rowKey -> AnyGet.of(toStoredRowKey(rowKey)));
+
+            return hbaseExecutor.get(tableName, anyGets, targetEntityClass);
+        }
+
+        /**
+         * Retrieves the specified properties of multiple entities by their row keys. Only the columns mapped to
+         * {@code selectPropNames} by the naming policy of this mapper are fetched; the other properties of the
+         * returned entities are not set.
+         *
+         * <p><b>Usage Examples:</b></p>
+         * <pre>{@code
+         * List<User> users = mapper.get(N.asList("user123", "user456"), N.asList("name"));
+         * }</pre>
+         *
+         * @param rowKeys the collection of row keys to retrieve
+         * @param selectPropNames the properties to retrieve, or {@code null} to fetch the whole rows as
+         *        {@link #get(Collection)}
+         * @return a list of entity objects for the row keys that were found
+         * @throws IllegalArgumentException if the entity class has no property named by {@code selectPropNames}
+         * @throws UncheckedIOException if an I/O error occurs during the operation
+         */
+        public List<T> get(final Collection<? extends K> rowKeys, final Collection<String> selectPropNames) throws UncheckedIOException {
+            if (selectPropNames == null) {
+                return get(rowKeys);
+            }
+
+            final List<Tuple2<String, String>> columns = HBaseExecutor.getProjectedColumns(targetEntityClass, namingPolicy, selectPropNames);
+            final List<AnyGet> anyGets = N.map(rowKeys, rowKey -> addColumns(AnyGet.of(toStoredRowKey(rowKey)), columns));
 
             return hbaseExecutor.get(tableName, anyGets, targetEntityClass);
         }
@@ -3503,6 +4488,84 @@ public final class HBaseExecutor {
             hbaseExecutor.put(tableName, AnyPut.create(entitiesToPut, namingPolicy));
         }
 
+        /**
+         * Bulk loads a stream of entities of any size with the default {@link BulkLoadSettings}.
+         *
+         * @param entitiesToPut the entities to store; the stream is consumed but not closed
+         * @return the number of entities loaded
+         * @throws UncheckedIOException if an I/O error occurs during the operation
+         * @see HBaseExecutor#bulkLoad(String, Stream, BulkLoadSettings)
+         */
+        public long bulkLoad(final Stream<? extends T> entitiesToPut) throws UncheckedIOException {
+            return bulkLoad(entitiesToPut, new BulkLoadSettings());
+        }
+
+        /**
+         * Bulk loads a stream of entities of any size as HFiles, as described in
+         * {@link HBaseExecutor#bulkLoad(String, Stream, BulkLoadSettings)}.
+         *
+         * <p><b>Usage Examples:</b></p>
+         * <pre>{@code
+         * try (Stream<User> users = Stream.of(csvIterator).map(User::parse)) {
+         *     long count = mapper.bulkLoad(users, new BulkLoadSettings().spillDir("/data/tmp"));
+         * }
+         * }</pre>
+         *
+         * @param entitiesToPut the entities to store; the stream is consumed but not closed
+         * @param settings the settings of the load
+         * @return the number of entities loaded
+         * @throws IllegalArgumentException if {@code entitiesToPut} or {@code settings} is {@code null}
+         * @throws UncheckedIOException if an I/O error occurs during the operation
+         */
+        public long bulkLoad(final Stream<? extends T> entitiesToPut, final BulkLoadSettings settings) throws UncheckedIOException {
+            N.checkArgNotNull(entitiesToPut, "entitiesToPut");
+
+            return hbaseExecutor.bulkLoad(tableName, entitiesToPut.map(entity -> AnyPut.create(entity, namingPolicy)), settings);
+        }
+
+        /**
+         * Writes an entity through the shared {@link HBaseBufferedWriter} of the table, so that it's sent together
+         * with other buffered writes instead of in its own RPC.
+         *
+         * <p>The call returns once the entity is buffered. It is written when the buffer fills up, when the flush
+         * interval elapses or when {@link #flushAsyncPuts()} is called; failures are reported as described in
+         * {@link HBaseBufferedWriter}.</p>
+         *
+         * <p><b>Usage Examples:</b></p>
+         * <pre>{@code
+         * users.forEach(mapper::putAsync);   // buffered
+         * mapper.flushAsyncPuts();           // written
+         * }</pre>
+         *
+         * @param entityToPut the entity to store
+         * @throws UncheckedIOException if the buffered writes can't be sent
+         * @see HBaseExecutor#bufferedWriter(String)
+         */
+        public void putAsync(final T entityToPut) throws UncheckedIOException {
+            hbaseExecutor.bufferedWriter(tableName).put(AnyPut.create(entityToPut, namingPolicy));
+        }
+
+        /**
+         * Writes entities through the shared {@link HBaseBufferedWriter} of the table.
+         *
+         * @param entitiesToPut the entities to store
+         * @throws UncheckedIOException if the buffered writes can't be sent
+         * @see #putAsync(Object)
+         */
+        public void putAsync(final Collection<? extends T> entitiesToPut) throws UncheckedIOException {
+            hbaseExecutor.bufferedWriter(tableName).mutate(AnyPut.toPut(entitiesToPut, namingPolicy));
+        }
+
+        /**
+         * Sends the writes buffered by {@link #putAsync(Object)} and waits until they are written.
+         *
+         * @throws UncheckedIOException if the buffered writes can't be sent, or if some writes failed
+         * @see HBaseBufferedWriter#flush()
+         */
+        public void flushAsyncPuts() throws UncheckedIOException {
+            hbaseExecutor.bufferedWriter(tableName).flush();
+        }
+
         /**
          * Deletes an entity from the table.
          *
@@ -3553,7 +4616,7 @@ public final class HBaseExecutor {
          * @throws UncheckedIOException if an I/O error occurs during the operation
          */
         public void deleteByRowKey(final K rowKey) throws UncheckedIOException {
-            hbaseExecutor.delete(tableName, AnyDelete.of(rowKey));
+            hbaseExecutor.delete(tableName, AnyDelete.of(toStoredRowKey(rowKey)));
         }
 
         /**
@@ -3570,7 +4633,7 @@ public final class HBaseExecutor {
          * @throws UncheckedIOException if an I/O error occurs during the operation
          */
         public void deleteByRowKey(final Collection<? extends K> rowKeys) throws UncheckedIOException {
-            final List<AnyDelete> anyDeletes = N.map(rowKeys, AnyDelete::of);
+            final List<AnyDelete> anyDeletes = N.map(rowKeys, rowKey -> AnyDelete.of(toStoredRowKey(rowKey)));
 
             hbaseExecutor.delete(tableName, anyDeletes);
         }
@@ -3671,7 +4734,10 @@ public final class HBaseExecutor {
          * @see Stream
          */
         public Stream<T> scan(final String family) {
-            return hbaseExecutor.scan(tableName, family, targetEntityClass);
+            final RowKeyDistributor distributor = getRowKeyDistributor(targetEntityClass);
+
+            return distributor == null ? hbaseExecutor.scan(tableName, family, targetEntityClass)
+                    : mergedScan(new Scan().addFamily(toFamilyQualifierBytes(family)), distributor);
         }
 
         /**
@@ -3690,7 +4756,10 @@ public final class HBaseExecutor {
          * @see Stream
          */
         public Stream<T> scan(final String family, final String qualifier) {
-            return hbaseExecutor.scan(tableName, family, qualifier, targetEntityClass);
+            final RowKeyDistributor distributor = getRowKeyDistributor(targetEntityClass);
+
+            return distributor == null ? hbaseExecutor.scan(tableName, family, qualifier, targetEntityClass)
+                    : mergedScan(new Scan().addColumn(toFamilyQualifierBytes(family), toFamilyQualifierBytes(qualifier)), distributor);
         }
 
         /**
@@ -3708,7 +4777,9 @@ public final class HBaseExecutor {
          * @see Stream
          */
         public Stream<T> scan(final byte[] family) {
-            return hbaseExecutor.scan(tableName, family, targetEntityClass);
+            final RowKeyDistributor distributor = getRowKeyDistributor(targetEntityClass);
+
+            return distributor == null ? hbaseExecutor.scan(tableName, family, targetEntityClass) : mergedScan(new Scan().addFamily(family), distributor);
         }
 
         /**
@@ -3727,7 +4798,10 @@ public final class HBaseExecutor {
          * @see Stream
          */
         public Stream<T> scan(final byte[] family, final byte[] qualifier) {
-            return hbaseExecutor.scan(tableName, family, qualifier, targetEntityClass);
+            final RowKeyDistributor distributor = getRowKeyDistributor(targetEntityClass);
+
+            return distributor == null ? hbaseExecutor.scan(tableName, family, qualifier, targetEntityClass)
+                    : mergedScan(new Scan().addColumn(family, qualifier), distributor);
         }
 
         /**
@@ -3746,7 +4820,188 @@ public final class HBaseExecutor {
          * @see Stream
          */
         public Stream<T> scan(final AnyScan anyScan) {
-            return hbaseExecutor.scan(tableName, anyScan, targetEntityClass);
+            final RowKeyDistributor distributor = getRowKeyDistributor(targetEntityClass);
+
+            return distributor == null ? hbaseExecutor.scan(tableName, anyScan, targetEntityClass) : mergedScan(anyScan.val(), distributor);
+        }
+
+        /**
+         * Scans using an AnyScan specification, fetching only the columns mapped to {@code selectPropNames} by the
+         * naming policy of this mapper, and returns a stream of entities. The columns are added to a copy of the scan;
+         * {@code anyScan} isn't modified.
+         *
+         * <p><b>Usage Examples:</b></p>
+         * <pre>{@code
+         * try (Stream<User> users = mapper.scan(AnyScan.create().setCaching(500), N.asList("name", "email"))) {
+         *     users.forEach(System.out::println);
+         * }
+         * }</pre>
+         *
+         * @param anyScan the AnyScan operation defining the scan parameters; it must not select columns itself if
+         *        properties are selected
+         * @param selectPropNames the properties to retrieve, or {@code null} to scan as {@link #scan(AnyScan)}
+         * @return a lazy stream of entity objects
+         * @throws IllegalArgumentException if properties are selected and {@code anyScan} selects columns itself, or
+         *         if the entity class has no property named by {@code selectPropNames}
+         * @see AnyScan
+         * @see Stream
+         */
+        public Stream<T> scan(final AnyScan anyScan, final Collection<String> selectPropNames) {
+            N.checkArgNotNull(anyScan, "anyScan");
+
+            if (selectPropNames == null) {
+                return scan(anyScan);
+            }
+
+            N.checkArgument(!anyScan.val().hasFamilies(), "The scan must not select families or columns when properties are selected");
+
+            final Scan scan;
+
+            try {
+                scan = new Scan(anyScan.val());
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            for (final Tuple2<String, String> column : HBaseExecutor.getProjectedColumns(targetEntityClass, namingPolicy, selectPropNames)) {
+                scan.addColumn(toFamilyQualifierBytes(column._1), toFamilyQualifierBytes(column._2));
+            }
+
+            return scan(scan);
+        }
+
+        private Stream<T> scan(final Scan scan) {
+            final RowKeyDistributor distributor = getRowKeyDistributor(targetEntityClass);
+
+            return distributor == null ? hbaseExecutor.scan(tableName, scan, targetEntityClass) : mergedScan(scan, distributor);
+        }
+
+        /**
+         * Reads the first page of the entities of the table, {@code pageSize} entities per page.
+         *
+         * @param pageSize the maximum number of entities of the page
+         * @return the first page
+         * @throws IllegalArgumentException if {@code pageSize} is not positive
+         * @throws UncheckedIOException if an I/O error occurs during the operation
+         * @see #page(AnyScan, int, String)
+         */
+        public HBasePage<T> page(final int pageSize) throws UncheckedIOException {
+            return page(AnyScan.create(), pageSize, null);
+        }
+
+        /**
+         * Reads a page of the entities returned by {@code anyScan}, starting right after the row key held by
+         * {@code continuationToken}, or at the start row of {@code anyScan} if the token is {@code null}.
+         *
+         * <p>Unlike skipping rows with {@link HBaseExecutor#toList(ResultScanner, int, int, Class)}, the page is read
+         * from its first row key on: the scan starts exclusively after the last row key of the previous page, is
+         * limited to {@code pageSize + 1} rows with {@link Scan#setLimit(int)}, and carries a {@link PageFilter} so
+         * that each region server stops after as many rows. Every page therefore costs the same, however deep it is.
+         * The extra row only tells whether there is a next page; it isn't returned.</p>
+         *
+         * <p>{@code anyScan} isn't modified. Its filter, if any, is combined with the {@code PageFilter}; its limit is
+         * replaced by the page size. Start rows and tokens are original row keys if a {@link RowKeyDistributor} is
+         * registered for the entity class, as for {@link #scan(AnyScan)}.</p>
+         *
+         * <p><b>Usage Examples:</b></p>
+         * <pre>{@code
+         * HBasePage<User> first = mapper.page(AnyScan.create().addFamily("info"), 50, null);
+         *
+         * if (first.hasNext()) {
+         *     HBasePage<User> second = mapper.page(AnyScan.create().addFamily("info"), 50, first.continuationToken());
+         * }
+         * }</pre>
+         *
+         * @param anyScan the AnyScan operation defining the scan parameters; it must not set a batch size or allow
+         *        partial results, which would split rows across pages
+         * @param pageSize the maximum number of entities of the page
+         * @param continuationToken the {@link HBasePage#continuationToken()} of the previous page, or {@code null} for
+         *        the first page
+         * @return the page, whose continuation token is {@code null} if it's the last one
+         * @throws IllegalArgumentException if {@code pageSize} is not positive or is {@code Integer.MAX_VALUE}, if
+         *         {@code anyScan} sets a batch size or allows partial results, or if {@code continuationToken} is invalid
+         * @throws UncheckedIOException if an I/O error occurs during the operation
+         * @see HBasePage
+         */
+        public HBasePage<T> page(final AnyScan anyScan, final int pageSize, final String continuationToken) throws UncheckedIOException {
+            N.checkArgNotNull(anyScan, "anyScan");
+            N.checkArgument(pageSize > 0 && pageSize < Integer.MAX_VALUE, "'pageSize' must be positive and less than Integer.MAX_VALUE: {}", pageSize);
+            N.checkArgument(anyScan.val().getBatch() <= 0 && !anyScan.val().getAllowPartialResults(),
+                    "The scan must not set a batch size or allow partial results when paging");
+
+            final Scan scan;
+
+            try {
+                scan = new Scan(anyScan.val());
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            if (continuationToken != null) {
+                scan.withStartRow(HBasePage.toLastRowKey(continuationToken), false);
+            }
+
+            // one row more than the page tells whether there's a next page.
+            final int limit = pageSize + 1;
+            final Filter filter = scan.getFilter();
+            final PageFilter pageFilter = new PageFilter(limit);
+
+            scan.setFilter(filter == null ? pageFilter : new FilterList(FilterList.Operator.MUST_PASS_ALL, filter, pageFilter));
+            scan.setLimit(limit);
+
+            final RowKeyDistributor distributor = getRowKeyDistributor(targetEntityClass);
+            final List<Result> results;
+
+            if (distributor == null) {
+                try (Stream<Result> stream = hbaseExecutor.scan(tableName, scan)) {
+                    results = stream.filter(result -> !result.isEmpty()).limit(limit).toList();
+                }
+            } else {
+                final MergedScanIterator iter = new MergedScanIterator(hbaseExecutor, tableName, scan, distributor);
+
+                try (Stream<Result> stream = Stream.of(iter).onClose(iter::closeResource)) {
+                    results = stream.filter(result -> !result.isEmpty()).limit(limit).toList();
+                }
+            }
+
+            if (results.size() <= pageSize) {
+                return new HBasePage<>(toList(results, targetEntityClass), null);
+            }
+
+            final byte[] lastRowKey = results.get(pageSize - 1).getRow();
+
+            return new HBasePage<>(toList(results.subList(0, pageSize), targetEntityClass),
+                    HBasePage.toContinuationToken(distributor == null ? lastRowKey : distributor.toOriginalRowKey(lastRowKey)));
+        }
+
+        // fresh family/qualifier arrays per operation: see toFamilyQualifierBytes.
+        private static AnyGet addColumns(final AnyGet anyGet, final List<Tuple2<String, String>> columns) {
+            for (final Tuple2<String, String> column : columns) {
+                anyGet.val().addColumn(toFamilyQualifierBytes(column._1), toFamilyQualifierBytes(column._2));
+            }
+
+            return anyGet;
+        }
+
+        /**
+         * Returns the row key under which the row of {@code rowKey} is stored, as mapped by the
+         * {@link RowKeyDistributor} registered for the entity class, if any.
+         */
+        private Object toStoredRowKey(final K rowKey) {
+            final RowKeyDistributor distributor = getRowKeyDistributor(targetEntityClass);
+
+            return distributor == null || rowKey == null ? rowKey : distributor.toStoredRowKey(toRowKeyBytes(rowKey));
+        }
+
+        /**
+         * Runs the stored-key scans of {@code distributor} for {@code scan} and merges their results in the order of the
+         * original row keys.
+         */
+        private Stream<T> mergedScan(final Scan scan, final RowKeyDistributor distributor) {
+            final MergedScanIterator iter = new MergedScanIterator(hbaseExecutor, tableName, scan, distributor);
+
+            //noinspection resource
+            return mapResults(Stream.of(iter).onClose(iter::closeResource), targetEntityClass);
         }
 
         /**
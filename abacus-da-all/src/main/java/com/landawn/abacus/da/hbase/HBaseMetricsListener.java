@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import org.apache.hadoop.hbase.client.metrics.ScanMetrics;
+
+/**
+ * Receives the latency and volume of every {@code Table} call made by an {@link HBaseExecutor}, and therefore by its
+ * {@link AsyncHBaseExecutor}, its mappers and counter aggregators. The mutations of its buffered writers and the calls
+ * of a {@link NativeAsyncHBaseExecutor} are not reported.
+ *
+ * <p>A listener is set with {@link HBaseExecutor#setMetricsListener(HBaseMetricsListener)}. From then on, each
+ * {@code Table} call of the executor (a {@code get}, {@code put}, {@code delete}, {@code batch} and so on) is timed and
+ * reported to {@link #onOperation}, and each scan is reported to {@link #onScan} when its scanner is closed, with the
+ * {@link ScanMetrics} the client collected for it. Without a listener, nothing is measured.</p>
+ *
+ * <p>The methods are called on the thread which made the call, once it has completed; they must be thread-safe and
+ * fast. {@link HBaseMetricsRecorder} is a ready-made listener which aggregates the calls per table and operation.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * HBaseMetricsRecorder recorder = new HBaseMetricsRecorder();
+ * executor.setMetricsListener(recorder);
+ *
+ * // later, e.g. from a scheduled reporter:
+ * for (HBaseMetricsRecorder.Stats stats : recorder.getAllStats()) {
+ *     logger.info(stats.tableName() + " " + stats.operation() + " p99=" + stats.percentileNanos(0.99) / 1000 + "us");
+ * }
+ * }</pre>
+ *
+ * @see HBaseMetricsRecorder
+ * @see HBaseExecutor#setMetricsListener(HBaseMetricsListener)
+ */
+public interface HBaseMetricsListener {
+
+    /**
+     * Called when a {@code Table} call other than a scan has completed.
+     *
+     * @param tableName the name of the table
+     * @param operation the name of the {@code Table} method, e.g. {@code "get"}, {@code "put"} or {@code "batch"}
+     * @param elapsedNanos the duration of the call, in nanoseconds
+     * @param rowCount the number of rows the call was made for: the size of its list of actions, or one
+     * @param byteCount the approximate size of the mutations sent and of the cells returned
+     * @param failure the exception thrown by the call, or {@code null} if it succeeded
+     */
+    void onOperation(String tableName, String operation, long elapsedNanos, int rowCount, long byteCount, Throwable failure);
+
+    /**
+     * Called when the scanner of a scan is closed. The default implementation reports the scan to
+     * {@link #onOperation} as operation {@code "scan"}.
+     *
+     * @param tableName the name of the table
+     * @param elapsedNanos the time from the opening to the closing of the scanner, in nanoseconds
+     * @param rowCount the number of non-empty results returned
+     * @param scanMetrics the metrics collected by the client for the scan: RPCs, regions, bytes and rows; {@code null}
+     *        if the scanner collected none
+     * @param failure the first exception thrown by the scanner, or {@code null} if there was none
+     */
+    default void onScan(final String tableName, final long elapsedNanos, final long rowCount, final ScanMetrics scanMetrics, final Throwable failure) {
+        onOperation(tableName, "scan", elapsedNanos, (int) Math.min(rowCount, Integer.MAX_VALUE),
+                scanMetrics == null ? 0 : scanMetrics.countOfBytesInResults.get(), failure);
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.hadoop.hbase.client.metrics.ScanMetrics;
+
+import com.landawn.abacus.util.N;
+
+/**
+ * A {@link HBaseMetricsListener} which aggregates the calls of an {@link HBaseExecutor} per table and operation:
+ * call, failure, row and byte counts, the RPCs and regions of scans, and a latency histogram with power-of-two
+ * buckets from which percentiles are estimated.
+ *
+ * <p>Recording a call adds to a few {@link LongAdder}s and does not allocate, so the recorder can stay enabled in
+ * production. {@link #getAllStats()} takes a snapshot which can be exported to any metrics system.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * HBaseMetricsRecorder recorder = new HBaseMetricsRecorder();
+ * executor.setMetricsListener(recorder);
+ *
+ * executor.mapper(User.class).get(userIds);
+ *
+ * HBaseMetricsRecorder.Stats stats = recorder.getStats("users", "get");
+ * logger.info("{} gets, p99: {}us", stats.count(), stats.percentileNanos(0.99) / 1000);
+ * }</pre>
+ *
+ * @see HBaseMetricsListener
+ */
+public final class HBaseMetricsRecorder implements HBaseMetricsListener {
+
+    private static final int BUCKET_COUNT = 64;
+
+    private final Map<String, Map<String, Counters>> countersPool = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an empty recorder.
+     */
+    public HBaseMetricsRecorder() {
+        // default constructor.
+    }
+
+    @Override
+    public void onOperation(final String tableName, final String operation, final long elapsedNanos, final int rowCount, final long byteCount,
+            final Throwable failure) {
+        countersOf(tableName, operation).record(elapsedNanos, rowCount, byteCount, failure);
+    }
+
+    @Override
+    public void onScan(final String tableName, final long elapsedNanos, final long rowCount, final ScanMetrics scanMetrics, final Throwable failure) {
+        final Counters counters = countersOf(tableName, "scan");
+
+        counters.record(elapsedNanos, rowCount, scanMetrics == null ? 0 : scanMetrics.countOfBytesInResults.get(), failure);
+
+        if (scanMetrics != null) {
+            counters.rpcCount.add(scanMetrics.countOfRPCcalls.get());
+            counters.regionCount.add(scanMetrics.countOfRegions.get());
+        }
+    }
+
+    private Counters countersOf(final String tableName, final String operation) {
+        Map<String, Counters> tableCounters = countersPool.get(tableName);
+
+        if (tableCounters == null) {
+            tableCounters = countersPool.computeIfAbsent(tableName, k -> new ConcurrentHashMap<>());
+        }
+
+        final Counters counters = tableCounters.get(operation);
+
+        return counters != null ? counters : tableCounters.computeIfAbsent(operation, k -> new Counters());
+    }
+
+    /**
+     * Returns a snapshot of the statistics of {@code operation} on {@code tableName}.
+     *
+     * @param tableName the name of the table
+     * @param operation the name of the operation, e.g. {@code "get"}, {@code "put"} or {@code "scan"}
+     * @return the statistics, or {@code null} if no such call has been recorded
+     */
+    public Stats getStats(final String tableName, final String operation) {
+        final Map<String, Counters> tableCounters = countersPool.get(tableName);
+        final Counters counters = tableCounters == null ? null : tableCounters.get(operation);
+
+        return counters == null ? null : counters.snapshot(tableName, operation);
+    }
+
+    /**
+     * Returns a snapshot of the statistics of every table and operation recorded.
+     *
+     * @return the statistics, one per table and operation
+     */
+    public List<Stats> getAllStats() {
+        final List<Stats> result = new ArrayList<>();
+
+        for (final Map.Entry<String, Map<String, Counters>> tableEntry : countersPool.entrySet()) {
+            for (final Map.Entry<String, Counters> entry : tableEntry.getValue().entrySet()) {
+                result.add(entry.getValue().snapshot(tableEntry.getKey(), entry.getKey()));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Discards all statistics recorded so far.
+     */
+    public void reset() {
+        countersPool.clear();
+    }
+
+    static int bucketOf(final long nanos) {
+        return nanos <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+    }
+
+    private static final class Counters {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder rowCount = new LongAdder();
+        private final LongAdder byteCount = new LongAdder();
+        private final LongAdder rpcCount = new LongAdder();
+        private final LongAdder regionCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+        void record(final long elapsedNanos, final long rows, final long bytes, final Throwable failure) {
+            count.increment();
+            rowCount.add(rows);
+            byteCount.add(bytes);
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            buckets.incrementAndGet(bucketOf(elapsedNanos));
+
+            if (failure != null) {
+                failureCount.increment();
+            }
+        }
+
+        Stats snapshot(final String tableName, final String operation) {
+            final long[] bucketCounts = new long[BUCKET_COUNT];
+
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                bucketCounts[i] = buckets.get(i);
+            }
+
+            return new Stats(tableName, operation, count.sum(), failureCount.sum(), rowCount.sum(), byteCount.sum(), rpcCount.sum(), regionCount.sum(),
+                    totalNanos.sum(), maxNanos.get(), bucketCounts);
+        }
+    }
+
+    /**
+     * A snapshot of the statistics of one operation on one table.
+     */
+    public static final class Stats {
+        private final String tableName;
+        private final String operation;
+        private final long count;
+        private final long failureCount;
+        private final long rowCount;
+        private final long byteCount;
+        private final long rpcCount;
+        private final long regionCount;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long[] buckets;
+
+        Stats(final String tableName, final String operation, final long count, final long failureCount, final long rowCount, final long byteCount,
+                final long rpcCount, final long regionCount, final long totalNanos, final long maxNanos, final long[] buckets) {
+            this.tableName = tableName;
+            this.operation = operation;
+            this.count = count;
+            this.failureCount = failureCount;
+            this.rowCount = rowCount;
+            this.byteCount = byteCount;
+            this.rpcCount = rpcCount;
+            this.regionCount = regionCount;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.buckets = buckets;
+        }
+
+        /**
+         * Returns the name of the table.
+         *
+         * @return the table name
+         */
+        public String tableName() {
+            return tableName;
+        }
+
+        /**
+         * Returns the name of the operation, e.g. {@code "get"}, {@code "put"} or {@code "scan"}.
+         *
+         * @return the operation name
+         */
+        public String operation() {
+            return operation;
+        }
+
+        /**
+         * Returns the number of calls.
+         *
+         * @return the number of calls
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Returns the number of calls which failed.
+         *
+         * @return the number of failed calls
+         */
+        public long failureCount() {
+            return failureCount;
+        }
+
+        /**
+         * Returns the number of rows the calls were made for or, for scans, returned.
+         *
+         * @return the number of rows
+         */
+        public long rowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Returns the approximate number of bytes sent and returned.
+         *
+         * @return the number of bytes
+         */
+        public long byteCount() {
+            return byteCount;
+        }
+
+        /**
+         * Returns the number of RPCs made by scans; zero for other operations.
+         *
+         * @return the number of scan RPCs
+         */
+        public long rpcCount() {
+            return rpcCount;
+        }
+
+        /**
+         * Returns the number of regions touched by scans, summed over the scans; zero for other operations.
+         *
+         * @return the number of regions scanned
+         */
+        public long regionCount() {
+            return regionCount;
+        }
+
+        /**
+         * Returns the total duration of the calls, in nanoseconds.
+         *
+         * @return the total duration
+         */
+        public long totalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Returns the duration of the slowest call, in nanoseconds.
+         *
+         * @return the maximum duration
+         */
+        public long maxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Returns the mean duration of the calls, in nanoseconds.
+         *
+         * @return the mean duration, or zero if there's been no call
+         */
+        public long meanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        /**
+         * Estimates a percentile of the duration of the calls, in nanoseconds. The estimate is the upper bound of the
+         * power-of-two bucket the percentile falls in, so it's at most twice the exact value, and never above
+         * {@link #maxNanos()}.
+         *
+         * @param percentile the percentile, between 0 and 1, e.g. {@code 0.99}
+         * @return the estimated percentile, or zero if there's been no call
+         * @throws IllegalArgumentException if {@code percentile} is not between 0 and 1
+         */
+        public long percentileNanos(final double percentile) throws IllegalArgumentException {
+            N.checkArgument(percentile >= 0 && percentile <= 1, "percentile must be between 0 and 1: {}", percentile);
+
+            long total = 0;
+
+            for (final long bucket : buckets) {
+                total += bucket;
+            }
+
+            if (total == 0) {
+                return 0;
+            }
+
+            final long rank = Math.max(1, (long) Math.ceil(percentile * total));
+            long seen = 0;
+
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+
+                if (seen >= rank) {
+                    final long upperBound = i >= 62 ? Long.MAX_VALUE : (2L << i) - 1;
+                    return Math.min(upperBound, maxNanos);
+                }
+            }
+
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "{tableName=" + tableName + ", operation=" + operation + ", count=" + count + ", failureCount=" + failureCount + ", rowCount="
+                    + rowCount + ", byteCount=" + byteCount + ", rpcCount=" + rpcCount + ", regionCount=" + regionCount + ", meanNanos=" + meanNanos()
+                    + ", p99Nanos=" + percentileNanos(0.99) + ", maxNanos=" + maxNanos + "}";
+        }
+    }
+}
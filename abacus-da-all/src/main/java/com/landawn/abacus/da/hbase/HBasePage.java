@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import java.util.Base64;
+import java.util.List;
+
+import com.landawn.abacus.util.N;
+
+/**
+ * A page of entities read by {@code HBaseMapper.page(...)}, together with the continuation token from which the next
+ * page is read.
+ *
+ * <p>The token is an opaque, URL-safe string holding the row key of the last entity of the page. The next page starts
+ * right after that row key, so reading a page costs the same however deep it is, unlike skipping rows with
+ * {@link HBaseExecutor#toList(org.apache.hadoop.hbase.client.ResultScanner, int, int, Class)}. Rows written or deleted
+ * between two pages are seen or missed according to their position relative to the token, never twice.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * String token = null;
+ *
+ * do {
+ *     HBasePage<User> page = mapper.page(AnyScan.create(), 100, token);
+ *     page.content().forEach(this::process);
+ *     token = page.continuationToken();
+ * } while (token != null);
+ * }</pre>
+ *
+ * @param <T> the entity type
+ */
+public final class HBasePage<T> {
+
+    private final List<T> content;
+    private final String continuationToken;
+
+    HBasePage(final List<T> content, final String continuationToken) {
+        this.content = content;
+        this.continuationToken = continuationToken;
+    }
+
+    /**
+     * Returns the entities of this page, in scan order.
+     *
+     * @return the entities of this page; empty if no row is left
+     */
+    public List<T> content() {
+        return content;
+    }
+
+    /**
+     * Returns the token to pass to {@code HBaseMapper.page(...)} to read the next page.
+     *
+     * @return the continuation token, or {@code null} if this is the last page
+     */
+    public String continuationToken() {
+        return continuationToken;
+    }
+
+    /**
+     * Checks whether there is a page after this one.
+     *
+     * @return {@code true} if {@link #continuationToken()} is not {@code null}
+     */
+    public boolean hasNext() {
+        return continuationToken != null;
+    }
+
+    @Override
+    public String toString() {
+        return "{content=" + N.toString(content) + ", continuationToken=" + continuationToken + "}";
+    }
+
+    static String toContinuationToken(final byte[] lastRowKey) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(lastRowKey);
+    }
+
+    static byte[] toLastRowKey(final String continuationToken) {
+        try {
+            return Base64.getUrlDecoder().decode(continuationToken);
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token: " + continuationToken, e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.landawn.abacus.logging.Logger;
+import com.landawn.abacus.logging.LoggerFactory;
+import com.landawn.abacus.parser.ParserUtil.PropInfo;
+import com.landawn.abacus.util.ClassUtil;
+
+/**
+ * Reads and writes one property of an entity class for the HBase entity mapping.
+ *
+ * <p>When accessor generation is enabled through {@link HBaseExecutor#setGeneratedPropAccessorsEnabled(boolean)}, the
+ * getter and setter of the property are bound once, through {@link LambdaMetafactory}, to a {@link Function} and a
+ * {@link BiConsumer} which call the accessor methods directly, so the per-cell path of
+ * {@link HBaseExecutor#toEntity(org.apache.hadoop.hbase.client.Result, Class)} and {@link AnyPut#create(Object)} is a
+ * plain (JIT-inlinable) method call instead of a reflective one. Otherwise, and for any accessor that can't be bound
+ * (e.g. no getter/setter method, or a class not accessible from this module), the calls go through
+ * {@link PropInfo#getPropValue(Object)} and {@link PropInfo#setPropValue(Object, Object)}.</p>
+ *
+ * <p>A generated setter is only used for a non-null value of the property's type; {@code null} and values that need a
+ * conversion still go through {@link PropInfo#setPropValue(Object, Object)}, so both modes behave the same.</p>
+ *
+ * <p>Instances are immutable and thread-safe; obtain them through {@link HBaseExecutor#getPropAccessor(Class, PropInfo)}.</p>
+ */
+final class HBasePropAccessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(HBasePropAccessor.class);
+
+    final PropInfo propInfo;
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+    private final Class<?> setterValueClass;
+
+    private HBasePropAccessor(final PropInfo propInfo, final Function<Object, Object> getter, final BiConsumer<Object, Object> setter) {
+        this.propInfo = propInfo;
+        this.getter = getter;
+        this.setter = setter;
+        this.setterValueClass = setter == null ? null : ClassUtil.wrap(propInfo.setMethod.getParameterTypes()[0]);
+    }
+
+    /**
+     * Creates an accessor which goes through {@link PropInfo#getPropValue(Object)} and {@link PropInfo#setPropValue(Object, Object)}.
+     *
+     * @param propInfo the property
+     * @return the reflective accessor
+     */
+    static HBasePropAccessor reflective(final PropInfo propInfo) {
+        return new HBasePropAccessor(propInfo, null, null);
+    }
+
+    /**
+     * Creates an accessor with a generated getter and setter, falling back to reflection for whichever can't be generated.
+     *
+     * @param propInfo the property
+     * @return the generated accessor
+     */
+    static HBasePropAccessor generate(final PropInfo propInfo) {
+        return new HBasePropAccessor(propInfo, generateGetter(propInfo.getMethod), generateSetter(propInfo.setMethod));
+    }
+
+    /**
+     * Returns whether reads go through a generated getter.
+     *
+     * @return {@code true} if the getter is generated
+     */
+    boolean hasGeneratedGetter() {
+        return getter != null;
+    }
+
+    /**
+     * Returns whether writes of non-null values go through a generated setter.
+     *
+     * @return {@code true} if the setter is generated
+     */
+    boolean hasGeneratedSetter() {
+        return setter != null;
+    }
+
+    /**
+     * Returns the value of the property of {@code bean}.
+     *
+     * @param bean the bean to read
+     * @return the property value
+     */
+    Object getPropValue(final Object bean) {
+        return getter == null ? propInfo.getPropValue(bean) : getter.apply(bean);
+    }
+
+    /**
+     * Sets the property of {@code bean} to {@code value}.
+     *
+     * @param bean the bean to write
+     * @param value the new property value
+     */
+    void setPropValue(final Object bean, final Object value) {
+        if (setter != null && setterValueClass.isInstance(value)) {
+            setter.accept(bean, value);
+        } else {
+            propInfo.setPropValue(bean, value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> generateGetter(final Method method) {
+        if (method == null || Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0) {
+            return null;
+        }
+
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            final MethodHandle handle = lookup.unreflect(method);
+
+            final CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class), handle, handle.type().wrap());
+
+            return (Function<Object, Object>) callSite.getTarget().invoke();
+        } catch (final Throwable e) { // NOSONAR
+            logger.debug("Failed to generate getter for method: {}. Falling back to reflection. {}", method, e.getMessage());
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> generateSetter(final Method method) {
+        if (method == null || Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1) {
+            return null;
+        }
+
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            final MethodHandle handle = lookup.unreflect(method);
+
+            // a chained setter's return value is dropped by the void BiConsumer.accept.
+            final CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class), handle, handle.type().wrap().changeReturnType(void.class));
+
+            return (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+        } catch (final Throwable e) { // NOSONAR
+            logger.debug("Failed to generate setter for method: {}. Falling back to reflection. {}", method, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Table;
+
+import com.landawn.abacus.exception.UncheckedIOException;
+import com.landawn.abacus.logging.Logger;
+import com.landawn.abacus.logging.LoggerFactory;
+import com.landawn.abacus.util.IOUtil;
+import com.landawn.abacus.util.N;
+
+/**
+ * The {@link Table} handles used by the operations of one {@link HBaseExecutor}, and the {@link TableName}s shared by
+ * all executors.
+ *
+ * <p>A {@link Table} returned by {@link Connection#getTable(TableName)} must not be used by two threads at the same
+ * time, so the cache keeps up to {@link #getMaxIdleTablesPerTable()} idle handles per table: an operation borrows an
+ * idle handle (a hit) or opens a new one (a miss), and returns it when it's done. A handle which is returned when the
+ * table already has enough idle handles is closed (an eviction). With {@code maxIdleTablesPerTable == 0}, the cache is
+ * disabled and every operation opens and closes its own handle, as before.</p>
+ *
+ * <p>The idle handles are closed by {@link HBaseExecutor#close()}, or by {@link #clear()}.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * HBaseExecutor executor = new HBaseExecutor(conn, asyncExecutor, 16);
+ * // ... operations
+ * HBaseTableCache tableCache = executor.tableCache();
+ * logger.info("table cache hit rate: {}", tableCache.getHitRate());
+ * }</pre>
+ *
+ * @see HBaseExecutor#HBaseExecutor(Connection, com.landawn.abacus.util.AsyncExecutor, int)
+ */
+public final class HBaseTableCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(HBaseTableCache.class);
+
+    private static final Map<String, TableName> tableNamePool = new ConcurrentHashMap<>();
+
+    private final Connection conn;
+
+    private final int maxIdleTablesPerTable;
+
+    private final Map<String, IdleTables> idleTablesPool = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    private volatile boolean closed = false;
+
+    HBaseTableCache(final Connection conn, final int maxIdleTablesPerTable) {
+        N.checkArgNotNegative(maxIdleTablesPerTable, "maxIdleTablesPerTable");
+
+        this.conn = conn;
+        this.maxIdleTablesPerTable = maxIdleTablesPerTable;
+    }
+
+    /**
+     * Returns the {@link TableName} of the specified table name, which is parsed and validated only the first time.
+     *
+     * @param tableName the name of the table, optionally qualified by a namespace
+     * @return the shared {@code TableName} of {@code tableName}
+     * @throws IllegalArgumentException if {@code tableName} isn't a valid table name
+     */
+    static TableName toTableName(final String tableName) {
+        TableName result = tableNamePool.get(tableName);
+
+        if (result == null) {
+            result = TableName.valueOf(tableName);
+            tableNamePool.put(tableName, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Borrows an idle handle of the specified table, or opens a new one. The handle must be returned by
+     * {@link #release(String, Table)}.
+     *
+     * @param tableName the name of the table
+     * @return a handle of the table which isn't used by any other thread
+     * @throws UncheckedIOException if a new handle can't be opened
+     */
+    Table borrow(final String tableName) throws UncheckedIOException {
+        if (maxIdleTablesPerTable > 0) {
+            final IdleTables idleTables = idleTablesPool.get(tableName);
+            final Table table = idleTables == null ? null : idleTables.poll();
+
+            if (table != null) {
+                hitCount.increment();
+                return table;
+            }
+        }
+
+        missCount.increment();
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Acquiring HBase table: {}", tableName);
+        }
+
+        try {
+            return conn.getTable(toTableName(tableName));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns a handle borrowed by {@link #borrow(String)}. It's kept for the next operation on the table if there's
+     * room for it, or closed otherwise.
+     *
+     * @param tableName the name of the table
+     * @param table the handle to return; may be {@code null}
+     */
+    void release(final String tableName, final Table table) {
+        if (table == null) {
+            return;
+        }
+
+        if (maxIdleTablesPerTable == 0 || closed) {
+            IOUtil.closeQuietly(table);
+            return;
+        }
+
+        final IdleTables idleTables = idleTablesPool.computeIfAbsent(tableName, k -> new IdleTables());
+
+        if (idleTables.offer(table, maxIdleTablesPerTable)) {
+            if (closed) { // raced with clear() from close(): don't leave the handle behind.
+                idleTables.closeAll();
+            }
+        } else {
+            evictionCount.increment();
+            IOUtil.closeQuietly(table);
+        }
+    }
+
+    /**
+     * Closes all idle handles. Handles which are in use are kept when they're returned, unless the owning executor has
+     * been closed.
+     */
+    public void clear() {
+        for (final IdleTables idleTables : idleTablesPool.values()) {
+            idleTables.closeAll();
+        }
+    }
+
+    void close() {
+        closed = true;
+
+        clear();
+    }
+
+    /**
+     * Returns the maximum number of idle handles kept per table. {@code 0} means the cache is disabled.
+     *
+     * @return the maximum number of idle handles kept per table
+     */
+    public int getMaxIdleTablesPerTable() {
+        return maxIdleTablesPerTable;
+    }
+
+    /**
+     * Returns the number of idle handles currently kept for all tables.
+     *
+     * @return the number of idle handles
+     */
+    public int getIdleTableCount() {
+        int count = 0;
+
+        for (final IdleTables idleTables : idleTablesPool.values()) {
+            count += idleTables.size.get();
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the number of operations which were served by an idle handle.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of operations which had to open a new handle.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of returned handles which were closed because the table already had enough idle handles.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns {@code hitCount / (hitCount + missCount)}, or {@code 0} if no handle has been borrowed yet.
+     *
+     * @return the hit rate, between {@code 0} and {@code 1}
+     */
+    public double getHitRate() {
+        final long hits = hitCount.sum();
+        final long total = hits + missCount.sum();
+
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "{maxIdleTablesPerTable=" + maxIdleTablesPerTable + ", idleTableCount=" + getIdleTableCount() + ", hitCount=" + getHitCount()
+                + ", missCount=" + getMissCount() + ", evictionCount=" + getEvictionCount() + "}";
+    }
+
+    private static final class IdleTables {
+        private final Queue<Table> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        Table poll() {
+            final Table table = queue.poll();
+
+            if (table != null) {
+                size.decrementAndGet();
+            }
+
+            return table;
+        }
+
+        boolean offer(final Table table, final int maxSize) {
+            if (size.incrementAndGet() > maxSize) {
+                size.decrementAndGet();
+                return false;
+            }
+
+            queue.offer(table);
+
+            return true;
+        }
+
+        void closeAll() {
+            Table table = null;
+
+            while ((table = poll()) != null) {
+                IOUtil.closeQuietly(table);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.client.Scan;
+
+import com.landawn.abacus.exception.UncheckedIOException;
+import com.landawn.abacus.util.N;
+
+/**
+ * The {@link RowKeyDistributor} returned by {@link RowKeyDistributor#hashPrefix(int)}: prefixes each row key with one
+ * byte, {@code (hash(rowKey) & 0x7fffffff) % bucketCount}, where {@code hash} is {@link Arrays#hashCode(byte[])}, whose
+ * value is specified and therefore stable across JVMs.
+ */
+final class HashPrefixRowKeyDistributor implements RowKeyDistributor {
+
+    private final int bucketCount;
+
+    HashPrefixRowKeyDistributor(final int bucketCount) {
+        N.checkArgument(bucketCount >= 1 && bucketCount <= 256, "'bucketCount' must be between 1 and 256: {}", bucketCount);
+
+        this.bucketCount = bucketCount;
+    }
+
+    @Override
+    public byte[] toStoredRowKey(final byte[] originalRowKey) {
+        N.checkArgNotNull(originalRowKey, "originalRowKey");
+
+        final byte[] storedRowKey = new byte[originalRowKey.length + 1];
+        storedRowKey[0] = (byte) ((Arrays.hashCode(originalRowKey) & Integer.MAX_VALUE) % bucketCount);
+        System.arraycopy(originalRowKey, 0, storedRowKey, 1, originalRowKey.length);
+
+        return storedRowKey;
+    }
+
+    @Override
+    public byte[] toOriginalRowKey(final byte[] storedRowKey) {
+        N.checkArgNotNull(storedRowKey, "storedRowKey");
+
+        return storedRowKey.length == 0 ? storedRowKey : Arrays.copyOfRange(storedRowKey, 1, storedRowKey.length);
+    }
+
+    @Override
+    public List<Scan> toStoredScans(final Scan scan) {
+        final byte[] startRow = scan.getStartRow();
+        final byte[] stopRow = scan.getStopRow();
+        final boolean reversed = scan.isReversed();
+        final List<Scan> storedScans = new ArrayList<>(bucketCount);
+
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            final byte[] bucketStart = { (byte) bucket };
+            // the first row key after the bucket; empty for the last possible bucket, i.e. the end of the table.
+            final byte[] bucketEnd = bucket == 255 ? HConstants.EMPTY_END_ROW : new byte[] { (byte) (bucket + 1) };
+
+            final Scan storedScan;
+
+            try {
+                storedScan = new Scan(scan);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            if (reversed) {
+                storedScan.withStartRow(N.isEmpty(startRow) ? bucketEnd : prefix(bucketStart, startRow), N.notEmpty(startRow) && scan.includeStartRow());
+                storedScan.withStopRow(N.isEmpty(stopRow) ? bucketStart : prefix(bucketStart, stopRow), N.isEmpty(stopRow) || scan.includeStopRow());
+            } else {
+                storedScan.withStartRow(N.isEmpty(startRow) ? bucketStart : prefix(bucketStart, startRow), N.isEmpty(startRow) || scan.includeStartRow());
+                storedScan.withStopRow(N.isEmpty(stopRow) ? bucketEnd : prefix(bucketStart, stopRow), N.notEmpty(stopRow) && scan.includeStopRow());
+            }
+
+            storedScans.add(storedScan);
+        }
+
+        return storedScans;
+    }
+
+    private static byte[] prefix(final byte[] prefix, final byte[] rowKey) {
+        final byte[] result = Arrays.copyOf(prefix, prefix.length + rowKey.length);
+        System.arraycopy(rowKey, 0, result, prefix.length, rowKey.length);
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "hashPrefix(" + bucketCount + ")";
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Set;
+
+import org.apache.hadoop.hbase.client.CheckAndMutateResult;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.RowMutations;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.client.metrics.ScanMetrics;
+
+import com.landawn.abacus.logging.Logger;
+import com.landawn.abacus.logging.LoggerFactory;
+
+/**
+ * Wraps a {@link Table} so that its data operations are timed and reported to a {@link HBaseMetricsListener}, and its
+ * scanners report the rows they return and their {@link ScanMetrics} when they're closed.
+ *
+ * <p>The wrapper is a dynamic proxy, so every data method of {@code Table}, present or added by a later client
+ * version, goes through one code path. Scans are run on a copy of the {@link Scan} with scan metrics enabled, which
+ * the client collects at no extra RPC cost.</p>
+ */
+final class InstrumentedTable implements InvocationHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(InstrumentedTable.class);
+
+    private static final Set<String> OPERATIONS = Set.of("get", "exists", "existsAll", "put", "delete", "append", "increment", "incrementColumnValue",
+            "mutateRow", "batch", "batchCallback", "checkAndMutate");
+
+    private final String tableName;
+    private final Table table;
+    private final HBaseMetricsListener listener;
+
+    private InstrumentedTable(final String tableName, final Table table, final HBaseMetricsListener listener) {
+        this.tableName = tableName;
+        this.table = table;
+        this.listener = listener;
+    }
+
+    /**
+     * Returns {@code table} wrapped so that its calls are reported to {@code listener}, or {@code table} itself if
+     * {@code listener} is {@code null}, so that an unmeasured table doesn't pay for the reflective dispatch.
+     */
+    static Table wrap(final String tableName, final Table table, final HBaseMetricsListener listener) {
+        if (listener == null) {
+            return table;
+        }
+
+        return (Table) Proxy.newProxyInstance(Table.class.getClassLoader(), new Class<?>[] { Table.class },
+                new InstrumentedTable(tableName, table, listener));
+    }
+
+    /**
+     * Returns the table wrapped by {@link #wrap(String, Table, HBaseMetricsListener)}, or {@code table} itself if it
+     * isn't a wrapper.
+     */
+    static Table unwrap(final Table table) {
+        if (table != null && Proxy.isProxyClass(table.getClass()) && Proxy.getInvocationHandler(table) instanceof InstrumentedTable handler) {
+            return handler.table;
+        }
+
+        return table;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        final String name = method.getName();
+
+        if ("equals".equals(name) && args != null && args.length == 1) {
+            return proxy == args[0];
+        } else if ("getScanner".equals(name)) {
+            return getScanner(method, args);
+        } else if (!OPERATIONS.contains(name)) {
+            return call(method, args);
+        }
+
+        final long startTime = System.nanoTime();
+        Object result = null;
+        Throwable failure = null;
+
+        try {
+            result = call(method, args);
+            return result;
+        } catch (final Throwable e) { // NOSONAR
+            failure = e;
+            throw e;
+        } finally {
+            final long elapsedNanos = System.nanoTime() - startTime;
+
+            try {
+                listener.onOperation(tableName, name, elapsedNanos, rowCount(args), byteCount(args, result), failure);
+            } catch (final RuntimeException e) {
+                logger.warn("Metrics listener failed for " + name + " on table " + tableName, e);
+            }
+        }
+    }
+
+    private Object getScanner(final Method method, final Object[] args) throws Throwable {
+        Object[] actualArgs = args;
+
+        if (args.length == 1 && args[0] instanceof Scan scan && !scan.isScanMetricsEnabled()) {
+            actualArgs = new Object[] { new Scan(scan).setScanMetricsEnabled(true) };
+        }
+
+        final long startTime = System.nanoTime();
+
+        try {
+            return new InstrumentedScanner((ResultScanner) call(method, actualArgs), startTime);
+        } catch (final Throwable e) { // NOSONAR
+            reportScan(System.nanoTime() - startTime, 0, null, e);
+            throw e;
+        }
+    }
+
+    private Object call(final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(table, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void reportScan(final long elapsedNanos, final long rowCount, final ScanMetrics scanMetrics, final Throwable failure) {
+        try {
+            listener.onScan(tableName, elapsedNanos, rowCount, scanMetrics, failure);
+        } catch (final RuntimeException e) {
+            logger.warn("Metrics listener failed for scan on table " + tableName, e);
+        }
+    }
+
+    /**
+     * The number of rows a call is made for: the size of its list argument, or one.
+     */
+    private static int rowCount(final Object[] args) {
+        return args != null && args.length > 0 && args[0] instanceof Collection<?> c ? c.size() : 1;
+    }
+
+    /**
+     * The approximate size of the mutations sent and of the cells returned by a call.
+     */
+    private static long byteCount(final Object[] args, final Object result) {
+        long size = sizeOf(result);
+
+        if (args != null) {
+            for (final Object arg : args) {
+                size += sizeOf(arg);
+            }
+        }
+
+        return size;
+    }
+
+    private static long sizeOf(final Object value) {
+        if (value instanceof Result result) {
+            return result.isEmpty() ? 0 : Result.getTotalSizeOfCells(result);
+        } else if (value instanceof Mutation mutation) {
+            return mutation.heapSize();
+        } else if (value instanceof RowMutations rowMutations) {
+            return sizeOf(rowMutations.getMutations());
+        } else if (value instanceof CheckAndMutateResult checkAndMutateResult) {
+            return sizeOf(checkAndMutateResult.getResult());
+        } else if (value instanceof Collection<?> c) {
+            long size = 0;
+
+            for (final Object e : c) {
+                size += sizeOf(e);
+            }
+
+            return size;
+        } else if (value instanceof Object[] a) {
+            long size = 0;
+
+            for (final Object e : a) {
+                size += sizeOf(e);
+            }
+
+            return size;
+        }
+
+        return 0;
+    }
+
+    private final class InstrumentedScanner implements ResultScanner {
+        private final ResultScanner scanner;
+        private final long startTime;
+        private long rowCount = 0;
+        private Throwable failure = null;
+        private boolean closed = false;
+
+        InstrumentedScanner(final ResultScanner scanner, final long startTime) {
+            this.scanner = scanner;
+            this.startTime = startTime;
+        }
+
+        @Override
+        public Result next() throws IOException {
+            try {
+                final Result result = scanner.next();
+
+                if (result != null && !result.isEmpty()) {
+                    rowCount++;
+                }
+
+                return result;
+            } catch (IOException | RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+
+            try {
+                scanner.close();
+            } finally {
+                reportScan(System.nanoTime() - startTime, rowCount, scanner.getScanMetrics(), failure);
+            }
+        }
+
+        @Override
+        public boolean renewLease() {
+            return scanner.renewLease();
+        }
+
+        @Override
+        public ScanMetrics getScanMetrics() {
+            return scanner.getScanMetrics();
+        }
+    }
+}
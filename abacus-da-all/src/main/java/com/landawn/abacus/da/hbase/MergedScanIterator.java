@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import com.landawn.abacus.util.stream.ObjIteratorEx;
+import com.landawn.abacus.util.stream.Stream;
+
+/**
+ * Iterates the {@link Result}s of the stored-key scans of a {@link RowKeyDistributor} in the order of the original row
+ * keys, with a k-way merge over the heads of the scans.
+ *
+ * <p>All scans are opened on the first call of {@link #hasNext()} and hold one result each in the merge heap; the
+ * scanners fetch their batches as usual. {@link #closeResource()} closes every scan. The limit of the original scan, if
+ * any, applies to the merged results.</p>
+ */
+final class MergedScanIterator extends ObjIteratorEx<Result> {
+
+    private final HBaseExecutor hbaseExecutor;
+    private final String tableName;
+    private final RowKeyDistributor distributor;
+    private final List<Scan> storedScans;
+    private final int limit;
+    private final Comparator<Head> comparator;
+    private final List<Stream<Result>> streams;
+
+    private PriorityQueue<Head> heads = null;
+    private int count = 0;
+
+    MergedScanIterator(final HBaseExecutor hbaseExecutor, final String tableName, final Scan scan, final RowKeyDistributor distributor) {
+        this.hbaseExecutor = hbaseExecutor;
+        this.tableName = tableName;
+        this.distributor = distributor;
+        this.storedScans = distributor.toStoredScans(scan);
+        this.limit = scan.getLimit();
+        this.streams = new ArrayList<>(storedScans.size());
+
+        final Comparator<Head> ascending = (a, b) -> Bytes.compareTo(a.originalRowKey, b.originalRowKey);
+        this.comparator = scan.isReversed() ? ascending.reversed() : ascending;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (heads == null) {
+            open();
+        }
+
+        return !heads.isEmpty() && (limit <= 0 || count < limit);
+    }
+
+    @Override
+    public Result next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final Head head = heads.poll();
+        final Result result = head.result;
+
+        if (head.iter.hasNext()) {
+            heads.add(new Head(head.iter.next(), head.iter));
+        }
+
+        count++;
+
+        return result;
+    }
+
+    @Override
+    public void closeResource() {
+        RuntimeException failure = null;
+
+        for (final Stream<Result> stream : streams) {
+            try {
+                stream.close();
+            } catch (final RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+
+        streams.clear();
+        heads = new PriorityQueue<>(comparator);
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void open() {
+        heads = new PriorityQueue<>(Math.max(storedScans.size(), 1), comparator);
+
+        for (final Scan storedScan : storedScans) {
+            final Stream<Result> stream = hbaseExecutor.scan(tableName, storedScan);
+            streams.add(stream);
+
+            final Iterator<Result> iter = stream.iterator();
+
+            if (iter.hasNext()) {
+                heads.add(new Head(iter.next(), iter));
+            }
+        }
+    }
+
+    private final class Head {
+        private final Result result;
+        private final Iterator<Result> iter;
+        private final byte[] originalRowKey;
+
+        Head(final Result result, final Iterator<Result> iter) {
+            this.result = result;
+            this.iter = iter;
+            this.originalRowKey = distributor.toOriginalRowKey(result.getRow());
+        }
+    }
+}
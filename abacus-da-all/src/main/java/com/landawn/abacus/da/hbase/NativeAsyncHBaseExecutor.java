@@ -0,0 +1,580 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.hadoop.hbase.client.AdvancedScanResultConsumer;
+import org.apache.hadoop.hbase.client.Append;
+import org.apache.hadoop.hbase.client.AsyncConnection;
+import org.apache.hadoop.hbase.client.AsyncTable;
+import org.apache.hadoop.hbase.client.Delete;
+import org.apache.hadoop.hbase.client.Durability;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Increment;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.RowMutations;
+import org.apache.hadoop.hbase.client.Scan;
+
+import com.landawn.abacus.util.ContinuableFuture;
+import com.landawn.abacus.util.N;
+
+/**
+ * Non-blocking counterpart of {@link AsyncHBaseExecutor}, built on HBase's native asynchronous client
+ * ({@link AsyncConnection}/{@link AsyncTable}).
+ *
+ * <p>{@link AsyncHBaseExecutor} runs each blocking {@link HBaseExecutor} call on a thread of an
+ * {@link com.landawn.abacus.util.AsyncExecutor}, so every in-flight request holds a thread. The methods of this class
+ * send the request and return right away: the returned {@link ContinuableFuture} is completed by the HBase RPC
+ * framework when the response arrives, and no thread waits for it. The number of requests in flight is only bounded by
+ * the memory of the client and by the server.</p>
+ *
+ * <p>A transform created by {@link ContinuableFuture#map(com.landawn.abacus.util.Throwables.Function)}, such as the
+ * entity mapping of the methods taking a {@code targetType}, runs on the thread that calls {@code get()}, never on the
+ * RPC threads.</p>
+ *
+ * <p>Scans are only available as {@link #scanAll(String, AnyScan)}, which loads all the results into memory; use
+ * {@link HBaseExecutor#scan(String, AnyScan)} to stream large scans. Coprocessor calls are not supported.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * AsyncConnection asyncConn = ConnectionFactory.createAsyncConnection(HBaseConfiguration.create()).get();
+ * NativeAsyncHBaseExecutor executor = new NativeAsyncHBaseExecutor(asyncConn);
+ * try {
+ *     List<ContinuableFuture<Result>> futures = new ArrayList<>();
+ *
+ *     for (String userId : userIds) {
+ *         futures.add(executor.get("users", AnyGet.of(userId)));   // returns immediately
+ *     }
+ *
+ *     for (ContinuableFuture<Result> future : futures) {
+ *         process(future.get());
+ *     }
+ * } finally {
+ *     executor.close();
+ * }
+ * }</pre>
+ *
+ * @see AsyncHBaseExecutor
+ * @see AsyncConnection
+ * @see AsyncTable
+ */
+public final class NativeAsyncHBaseExecutor {
+
+    private final AsyncConnection conn;
+
+    private final Map<String, AsyncTable<AdvancedScanResultConsumer>> tablePool = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a {@code NativeAsyncHBaseExecutor} bound to the given {@link AsyncConnection}. Closing this executor
+     * closes the connection.
+     *
+     * @param conn the asynchronous HBase connection to use
+     * @throws IllegalArgumentException if {@code conn} is {@code null}
+     */
+    public NativeAsyncHBaseExecutor(final AsyncConnection conn) {
+        this.conn = N.checkArgNotNull(conn, "conn");
+    }
+
+    /**
+     * Returns the {@link AsyncConnection} wrapped by this executor.
+     *
+     * @return the wrapped {@link AsyncConnection}
+     */
+    public AsyncConnection connection() {
+        return conn;
+    }
+
+    /**
+     * Returns the {@link AsyncTable} of the specified table. {@code AsyncTable}s are thread-safe, so the same instance
+     * is returned for all calls with the same table name.
+     *
+     * <p>The callbacks of the {@link java.util.concurrent.CompletableFuture}s returned by the table run on the HBase
+     * RPC threads and must not block.</p>
+     *
+     * @param tableName the name of the HBase table
+     * @return the {@link AsyncTable} of {@code tableName}
+     * @throws IllegalArgumentException if {@code tableName} isn't a valid table name
+     */
+    public AsyncTable<AdvancedScanResultConsumer> getTable(final String tableName) {
+        return tablePool.computeIfAbsent(tableName, k -> conn.getTable(HBaseTableCache.toTableName(k)));
+    }
+
+    /**
+     * Tests whether the row of the specified {@link Get} has any cells.
+     *
+     * @param tableName the name of the HBase table
+     * @param get the Get specifying the row and, optionally, the columns to check
+     * @return a future completed with {@code true} if the Get matches one or more cells
+     * @see AsyncTable#exists(Get)
+     */
+    public ContinuableFuture<Boolean> exists(final String tableName, final Get get) {
+        return ContinuableFuture.wrap(getTable(tableName).exists(get));
+    }
+
+    /**
+     * Tests whether the rows of the specified {@link Get}s have any cells, in a single batch.
+     *
+     * @param tableName the name of the HBase table
+     * @param gets the Gets to check
+     * @return a future completed with one flag per Get, in the order of {@code gets}
+     * @see AsyncTable#existsAll(List)
+     */
+    public ContinuableFuture<List<Boolean>> exists(final String tableName, final List<Get> gets) {
+        if (N.isEmpty(gets)) {
+            HBaseTableCache.toTableName(tableName);
+            return ContinuableFuture.completed(new ArrayList<>());
+        }
+
+        return ContinuableFuture.wrap(getTable(tableName).existsAll(gets));
+    }
+
+    /**
+     * Tests whether the row of the specified {@link AnyGet} has any cells.
+     *
+     * @param tableName the name of the HBase table
+     * @param anyGet the get specifying the row and, optionally, the columns to check
+     * @return a future completed with {@code true} if the get matches one or more cells
+     * @see #exists(String, Get)
+     */
+    public ContinuableFuture<Boolean> exists(final String tableName, final AnyGet anyGet) {
+        return exists(tableName, anyGet.val());
+    }
+
+    /**
+     * Tests whether the rows of the specified {@link AnyGet}s have any cells, in a single batch.
+     *
+     * @param tableName the name of the HBase table
+     * @param anyGets the gets to check
+     * @return a future completed with one flag per get, in the iteration order of {@code anyGets}
+     * @see #exists(String, List)
+     */
+    public ContinuableFuture<List<Boolean>> exists(final String tableName, final Collection<AnyGet> anyGets) {
+        return exists(tableName, AnyGet.toGet(anyGets));
+    }
+
+    /**
+     * Retrieves the row of the specified {@link Get}.
+     *
+     * @param tableName the name of the HBase table
+     * @param get the Get specifying the row and the columns to retrieve
+     * @return a future completed with the {@link Result}, which is empty if the row doesn't exist
+     * @see AsyncTable#get(Get)
+     */
+    public ContinuableFuture<Result> get(final String tableName, final Get get) {
+        return ContinuableFuture.wrap(getTable(tableName).get(get));
+    }
+
+    /**
+     * Retrieves the rows of the specified {@link Get}s in a single batch.
+     *
+     * @param tableName the name of the HBase table
+     * @param gets the Gets specifying the rows to retrieve
+     * @return a future completed with one {@link Result} per Get, in the order of {@code gets}
+     * @see AsyncTable#getAll(List)
+     */
+    public ContinuableFuture<List<Result>> get(final String tableName, final List<Get> gets) {
+        if (N.isEmpty(gets)) {
+            HBaseTableCache.toTableName(tableName);
+            return ContinuableFuture.completed(new ArrayList<>());
+        }
+
+        return ContinuableFuture.wrap(getTable(tableName).getAll(gets));
+    }
+
+    /**
+     * Retrieves the row of the specified {@link AnyGet}.
+     *
+     * @param tableName the name of the HBase table
+     * @param anyGet the get specifying the row and the columns to retrieve
+     * @return a future completed with the {@link Result}, which is empty if the row doesn't exist
+     * @see #get(String, Get)
+     */
+    public ContinuableFuture<Result> get(final String tableName, final AnyGet anyGet) {
+        return get(tableName, anyGet.val());
+    }
+
+    /**
+     * Retrieves the rows of the specified {@link AnyGet}s in a single batch.
+     *
+     * @param tableName the name of the HBase table
+     * @param anyGets the gets specifying the rows to retrieve
+     * @return a future completed with one {@link Result} per get, in the iteration order of {@code anyGets}
+     * @see #get(String, List)
+     */
+    public ContinuableFuture<List<Result>> get(final String tableName, final Collection<AnyGet> anyGets) {
+        return get(tableName, AnyGet.toGet(anyGets));
+    }
+
+    /**
+     * Retrieves the row of the specified {@link Get} and converts it to {@code targetType}, the same way as
+     * {@link HBaseExecutor#get(String, Get, Class)}.
+     *
+     * @param <T> the target type
+     * @param tableName the name of the HBase table
+     * @param get the Get specifying the row and the columns to retrieve
+     * @param targetType the class of the entity or value to convert the row to
+     * @return a future completed with the converted row, or {@code null} (the default value for primitive types) if the
+     *         row doesn't exist
+     */
+    public <T> ContinuableFuture<T> get(final String tableName, final Get get, final Class<T> targetType) {
+        return get(tableName, get).map(result -> HBaseExecutor.toValue(result, targetType));
+    }
+
+    /**
+     * Retrieves the rows of the specified {@link Get}s in a single batch and converts them to {@code targetType}, the
+     * same way as {@link HBaseExecutor#get(String, List, Class)}.
+     *
+     * @param <T> the target type
+     * @param tableName the name of the HBase table
+     * @param gets the Gets specifying the rows to retrieve
+     * @param targetType the class of the entity or value to convert the rows to
+     * @return a future completed with the converted rows; rows which don't exist are skipped
+     */
+    public <T> ContinuableFuture<List<T>> get(final String tableName, final List<Get> gets, final Class<T> targetType) {
+        return get(tableName, gets).map(results -> HBaseExecutor.toList(results, targetType));
+    }
+
+    /**
+     * Retrieves the row of the specified {@link AnyGet} and converts it to {@code targetType}.
+     *
+     * @param <T> the target type
+     * @param tableName the name of the HBase table
+     * @param anyGet the get specifying the row and the columns to retrieve
+     * @param targetType the class of the entity or value to convert the row to
+     * @return a future completed with the converted row
+     * @see #get(String, Get, Class)
+     */
+    public <T> ContinuableFuture<T> get(final String tableName, final AnyGet anyGet, final Class<T> targetType) {
+        return get(tableName, anyGet.val(), targetType);
+    }
+
+    /**
+     * Retrieves the rows of the specified {@link AnyGet}s in a single batch and converts them to {@code targetType}.
+     *
+     * @param <T> the target type
+     * @param tableName the name of the HBase table
+     * @param anyGets the gets specifying the rows to retrieve
+     * @param targetType the class of the entity or value to convert the rows to
+     * @return a future completed with the converted rows
+     * @see #get(String, List, Class)
+     */
+    public <T> ContinuableFuture<List<T>> get(final String tableName, final Collection<AnyGet> anyGets, final Class<T> targetType) {
+        return get(tableName, AnyGet.toGet(anyGets), targetType);
+    }
+
+    /**
+     * Scans the specified table and loads all the results into memory. Only use it for scans whose results fit in
+     * memory, e.g. with a limit.
+     *
+     * @param tableName the name of the HBase table
+     * @param scan the scan to run
+     * @return a future completed with all the results of the scan
+     * @see AsyncTable#scanAll(Scan)
+     */
+    public ContinuableFuture<List<Result>> scanAll(final String tableName, final Scan scan) {
+        return ContinuableFuture.wrap(getTable(tableName).scanAll(scan));
+    }
+
+    /**
+     * Scans the specified table and loads all the results into memory.
+     *
+     * @param tableName the name of the HBase table
+     * @param anyScan the scan to run
+     * @return a future completed with all the results of the scan
+     * @see #scanAll(String, Scan)
+     */
+    public ContinuableFuture<List<Result>> scanAll(final String tableName, final AnyScan anyScan) {
+        return scanAll(tableName, anyScan.val());
+    }
+
+    /**
+     * Scans the specified table, loads all the results into memory and converts them to {@code targetType}.
+     *
+     * @param <T> the target type
+     * @param tableName the name of the HBase table
+     * @param anyScan the scan to run
+     * @param targetType the class of the entity or value to convert the rows to
+     * @return a future completed with the converted rows
+     * @see #scanAll(String, Scan)
+     */
+    public <T> ContinuableFuture<List<T>> scanAll(final String tableName, final AnyScan anyScan, final Class<T> targetType) {
+        return scanAll(tableName, anyScan.val()).map(results -> HBaseExecutor.toList(results, targetType));
+    }
+
+    /**
+     * Writes the specified {@link Put}.
+     *
+     * @param tableName the name of the HBase table
+     * @param put the Put to write
+     * @return a future completed with {@code null} when the put is written
+     * @see AsyncTable#put(Put)
+     */
+    public ContinuableFuture<Void> put(final String tableName, final Put put) {
+        return ContinuableFuture.wrap(getTable(tableName).put(put));
+    }
+
+    /**
+     * Writes the specified {@link Put}s in a single batch.
+     *
+     * @param tableName the name of the HBase table
+     * @param puts the Puts to write
+     * @return a future completed with {@code null} when all the puts are written
+     * @see AsyncTable#putAll(List)
+     */
+    public ContinuableFuture<Void> put(final String tableName, final List<Put> puts) {
+        if (N.isEmpty(puts)) {
+            HBaseTableCache.toTableName(tableName);
+            return ContinuableFuture.completed(null);
+        }
+
+        return ContinuableFuture.wrap(getTable(tableName).putAll(puts));
+    }
+
+    /**
+     * Writes the specified {@link AnyPut}.
+     *
+     * @param tableName the name of the HBase table
+     * @param anyPut the put to write
+     * @return a future completed with {@code null} when the put is written
+     * @see #put(String, Put)
+     */
+    public ContinuableFuture<Void> put(final String tableName, final AnyPut anyPut) {
+        return put(tableName, anyPut.val());
+    }
+
+    /**
+     * Writes the specified {@link AnyPut}s in a single batch.
+     *
+     * @param tableName the name of the HBase table
+     * @param anyPuts the puts to write
+     * @return a future completed with {@code null} when all the puts are written
+     * @see #put(String, List)
+     */
+    public ContinuableFuture<Void> put(final String tableName, final Collection<AnyPut> anyPuts) {
+        return put(tableName, AnyPut.toPut(anyPuts));
+    }
+
+    /**
+     * Runs the specified {@link Delete}.
+     *
+     * @param tableName the name of the HBase table
+     * @param delete the Delete to run
+     * @return a future completed with {@code null} when the delete is done
+     * @see AsyncTable#delete(Delete)
+     */
+    public ContinuableFuture<Void> delete(final String tableName, final Delete delete) {
+        return ContinuableFuture.wrap(getTable(tableName).delete(delete));
+    }
+
+    /**
+     * Runs the specified {@link Delete}s in a single batch.
+     *
+     * @param tableName the name of the HBase table
+     * @param deletes the Deletes to run
+     * @return a future completed with {@code null} when all the deletes are done
+     * @see AsyncTable#deleteAll(List)
+     */
+    public ContinuableFuture<Void> delete(final String tableName, final List<Delete> deletes) {
+        if (N.isEmpty(deletes)) {
+            HBaseTableCache.toTableName(tableName);
+            return ContinuableFuture.completed(null);
+        }
+
+        return ContinuableFuture.wrap(getTable(tableName).deleteAll(deletes));
+    }
+
+    /**
+     * Runs the specified {@link AnyDelete}.
+     *
+     * @param tableName the name of the HBase table
+     * @param anyDelete the delete to run
+     * @return a future completed with {@code null} when the delete is done
+     * @see #delete(String, Delete)
+     */
+    public ContinuableFuture<Void> delete(final String tableName, final AnyDelete anyDelete) {
+        return delete(tableName, anyDelete.val());
+    }
+
+    /**
+     * Runs the specified {@link AnyDelete}s in a single batch.
+     *
+     * @param tableName the name of the HBase table
+     * @param anyDeletes the deletes to run
+     * @return a future completed with {@code null} when all the deletes are done
+     * @see #delete(String, List)
+     */
+    public ContinuableFuture<Void> delete(final String tableName, final Collection<AnyDelete> anyDeletes) {
+        return delete(tableName, AnyDelete.toDelete(anyDeletes));
+    }
+
+    /**
+     * Applies the specified mutations to a single row atomically.
+     *
+     * @param tableName the name of the HBase table
+     * @param rm the mutations of the row
+     * @return a future completed with {@code null} when the mutations are applied
+     * @see AsyncTable#mutateRow(RowMutations)
+     */
+    public ContinuableFuture<Void> mutateRow(final String tableName, final AnyRowMutations rm) {
+        return mutateRow(tableName, rm.val());
+    }
+
+    /**
+     * Applies the specified mutations to a single row atomically.
+     *
+     * @param tableName the name of the HBase table
+     * @param rm the mutations of the row
+     * @return a future completed with {@code null} when the mutations are applied
+     * @see AsyncTable#mutateRow(RowMutations)
+     */
+    public ContinuableFuture<Void> mutateRow(final String tableName, final RowMutations rm) {
+        return ContinuableFuture.wrap(getTable(tableName).mutateRow(rm)).map(result -> null);
+    }
+
+    /**
+     * Appends the values of the specified {@link AnyAppend} to the current values of its columns.
+     *
+     * @param tableName the name of the HBase table
+     * @param append the append to run
+     * @return a future completed with the new values of the columns
+     * @see AsyncTable#append(Append)
+     */
+    public ContinuableFuture<Result> append(final String tableName, final AnyAppend append) {
+        return append(tableName, append.val());
+    }
+
+    /**
+     * Appends the values of the specified {@link Append} to the current values of its columns.
+     *
+     * @param tableName the name of the HBase table
+     * @param append the Append to run
+     * @return a future completed with the new values of the columns
+     * @see AsyncTable#append(Append)
+     */
+    public ContinuableFuture<Result> append(final String tableName, final Append append) {
+        return ContinuableFuture.wrap(getTable(tableName).append(append));
+    }
+
+    /**
+     * Increments the columns of the specified {@link AnyIncrement}.
+     *
+     * @param tableName the name of the HBase table
+     * @param increment the increment to run
+     * @return a future completed with the new values of the columns
+     * @see AsyncTable#increment(Increment)
+     */
+    public ContinuableFuture<Result> increment(final String tableName, final AnyIncrement increment) {
+        return increment(tableName, increment.val());
+    }
+
+    /**
+     * Increments the columns of the specified {@link Increment}.
+     *
+     * @param tableName the name of the HBase table
+     * @param increment the Increment to run
+     * @return a future completed with the new values of the columns
+     * @see AsyncTable#increment(Increment)
+     */
+    public ContinuableFuture<Result> increment(final String tableName, final Increment increment) {
+        return ContinuableFuture.wrap(getTable(tableName).increment(increment));
+    }
+
+    /**
+     * Increments the value of a single column by {@code amount}.
+     *
+     * @param tableName the name of the HBase table
+     * @param rowKey the row key, converted by {@link HBaseExecutor#toRowKeyBytes(Object)}
+     * @param family the column family
+     * @param qualifier the column qualifier
+     * @param amount the amount to add, which may be negative
+     * @return a future completed with the new value of the column
+     * @see AsyncTable#incrementColumnValue(byte[], byte[], byte[], long)
+     */
+    public ContinuableFuture<Long> incrementColumnValue(final String tableName, final Object rowKey, final String family, final String qualifier,
+            final long amount) {
+        return incrementColumnValue(tableName, rowKey, HBaseExecutor.toFamilyQualifierBytes(family), HBaseExecutor.toFamilyQualifierBytes(qualifier),
+                amount);
+    }
+
+    /**
+     * Increments the value of a single column by {@code amount}, with the specified durability.
+     *
+     * @param tableName the name of the HBase table
+     * @param rowKey the row key, converted by {@link HBaseExecutor#toRowKeyBytes(Object)}
+     * @param family the column family
+     * @param qualifier the column qualifier
+     * @param amount the amount to add, which may be negative
+     * @param durability the durability of the increment
+     * @return a future completed with the new value of the column
+     * @see AsyncTable#incrementColumnValue(byte[], byte[], byte[], long, Durability)
+     */
+    public ContinuableFuture<Long> incrementColumnValue(final String tableName, final Object rowKey, final String family, final String qualifier,
+            final long amount, final Durability durability) {
+        return incrementColumnValue(tableName, rowKey, HBaseExecutor.toFamilyQualifierBytes(family), HBaseExecutor.toFamilyQualifierBytes(qualifier),
+                amount, durability);
+    }
+
+    /**
+     * Increments the value of a single column by {@code amount}.
+     *
+     * @param tableName the name of the HBase table
+     * @param rowKey the row key, converted by {@link HBaseExecutor#toRowKeyBytes(Object)}
+     * @param family the column family
+     * @param qualifier the column qualifier
+     * @param amount the amount to add, which may be negative
+     * @return a future completed with the new value of the column
+     * @see AsyncTable#incrementColumnValue(byte[], byte[], byte[], long)
+     */
+    public ContinuableFuture<Long> incrementColumnValue(final String tableName, final Object rowKey, final byte[] family, final byte[] qualifier,
+            final long amount) {
+        return ContinuableFuture.wrap(getTable(tableName).incrementColumnValue(HBaseExecutor.toRowKeyBytes(rowKey), family, qualifier, amount));
+    }
+
+    /**
+     * Increments the value of a single column by {@code amount}, with the specified durability.
+     *
+     * @param tableName the name of the HBase table
+     * @param rowKey the row key, converted by {@link HBaseExecutor#toRowKeyBytes(Object)}
+     * @param family the column family
+     * @param qualifier the column qualifier
+     * @param amount the amount to add, which may be negative
+     * @param durability the durability of the increment
+     * @return a future completed with the new value of the column
+     * @see AsyncTable#incrementColumnValue(byte[], byte[], byte[], long, Durability)
+     */
+    public ContinuableFuture<Long> incrementColumnValue(final String tableName, final Object rowKey, final byte[] family, final byte[] qualifier,
+            final long amount, final Durability durability) {
+        return ContinuableFuture
+                .wrap(getTable(tableName).incrementColumnValue(HBaseExecutor.toRowKeyBytes(rowKey), family, qualifier, amount, durability));
+    }
+
+    /**
+     * Closes the wrapped {@link AsyncConnection}. Requests which are still in flight fail.
+     *
+     * @throws IOException if closing the connection fails
+     */
+    public void close() throws IOException {
+        tablePool.clear();
+
+        conn.close();
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import com.landawn.abacus.exception.UncheckedIOException;
+import com.landawn.abacus.util.AsyncExecutor;
+import com.landawn.abacus.util.ContinuableFuture;
+import com.landawn.abacus.util.ExceptionUtil;
+import com.landawn.abacus.util.IOUtil;
+import com.landawn.abacus.util.stream.ObjIteratorEx;
+
+/**
+ * Iterates the {@link Result}s of a set of sub-scans which are run concurrently on an {@link AsyncExecutor}.
+ *
+ * <p>Each sub-scan runs on its own task which opens its own {@link Table} and {@link ResultScanner}, pushes the
+ * results into a bounded queue and closes the scanner and table when it's done. At most {@code parallelism} sub-scans
+ * are in flight at any time:</p>
+ * <ul>
+ *   <li><b>ordered</b>: every sub-scan has its own queue and the results are returned sub-scan by sub-scan, in the
+ *       order of {@code subScans}. Sub-scan {@code i} is only started once the consumer has reached sub-scan
+ *       {@code i - parallelism + 1}, which bounds the number of buffered results.</li>
+ *   <li><b>unordered</b>: all sub-scans share one queue and the results are returned as they arrive; a new sub-scan is
+ *       started whenever one completes.</li>
+ * </ul>
+ *
+ * <p>{@link #closeResource()} stops the sub-scans: tasks which haven't started yet are cancelled and the call waits for
+ * the running ones to close their scanners, which happens at the latest after their in-progress {@code next()} call
+ * returns. The first failure of a sub-scan is rethrown to the consumer. A sub-scan task which is interrupted stops
+ * scanning and fails with the {@link InterruptedException}; every sub-scan queues its end or its failure, so the
+ * consumer never waits for a sub-scan which has stopped.</p>
+ *
+ * <p>With a single sub-scan, the iterator is a read-ahead iterator over one scanner, which backs
+ * {@link AnyScan#setClientPrefetchRows(int)}.</p>
+ */
+final class ParallelScanIterator extends ObjIteratorEx<Result> {
+
+    /** The default number of results buffered per sub-scan. */
+    static final int BUFFER_SIZE_PER_SUB_SCAN = 256;
+
+    private static final Object END = new Object();
+
+    private final HBaseExecutor hbaseExecutor;
+    private final String tableName;
+    private final List<Scan> subScans;
+    private final int parallelism;
+    private final boolean ordered;
+    private final AsyncExecutor asyncExecutor;
+    private final BlockingQueue<Object>[] queues;
+    private final List<ContinuableFuture<Void>> futures;
+
+    private int nextSubScan = 0;
+    private int running = 0;
+    private int current = 0; // ordered: index of the sub-scan being consumed. unordered: number of completed sub-scans.
+    private Result next = null;
+    private volatile boolean closed = false;
+
+    @SuppressWarnings("unchecked")
+    ParallelScanIterator(final HBaseExecutor hbaseExecutor, final String tableName, final List<Scan> subScans, final int parallelism,
+            final boolean ordered, final AsyncExecutor asyncExecutor, final int bufferSizePerSubScan) {
+        this.hbaseExecutor = hbaseExecutor;
+        this.tableName = tableName;
+        this.subScans = subScans;
+        this.parallelism = parallelism;
+        this.ordered = ordered;
+        this.asyncExecutor = asyncExecutor;
+        this.futures = new ArrayList<>(subScans.size());
+        this.queues = new BlockingQueue[subScans.size()];
+
+        if (ordered) {
+            for (int i = 0, len = queues.length; i < len; i++) {
+                queues[i] = new ArrayBlockingQueue<>(bufferSizePerSubScan);
+            }
+        } else if (queues.length > 0) {
+            final BlockingQueue<Object> sharedQueue = new ArrayBlockingQueue<>(bufferSizePerSubScan * Math.min(parallelism, queues.length));
+
+            for (int i = 0, len = queues.length; i < len; i++) {
+                queues[i] = sharedQueue;
+            }
+        }
+
+        startSubScans();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            if (closed || current >= subScans.size()) {
+                return false;
+            }
+
+            final Object e = take(queues[ordered ? current : 0]);
+
+            if (e == END) {
+                current++;
+
+                if (ordered) {
+                    startSubScans();
+                }
+            } else if (e instanceof Failure failure) {
+                if (failure.cause instanceof IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+
+                // an interruption of the sub-scan task isn't an interruption of the consumer.
+                throw ExceptionUtil.toRuntimeException(failure.cause, false);
+            } else {
+                next = (Result) e;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public Result next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final Result result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public void closeResource() {
+        final List<ContinuableFuture<Void>> futuresToWait;
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            futuresToWait = new ArrayList<>(futures);
+        }
+
+        for (final ContinuableFuture<Void> future : futuresToWait) {
+            future.cancel(false);
+        }
+
+        for (final ContinuableFuture<Void> future : futuresToWait) {
+            if (!future.isCancelled()) {
+                try {
+                    future.get();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (final Exception e) {
+                    // already reported to the consumer, or irrelevant since it's closed.
+                }
+            }
+        }
+    }
+
+    private synchronized void startSubScans() {
+        while (!closed && nextSubScan < subScans.size() && (ordered ? nextSubScan < current + parallelism : running < parallelism)) {
+            final int index = nextSubScan++;
+            running++;
+
+            futures.add(asyncExecutor.execute(() -> {
+                runSubScan(index);
+
+                return null;
+            }));
+        }
+    }
+
+    private synchronized void onSubScanCompleted() {
+        running--;
+
+        if (!ordered) {
+            startSubScans();
+        }
+    }
+
+    private void runSubScan(final int index) {
+        final BlockingQueue<Object> queue = queues[index];
+        Object terminal = END;
+
+        try {
+            if (closed) {
+                return;
+            }
+
+            final Table table = hbaseExecutor.instrument(tableName, hbaseExecutor.getTable(tableName));
+
+            try (ResultScanner resultScanner = table.getScanner(subScans.get(index))) {
+                Result result = null;
+
+                while (!closed && (result = resultScanner.next()) != null) {
+                    put(queue, result);
+                }
+            } finally {
+                IOUtil.closeQuietly(table);
+            }
+        } catch (final Throwable e) { // NOSONAR
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+
+            terminal = new Failure(e);
+        } finally {
+            putTerminal(queue, terminal);
+            onSubScanCompleted();
+        }
+    }
+
+    private void put(final BlockingQueue<Object> queue, final Object e) throws InterruptedException {
+        while (!closed && !queue.offer(e, 100, TimeUnit.MILLISECONDS)) {
+            // wait for the consumer, or for close.
+        }
+    }
+
+    /**
+     * Queues the end or the failure of a sub-scan, which the consumer waits for, even if the task is interrupted. The
+     * interruption is restored once it's queued.
+     */
+    private void putTerminal(final BlockingQueue<Object> queue, final Object terminal) {
+        boolean interrupted = false;
+
+        try {
+            while (true) {
+                try {
+                    put(queue, terminal);
+                    break;
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Object take(final BlockingQueue<Object> queue) {
+        try {
+            return queue.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ExceptionUtil.toRuntimeException(e, true);
+        }
+    }
+
+    /**
+     * Splits {@code scan} into one sub-scan per region it overlaps, in region order.
+     *
+     * <p>Each sub-scan is a copy of {@code scan} whose row range is the intersection of the scan's row range and the
+     * region's {@code [startKey, endKey)} range; an empty start or end key means unbounded, as in HBase.</p>
+     *
+     * @param scan the scan to split; must not be reversed
+     * @param startKeys the start keys of the table's regions, in order
+     * @param endKeys the end keys of the table's regions, in order
+     * @return the sub-scans, possibly empty if the scan's range is empty
+     * @throws IOException if {@code scan} can't be copied
+     */
+    static List<Scan> split(final Scan scan, final byte[][] startKeys, final byte[][] endKeys) throws IOException {
+        final byte[] scanStart = scan.getStartRow();
+        final byte[] scanStop = scan.getStopRow();
+        final List<Scan> subScans = new ArrayList<>(startKeys.length);
+
+        for (int i = 0; i < startKeys.length; i++) {
+            final byte[] regionStart = startKeys[i];
+            final byte[] regionEnd = endKeys[i];
+
+            // the region ends at or before the scan start.
+            if (regionEnd.length > 0 && Bytes.compareTo(regionEnd, scanStart) <= 0) {
+                continue;
+            }
+
+            // the region starts after the scan stop.
+            if (scanStop.length > 0) {
+                final int cmp = Bytes.compareTo(regionStart, scanStop);
+
+                if (cmp > 0 || (cmp == 0 && !scan.includeStopRow())) {
+                    continue;
+                }
+            }
+
+            final boolean fromScanStart = Bytes.compareTo(scanStart, regionStart) >= 0;
+            final boolean toScanStop = regionEnd.length == 0 || (scanStop.length > 0 && Bytes.compareTo(scanStop, regionEnd) < 0);
+
+            final Scan subScan = new Scan(scan);
+            subScan.withStartRow(fromScanStart ? scanStart : regionStart, !fromScanStart || scan.includeStartRow());
+            subScan.withStopRow(toScanStop ? scanStop : regionEnd, toScanStop && scan.includeStopRow());
+
+            subScans.add(subScan);
+        }
+
+        return subScans;
+    }
+
+    private static final class Failure {
+        final Throwable cause;
+
+        Failure(final Throwable cause) {
+            this.cause = cause;
+        }
+    }
+}
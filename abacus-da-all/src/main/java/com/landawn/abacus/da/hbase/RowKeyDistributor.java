@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import java.util.List;
+
+import org.apache.hadoop.hbase.client.Scan;
+
+/**
+ * Maps the row keys of an entity class to the row keys stored in HBase, to spread monotonic keys such as timestamps or
+ * sequence ids over all regions of a table instead of writing them all to the last one.
+ *
+ * <p>A distributor is registered for an entity class with
+ * {@link HBaseExecutor#registerRowKeyProperty(Class, String, RowKeyDistributor)}. From then on:</p>
+ * <ul>
+ *   <li>{@link AnyPut#create(Object)} and every {@code HBaseMapper} write of the class store the entity under
+ *       {@link #toStoredRowKey(byte[])};</li>
+ *   <li>the {@code HBaseMapper} methods which take row keys ({@code exists}, {@code get}, {@code delete},
+ *       {@code deleteByRowKey}) look them up under {@link #toStoredRowKey(byte[])};</li>
+ *   <li>the {@code HBaseMapper} scans run one scan per {@link #toStoredScans(Scan)} and merge their results, so that
+ *       they're returned in the order of the original row keys;</li>
+ *   <li>the row key of an entity read from HBase is set to {@link #toOriginalRowKey(byte[])}.</li>
+ * </ul>
+ *
+ * <p>The start and stop rows of an {@link AnyScan} passed to an {@code HBaseMapper} scan are original row keys, but row
+ * filters, e.g. a {@code PrefixFilter}, see the stored row keys. Other operations built by the caller, such as
+ * {@link AnyGet} or {@link AnyDelete}, and the scans of {@link HBaseExecutor} itself, are sent as they are and must use
+ * stored row keys.</p>
+ *
+ * <p><b>Usage Examples:</b></p>
+ * <pre>{@code
+ * HBaseExecutor.registerRowKeyProperty(Event.class, "id", RowKeyDistributor.hashPrefix(16));
+ *
+ * HBaseMapper<Event, String> mapper = executor.mapper(Event.class);
+ * mapper.put(event);                          // stored under one of 16 prefixes
+ * Event e = mapper.get(event.getId());        // found under the same prefix
+ *
+ * try (Stream<Event> events = mapper.scan(AnyScan.create().withStartRow(from).withStopRow(to))) {
+ *     // 16 scans, merged in the order of the event ids
+ * }
+ * }</pre>
+ *
+ * @see #hashPrefix(int)
+ * @see HBaseExecutor#registerRowKeyProperty(Class, String, RowKeyDistributor)
+ */
+public interface RowKeyDistributor {
+
+    /**
+     * Returns the row key under which the row with the specified original row key is stored.
+     *
+     * @param originalRowKey the row key of the entity
+     * @return the stored row key
+     */
+    byte[] toStoredRowKey(byte[] originalRowKey);
+
+    /**
+     * Returns the original row key of the specified stored row key.
+     *
+     * @param storedRowKey the row key as stored in HBase
+     * @return the row key of the entity
+     */
+    byte[] toOriginalRowKey(byte[] storedRowKey);
+
+    /**
+     * Returns the scans which together read the rows of {@code scan}, whose start and stop rows are original row keys.
+     * Each of the returned scans must return its rows in the order of their original row keys.
+     *
+     * @param scan the scan over original row keys; it is not modified
+     * @return the scans over stored row keys
+     */
+    List<Scan> toStoredScans(Scan scan);
+
+    /**
+     * Returns a distributor which prefixes each row key with one byte: the bucket of the row key, computed from the hash
+     * of the row key modulo {@code bucketCount}. Consecutive row keys thereby go to different buckets, and a table
+     * pre-split at the bucket boundaries gets an equal share of the writes on each of its regions.
+     *
+     * <p>A scan runs {@code bucketCount} scans, one per bucket. The bucket of a row key must never change, so
+     * {@code bucketCount} can't be changed once rows have been written.</p>
+     *
+     * @param bucketCount the number of buckets, between 1 and 256
+     * @return a hash-prefix distributor
+     * @throws IllegalArgumentException if {@code bucketCount} is not between 1 and 256
+     */
+    static RowKeyDistributor hashPrefix(final int bucketCount) {
+        return new HashPrefixRowKeyDistributor(bucketCount);
+    }
+}
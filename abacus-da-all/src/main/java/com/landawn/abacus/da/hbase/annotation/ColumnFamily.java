@@ -21,6 +21,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import com.landawn.abacus.da.hbase.HBaseCellCodec;
+
 /**
  * Marks an entity class or field as belonging to a specific HBase column family. Applied by the
  * abacus-da HBase mapping layer (see {@link com.landawn.abacus.da.hbase.HBaseExecutor}) when
@@ -145,4 +147,29 @@ public @interface ColumnFamily {
      * @return the column family name to use in HBase, or empty string to use default mapping behavior
      */
     String value() default "";
+
+    /**
+     * Specifies the {@link HBaseCellCodec} used to encode and decode the cell values of the annotated field,
+     * or of every field of the annotated class.
+     *
+     * <p>A field-level codec overrides the class-level one. The default, {@code HBaseCellCodec.class} itself,
+     * means "not specified": the class-level codec applies if there is one, properties of a nested bean inherit
+     * the codec of their parent property, and {@link HBaseCellCodec#STRING} is used otherwise.
+     * A class-level annotation may declare only a codec (leaving {@link #value()} empty) to keep the default
+     * family mapping.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * @ColumnFamily(codec = HBaseCellCodec.BinaryCodec.class)
+     * public static class Counter {
+     *     @Id
+     *     private String id;
+     *     private long hits;  // Maps to HBase: "hits:", stored as 8 bytes
+     * }
+     * }</pre>
+     *
+     * @return the codec class, or {@code HBaseCellCodec.class} to inherit the codec
+     * @see HBaseCellCodec#BINARY
+     */
+    Class<? extends HBaseCellCodec> codec() default HBaseCellCodec.class;
 }
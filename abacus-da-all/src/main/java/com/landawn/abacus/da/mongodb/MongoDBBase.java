@@ -21,6 +21,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.IntFunction;
 
@@ -39,6 +41,8 @@ import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 
+import com.landawn.abacus.logging.Logger;
+import com.landawn.abacus.logging.LoggerFactory;
 import com.landawn.abacus.parser.JsonParser;
 import com.landawn.abacus.parser.ParserFactory;
 import com.landawn.abacus.query.QueryUtil;
@@ -141,17 +145,24 @@ public abstract class MongoDBBase {
      */
     public static final String ID = "id";
 
+    private static final Logger logger = LoggerFactory.getLogger(MongoDBBase.class);
+
+    /**
+     * The system property which, when set to {@code true}, makes {@link #DEFAULT_ASYNC_EXECUTOR} run each task on a new
+     * virtual thread instead of a platform thread pool. It's ignored, with a warning, if the JVM doesn't support virtual
+     * threads (JDK 21+).
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY = "abacus.da.async.virtualThreads";
+
     /**
      * Default {@link AsyncExecutor} shared by subclasses for asynchronous MongoDB operations.
      *
      * <p>Sized for I/O-bound workloads: the core pool is {@code max(64, CPU_CORES * 8)} threads,
      * the maximum pool is {@code max(128, CPU_CORES * 16)} threads, and idle threads above the
-     * core size are reclaimed after 180&nbsp;seconds.</p>
+     * core size are reclaimed after 180&nbsp;seconds. With the system property
+     * {@link #VIRTUAL_THREADS_PROPERTY} set to {@code true}, each task runs on a new virtual thread instead.</p>
      */
-    protected static final AsyncExecutor DEFAULT_ASYNC_EXECUTOR = new AsyncExecutor(//
-            N.max(64, IOUtil.CPU_CORES * 8), // coreThreadPoolSize
-            N.max(128, IOUtil.CPU_CORES * 16), // maxThreadPoolSize
-            180L, TimeUnit.SECONDS);
+    protected static final AsyncExecutor DEFAULT_ASYNC_EXECUTOR = createDefaultAsyncExecutor();
     private static final JsonParser jsonParser = ParserFactory.createJsonParser();
 
     /**
@@ -171,6 +182,50 @@ public abstract class MongoDBBase {
     protected MongoDBBase() {
     }
 
+    /**
+     * Creates an {@link AsyncExecutor} which runs each task on a new virtual thread. A blocking call on a virtual
+     * thread doesn't hold a platform thread, so the number of requests in flight isn't bounded by a thread pool.
+     *
+     * <p>On JDK 21 to 23, a virtual thread which blocks inside a {@code synchronized} block of the client library is
+     * pinned to its carrier thread; run with {@code -Djdk.tracePinnedThreads=short} to find such blocks.</p>
+     *
+     * <p><b>Usage Examples:</b></p>
+     * <pre>{@code
+     * MongoDB mongoDB = new MongoDB(mongoDatabase, MongoDB.newVirtualThreadAsyncExecutor());
+     * mongoDB.collectionExecutor("users").async().count(filter);   // runs on a virtual thread
+     * }</pre>
+     *
+     * @return a new virtual-thread-per-task {@code AsyncExecutor}
+     * @throws UnsupportedOperationException if the JVM doesn't support virtual threads (JDK 21+)
+     * @see #VIRTUAL_THREADS_PROPERTY
+     */
+    public static AsyncExecutor newVirtualThreadAsyncExecutor() throws UnsupportedOperationException {
+        final ExecutorService executorService;
+
+        try {
+            executorService = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads require JDK 21 or later", e);
+        }
+
+        return new AsyncExecutor(executorService);
+    }
+
+    private static AsyncExecutor createDefaultAsyncExecutor() {
+        if (Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY)) {
+            try {
+                return newVirtualThreadAsyncExecutor();
+            } catch (final UnsupportedOperationException e) {
+                logger.warn("System property " + VIRTUAL_THREADS_PROPERTY + " is ignored: virtual threads require JDK 21 or later");
+            }
+        }
+
+        return new AsyncExecutor(//
+                N.max(64, IOUtil.CPU_CORES * 8), // coreThreadPoolSize
+                N.max(128, IOUtil.CPU_CORES * 16), // maxThreadPoolSize
+                180L, TimeUnit.SECONDS);
+    }
+
     /**
      * Registers a custom property name to be mapped to MongoDB's "_id" field for a specific class.
      *
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.cassandra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.landawn.abacus.da.TestBase;
+
+/**
+ * Unit tests for {@link AdaptiveConcurrencyLimit}.
+ */
+public class AdaptiveConcurrencyLimitTest extends TestBase {
+
+    private static void fill(final AdaptiveConcurrencyLimit limit) throws InterruptedException {
+        while (limit.inFlight() < limit.limit()) {
+            limit.acquire();
+        }
+    }
+
+    @Test
+    public void test_growsWhileFastAndLimited() throws InterruptedException {
+        final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 8);
+
+        for (int i = 0; i < 200; i++) {
+            fill(limit);
+            limit.release(1_000, false);
+        }
+
+        assertEquals(8, limit.limit());
+    }
+
+    @Test
+    public void test_doesNotGrowWhenNotLimited() throws InterruptedException {
+        final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 8);
+
+        for (int i = 0; i < 200; i++) {
+            limit.acquire();
+            limit.release(1_000, false);
+        }
+
+        assertEquals(4, limit.limit());
+    }
+
+    @Test
+    public void test_shrinksOnFailureAndSlowness() throws InterruptedException {
+        final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(16, 2, 32);
+
+        limit.acquire();
+        limit.release(1_000, true);
+        assertEquals(8, limit.limit());
+
+        limit.acquire();
+        limit.release(1_000, false);
+        limit.acquire();
+        limit.release(10_000, false);
+        assertEquals(7, limit.limit());
+
+        for (int i = 0; i < 10; i++) {
+            limit.acquire();
+            limit.release(1_000, true);
+        }
+
+        assertEquals(2, limit.limit());
+    }
+
+    @Test
+    public void test_acquireBlocksAtLimit() throws InterruptedException {
+        final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1);
+        final CountDownLatch acquired = new CountDownLatch(1);
+
+        limit.acquire();
+
+        final Thread thread = new Thread(() -> {
+            try {
+                limit.acquire();
+                acquired.countDown();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        thread.start();
+
+        assertFalse(acquired.await(50, TimeUnit.MILLISECONDS));
+
+        limit.release(1_000, false);
+
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+
+        limit.release(1_000, false);
+        limit.awaitIdle();
+
+        assertEquals(0, limit.inFlight());
+    }
+}
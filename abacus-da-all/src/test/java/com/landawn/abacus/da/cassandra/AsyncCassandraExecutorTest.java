@@ -5,6 +5,7 @@
 package com.landawn.abacus.da.cassandra;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -13,6 +14,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -20,9 +23,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -42,6 +47,8 @@ import com.landawn.abacus.util.stream.Stream;
 import com.landawn.abacus.util.u.Nullable;
 import com.landawn.abacus.util.u.Optional;
 
+import reactor.core.publisher.Flux;
+
 /**
  * Mockito-based tests for the v4 driver (DataStax OSS) {@link AsyncCassandraExecutor}.
  */
@@ -504,4 +511,152 @@ public class AsyncCassandraExecutorTest extends TestBase {
         // The guard fires before the query is even prepared.
         org.mockito.Mockito.verify(mockExecutor, org.mockito.Mockito.never()).prepareQuery(any(), any(), any(), org.mockito.ArgumentMatchers.anyInt());
     }
+
+    /** Helper: a page of {@code rows}, followed by {@code next} if it's not {@code null}. */
+    private static AsyncResultSet page(final CompletionStage<AsyncResultSet> next, final Row... rows) {
+        final AsyncResultSet page = mock(AsyncResultSet.class);
+        when(page.currentPage()).thenReturn(Arrays.asList(rows));
+        when(page.remaining()).thenReturn(rows.length);
+        when(page.hasMorePages()).thenReturn(next != null);
+
+        if (next != null) {
+            when(page.fetchNextPage()).thenAnswer(invocation -> next);
+        }
+
+        return page;
+    }
+
+    @Test
+    public void testWrappedResultSetPrefetchesNextPageWhileIterating() {
+        final Row[] rows = { mock(Row.class), mock(Row.class), mock(Row.class), mock(Row.class) };
+        final CompletableFuture<AsyncResultSet> thirdPage = new CompletableFuture<>();
+        final AsyncResultSet second = page(thirdPage, rows[2]);
+        final AsyncResultSet first = page(completed(second), rows[0], rows[1]);
+
+        final Iterator<Row> iterator = ResultSets.wrap(first, 1, Integer.MAX_VALUE).iterator();
+
+        verify(first).fetchNextPage();
+        verify(second, never()).fetchNextPage();
+
+        assertSame(rows[0], iterator.next());
+        assertSame(rows[1], iterator.next());
+        assertSame(rows[2], iterator.next());
+
+        verify(second).fetchNextPage();
+
+        thirdPage.complete(page(null, rows[3]));
+
+        assertSame(rows[3], iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testWrappedResultSetIsLazyByDefault() {
+        final AsyncResultSet second = page(null, mock(Row.class));
+        final AsyncResultSet first = page(completed(second), mock(Row.class));
+
+        final Iterator<Row> iterator = ResultSets.wrap(first).iterator();
+
+        assertNotNull(iterator.next());
+        verify(first, never()).fetchNextPage();
+
+        assertNotNull(iterator.next());
+        verify(first).fetchNextPage();
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testWrappedResultSetPageArrivingWhileTheConsumerWaitsIsReturnedOnce() throws Exception {
+        final Row[] rows = { mock(Row.class), mock(Row.class), mock(Row.class) };
+        final CompletableFuture<AsyncResultSet> secondPage = new CompletableFuture<>();
+        final AsyncResultSet first = page(secondPage, rows[0]);
+        final ResultSet resultSet = ResultSets.wrap(first, 1, Integer.MAX_VALUE);
+
+        final CompletableFuture<List<Row>> consumer = CompletableFuture.supplyAsync(resultSet::all);
+
+        // the consumer has taken the second page, and waits for it.
+        final long deadline = System.currentTimeMillis() + 10_000;
+
+        while (secondPage.getNumberOfDependents() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+
+        secondPage.complete(page(completed(page(null, rows[2])), rows[1]));
+
+        assertEquals(Arrays.asList(rows), consumer.get(10, TimeUnit.SECONDS));
+        verify(first, times(1)).fetchNextPage();
+    }
+
+    @Test
+    public void testWrappedResultSetPrefetchDepthAndRowLimit() {
+        final AsyncResultSet fourth = page(null, mock(Row.class));
+        final AsyncResultSet third = page(completed(fourth), mock(Row.class), mock(Row.class));
+        final AsyncResultSet second = page(completed(third), mock(Row.class), mock(Row.class));
+        final AsyncResultSet first = page(completed(second), mock(Row.class));
+
+        ResultSets.wrap(first, 2, Integer.MAX_VALUE);
+
+        verify(first).fetchNextPage();
+        verify(second).fetchNextPage();
+        verify(third, never()).fetchNextPage();
+
+        final AsyncResultSet otherSecond = page(completed(third), mock(Row.class), mock(Row.class));
+        final AsyncResultSet otherFirst = page(completed(otherSecond), mock(Row.class));
+
+        final ResultSet resultSet = ResultSets.wrap(otherFirst, 3, 2);
+
+        verify(otherFirst).fetchNextPage();
+        verify(otherSecond, never()).fetchNextPage();
+        assertEquals(6, resultSet.all().size());
+    }
+
+    @Test
+    public void testWrappedResultSetWithoutPrefetch() {
+        final AsyncResultSet second = page(null, mock(Row.class));
+        final AsyncResultSet first = page(completed(second), mock(Row.class));
+
+        final ResultSet resultSet = ResultSets.wrap(first, 0, 0);
+
+        verify(first, never()).fetchNextPage();
+        assertEquals(2, resultSet.all().size());
+        assertThrows(IllegalArgumentException.class, () -> ResultSets.wrap(first, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> async.setPagePrefetch(1, -1));
+
+        async.setPagePrefetch(2, 100);
+
+        assertEquals(2, async.getPrefetchPages());
+        assertEquals(100, async.getMaxPrefetchedRows());
+    }
+
+    @Test
+    public void testFluxPreparesTheQueryOnSubscriptionWithoutBlocking() {
+        final String query = "SELECT * FROM users WHERE id = ?";
+        final CompletableFuture<BoundStatement> prepared = new CompletableFuture<>();
+        when(mockExecutor.prepareStatementAsync(query, 1)).thenReturn(prepared);
+        when(mockSession.executeAsync(mockStatement)).thenReturn(completed(mockAsyncRS));
+
+        final Flux<String> flux = async.flux(query, (defs, row) -> "row", 1);
+
+        verify(mockExecutor, never()).prepareStatementAsync(query, 1);
+
+        final CompletableFuture<List<String>> rows = flux.collectList().toFuture();
+
+        verify(mockExecutor).prepareStatementAsync(query, 1);
+        assertFalse(rows.isDone());
+
+        prepared.complete(mockStatement);
+
+        assertEquals(Collections.emptyList(), rows.join());
+        verify(mockExecutor, never()).prepareStatement(query, 1);
+    }
+
+    @Test
+    public void testFluxFailsIfTheQueryCantBePrepared() {
+        final IllegalArgumentException failure = new IllegalArgumentException("line 1:7 no viable alternative");
+        when(mockExecutor.prepareStatementAsync("SELECT FROM users")).thenReturn(CompletableFuture.failedFuture(failure));
+
+        final Flux<String> flux = async.flux("SELECT FROM users", (defs, row) -> "row");
+
+        assertSame(failure, assertThrows(IllegalArgumentException.class, flux::blockFirst));
+    }
 }
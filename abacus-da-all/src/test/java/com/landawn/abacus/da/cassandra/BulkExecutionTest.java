@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.cassandra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.landawn.abacus.da.TestBase;
+import com.landawn.abacus.da.cassandra.CassandraExecutor.BulkExecuteSettings;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.stream.IntStream;
+
+/**
+ * Unit tests for {@link BulkExecution} and {@link CassandraExecutor#bulkExecute(String, java.util.Iterator, BulkExecuteSettings)}.
+ */
+public class BulkExecutionTest extends TestBase {
+
+    private final CqlSession session = mock(CqlSession.class);
+    private final Map<Statement<?>, Object> items = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    public void setUp() {
+        final DriverContext context = mock(DriverContext.class);
+        when(context.getCodecRegistry()).thenReturn(mock(CodecRegistry.class));
+        when(session.getContext()).thenReturn(context);
+    }
+
+    private Statement<?> bind(final Object item) {
+        final BoundStatement stmt = mock(BoundStatement.class);
+        items.put(stmt, item);
+        return stmt;
+    }
+
+    @Test
+    public void test_executesEveryItemUnderTheLimit() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+
+        when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+            return CompletableFuture.supplyAsync(() -> {
+                inFlight.decrementAndGet();
+                return mock(AsyncResultSet.class);
+            }, CompletableFuture.delayedExecutor(2, TimeUnit.MILLISECONDS));
+        });
+
+        final BulkWriteResult result = BulkExecution.execute(session, IntStream.range(0, 100).boxed().iterator(), this::bind,
+                new BulkExecuteSettings().initialInFlight(4).maxInFlight(8));
+
+        assertTrue(result.isSuccess());
+        assertEquals(100, result.itemCount());
+        assertEquals(100, result.requestCount());
+        assertEquals(0, inFlight.get());
+        assertTrue(maxInFlight.get() <= 8);
+        assertTrue(result.itemsPerSecond() > 0);
+    }
+
+    @Test
+    public void test_reportsFailedItems() {
+        when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+            final Object item = items.get(invocation.getArgument(0));
+
+            return ((Integer) item) % 10 == 0 ? CompletableFuture.failedFuture(new IllegalStateException("overloaded"))
+                    : CompletableFuture.completedFuture(mock(AsyncResultSet.class));
+        });
+
+        final BulkWriteResult result = BulkExecution.execute(session, IntStream.range(0, 30).boxed().iterator(), this::bind, new BulkExecuteSettings());
+
+        assertFalse(result.isSuccess());
+        assertEquals(30, result.itemCount());
+        assertEquals(3, result.failedItemCount());
+        assertEquals(N.asList(0, 10, 20), N.map(result.failures(), f -> f.items().get(0)).stream().sorted().toList());
+        assertEquals("overloaded", result.failures().get(0).cause().getMessage());
+    }
+
+    @Test
+    public void test_bindFailureStops() {
+        when(session.executeAsync(any(Statement.class))).thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+
+        assertThrows(IllegalArgumentException.class, () -> BulkExecution.execute(session, List.of(1, 2, 3).iterator(), item -> {
+            if (item.equals(2)) {
+                throw new IllegalArgumentException("Missing required parameter");
+            }
+
+            return bind(item);
+        }, new BulkExecuteSettings()));
+    }
+
+    @Test
+    public void test_invalidSettings() {
+        final CassandraExecutor executor = new CassandraExecutor(session);
+
+        assertThrows(IllegalArgumentException.class, () -> new BulkExecuteSettings().initialInFlight(0));
+        assertThrows(IllegalArgumentException.class, () -> new BulkExecuteSettings().minInFlight(0));
+        assertThrows(IllegalArgumentException.class, () -> new BulkExecuteSettings().maxInFlight(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> executor.bulkExecute("INSERT INTO t (id) VALUES (?)", List.of(1).iterator(), new BulkExecuteSettings().initialInFlight(2000)));
+        assertThrows(IllegalArgumentException.class, () -> executor.bulkExecute(null, List.of(1).iterator()));
+    }
+}
@@ -44,9 +44,11 @@ import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 import com.datastax.oss.driver.api.core.type.codec.registry.MutableCodecRegistry;
 import com.datastax.oss.protocol.internal.ProtocolConstants;
 import com.landawn.abacus.annotation.Column;
+import com.landawn.abacus.annotation.Id;
 import com.landawn.abacus.da.TestBase;
 import com.landawn.abacus.da.cassandra.CassandraExecutor.StatementSettings;
 import com.landawn.abacus.exception.DuplicateResultException;
+import com.landawn.abacus.query.AbstractQueryBuilder.SP;
 import com.landawn.abacus.query.Filters;
 import com.landawn.abacus.util.ContinuableFuture;
 import com.landawn.abacus.util.Dataset;
@@ -696,6 +698,86 @@ public class CassandraExecutor01Test extends TestBase {
         assertTrue(settings.traceQuery());
     }
 
+    @Test
+    public void testWarmUpPreparesMapperAndEntityStatements() {
+        final CqlMapper mapper = new CqlMapper();
+        mapper.add("findByName", "SELECT * FROM warm_up_entity WHERE name = ?");
+        mapper.add("broken", "SELECT FROM warm_up_entity");
+
+        final PreparedStatement prepared = mock(PreparedStatement.class);
+        final IllegalStateException failure = new IllegalStateException("syntax error");
+        when(mockSession.prepareAsync(anyString())).thenAnswer(invocation -> "SELECT FROM warm_up_entity".equals(invocation.getArgument(0))
+                ? CompletableFuture.failedFuture(failure)
+                : CompletableFuture.completedFuture(prepared));
+
+        final CassandraExecutor mappedExecutor = new CassandraExecutor(mockSession, null, mapper);
+        final List<String> entityCqls = mappedExecutor.entityCqls(WarmUpEntity.class);
+
+        assertEquals(4, entityCqls.size());
+        assertTrue(entityCqls.get(0).startsWith("INSERT INTO"), entityCqls.get(0));
+        assertTrue(entityCqls.get(1).startsWith("UPDATE"), entityCqls.get(1));
+        assertTrue(entityCqls.get(2).startsWith("SELECT"), entityCqls.get(2));
+        assertTrue(entityCqls.get(3).startsWith("DELETE"), entityCqls.get(3));
+
+        final WarmUpResult result = mappedExecutor.warmUp(List.of(WarmUpEntity.class));
+
+        assertEquals(6, result.statementCount());
+        assertEquals(1, result.entityClassCount());
+        assertEquals(1, result.failures().size());
+        assertSame(failure, result.failures().get("broken"));
+        assertTrue(result.elapsedNanos() >= result.prepareNanos());
+        assertEquals(5, mappedExecutor.preparedStatementCache().stats().size());
+        verify(mockSession, times(6)).prepareAsync(anyString());
+
+        // Everything is cached: warming up again only prepares the failed statement again.
+        mappedExecutor.warmUp(List.of(WarmUpEntity.class));
+        verify(mockSession, times(7)).prepareAsync(anyString());
+    }
+
+    @Test
+    public void testEntityCqlsSeedTheCqlTemplatesOfTheEntityMethods() {
+        CassandraExecutorBase.entityCqlTemplates.clear();
+
+        executor.entityCqls(WarmUpEntity.class);
+        assertEquals(3, CassandraExecutorBase.entityCqlTemplates.size());
+
+        final WarmUpEntity entity = new WarmUpEntity();
+        entity.setId(7L);
+        entity.setName("x");
+
+        // an entity with every property set has the shape warmed up: its statements are bound, not built again.
+        final SP insert = executor.prepareInsert(entity);
+        final SP update = executor.prepareUpdate(entity, List.of("name"));
+        final SP get = executor.prepareQuery(WarmUpEntity.class, null, CassandraExecutorBase.idsToCondition(WarmUpEntity.class, 7L), 2);
+
+        assertEquals(3, CassandraExecutorBase.entityCqlTemplates.size());
+        assertTrue(insert.parameters().containsAll(List.of(7L, "x")), insert.parameters().toString());
+        assertEquals(List.of("x", 7L), List.copyOf(update.parameters()));
+        assertEquals(List.of(7L), List.copyOf(get.parameters()));
+    }
+
+    public static class WarmUpEntity {
+        @Id
+        private Long id;
+        private String name;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
     // Test entity class
     public static class TestEntity {
         private Long id;
@@ -1092,6 +1092,85 @@ public class CassandraExecutorBaseTest extends TestBase {
         assertTrue(sp.query().toUpperCase().contains("SELECT"));
     }
 
+    private static TestEntity newTestEntity(Long id, String name) {
+        TestEntity e = new TestEntity();
+        e.setId(id);
+        e.setName(name);
+        return e;
+    }
+
+    private static void assertSameStatement(SP expected, SP actual) {
+        assertEquals(expected.query(), actual.query());
+        assertEquals(new ArrayList<>(expected.parameters()), new ArrayList<>(actual.parameters()));
+    }
+
+    @Test
+    public void testPrepareInsert_entityReusesCqlTemplate() {
+        CassandraExecutorBase.entityCqlTemplates.clear();
+
+        executor.exposedPrepareInsert(newTestEntity(1L, "a"));
+        SP cached = executor.exposedPrepareInsert(newTestEntity(2L, "b"));
+        assertEquals(1, CassandraExecutorBase.entityCqlTemplates.size());
+
+        CassandraExecutorBase.entityCqlTemplates.clear();
+        assertSameStatement(executor.exposedPrepareInsert(newTestEntity(2L, "b")), cached);
+
+        // a null property is a different shape
+        SP withNull = executor.exposedPrepareInsert(newTestEntity(3L, null));
+        assertEquals(2, CassandraExecutorBase.entityCqlTemplates.size());
+
+        CassandraExecutorBase.entityCqlTemplates.clear();
+        assertSameStatement(executor.exposedPrepareInsert(newTestEntity(3L, null)), withNull);
+    }
+
+    @Test
+    public void testPrepareUpdate_entityReusesCqlTemplate() {
+        CassandraExecutorBase.entityCqlTemplates.clear();
+
+        executor.exposedPrepareUpdate(newTestEntity(1L, "a"), Arrays.asList("name"));
+        SP cached = executor.exposedPrepareUpdate(newTestEntity(2L, "b"), Arrays.asList("name"));
+        assertEquals(1, CassandraExecutorBase.entityCqlTemplates.size());
+
+        CassandraExecutorBase.entityCqlTemplates.clear();
+        assertSameStatement(executor.exposedPrepareUpdate(newTestEntity(2L, "b"), Arrays.asList("name")), cached);
+    }
+
+    @Test
+    public void testPrepareQuery_reusesCqlTemplateByConditionShape() {
+        CassandraExecutorBase.entityCqlTemplates.clear();
+
+        executor.exposedPrepareQuery(TestEntity.class, Arrays.asList("id", "name"), Filters.eq("id", 1L), 2);
+        SP cached = executor.exposedPrepareQuery(TestEntity.class, Arrays.asList("id", "name"), Filters.eq("id", 2L), 2);
+        assertEquals(1, CassandraExecutorBase.entityCqlTemplates.size());
+
+        executor.exposedPrepareQuery(TestEntity.class, Arrays.asList("id", "name"), Filters.eq("id", 2L), 1);
+        executor.exposedPrepareQuery(TestEntity.class, Arrays.asList("id", "name"), Filters.gt("id", 2L), 2);
+        assertEquals(3, CassandraExecutorBase.entityCqlTemplates.size());
+
+        CassandraExecutorBase.entityCqlTemplates.clear();
+        assertSameStatement(executor.exposedPrepareQuery(TestEntity.class, Arrays.asList("id", "name"), Filters.eq("id", 2L), 2), cached);
+    }
+
+    @Test
+    public void testPrepareQuery_rangeOnOnePropertyIsNotCached() {
+        CassandraExecutorBase.entityCqlTemplates.clear();
+
+        executor.exposedPrepareQuery(TestEntity.class, null, Filters.and(Filters.gt("id", 5L), Filters.lt("id", 5L)), 0);
+        SP sp = executor.exposedPrepareQuery(TestEntity.class, null, Filters.and(Filters.gt("id", 1L), Filters.lt("id", 9L)), 0);
+
+        assertEquals(Arrays.asList(1L, 9L), new ArrayList<>(sp.parameters()));
+        assertEquals(0, CassandraExecutorBase.entityCqlTemplates.size());
+    }
+
+    @Test
+    public void testPrepareQuery_otherConditionsAreNotCached() {
+        CassandraExecutorBase.entityCqlTemplates.clear();
+
+        SP sp = executor.exposedPrepareQuery(TestEntity.class, null, Filters.in("id", Arrays.asList(1L, 2L)), 0);
+        assertEquals(2, sp.parameters().size());
+        assertEquals(0, CassandraExecutorBase.entityCqlTemplates.size());
+    }
+
     @Test
     public void testParseCql_passThrough() {
         // parseCql() through the executor; defaults (no cqlMapper) -> ParsedCql.parse
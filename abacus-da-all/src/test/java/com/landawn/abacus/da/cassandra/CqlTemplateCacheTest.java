@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.cassandra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.landawn.abacus.da.TestBase;
+import com.landawn.abacus.query.AbstractQueryBuilder.SP;
+import com.landawn.abacus.query.Filters;
+
+/**
+ * Unit tests for {@link CqlTemplateCache}.
+ */
+public class CqlTemplateCacheTest extends TestBase {
+
+    private static final List<String> NAMES = Arrays.asList("id", "name", "email");
+    private static final String CQL = "UPDATE users SET name = :name, email = :email WHERE id = :id";
+
+    private final AtomicInteger buildCount = new AtomicInteger();
+
+    private Supplier<SP> builder(final String cql, final Object... parameters) {
+        return () -> {
+            buildCount.incrementAndGet();
+            return new SP(cql, Arrays.asList(parameters));
+        };
+    }
+
+    @Test
+    public void testTemplateBindsValuesInParameterOrder() {
+        final CqlTemplateCache cache = new CqlTemplateCache(16);
+
+        cache.get("update", NAMES, Arrays.asList(1L, "a", "a@x"), builder(CQL, "a", "a@x", 1L));
+        final SP sp = cache.get("update", NAMES, Arrays.asList(2L, "b", "b@x"), builder(CQL, "b", "b@x", 2L));
+
+        assertEquals(1, buildCount.get());
+        assertEquals(CQL, sp.query());
+        assertEquals(Arrays.asList("b", "b@x", 2L), sp.parameters());
+    }
+
+    @Test
+    public void testNullAndDefaultValuesAreDifferentShapes() {
+        final CqlTemplateCache cache = new CqlTemplateCache(16);
+
+        cache.get("update", NAMES, Arrays.asList(1L, "a", "a@x"), builder(CQL, "a", "a@x", 1L));
+        cache.get("update", NAMES, Arrays.asList(1L, null, "a@x"), builder(CQL, null, "a@x", 1L));
+        cache.get("update", NAMES, Arrays.asList(0L, "a", "a@x"), builder(CQL, "a", "a@x", 0L));
+        cache.get("update", NAMES, Arrays.asList(1L, "", "a@x"), builder(CQL, "", "a@x", 1L));
+
+        assertEquals(4, buildCount.get());
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    public void testConditionValuesAreNotCached() {
+        final CqlTemplateCache cache = new CqlTemplateCache(16);
+
+        cache.get("update", NAMES, Arrays.asList(1L, Filters.expr("name || 'x'"), "a@x"), builder(CQL, "a@x", 1L));
+        cache.get("update", NAMES, Arrays.asList(1L, Filters.expr("name || 'x'"), "a@x"), builder(CQL, "a@x", 1L));
+
+        assertEquals(2, buildCount.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testTemplateIsNotCachedIfItsPlanDoesntGiveBackTheParameters() {
+        final CqlTemplateCache cache = new CqlTemplateCache(16);
+
+        // positional parameters can't be matched to the values.
+        cache.get("positional", NAMES, Arrays.asList(1L, "a", "a@x"), builder("UPDATE users SET name = ?, email = ? WHERE id = ?", "a", "a@x", 1L));
+        // a parameter which isn't one of the values.
+        cache.get("unknown", NAMES, Arrays.asList(1L, "a", "a@x"), builder(CQL.replace(":email", ":mail"), "a", "a@x", 1L));
+        // a parameter whose value isn't the value of its name.
+        cache.get("transformed", NAMES, Arrays.asList(1L, "a", "a@x"), builder(CQL, "A", "a@x", 1L));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testDuplicateNamesAreNotCached() {
+        final CqlTemplateCache cache = new CqlTemplateCache(16);
+        final List<String> names = Arrays.asList("ts", "ts");
+        final String cql = "SELECT * FROM events WHERE ts > :ts AND ts < :ts";
+
+        cache.get("range", names, Arrays.asList(5L, 5L), builder(cql, 5L, 5L));
+        final SP sp = cache.get("range", names, Arrays.asList(1L, 9L), builder(cql, 1L, 9L));
+
+        assertEquals(2, buildCount.get());
+        assertEquals(0, cache.size());
+        assertEquals(Arrays.asList(1L, 9L), sp.parameters());
+    }
+
+    @Test
+    public void testMaxSize() {
+        final CqlTemplateCache cache = new CqlTemplateCache(1);
+
+        cache.get("first", NAMES, Arrays.asList(1L, "a", "a@x"), builder(CQL, "a", "a@x", 1L));
+        cache.get("second", NAMES, Arrays.asList(1L, "a", "a@x"), builder(CQL, "a", "a@x", 1L));
+        cache.get("second", NAMES, Arrays.asList(1L, "a", "a@x"), builder(CQL, "a", "a@x", 1L));
+
+        assertEquals(3, buildCount.get());
+        assertEquals(1, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> new CqlTemplateCache(0));
+    }
+}
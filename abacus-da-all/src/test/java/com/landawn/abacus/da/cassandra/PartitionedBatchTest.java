@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.cassandra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.landawn.abacus.da.TestBase;
+import com.landawn.abacus.da.cassandra.CassandraExecutor.PartitionBatchSettings;
+import com.landawn.abacus.util.N;
+
+/**
+ * Unit tests for {@link PartitionedBatch} and {@link CassandraExecutor.PartitionBatchSettings}.
+ */
+public class PartitionedBatchTest extends TestBase {
+
+    private final CqlSession session = mock(CqlSession.class);
+    private final List<Statement<?>> sent = new CopyOnWriteArrayList<>();
+    private CassandraExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        final DriverContext context = mock(DriverContext.class);
+        when(context.getCodecRegistry()).thenReturn(mock(CodecRegistry.class));
+        when(session.getContext()).thenReturn(context);
+
+        executor = new CassandraExecutor(session);
+    }
+
+    private static BoundStatement statement(final String partition, final int size) {
+        final BoundStatement stmt = mock(BoundStatement.class);
+        when(stmt.getRoutingKey()).thenReturn(partition == null ? null : ByteBuffer.wrap(partition.getBytes(StandardCharsets.UTF_8)));
+        when(stmt.computeSizeInBytes(any())).thenReturn(size);
+        return stmt;
+    }
+
+    private void answerAll() {
+        when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(mock(AsyncResultSet.class));
+        });
+    }
+
+    private static int sizeOf(final Statement<?> stmt) {
+        return stmt instanceof BatchStatement batch ? batch.size() : 1;
+    }
+
+    @Test
+    public void test_groupsByPartition() {
+        answerAll();
+
+        final List<BoundStatement> statements = N.asList(statement("p1", 10), statement("p2", 10), statement("p1", 10), statement("p1", 10),
+                statement(null, 10));
+        final BulkWriteResult result = PartitionedBatch.execute(executor, N.asList("a", "b", "c", "d", "e"), statements,
+                new PartitionBatchSettings().maxStatements(2));
+
+        assertTrue(result.isSuccess());
+        assertEquals(5, result.itemCount());
+        assertEquals(4, result.requestCount());
+        assertEquals(4, sent.size());
+
+        assertSame(statements.get(4), sent.get(0));
+
+        final BatchStatement batch = assertInstanceOf(BatchStatement.class, sent.get(1));
+        assertEquals(BatchType.UNLOGGED, batch.getBatchType());
+
+        final List<BatchableStatement<?>> batched = new ArrayList<>();
+        batch.forEach(batched::add);
+        assertEquals(N.asList(statements.get(0), statements.get(2)), batched);
+
+        assertSame(statements.get(3), sent.get(2));
+        assertSame(statements.get(1), sent.get(3));
+    }
+
+    @Test
+    public void test_splitsByBytes() {
+        final List<BoundStatement> statements = N.asList(statement("p", 3000), statement("p", 3000), statement("p", 1000), statement("p", 9000));
+
+        final List<List<Integer>> batches = PartitionedBatch.split(statements, session.getContext(), N.asList("a", "b", "c", "d"),
+                new PartitionBatchSettings());
+
+        assertEquals(N.asList(N.asList(0), N.asList(1, 2), N.asList(3)), batches);
+    }
+
+    @Test
+    public void test_groupsByItemClass() {
+        final List<BoundStatement> statements = N.asList(statement("p", 10), statement("p", 10));
+
+        final List<List<Integer>> batches = PartitionedBatch.split(statements, session.getContext(), N.asList("a", 1), new PartitionBatchSettings());
+
+        assertEquals(2, batches.size());
+    }
+
+    @Test
+    public void test_failures() {
+        final BoundStatement failing = statement("p2", 10);
+
+        when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+            final Statement<?> stmt = invocation.getArgument(0);
+            return stmt == failing ? CompletableFuture.failedFuture(new IllegalStateException("write timeout"))
+                    : CompletableFuture.completedFuture(mock(AsyncResultSet.class));
+        });
+
+        final BulkWriteResult result = PartitionedBatch.execute(executor, N.asList("a", "b", "c"),
+                N.asList(statement("p1", 10), failing, statement("p1", 10)), new PartitionBatchSettings());
+
+        assertFalse(result.isSuccess());
+        assertEquals(2, result.requestCount());
+        assertEquals(1, result.failedItemCount());
+        assertEquals(N.asList("b"), result.failures().get(0).items());
+        assertEquals("write timeout", result.failures().get(0).cause().getMessage());
+    }
+
+    @Test
+    public void test_boundsInFlight() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+
+        when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+            return CompletableFuture.supplyAsync(() -> {
+                inFlight.decrementAndGet();
+                return mock(AsyncResultSet.class);
+            }, CompletableFuture.delayedExecutor(5, TimeUnit.MILLISECONDS));
+        });
+
+        final List<Object> items = new ArrayList<>();
+        final List<BoundStatement> statements = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            items.add("item" + i);
+            statements.add(statement("p" + i, 10));
+        }
+
+        final BulkWriteResult result = PartitionedBatch.execute(executor, items, statements, new PartitionBatchSettings().maxInFlight(3));
+
+        assertTrue(result.isSuccess());
+        assertEquals(20, result.requestCount());
+        assertEquals(0, inFlight.get());
+        assertTrue(maxInFlight.get() <= 3);
+    }
+
+    @Test
+    public void test_invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new PartitionBatchSettings().maxStatements(0));
+        assertThrows(IllegalArgumentException.class, () -> new PartitionBatchSettings().maxBytes(0));
+        assertThrows(IllegalArgumentException.class, () -> new PartitionBatchSettings().maxInFlight(0));
+        assertThrows(IllegalArgumentException.class, () -> executor.batchInsertByPartition(N.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> executor.batchUpdateByPartition(N.asList("a"), N.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> executor.batchInsertByPartition(N.asList("a"), null));
+    }
+}
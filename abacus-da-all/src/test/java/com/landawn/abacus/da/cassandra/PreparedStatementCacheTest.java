@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.cassandra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.landawn.abacus.da.TestBase;
+
+/**
+ * Unit tests for {@link PreparedStatementCache}.
+ */
+public class PreparedStatementCacheTest extends TestBase {
+
+    private final AtomicInteger prepareCount = new AtomicInteger();
+
+    private final Function<String, PreparedStatement> preparer = cql -> {
+        prepareCount.incrementAndGet();
+        return mock(PreparedStatement.class);
+    };
+
+    private static long weightOf(final String cql) {
+        return PreparedStatementCache.ENTRY_WEIGHT + cql.length();
+    }
+
+    @Test
+    public void testConcurrentMissesSharePreparation() throws Exception {
+        final PreparedStatementCache cache = new PreparedStatementCache(1024 * 1024);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final PreparedStatement prepared = mock(PreparedStatement.class);
+        final int threadCount = 16;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        try {
+            final List<Future<PreparedStatement>> futures = new ArrayList<>();
+
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executorService.submit(() -> cache.get("SELECT * FROM users", cql -> {
+                    prepareCount.incrementAndGet();
+                    started.countDown();
+
+                    try {
+                        release.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    return prepared;
+                })));
+            }
+
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            release.countDown();
+
+            for (final Future<PreparedStatement> future : futures) {
+                assertSame(prepared, future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertEquals(1, prepareCount.get());
+        assertEquals(1, cache.stats().missCount());
+        assertEquals(threadCount - 1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().size());
+    }
+
+    @Test
+    public void testLongStatementsAreCached() {
+        final PreparedStatementCache cache = new PreparedStatementCache(1024 * 1024);
+        final String cql = "SELECT * FROM users WHERE id IN (" + String.join(", ", Collections.nCopies(2000, "?")) + ")";
+
+        assertTrue(cql.length() > CassandraExecutorBase.POOLABLE_LENGTH);
+        assertSame(cache.get(cql, preparer), cache.get(cql, preparer));
+        assertEquals(1, prepareCount.get());
+        assertEquals(weightOf(cql), cache.stats().weight());
+    }
+
+    @Test
+    public void testStatementHeavierThanTheCacheIsNotCached() {
+        final String cql = "SELECT * FROM users";
+        final PreparedStatementCache cache = new PreparedStatementCache(weightOf(cql) - 1);
+
+        cache.get(cql, preparer);
+        cache.get(cql, preparer);
+
+        assertEquals(2, prepareCount.get());
+        assertEquals(0, cache.stats().size());
+        assertEquals(0, cache.stats().weight());
+    }
+
+    @Test
+    public void testEvictionKeepsTheCacheUnderItsWeight() {
+        final PreparedStatementCache cache = new PreparedStatementCache(3 * weightOf("SELECT 1"));
+
+        final PreparedStatement first = cache.get("SELECT 1", preparer);
+        cache.get("SELECT 2", preparer);
+        cache.get("SELECT 3", preparer);
+
+        assertSame(first, cache.get("SELECT 1", preparer)); // second chance for "SELECT 1"
+
+        cache.get("SELECT 4", preparer);
+
+        assertEquals(4, prepareCount.get());
+        assertEquals(1, cache.stats().evictionCount());
+        assertEquals(3, cache.stats().size());
+        assertEquals(3 * weightOf("SELECT 1"), cache.stats().weight());
+
+        assertSame(first, cache.get("SELECT 1", preparer));
+        assertEquals(4, prepareCount.get());
+
+        cache.get("SELECT 2", preparer);
+        assertEquals(5, prepareCount.get());
+    }
+
+    @Test
+    public void testFailedPreparationIsNotCached() {
+        final PreparedStatementCache cache = new PreparedStatementCache(1024 * 1024);
+        final IllegalStateException failure = new IllegalStateException("syntax error");
+
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> cache.get("SELECT FROM", cql -> {
+            throw failure;
+        })));
+
+        assertEquals(1, cache.stats().loadFailureCount());
+        assertEquals(0, cache.stats().size());
+        assertEquals(0, cache.stats().weight());
+
+        cache.get("SELECT FROM", preparer);
+        assertEquals(1, prepareCount.get());
+    }
+
+    @Test
+    public void testAsyncPreparationIsShared() {
+        final PreparedStatementCache cache = new PreparedStatementCache(1024 * 1024);
+        final CompletableFuture<PreparedStatement> preparation = new CompletableFuture<>();
+        final PreparedStatement prepared = mock(PreparedStatement.class);
+        final Function<String, CompletionStage<PreparedStatement>> asyncPreparer = cql -> {
+            prepareCount.incrementAndGet();
+            return preparation;
+        };
+
+        final CompletableFuture<PreparedStatement> first = cache.getAsync("SELECT * FROM users", asyncPreparer).toCompletableFuture();
+        final CompletableFuture<PreparedStatement> second = cache.getAsync("SELECT * FROM users", asyncPreparer).toCompletableFuture();
+
+        assertFalse(first.isDone());
+        assertFalse(second.isDone());
+
+        preparation.complete(prepared);
+
+        assertSame(prepared, first.join());
+        assertSame(prepared, second.join());
+        assertSame(prepared, cache.get("SELECT * FROM users", preparer));
+        assertEquals(1, prepareCount.get());
+    }
+
+    @Test
+    public void testFailedAsyncPreparationIsNotCached() {
+        final PreparedStatementCache cache = new PreparedStatementCache(1024 * 1024);
+        final IllegalStateException failure = new IllegalStateException("syntax error");
+
+        final CompletableFuture<PreparedStatement> future = cache.getAsync("SELECT FROM", cql -> CompletableFuture.<PreparedStatement> failedFuture(failure))
+                .toCompletableFuture();
+
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(0, cache.stats().size());
+
+        cache.get("SELECT FROM", preparer);
+        assertEquals(1, prepareCount.get());
+    }
+
+    @Test
+    public void testInvalidate() {
+        final PreparedStatementCache cache = new PreparedStatementCache(1024 * 1024);
+
+        cache.get("SELECT 1", preparer);
+        cache.get("SELECT 2", preparer);
+
+        cache.invalidate("SELECT 1");
+        assertEquals(1, cache.stats().size());
+        assertEquals(weightOf("SELECT 2"), cache.stats().weight());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.stats().size());
+        assertEquals(0, cache.stats().weight());
+
+        cache.get("SELECT 2", preparer);
+        assertEquals(3, prepareCount.get());
+    }
+
+    @Test
+    public void testStats() {
+        final PreparedStatementCache cache = new PreparedStatementCache(1024 * 1024);
+
+        assertEquals(1.0, cache.stats().hitRate());
+
+        cache.get("SELECT 1", preparer);
+        cache.get("SELECT 1", preparer);
+        cache.get("SELECT 1", preparer);
+        cache.get("SELECT 2", preparer);
+
+        assertEquals(2, cache.stats().hitCount());
+        assertEquals(2, cache.stats().missCount());
+        assertEquals(0.5, cache.stats().hitRate());
+        assertEquals(1024 * 1024, cache.stats().maxWeight());
+        assertThrows(IllegalArgumentException.class, () -> new PreparedStatementCache(0));
+    }
+}
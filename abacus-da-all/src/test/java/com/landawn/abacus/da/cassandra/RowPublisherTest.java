@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.cassandra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.landawn.abacus.da.TestBase;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for {@link RowPublisher}.
+ */
+public class RowPublisherTest extends TestBase {
+
+    private static AsyncResultSet page(final CompletionStage<AsyncResultSet> next, final String... names) {
+        final Row[] rows = new Row[names.length];
+
+        for (int i = 0; i < names.length; i++) {
+            rows[i] = mock(Row.class, names[i]);
+        }
+
+        final AsyncResultSet page = mock(AsyncResultSet.class);
+        when(page.currentPage()).thenReturn(Arrays.asList(rows));
+        when(page.hasMorePages()).thenReturn(next != null);
+
+        if (next != null) {
+            when(page.fetchNextPage()).thenAnswer(invocation -> next);
+        }
+
+        return page;
+    }
+
+    private static Flux<String> flux(final AsyncResultSet firstPage, final AtomicInteger executions) {
+        return RowPublisher.create(() -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture(firstPage);
+        }, () -> Row::toString);
+    }
+
+    @Test
+    public void testPagesAreFetchedOnDemand() {
+        final AsyncResultSet third = page(null, "e");
+        final AsyncResultSet second = page(CompletableFuture.completedFuture(third), "c", "d");
+        final AsyncResultSet first = page(CompletableFuture.completedFuture(second), "a", "b");
+        final AtomicInteger executions = new AtomicInteger();
+
+        StepVerifier.create(flux(first, executions), 0)
+                .expectSubscription()
+                .then(() -> assertEquals(0, executions.get()))
+                .thenRequest(2)
+                .expectNext("a", "b")
+                .then(() -> {
+                    assertEquals(1, executions.get());
+                    verify(first, never()).fetchNextPage();
+                })
+                .thenRequest(1)
+                .expectNext("c")
+                .then(() -> verify(second, never()).fetchNextPage())
+                .thenRequest(10)
+                .expectNext("d", "e")
+                .verifyComplete();
+
+        verify(first).fetchNextPage();
+        verify(second).fetchNextPage();
+    }
+
+    @Test
+    public void testPageArrivingLater() {
+        final CompletableFuture<AsyncResultSet> secondPage = new CompletableFuture<>();
+        final AsyncResultSet first = page(secondPage, "a");
+
+        StepVerifier.create(flux(first, new AtomicInteger()))
+                .expectNext("a")
+                .then(() -> secondPage.complete(page(null, "b", "c")))
+                .expectNext("b", "c")
+                .verifyComplete();
+    }
+
+    @Test
+    public void testCancellationStopsPaging() {
+        final AsyncResultSet second = page(null, "c");
+        final AsyncResultSet first = page(CompletableFuture.completedFuture(second), "a", "b");
+
+        StepVerifier.create(flux(first, new AtomicInteger()).take(2)).expectNext("a", "b").verifyComplete();
+
+        verify(first, never()).fetchNextPage();
+    }
+
+    @Test
+    public void testEachSubscriptionExecutesTheQuery() {
+        final AsyncResultSet first = page(null, "a");
+        final AtomicInteger executions = new AtomicInteger();
+        final Flux<String> flux = flux(first, executions);
+
+        StepVerifier.create(flux).expectNext("a").verifyComplete();
+        StepVerifier.create(flux).expectNext("a").verifyComplete();
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    public void testFailedPageIsSignalled() {
+        final IllegalStateException failure = new IllegalStateException("read timeout");
+        final AsyncResultSet first = page(CompletableFuture.failedFuture(failure), "a");
+
+        StepVerifier.create(flux(first, new AtomicInteger())).expectNext("a").verifyErrorMatches(e -> e == failure);
+    }
+
+    @Test
+    public void testFailedQueryIsSignalled() {
+        final IllegalStateException failure = new IllegalStateException("no host available");
+        final Flux<String> flux = RowPublisher.create(() -> {
+            throw failure;
+        }, () -> Row::toString);
+
+        StepVerifier.create(flux).verifyErrorMatches(e -> e == failure);
+    }
+
+    @Test
+    public void testMapperFailureIsSignalled() {
+        final AsyncResultSet first = page(null, "a", "b");
+        final Function<Row, String> mapper = row -> {
+            throw new IllegalArgumentException(row.toString());
+        };
+
+        StepVerifier.create(RowPublisher.create(() -> CompletableFuture.completedFuture(first), () -> mapper))
+                .verifyErrorMatches(e -> e instanceof IllegalArgumentException && "a".equals(e.getMessage()));
+    }
+}
@@ -549,6 +549,22 @@ public class AnyScanTest extends TestBase {
         assertEquals(Boolean.TRUE, scan.isAsyncPrefetch());
     }
 
+    @Test
+    public void testClientPrefetchRows_defaultAndSet() {
+        AnyScan scan = AnyScan.create();
+        assertEquals(0, scan.getClientPrefetchRows());
+
+        AnyScan returned = scan.setClientPrefetchRows(2000);
+        assertSame(scan, returned);
+        assertEquals(2000, scan.getClientPrefetchRows());
+    }
+
+    @Test
+    public void testSetClientPrefetchRows_negative() {
+        AnyScan scan = AnyScan.create();
+        assertThrows(IllegalArgumentException.class, () -> scan.setClientPrefetchRows(-1));
+    }
+
     // ---------------------------------------------------------------------
     // ReadType
     // ---------------------------------------------------------------------
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.hadoop.hbase.HBaseTestingUtility;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
+import org.apache.hadoop.hbase.regionserver.HRegion;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.landawn.abacus.annotation.Id;
+import com.landawn.abacus.da.TestBase;
+import com.landawn.abacus.da.hbase.HBaseExecutor.BulkLoadSettings;
+import com.landawn.abacus.da.hbase.HBaseExecutor.HBaseMapper;
+import com.landawn.abacus.da.hbase.annotation.ColumnFamily;
+import com.landawn.abacus.util.NamingPolicy;
+import com.landawn.abacus.util.stream.Stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tests {@link HBaseExecutor#bulkLoad(String, Stream, BulkLoadSettings)} against an HBase mini-cluster. Starting the
+ * cluster takes a while, so the tests are tagged {@code slow-test} and left out of the default test suite.
+ */
+@Tag("slow-test")
+public class BulkLoadMiniClusterTest extends TestBase {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ColumnFamily("cf")
+    public static class Item {
+        @Id
+        private String id;
+        private String name;
+    }
+
+    private static final HBaseTestingUtility TEST_UTIL = new HBaseTestingUtility();
+    private static final TableName TABLE = TableName.valueOf("bulk_load_items");
+
+    private static HBaseExecutor executor;
+
+    @TempDir
+    Path spillDir;
+
+    @BeforeAll
+    public static void startCluster() throws Exception {
+        TEST_UTIL.startMiniCluster();
+        TEST_UTIL.createTable(TABLE, new byte[][] { Bytes.toBytes("cf") }, new byte[][] { Bytes.toBytes("g"), Bytes.toBytes("p") });
+
+        executor = new HBaseExecutor(ConnectionFactory.createConnection(TEST_UTIL.getConfiguration()));
+    }
+
+    @AfterAll
+    public static void stopCluster() throws Exception {
+        try {
+            if (executor != null) {
+                executor.close();
+            }
+        } finally {
+            TEST_UTIL.shutdownMiniCluster();
+        }
+    }
+
+    private static String id(final int i) {
+        return (char) ('a' + i % 26) + String.format("%05d", i);
+    }
+
+    private HBaseMapper<Item, String> mapper() {
+        return executor.mapper(Item.class, TABLE.getNameAsString(), NamingPolicy.CAMEL_CASE);
+    }
+
+    private BulkLoadSettings settings() throws IOException {
+        return new BulkLoadSettings().spillDir(spillDir.toString()).stagingDir(TEST_UTIL.getDataTestDirOnTestFS("staging").toString());
+    }
+
+    @Test
+    public void test_bulkLoad_spillsAndLoadsEveryRegion() throws Exception {
+        final List<Item> items = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            items.add(new Item(id(i), "name-" + i));
+        }
+
+        Collections.shuffle(items, new Random(7));
+
+        // a tiny sort buffer spills a run every few puts.
+        final long count = mapper().bulkLoad(Stream.of(items), settings().sortBufferSize(16 * 1024).parallelism(3));
+
+        assertEquals(2_000, count);
+
+        for (final int i : new int[] { 0, 6, 15, 25, 1_999 }) {
+            assertEquals("name-" + i, mapper().get(id(i)).getName());
+        }
+
+        assertEquals(2_000, mapper().scan("cf").count());
+
+        // nothing went through the memstores, and the spill and staging files are gone.
+        for (final HRegion region : TEST_UTIL.getHBaseCluster().getRegions(TABLE)) {
+            assertEquals(0, region.getMemStoreDataSize());
+        }
+
+        try (java.util.stream.Stream<Path> files = Files.list(spillDir)) {
+            assertEquals(0, files.count());
+        }
+
+        assertEquals(0, TEST_UTIL.getTestFileSystem().listStatus(TEST_UTIL.getDataTestDirOnTestFS("staging")).length);
+    }
+
+    @Test
+    public void test_bulkLoad_lastPutWins() throws IOException {
+        final List<Item> items = new ArrayList<>();
+
+        items.add(new Item("dup-1", "first"));
+
+        for (int i = 0; i < 500; i++) {
+            items.add(new Item("filler-" + i, "x"));
+        }
+
+        items.add(new Item("dup-1", "second"));
+        items.add(new Item("dup-2", "first"));
+        items.add(new Item("dup-2", "second"));
+
+        assertEquals(504, mapper().bulkLoad(Stream.of(items), settings().sortBufferSize(8 * 1024)));
+
+        assertEquals("second", mapper().get("dup-1").getName());
+        assertEquals("second", mapper().get("dup-2").getName());
+    }
+
+    @Test
+    public void test_bulkLoad_empty() throws IOException {
+        assertEquals(0, mapper().bulkLoad(Stream.empty(), settings()));
+    }
+
+    @Test
+    public void test_bulkLoad_unknownFamily() throws IOException {
+        final BulkLoadSettings settings = settings();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> executor.bulkLoad(TABLE.getNameAsString(), Stream.of(AnyPut.of("row").addColumn("no_such_family", "q", "v")), settings));
+
+        assertNull(mapper().get("row"));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.landawn.abacus.da.TestBase;
+import com.landawn.abacus.da.hbase.BulkLoad.MemoryRun;
+import com.landawn.abacus.da.hbase.BulkLoad.Source;
+import com.landawn.abacus.da.hbase.BulkLoad.SpilledRun;
+import com.landawn.abacus.da.hbase.HBaseExecutor.BulkLoadSettings;
+
+/**
+ * Unit tests for the sorted runs of {@link BulkLoad}. The load itself is tested against a mini-cluster in
+ * {@link BulkLoadMiniClusterTest}.
+ */
+public class BulkLoadTest extends TestBase {
+
+    private static final byte[][] REGION_START_KEYS = { Bytes.toBytes(""), Bytes.toBytes("m"), Bytes.toBytes("t") };
+
+    @TempDir
+    Path tempDir;
+
+    private static KeyValue[] kvs(final String... rows) {
+        final KeyValue[] kvs = new KeyValue[rows.length];
+
+        for (int i = 0; i < rows.length; i++) {
+            kvs[i] = new KeyValue(Bytes.toBytes(rows[i]), Bytes.toBytes("cf"), Bytes.toBytes("v"), 1L, Bytes.toBytes(rows[i] + i));
+        }
+
+        return kvs;
+    }
+
+    private static List<String> rows(final Source source) throws IOException {
+        final List<String> rows = new ArrayList<>();
+
+        if (source != null) {
+            try (source) {
+                KeyValue kv = null;
+
+                while ((kv = source.next()) != null) {
+                    rows.add(Bytes.toString(kv.getRowArray(), kv.getRowOffset(), kv.getRowLength()));
+                }
+            }
+        }
+
+        return rows;
+    }
+
+    @Test
+    public void test_regionBounds() {
+        assertArrayEquals(new int[] { 0, 2, 4, 5 }, BulkLoad.regionBounds(kvs("a", "b", "m", "n", "z"), REGION_START_KEYS));
+        assertArrayEquals(new int[] { 0, 0, 2, 2 }, BulkLoad.regionBounds(kvs("m", "s"), REGION_START_KEYS));
+        assertArrayEquals(new int[] { 0, 0, 0, 0 }, BulkLoad.regionBounds(kvs(), REGION_START_KEYS));
+        assertArrayEquals(new int[] { 0, 3 }, BulkLoad.regionBounds(kvs("a", "m", "z"), new byte[][] { Bytes.toBytes("") }));
+    }
+
+    @Test
+    public void test_memoryRun() throws IOException {
+        final KeyValue[] kvs = kvs("a", "b", "n", "u");
+        final MemoryRun run = new MemoryRun(kvs, BulkLoad.regionBounds(kvs, REGION_START_KEYS));
+
+        assertEquals(List.of("a", "b"), rows(run.open(0)));
+        assertEquals(List.of("n"), rows(run.open(1)));
+        assertEquals(List.of("u"), rows(run.open(2)));
+    }
+
+    @Test
+    public void test_spilledRun_readsEachRegionBack() throws IOException {
+        final KeyValue[] kvs = kvs("a", "b", "b", "u", "v");
+        final SpilledRun run = SpilledRun.write(kvs, REGION_START_KEYS, tempDir.resolve("run-0"));
+
+        assertEquals(List.of("a", "b", "b"), rows(run.open(0)));
+        assertNull(run.open(1));
+        assertEquals(List.of("u", "v"), rows(run.open(2)));
+
+        // the cells come back whole, value and timestamp included.
+        try (Source source = run.open(2)) {
+            final KeyValue kv = source.next();
+
+            assertEquals(kvs[3], kv);
+            assertEquals("u3", Bytes.toString(kv.getValueArray(), kv.getValueOffset(), kv.getValueLength()));
+            assertEquals(1L, kv.getTimestamp());
+        }
+
+        assertEquals(5L * (Integer.BYTES + kvs[0].getLength()), Files.size(tempDir.resolve("run-0")));
+    }
+
+    @Test
+    public void test_settings() {
+        final BulkLoadSettings settings = new BulkLoadSettings();
+
+        assertEquals(BulkLoadSettings.DEFAULT_SORT_BUFFER_SIZE, settings.sortBufferSize());
+        assertEquals(BulkLoadSettings.DEFAULT_PARALLELISM, settings.parallelism());
+        assertNull(settings.stagingDir());
+        assertNull(settings.spillDir());
+
+        assertThrows(IllegalArgumentException.class, () -> new BulkLoadSettings().sortBufferSize(0));
+        assertThrows(IllegalArgumentException.class, () -> new BulkLoadSettings().parallelism(0));
+    }
+}
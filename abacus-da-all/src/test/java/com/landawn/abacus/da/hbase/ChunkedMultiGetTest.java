@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+
+import com.landawn.abacus.da.TestBase;
+import com.landawn.abacus.da.hbase.HBaseExecutor.MultiGetSettings;
+import com.landawn.abacus.exception.UncheckedIOException;
+import com.landawn.abacus.util.AsyncExecutor;
+import com.landawn.abacus.util.N;
+
+/**
+ * Unit tests for {@link ChunkedMultiGet} and the multi-get settings of {@link HBaseExecutor}.
+ */
+public class ChunkedMultiGetTest extends TestBase {
+
+    private static final byte[][] START_KEYS = { Bytes.toBytes(""), Bytes.toBytes("c"), Bytes.toBytes("f") };
+
+    private final AsyncExecutor asyncExecutor = new AsyncExecutor(4, 4, 60L, TimeUnit.SECONDS);
+
+    private static List<Get> gets(final String... rows) {
+        final List<Get> gets = new ArrayList<>();
+
+        for (final String row : rows) {
+            gets.add(new Get(Bytes.toBytes(row)));
+        }
+
+        return gets;
+    }
+
+    @Test
+    public void test_split_groupsByRegion() {
+        final List<int[]> chunks = ChunkedMultiGet.split(gets("g", "a", "d", "b", "c", "h"), START_KEYS, 10);
+
+        assertEquals(3, chunks.size());
+        assertArrayEquals(new int[] { 1, 3 }, chunks.get(0));
+        assertArrayEquals(new int[] { 2, 4 }, chunks.get(1));
+        assertArrayEquals(new int[] { 0, 5 }, chunks.get(2));
+    }
+
+    @Test
+    public void test_split_chunkSize() {
+        final List<int[]> chunks = ChunkedMultiGet.split(gets("a", "b", "a1", "b1", "a2"), new byte[][] { Bytes.toBytes("") }, 2);
+
+        assertEquals(3, chunks.size());
+        assertArrayEquals(new int[] { 0, 1 }, chunks.get(0));
+        assertArrayEquals(new int[] { 4 }, chunks.get(2));
+    }
+
+    @Test
+    public void test_get_preservesInputOrder() throws IOException {
+        final Connection conn = mockConnection(null);
+        final HBaseExecutor executor = new HBaseExecutor(conn, asyncExecutor);
+        executor.setMultiGetSettings(new MultiGetSettings().chunkSize(2).parallelism(3));
+
+        final List<String> rows = N.asList("g", "a", "d", "b", "c", "h", "e", "a0");
+        final List<Result> results = executor.get("t", gets(rows.toArray(new String[0])));
+
+        final List<String> actual = new ArrayList<>();
+        results.forEach(result -> actual.add(Bytes.toString(result.getRow())));
+
+        assertEquals(rows, actual);
+        verify(conn.getTable(TableName.valueOf("t")), times(5)).get(anyList());
+    }
+
+    @Test
+    public void test_get_smallListSingleRequest() throws IOException {
+        final Connection conn = mockConnection(null);
+        final HBaseExecutor executor = new HBaseExecutor(conn, asyncExecutor);
+
+        assertEquals(3, executor.get("t", gets("a", "d", "g")).size());
+
+        verify(conn.getTable(TableName.valueOf("t")), times(1)).get(anyList());
+        verify(conn, times(0)).getRegionLocator(any(TableName.class));
+    }
+
+    @Test
+    public void test_get_failure() throws IOException {
+        final HBaseExecutor executor = new HBaseExecutor(mockConnection("d"), asyncExecutor);
+        executor.setMultiGetSettings(new MultiGetSettings().chunkSize(1).parallelism(2));
+
+        assertThrows(UncheckedIOException.class, () -> executor.get("t", gets("a", "b", "d", "g")));
+    }
+
+    @Test
+    public void test_settings() {
+        final MultiGetSettings settings = new MultiGetSettings();
+
+        assertEquals(MultiGetSettings.DEFAULT_CHUNK_SIZE, settings.chunkSize());
+        assertEquals(MultiGetSettings.DEFAULT_PARALLELISM, settings.parallelism());
+        assertThrows(IllegalArgumentException.class, () -> settings.chunkSize(0));
+        assertThrows(IllegalArgumentException.class, () -> settings.parallelism(0));
+    }
+
+    @Test
+    public void test_setMultiGetSettings_copies() throws IOException {
+        final HBaseExecutor executor = new HBaseExecutor(mockConnection(null), asyncExecutor);
+        final MultiGetSettings settings = new MultiGetSettings().chunkSize(10);
+
+        executor.setMultiGetSettings(settings);
+        settings.chunkSize(20);
+
+        assertEquals(10, executor.getMultiGetSettings().chunkSize());
+        assertTrue(executor.getMultiGetSettings() != executor.getMultiGetSettings());
+    }
+
+    private static Connection mockConnection(final String failingRow) throws IOException {
+        final Connection conn = mock(Connection.class);
+        final Table table = mock(Table.class);
+        final RegionLocator regionLocator = mock(RegionLocator.class);
+
+        when(conn.getAdmin()).thenReturn(mock(Admin.class));
+        when(conn.getTable(any(TableName.class))).thenReturn(table);
+        when(conn.getRegionLocator(any(TableName.class))).thenReturn(regionLocator);
+        when(regionLocator.getStartKeys()).thenReturn(START_KEYS);
+        when(table.get(anyList())).thenAnswer(invocation -> {
+            final List<Get> gets = invocation.getArgument(0);
+            final Result[] results = new Result[gets.size()];
+
+            for (int i = 0; i < results.length; i++) {
+                final byte[] row = gets.get(i).getRow();
+
+                if (Bytes.toString(row).equals(failingRow)) {
+                    throw new IOException("region unavailable");
+                }
+
+                results[i] = Result.create(Collections.singletonList(new KeyValue(row, Bytes.toBytes("cf"), Bytes.toBytes("q"), row)));
+            }
+
+            return results;
+        });
+
+        return conn;
+    }
+}
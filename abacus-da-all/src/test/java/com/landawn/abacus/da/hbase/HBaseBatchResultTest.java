@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Delete;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Row;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.landawn.abacus.da.TestBase;
+import com.landawn.abacus.util.N;
+
+/**
+ * Unit tests for {@link HBaseBatchResult} and the mixed batches of {@link HBaseExecutor} and
+ * {@link AsyncHBaseExecutor}.
+ */
+public class HBaseBatchResultTest extends TestBase {
+
+    private final Connection conn = mock(Connection.class);
+    private final Table table = mock(Table.class);
+    private final List<Row> sent = new CopyOnWriteArrayList<>();
+    private HBaseExecutor executor;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        final RegionLocator regionLocator = mock(RegionLocator.class);
+        when(regionLocator.getStartKeys()).thenReturn(new byte[][] { Bytes.toBytes(""), Bytes.toBytes("m") });
+
+        when(conn.getAdmin()).thenReturn(mock(Admin.class));
+        when(conn.getTable(any(TableName.class))).thenReturn(table);
+        when(conn.getRegionLocator(any(TableName.class))).thenReturn(regionLocator);
+
+        executor = new HBaseExecutor(conn);
+    }
+
+    /**
+     * Answers each action with the row of a Get as a value, an empty result otherwise, and fails the actions on rows
+     * starting with "x".
+     */
+    private void answerBatch() throws Exception {
+        doAnswer(invocation -> {
+            final List<? extends Row> actions = invocation.getArgument(0);
+            final Object[] results = invocation.getArgument(1);
+            boolean failed = false;
+
+            for (int i = 0; i < actions.size(); i++) {
+                final Row action = actions.get(i);
+                sent.add(action);
+
+                if (Bytes.toString(action.getRow()).startsWith("x")) {
+                    results[i] = new IOException("rejected");
+                    failed = true;
+                } else if (action instanceof Get) {
+                    results[i] = Result.create(N.asList(new KeyValue(action.getRow(), Bytes.toBytes("cf"), Bytes.toBytes("v"), action.getRow())));
+                } else {
+                    results[i] = Result.EMPTY_RESULT;
+                }
+            }
+
+            if (failed) {
+                throw new IOException("some actions failed");
+            }
+
+            return null;
+        }).when(table).batch(anyList(), any(Object[].class));
+    }
+
+    @Test
+    public void test_mixedActions() throws Exception {
+        answerBatch();
+
+        final AnyPut put = AnyPut.of("a").addColumn("cf", "v", "1");
+        final Delete delete = new Delete(Bytes.toBytes("b"));
+        final List<HBaseBatchResult> results = executor.batch("t", N.asList(put, delete, AnyGet.of("c")));
+
+        assertEquals(3, results.size());
+        assertInstanceOf(Put.class, sent.get(0));
+        assertSame(delete, sent.get(1));
+        assertInstanceOf(Get.class, sent.get(2));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, results.get(i).index());
+            assertTrue(results.get(i).isSuccess());
+        }
+
+        assertSame(put, results.get(0).action());
+        assertTrue(results.get(0).result().isEmpty());
+        assertEquals("c", results.get(2).result(String.class));
+    }
+
+    @Test
+    public void test_partialFailure() throws Exception {
+        answerBatch();
+
+        final List<HBaseBatchResult> results = executor.batch("t", N.asList(AnyPut.of("a").addColumn("cf", "v", "1"), AnyGet.of("x1"), AnyGet.of("b")));
+
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("rejected", results.get(1).failure().getMessage());
+        assertNull(results.get(1).result());
+        assertThrows(IllegalStateException.class, () -> results.get(1).result(String.class));
+        assertEquals("b", results.get(2).result(String.class));
+    }
+
+    @Test
+    public void test_wholeCallFailure() throws Exception {
+        final IOException cause = new IOException("table not found");
+        doThrow(cause).when(table).batch(anyList(), any(Object[].class));
+
+        final List<HBaseBatchResult> results = executor.batch("t", N.asList(AnyGet.of("a"), AnyGet.of("b")));
+
+        assertEquals(2, results.size());
+        assertSame(cause, results.get(0).failure());
+        assertSame(cause, results.get(1).failure());
+    }
+
+    @Test
+    public void test_callbackPerChunk() throws Exception {
+        answerBatch();
+        executor.setMultiGetSettings(new HBaseExecutor.MultiGetSettings().chunkSize(2).parallelism(3));
+
+        final List<HBaseBatchResult> seen = new CopyOnWriteArrayList<>();
+        final List<Row> actions = N.asList(AnyGet.of("a"), AnyGet.of("n"), AnyGet.of("b"), AnyGet.of("x"), AnyGet.of("c"), AnyGet.of("o"));
+
+        final List<HBaseBatchResult> results = executor.batch("t", actions, seen::add);
+
+        assertEquals(6, seen.size());
+        assertEquals(6, results.size());
+
+        for (int i = 0; i < actions.size(); i++) {
+            assertEquals(i, results.get(i).index());
+            assertSame(actions.get(i), results.get(i).action());
+        }
+
+        assertFalse(results.get(3).isSuccess());
+        assertEquals("o", results.get(5).result(String.class));
+    }
+
+    @Test
+    public void test_async() throws Exception {
+        answerBatch();
+
+        final List<HBaseBatchResult> results = executor.async().batch("t", N.asList(AnyGet.of("a"), AnyGet.of("x"))).get();
+
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+    }
+
+    @Test
+    public void test_emptyAndInvalid() {
+        assertTrue(executor.batch("t", N.<Row> emptyList()).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> executor.batch("t", null));
+        assertThrows(IllegalArgumentException.class, () -> executor.batch("t", N.asList(AnyGet.of("a")), null));
+    }
+}
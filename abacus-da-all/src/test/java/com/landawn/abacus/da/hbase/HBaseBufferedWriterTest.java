@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.BufferedMutatorParams;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Mutation;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.RetriesExhaustedWithDetailsException;
+import org.apache.hadoop.hbase.client.Row;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.landawn.abacus.da.TestBase;
+import com.landawn.abacus.exception.UncheckedIOException;
+import com.landawn.abacus.util.N;
+
+/**
+ * Unit tests for {@link HBaseBufferedWriter}.
+ */
+public class HBaseBufferedWriterTest extends TestBase {
+
+    private final Connection conn = mock(Connection.class);
+    private final BufferedMutator mutator = mock(BufferedMutator.class);
+    private final ArgumentCaptor<BufferedMutatorParams> paramsCaptor = ArgumentCaptor.forClass(BufferedMutatorParams.class);
+
+    private HBaseBufferedWriter newWriter(final HBaseBufferedWriter.Settings settings) throws IOException {
+        when(conn.getBufferedMutator(any(BufferedMutatorParams.class))).thenReturn(mutator);
+
+        final HBaseBufferedWriter writer = new HBaseBufferedWriter(conn, "events", settings);
+
+        verify(conn).getBufferedMutator(paramsCaptor.capture());
+
+        return writer;
+    }
+
+    private static Put put(final String row) {
+        return new Put(Bytes.toBytes(row)).addColumn(Bytes.toBytes("e"), Bytes.toBytes("q"), Bytes.toBytes(row));
+    }
+
+    @Test
+    public void test_settings_appliedToParams() throws IOException {
+        newWriter(new HBaseBufferedWriter.Settings().writeBufferSize(4096L).flushInterval(Duration.ofMillis(250)));
+
+        final BufferedMutatorParams params = paramsCaptor.getValue();
+
+        assertEquals("events", params.getTableName().getNameAsString());
+        assertEquals(4096L, params.getWriteBufferSize());
+        assertEquals(250L, params.getWriteBufferPeriodicFlushTimeoutMs());
+    }
+
+    @Test
+    public void test_put_buffersWithoutFlush() throws IOException {
+        final HBaseBufferedWriter writer = newWriter(new HBaseBufferedWriter.Settings());
+
+        writer.put(put("r1"));
+        writer.put(AnyPut.of("r2").addColumn("e", "q", "v"));
+
+        verify(mutator, times(2)).mutate(any(Mutation.class));
+        verify(mutator, never()).flush();
+        assertEquals(2, writer.getPendingMutationCount());
+
+        writer.flush();
+
+        verify(mutator).flush();
+        assertEquals(0, writer.getPendingMutationCount());
+    }
+
+    @Test
+    public void test_backpressure_flushesWhenFull() throws IOException {
+        final HBaseBufferedWriter writer = newWriter(new HBaseBufferedWriter.Settings().maxPendingMutations(2));
+
+        writer.put(put("r1"));
+        writer.put(put("r2"));
+        verify(mutator, never()).flush();
+
+        writer.put(put("r3"));
+        verify(mutator).flush();
+        assertEquals(1, writer.getPendingMutationCount());
+    }
+
+    @Test
+    public void test_backpressure_flushesAgainWhenFreedPermitsAreTaken() throws Exception {
+        final HBaseBufferedWriter writer = newWriter(new HBaseBufferedWriter.Settings().maxPendingMutations(1));
+        final AtomicBoolean otherWriterStarted = new AtomicBoolean();
+        final List<CompletableFuture<Void>> otherWriter = new ArrayList<>();
+
+        // while the first flush runs, another writer competes for the permit it frees.
+        doAnswer(invocation -> {
+            if (otherWriterStarted.compareAndSet(false, true)) {
+                otherWriter.add(CompletableFuture.runAsync(() -> writer.put(put("r3"))));
+                Thread.sleep(50);
+            }
+
+            return null;
+        }).when(mutator).flush();
+
+        writer.put(put("r1"));
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> writer.put(put("r2")));
+        otherWriter.get(0).get(10, TimeUnit.SECONDS);
+
+        verify(mutator, times(3)).mutate(any(Mutation.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void test_mutateList_chunkedByMaxPending() throws IOException {
+        final HBaseBufferedWriter writer = newWriter(new HBaseBufferedWriter.Settings().maxPendingMutations(2));
+
+        writer.mutate(N.asList(put("r1"), put("r2"), put("r3"), put("r4"), put("r5")));
+
+        verify(mutator, times(3)).mutate(any(List.class));
+        verify(mutator, times(2)).flush();
+        assertEquals(1, writer.getPendingMutationCount());
+    }
+
+    @Test
+    public void test_failureListener() throws IOException {
+        final List<Mutation> failed = new ArrayList<>();
+        newWriter(new HBaseBufferedWriter.Settings().failureListener((mutation, cause) -> failed.add(mutation)));
+
+        final Put put = put("r1");
+        final List<Throwable> causes = N.asList(new IOException("boom"));
+        final List<Row> rows = N.asList(put);
+        paramsCaptor.getValue().getListener().onException(new RetriesExhaustedWithDetailsException(causes, rows, N.asList("rs1")), mutator);
+
+        assertEquals(1, failed.size());
+        assertSame(put, failed.get(0));
+    }
+
+    @Test
+    public void test_failureWithoutListener_rethrownByFlush() throws IOException {
+        final HBaseBufferedWriter writer = newWriter(new HBaseBufferedWriter.Settings());
+        final List<Throwable> causes = N.asList(new IOException("boom"));
+        final List<Row> rows = N.asList(put("r1"));
+
+        paramsCaptor.getValue().getListener().onException(new RetriesExhaustedWithDetailsException(causes, rows, N.asList("rs1")), mutator);
+
+        assertEquals(1, writer.getFailedMutationCount());
+        assertThrows(UncheckedIOException.class, writer::flush);
+
+        writer.flush(); // reported once
+    }
+
+    @Test
+    public void test_close() throws IOException {
+        final HBaseBufferedWriter writer = newWriter(new HBaseBufferedWriter.Settings());
+
+        writer.put(put("r1"));
+        writer.close();
+        writer.close();
+
+        verify(mutator, times(1)).close();
+        assertTrue(writer.isClosed());
+        assertThrows(IllegalStateException.class, () -> writer.put(put("r2")));
+    }
+
+    @Test
+    public void test_settings_rejectNonPositiveMaxPending() {
+        assertThrows(IllegalArgumentException.class, () -> new HBaseBufferedWriter.Settings().maxPendingMutations(0));
+    }
+}
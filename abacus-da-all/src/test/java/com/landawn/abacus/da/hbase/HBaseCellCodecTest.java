@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+
+import com.landawn.abacus.annotation.Id;
+import com.landawn.abacus.da.TestBase;
+import com.landawn.abacus.da.hbase.annotation.ColumnFamily;
+import com.landawn.abacus.type.Type;
+import com.landawn.abacus.util.N;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Unit tests for {@link HBaseCellCodec} and its use by {@link AnyPut#create(Object)} and
+ * {@link HBaseExecutor#toEntity(Result, Class)}.
+ */
+public class HBaseCellCodecTest extends TestBase {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ColumnFamily(value = "m", codec = HBaseCellCodec.BinaryCodec.class)
+    public static class Metric {
+        @Id
+        private String id;
+        private long count;
+        private Double avg;
+        private BigDecimal total;
+        private boolean active;
+        @ColumnFamily(value = "d", codec = HBaseCellCodec.StringCodec.class)
+        private Long legacyCount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ColumnFamily("m")
+    public static class PlainMetric {
+        @Id
+        private String id;
+        private long count;
+    }
+
+    @Test
+    public void test_binary_encode() {
+        assertArrayEquals(Bytes.toBytes(123L), HBaseCellCodec.BINARY.encode(123L, N.typeOf(long.class)));
+        assertArrayEquals(Bytes.toBytes(7), HBaseCellCodec.BINARY.encode(7, N.typeOf(Integer.class)));
+        assertArrayEquals(Bytes.toBytes(1.5d), HBaseCellCodec.BINARY.encode(1.5d, N.typeOf(double.class)));
+        assertArrayEquals(Bytes.toBytes(true), HBaseCellCodec.BINARY.encode(true, N.typeOf(boolean.class)));
+        assertArrayEquals(Bytes.toBytes(new BigDecimal("12.34")), HBaseCellCodec.BINARY.encode(new BigDecimal("12.34"), N.typeOf(BigDecimal.class)));
+        assertArrayEquals(Bytes.toBytes("abc"), HBaseCellCodec.BINARY.encode("abc", N.typeOf(String.class)));
+        assertNull(HBaseCellCodec.BINARY.encode(null, N.typeOf(long.class)));
+    }
+
+    @Test
+    public void test_binary_decode_fromOffset() {
+        final byte[] bytes = new byte[12];
+        Bytes.putLong(bytes, 2, 42L);
+
+        assertEquals(42L, HBaseCellCodec.BINARY.decode(bytes, 2, 8, N.typeOf(Long.class)));
+        assertEquals(0L, HBaseCellCodec.BINARY.decode(bytes, 2, 0, N.typeOf(long.class)));
+    }
+
+    @Test
+    public void test_binary_roundTrip() {
+        final Object[][] cases = { { 5L, long.class }, { -3, int.class }, { (short) 9, Short.class }, { (byte) 1, byte.class }, { 2.25d, Double.class },
+                { 0.5f, float.class }, { false, Boolean.class }, { new BigDecimal("-0.001"), BigDecimal.class }, { "text", String.class } };
+
+        for (final Object[] c : cases) {
+            final Type<?> type = N.typeOf((Class<?>) c[1]);
+            final byte[] bytes = HBaseCellCodec.BINARY.encode(c[0], type);
+
+            assertEquals(c[0], HBaseCellCodec.BINARY.decode(bytes, 0, bytes.length, type));
+        }
+    }
+
+    @Test
+    public void test_binary_decode_wrongLength() {
+        final byte[] bytes = Bytes.toBytes("123");
+
+        assertThrows(IllegalArgumentException.class, () -> HBaseCellCodec.BINARY.decode(bytes, 0, bytes.length, N.typeOf(long.class)));
+    }
+
+    @Test
+    public void test_string_matchesToValueBytes() {
+        assertArrayEquals(HBaseExecutor.toValueBytes(123L), HBaseCellCodec.STRING.encode(123L, N.typeOf(long.class)));
+        assertEquals(123L, HBaseCellCodec.STRING.decode(Bytes.toBytes("123"), 0, 3, N.typeOf(Long.class)));
+    }
+
+    @Test
+    public void test_getCellCodec_resolution() {
+        assertEquals(HBaseCellCodec.BINARY, HBaseExecutor.getCellCodec(Metric.class, "count", HBaseCellCodec.STRING));
+        assertEquals(HBaseCellCodec.STRING, HBaseExecutor.getCellCodec(Metric.class, "legacyCount", HBaseCellCodec.BINARY));
+        assertEquals(HBaseCellCodec.STRING, HBaseExecutor.getCellCodec(PlainMetric.class, "count", HBaseCellCodec.STRING));
+    }
+
+    @Test
+    public void test_anyPut_create_usesCodec() {
+        final Metric metric = new Metric("row-1", 100L, 2.5d, new BigDecimal("9.99"), true, 77L);
+        final Put put = AnyPut.create(metric).val();
+
+        assertArrayEquals(Bytes.toBytes(100L), CellUtil.cloneValue(put.get(Bytes.toBytes("m"), Bytes.toBytes("count")).get(0)));
+        assertArrayEquals(Bytes.toBytes(2.5d), CellUtil.cloneValue(put.get(Bytes.toBytes("m"), Bytes.toBytes("avg")).get(0)));
+
+        final Cell legacyCell = put.get(Bytes.toBytes("d"), Bytes.toBytes("legacyCount")).get(0);
+        assertEquals("77", Bytes.toString(CellUtil.cloneValue(legacyCell)));
+    }
+
+    @Test
+    public void test_toEntity_roundTrip() {
+        final Metric metric = new Metric("row-2", 100L, 2.5d, new BigDecimal("9.99"), true, 77L);
+        final Put put = AnyPut.create(metric).val();
+
+        final List<Cell> cells = new ArrayList<>();
+        put.getFamilyCellMap().values().forEach(cells::addAll);
+
+        assertEquals(metric, HBaseExecutor.toEntity(Result.create(cells), Metric.class));
+    }
+}
@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Increment;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Row;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.landawn.abacus.da.TestBase;
+import com.landawn.abacus.exception.UncheckedIOException;
+import com.landawn.abacus.util.N;
+
+/**
+ * Unit tests for {@link HBaseCounterAggregator}, using a mocked {@link Connection}.
+ */
+public class HBaseCounterAggregatorTest extends TestBase {
+
+    private final Connection conn = mock(Connection.class);
+    private final Table table = mock(Table.class);
+    private final List<Increment> sent = new CopyOnWriteArrayList<>();
+    private HBaseExecutor executor;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        when(conn.getAdmin()).thenReturn(mock(Admin.class));
+        when(conn.getTable(any(TableName.class))).thenReturn(table);
+
+        doAnswer(invocation -> {
+            final List<? extends Row> actions = invocation.getArgument(0);
+            final Object[] results = invocation.getArgument(1);
+
+            for (int i = 0; i < actions.size(); i++) {
+                sent.add((Increment) actions.get(i));
+                results[i] = Result.EMPTY_RESULT;
+            }
+
+            return null;
+        }).when(table).batch(anyList(), any(Object[].class));
+
+        executor = new HBaseExecutor(conn);
+    }
+
+    private static HBaseCounterAggregator.Settings manualFlush() {
+        return new HBaseCounterAggregator.Settings().flushInterval(Duration.ZERO);
+    }
+
+    private static long amountOf(final Increment increment, final String family, final String qualifier) {
+        for (final Cell cell : increment.getFamilyCellMap().get(Bytes.toBytes(family))) {
+            if (Bytes.equals(Bytes.toBytes(qualifier), 0, qualifier.length(), cell.getQualifierArray(), cell.getQualifierOffset(),
+                    cell.getQualifierLength())) {
+                return Bytes.toLong(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
+            }
+        }
+
+        return 0;
+    }
+
+    @Test
+    public void test_coalescesPerRow() throws Exception {
+        try (HBaseCounterAggregator counters = executor.createCounterAggregator("stats", manualFlush())) {
+            for (int i = 0; i < 1000; i++) {
+                counters.increment("p1", "s", "views", 1);
+                counters.increment("p1", "s", "clicks", 2);
+                counters.increment("p2", "s", "views", 3);
+            }
+
+            assertEquals(3, counters.getPendingCounterCount());
+            assertTrue(sent.isEmpty());
+
+            counters.flush();
+
+            assertEquals(2, sent.size());
+            assertEquals("p1", Bytes.toString(sent.get(0).getRow()));
+            assertEquals(1000, amountOf(sent.get(0), "s", "views"));
+            assertEquals(2000, amountOf(sent.get(0), "s", "clicks"));
+            assertEquals(3000, amountOf(sent.get(1), "s", "views"));
+            assertEquals(0, counters.getPendingCounterCount());
+            assertEquals(3000, counters.getAcceptedDeltaCount());
+            assertEquals(2, counters.getSentIncrementCount());
+        }
+    }
+
+    @Test
+    public void test_concurrentIncrements() throws Exception {
+        final int threads = 8;
+        final int perThread = 10_000;
+        final CountDownLatch done = new CountDownLatch(threads);
+
+        try (HBaseCounterAggregator counters = executor.createCounterAggregator("stats", manualFlush().maxPendingCounters(2))) {
+            for (int t = 0; t < threads; t++) {
+                new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        counters.increment("hot", "s", "n" + (i % 3), 1);
+                    }
+
+                    done.countDown();
+                }).start();
+            }
+
+            assertTrue(done.await(30, TimeUnit.SECONDS));
+        }
+
+        long total = 0;
+
+        for (final Increment increment : sent) {
+            total += amountOf(increment, "s", "n0") + amountOf(increment, "s", "n1") + amountOf(increment, "s", "n2");
+        }
+
+        assertEquals(threads * perThread, total);
+    }
+
+    @Test
+    public void test_sizeTriggeredFlush() {
+        final HBaseCounterAggregator counters = executor.createCounterAggregator("stats", manualFlush().maxPendingCounters(2));
+
+        counters.increment("p1", "s", "views", 1);
+        assertTrue(sent.isEmpty());
+
+        counters.increment("p2", "s", "views", 1);
+        assertEquals(2, sent.size());
+        assertEquals(0, counters.getPendingCounterCount());
+    }
+
+    @Test
+    public void test_timeTriggeredFlush() throws Exception {
+        try (HBaseCounterAggregator counters = executor.createCounterAggregator("stats",
+                new HBaseCounterAggregator.Settings().flushInterval(Duration.ofMillis(20)))) {
+            counters.increment("p1", "s", "views", 5);
+
+            final long deadline = System.currentTimeMillis() + 10_000;
+
+            while (sent.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(1, sent.size());
+            assertEquals(5, amountOf(sent.get(0), "s", "views"));
+        }
+    }
+
+    @Test
+    public void test_timeTriggeredFlushRunsOnTheAsyncExecutor() throws Exception {
+        final List<String> flushThreads = new CopyOnWriteArrayList<>();
+
+        doAnswer(invocation -> {
+            flushThreads.add(Thread.currentThread().getName());
+            return null;
+        }).when(table).batch(anyList(), any(Object[].class));
+
+        try (HBaseCounterAggregator counters = executor.createCounterAggregator("stats",
+                new HBaseCounterAggregator.Settings().flushInterval(Duration.ofMillis(20)))) {
+            counters.increment("p1", "s", "views", 5);
+
+            final long deadline = System.currentTimeMillis() + 10_000;
+
+            while (flushThreads.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+
+        assertFalse(flushThreads.isEmpty());
+        assertFalse(flushThreads.get(0).startsWith("HBaseCounterAggregator"));
+    }
+
+    @Test
+    public void test_incrementsRacingCloseAreSentOrRejected() throws Exception {
+        final int threads = 4;
+        final HBaseCounterAggregator counters = executor.createCounterAggregator("stats", manualFlush());
+        final AtomicLong accepted = new AtomicLong();
+        final CountDownLatch started = new CountDownLatch(threads);
+        final CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                started.countDown();
+
+                try {
+                    while (true) {
+                        counters.increment("hot", "s", "views", 1);
+                        accepted.incrementAndGet();
+                    }
+                } catch (final IllegalStateException e) {
+                    // closed.
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        Thread.sleep(20);
+        counters.close();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+
+        long total = 0;
+
+        for (final Increment increment : sent) {
+            total += amountOf(increment, "s", "views");
+        }
+
+        assertEquals(accepted.get(), total);
+    }
+
+    @Test
+    public void test_readYourWrites() throws Exception {
+        when(table.get(any(Get.class))).thenReturn(
+                Result.create(N.asList(new KeyValue(Bytes.toBytes("p1"), Bytes.toBytes("s"), Bytes.toBytes("views"), Bytes.toBytes(40L)))));
+
+        try (HBaseCounterAggregator counters = executor.createCounterAggregator("stats", manualFlush())) {
+            counters.increment("p1", "s", "views", 2);
+            counters.increment(AnyIncrement.of("p1").addColumn("s", "views", 3));
+
+            assertEquals(5, counters.getPendingDelta("p1", "s", "views"));
+            assertEquals(45, counters.getValue("p1", "s", "views"));
+            assertEquals(0, counters.getPendingDelta("p2", "s", "views"));
+        }
+    }
+
+    @Test
+    public void test_incrementsAndReadsDontWaitForTheBatchBeingSent() throws Exception {
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        doAnswer(invocation -> {
+            sending.countDown();
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+
+            final Object[] results = invocation.getArgument(1);
+            Arrays.fill(results, Result.EMPTY_RESULT);
+
+            return null;
+        }).when(table).batch(anyList(), any(Object[].class));
+
+        final HBaseCounterAggregator counters = executor.createCounterAggregator("stats", manualFlush());
+        counters.increment("p1", "s", "views", 2);
+
+        final Thread flusher = new Thread(counters::flush);
+        flusher.start();
+        assertTrue(sending.await(10, TimeUnit.SECONDS));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            counters.increment("p1", "s", "views", 3);
+
+            // the delta of the batch being sent is still counted until the batch completes.
+            assertEquals(5, counters.getPendingDelta("p1", "s", "views"));
+        });
+
+        release.countDown();
+        flusher.join(10_000);
+
+        assertEquals(3, counters.getPendingDelta("p1", "s", "views"));
+    }
+
+    @Test
+    public void test_getValueReadsAgainIfAFlushTookThePendingDeltas() throws Exception {
+        final AtomicLong stored = new AtomicLong(40);
+        final HBaseCounterAggregator counters = executor.createCounterAggregator("stats", manualFlush());
+
+        doAnswer(invocation -> {
+            final List<? extends Row> actions = invocation.getArgument(0);
+            final Object[] results = invocation.getArgument(1);
+            stored.addAndGet(amountOf((Increment) actions.get(0), "s", "views"));
+            Arrays.fill(results, Result.EMPTY_RESULT);
+
+            return null;
+        }).when(table).batch(anyList(), any(Object[].class));
+
+        final AtomicLong reads = new AtomicLong();
+
+        when(table.get(any(Get.class))).thenAnswer(invocation -> {
+            final long value = stored.get();
+
+            // a flush sends the pending delta between the first read and the read of the pending delta.
+            if (reads.incrementAndGet() == 1) {
+                counters.flush();
+            }
+
+            return Result.create(N.asList(new KeyValue(Bytes.toBytes("p1"), Bytes.toBytes("s"), Bytes.toBytes("views"), Bytes.toBytes(value))));
+        });
+
+        counters.increment("p1", "s", "views", 2);
+
+        assertEquals(42, counters.getValue("p1", "s", "views"));
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    public void test_zeroDeltaNotSent() {
+        final HBaseCounterAggregator counters = executor.createCounterAggregator("stats", manualFlush());
+
+        counters.increment("p1", "s", "views", 1);
+        counters.increment("p1", "s", "views", -1);
+        counters.flush();
+
+        assertTrue(sent.isEmpty());
+    }
+
+    @Test
+    public void test_failureRethrown() throws Exception {
+        Mockito.doThrow(new IOException("region unavailable")).when(table).batch(anyList(), any(Object[].class));
+
+        final HBaseCounterAggregator counters = executor.createCounterAggregator("stats", manualFlush());
+        counters.increment("p1", "s", "views", 1);
+
+        assertThrows(UncheckedIOException.class, counters::flush);
+        assertEquals(1, counters.getFailedIncrementCount());
+
+        counters.flush(); // reported once
+    }
+
+    @Test
+    public void test_failureListener() throws Exception {
+        Mockito.doThrow(new IOException("region unavailable")).when(table).batch(anyList(), any(Object[].class));
+
+        final List<Increment> failed = new ArrayList<>();
+        final HBaseCounterAggregator counters = executor.createCounterAggregator("stats",
+                manualFlush().failureListener((increment, cause) -> failed.add(increment)));
+
+        counters.increment("p1", "s", "views", 1);
+        counters.flush();
+
+        assertEquals(1, failed.size());
+        assertEquals("p1", Bytes.toString(failed.get(0).getRow()));
+    }
+
+    @Test
+    public void test_closedRejectsIncrements() {
+        final HBaseCounterAggregator counters = executor.createCounterAggregator("stats", manualFlush());
+
+        counters.increment("p1", "s", "views", 1);
+        counters.close();
+
+        assertEquals(1, sent.size());
+        assertTrue(counters.isClosed());
+        assertThrows(IllegalStateException.class, () -> counters.increment("p1", "s", "views", 1));
+    }
+
+    @Test
+    public void test_sharedAggregatorFlushedOnExecutorClose() throws IOException {
+        final HBaseCounterAggregator counters = executor.counterAggregator("stats");
+
+        assertSame(counters, executor.counterAggregator("stats"));
+
+        counters.increment("p1", "s", "views", 7);
+        executor.close();
+
+        assertEquals(1, sent.size());
+        assertTrue(counters.isClosed());
+        Mockito.verify(table, never()).increment(any(Increment.class));
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+
+import com.landawn.abacus.annotation.Column;
+import com.landawn.abacus.annotation.Id;
+import com.landawn.abacus.da.TestBase;
+import com.landawn.abacus.da.hbase.HBaseEntityDecoder.ByteKeyTable;
+import com.landawn.abacus.da.hbase.annotation.ColumnFamily;
+import com.landawn.abacus.util.Dataset;
+import com.landawn.abacus.util.HBaseColumn;
+import com.landawn.abacus.util.N;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Unit tests for {@link HBaseEntityDecoder}, the precompiled Result-to-entity decoder behind
+ * {@link HBaseExecutor#toEntity(Result, Class)}.
+ */
+public class HBaseEntityDecoderTest extends TestBase {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FullName {
+        private String firstName;
+        private String lastName;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PostalAddress {
+        private String street;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ColumnFamily("cf")
+    public static class Customer {
+        @Id
+        private String id;
+        @Column("e")
+        private String email;
+        private FullName name;
+        private PostalAddress addr;
+        @ColumnFamily("v")
+        @Column("score")
+        private List<HBaseColumn<Integer>> scores;
+        @ColumnFamily("v")
+        @Column("tag")
+        private Map<Long, HBaseColumn<String>> tags;
+    }
+
+    @Test
+    public void test_byteKeyTable_lookupBySlice() {
+        final ByteKeyTable<String> table = new ByteKeyTable<>(N.asMap("a", "A", "bb", "B", "", "EMPTY"));
+        final byte[] bytes = Bytes.toBytes("xbbz");
+
+        assertEquals("B", table.get(bytes, 1, 2));
+        assertEquals("EMPTY", table.get(bytes, 0, 0));
+        assertNull(table.get(bytes, 0, 1));
+        assertNull(table.get(bytes, 1, 3));
+    }
+
+    @Test
+    public void test_decode_nestedBeansSharingFamily() {
+        final byte[] row = Bytes.toBytes("c-1");
+        final Result result = Result.create(N.asList( //
+                new KeyValue(row, Bytes.toBytes("cf"), Bytes.toBytes("e"), Bytes.toBytes("a@b.c")),
+                new KeyValue(row, Bytes.toBytes("cf"), Bytes.toBytes("firstName"), Bytes.toBytes("Ann")),
+                new KeyValue(row, Bytes.toBytes("cf"), Bytes.toBytes("street"), Bytes.toBytes("Main St")),
+                new KeyValue(row, Bytes.toBytes("cf"), Bytes.toBytes("unknown"), Bytes.toBytes("x")),
+                new KeyValue(row, Bytes.toBytes("other"), Bytes.toBytes("e"), Bytes.toBytes("y"))));
+
+        final Customer customer = HBaseExecutor.getEntityDecoder(Customer.class).decode(result);
+
+        assertEquals("c-1", customer.getId());
+        assertEquals("a@b.c", customer.getEmail());
+        assertEquals("Ann", customer.getName().getFirstName());
+        assertNull(customer.getName().getLastName());
+        assertEquals("Main St", customer.getAddr().getStreet());
+    }
+
+    @Test
+    public void test_decode_versionedColumns() {
+        final byte[] row = Bytes.toBytes("c-2");
+        final Result result = Result.create(N.asList( //
+                new KeyValue(row, Bytes.toBytes("v"), Bytes.toBytes("score"), 20L, Bytes.toBytes("2")),
+                new KeyValue(row, Bytes.toBytes("v"), Bytes.toBytes("score"), 10L, Bytes.toBytes("1")),
+                new KeyValue(row, Bytes.toBytes("v"), Bytes.toBytes("tag"), 30L, Bytes.toBytes("new")),
+                new KeyValue(row, Bytes.toBytes("v"), Bytes.toBytes("tag"), 5L, Bytes.toBytes("old"))));
+
+        final Customer customer = HBaseExecutor.toEntity(result, Customer.class);
+
+        assertEquals(2, customer.getScores().size());
+        assertEquals(2, customer.getScores().get(0).value());
+        assertEquals(10L, customer.getScores().get(1).version());
+        assertEquals("new", customer.getTags().get(30L).value());
+        assertEquals("old", customer.getTags().get(5L).value());
+    }
+
+    @Test
+    public void test_decode_singleVersionKeepsFirstCell() {
+        final byte[] row = Bytes.toBytes("c-3");
+        final List<Cell> cells = N.asList( //
+                new KeyValue(row, Bytes.toBytes("cf"), Bytes.toBytes("e"), 2L, Bytes.toBytes("latest")),
+                new KeyValue(row, Bytes.toBytes("cf"), Bytes.toBytes("e"), 1L, Bytes.toBytes("older")));
+
+        final Customer customer = HBaseExecutor.toEntity(Result.create(cells), Customer.class);
+
+        assertNotNull(customer);
+        assertEquals("latest", customer.getEmail());
+    }
+
+    @Test
+    public void test_decodeInto_matchesDecode() {
+        final List<Result> results = N.asList(Result.create(N.asList( //
+                new KeyValue(Bytes.toBytes("c-1"), Bytes.toBytes("cf"), Bytes.toBytes("e"), Bytes.toBytes("a@b.c")),
+                new KeyValue(Bytes.toBytes("c-1"), Bytes.toBytes("cf"), Bytes.toBytes("firstName"), Bytes.toBytes("Ann")),
+                new KeyValue(Bytes.toBytes("c-1"), Bytes.toBytes("v"), Bytes.toBytes("score"), 20L, Bytes.toBytes("2")),
+                new KeyValue(Bytes.toBytes("c-1"), Bytes.toBytes("v"), Bytes.toBytes("score"), 10L, Bytes.toBytes("1")))),
+                Result.create(N.asList( //
+                        new KeyValue(Bytes.toBytes("c-2"), Bytes.toBytes("cf"), Bytes.toBytes("street"), Bytes.toBytes("Main St")),
+                        new KeyValue(Bytes.toBytes("c-2"), Bytes.toBytes("v"), Bytes.toBytes("tag"), 30L, Bytes.toBytes("new")))));
+
+        final HBaseEntityDecoder<Customer> decoder = HBaseExecutor.getEntityDecoder(Customer.class);
+        final List<String> columnNames = decoder.columnNames();
+        final List<List<Object>> columns = new ArrayList<>();
+
+        for (int i = 0; i < columnNames.size(); i++) {
+            columns.add(new ArrayList<>());
+        }
+
+        for (final Result result : results) {
+            decoder.decodeInto(result, columns);
+        }
+
+        assertEquals(N.asList("id", "email", "name", "addr", "scores", "tags"), columnNames);
+
+        for (int row = 0; row < results.size(); row++) {
+            final Customer customer = decoder.decode(results.get(row));
+
+            assertEquals(customer.getId(), columns.get(0).get(row));
+            assertEquals(customer.getEmail(), columns.get(1).get(row));
+            assertEquals(customer.getName(), columns.get(2).get(row));
+            assertEquals(customer.getAddr(), columns.get(3).get(row));
+            assertEquals(N.toString(customer.getScores()), N.toString(columns.get(4).get(row)));
+            assertEquals(N.toString(customer.getTags()), N.toString(columns.get(5).get(row)));
+        }
+
+        assertNull(columns.get(1).get(1));
+        assertEquals("Main St", ((PostalAddress) columns.get(3).get(1)).getStreet());
+    }
+
+    public static class Unmapped {
+    }
+
+    @Test
+    public void test_decodeInto_noProperties() {
+        final Result result = Result.create(N.asList(new KeyValue(Bytes.toBytes("u-1"), Bytes.toBytes("cf"), Bytes.toBytes("e"), Bytes.toBytes("x"))));
+        final HBaseEntityDecoder<Unmapped> decoder = HBaseExecutor.getEntityDecoder(Unmapped.class);
+        final List<List<Object>> columns = new ArrayList<>();
+
+        decoder.decodeInto(result, columns);
+
+        assertTrue(decoder.columnNames().isEmpty());
+        assertTrue(columns.isEmpty());
+    }
+
+    @Test
+    public void test_extractData() throws Exception {
+        final Connection conn = mock(Connection.class);
+        final Table table = mock(Table.class);
+        final ResultScanner scanner = mock(ResultScanner.class);
+        when(conn.getAdmin()).thenReturn(mock(Admin.class));
+        when(conn.getTable(any(TableName.class))).thenReturn(table);
+        when(table.getScanner(any(Scan.class))).thenReturn(scanner);
+        when(scanner.iterator()).thenReturn(N.asList( //
+                Result.create(N.asList(new KeyValue(Bytes.toBytes("c-1"), Bytes.toBytes("cf"), Bytes.toBytes("e"), Bytes.toBytes("a@b.c")))),
+                Result.EMPTY_RESULT, //
+                Result.create(N.asList(new KeyValue(Bytes.toBytes("c-2"), Bytes.toBytes("cf"), Bytes.toBytes("e"), Bytes.toBytes("d@e.f")))))
+                .iterator());
+
+        final Dataset ds = new HBaseExecutor(conn).extractData("customers", AnyScan.create(), Customer.class);
+
+        assertEquals(2, ds.size());
+        assertEquals(6, ds.columnCount());
+        assertEquals(N.asList("c-1", "c-2"), ds.getColumn("id"));
+        assertEquals(N.asList("a@b.c", "d@e.f"), ds.getColumn("email"));
+        assertThrows(IllegalArgumentException.class, () -> new HBaseExecutor(conn).extractData("customers", AnyScan.create(), String.class));
+    }
+
+    @Test
+    public void test_getEntityDecoder_isCached() {
+        assertSame(HBaseExecutor.getEntityDecoder(Customer.class), HBaseExecutor.getEntityDecoder(Customer.class));
+    }
+}
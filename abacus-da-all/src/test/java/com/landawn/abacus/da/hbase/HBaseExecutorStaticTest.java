@@ -43,6 +43,7 @@ import com.landawn.abacus.annotation.Table;
 import com.landawn.abacus.da.TestBase;
 import com.landawn.abacus.da.hbase.HBaseExecutor.HBaseMapper;
 import com.landawn.abacus.da.hbase.annotation.ColumnFamily;
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.NamingPolicy;
 
 import lombok.AllArgsConstructor;
@@ -1412,4 +1413,16 @@ public class HBaseExecutorStaticTest extends TestBase {
             executor.close();
         }
     }
+
+    @Test
+    public void testNewVirtualThreadAsyncExecutor() throws Exception {
+        if (Runtime.version().feature() < 21) {
+            assertThrows(UnsupportedOperationException.class, HBaseExecutor::newVirtualThreadAsyncExecutor);
+            return;
+        }
+
+        final AsyncExecutor asyncExecutor = HBaseExecutor.newVirtualThreadAsyncExecutor();
+
+        assertTrue(asyncExecutor.execute(() -> (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread())).get());
+    }
 }
@@ -5,8 +5,11 @@
 package com.landawn.abacus.da.hbase;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
@@ -15,8 +18,12 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.KeyValue;
@@ -25,8 +32,13 @@ import org.apache.hadoop.hbase.client.Admin;
 import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.Durability;
 import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.filter.FilterList;
+import org.apache.hadoop.hbase.filter.PageFilter;
+import org.apache.hadoop.hbase.filter.PrefixFilter;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import com.landawn.abacus.annotation.Column;
 import com.landawn.abacus.annotation.Id;
@@ -34,6 +46,8 @@ import com.landawn.abacus.annotation.Table;
 import com.landawn.abacus.da.TestBase;
 import com.landawn.abacus.da.hbase.HBaseExecutor.HBaseMapper;
 import com.landawn.abacus.da.hbase.annotation.ColumnFamily;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.NamingPolicy;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -181,6 +195,106 @@ public class HBaseMapperTest extends TestBase {
         assertEquals(1, users.size());
     }
 
+    // ---------------------------------------------------------------------
+    // column projection — get/scan fetch only the selected columns
+    // ---------------------------------------------------------------------
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ColumnFamily("info")
+    public static class Profile {
+        @Id
+        private String userId;
+        @Column("user_name")
+        private String name;
+        private String email;
+        @ColumnFamily("stats")
+        private int visits;
+    }
+
+    private static String columnsOf(final Map<byte[], NavigableSet<byte[]>> familyMap) {
+        final StringBuilder sb = new StringBuilder();
+
+        familyMap.forEach((family, qualifiers) -> qualifiers
+                .forEach(qualifier -> sb.append(sb.length() == 0 ? "" : ",").append(Bytes.toString(family)).append(':').append(Bytes.toString(qualifier))));
+
+        return sb.toString();
+    }
+
+    @Test
+    public void testGet_byRowKey_projectsSelectedColumnsOnly() throws Exception {
+        Mocks m = new Mocks();
+        when(m.table.get(any(org.apache.hadoop.hbase.client.Get.class))).thenReturn(Result.EMPTY_RESULT);
+        HBaseMapper<Profile, String> mapper = m.executor.mapper(Profile.class, "profiles", NamingPolicy.CAMEL_CASE);
+
+        mapper.get("u1");
+        mapper.get("u1", null);
+        mapper.get("u1", N.asList("name", "userId"));
+
+        // the whole row unless properties are selected: columns written under another naming policy are still read.
+        ArgumentCaptor<org.apache.hadoop.hbase.client.Get> get = ArgumentCaptor.forClass(org.apache.hadoop.hbase.client.Get.class);
+        verify(m.table, times(3)).get(get.capture());
+        assertFalse(get.getAllValues().get(0).hasFamilies());
+        assertFalse(get.getAllValues().get(1).hasFamilies());
+        assertEquals("info:user_name", columnsOf(get.getAllValues().get(2).getFamilyMap()));
+
+        assertThrows(IllegalArgumentException.class, () -> mapper.get("u1", N.asList("phone")));
+    }
+
+    @Test
+    public void testGet_collectionOfRowKeys_projectsSelectedColumns() throws Exception {
+        Mocks m = new Mocks();
+        when(m.table.get(any(List.class))).thenReturn(new Result[] { Result.EMPTY_RESULT, Result.EMPTY_RESULT });
+        HBaseMapper<Profile, String> mapper = m.executor.mapper(Profile.class, "profiles", NamingPolicy.CAMEL_CASE);
+
+        mapper.get(N.asList("u1", "u2"));
+        mapper.get(N.asList("u1", "u2"), N.asList("visits"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<org.apache.hadoop.hbase.client.Get>> gets = ArgumentCaptor.forClass(List.class);
+        verify(m.table, times(2)).get(gets.capture());
+        assertEquals(2, gets.getAllValues().get(0).size());
+        assertEquals(2, gets.getAllValues().get(1).size());
+
+        for (org.apache.hadoop.hbase.client.Get get : gets.getAllValues().get(0)) {
+            assertFalse(get.hasFamilies());
+        }
+
+        for (org.apache.hadoop.hbase.client.Get get : gets.getAllValues().get(1)) {
+            assertEquals("stats:visits", columnsOf(get.getFamilyMap()));
+        }
+    }
+
+    @Test
+    public void testScan_projectsSelectedColumnsOnly() throws Exception {
+        Mocks m = new Mocks();
+        ResultScanner scanner = mock(ResultScanner.class);
+        when(scanner.iterator()).thenAnswer(invocation -> Collections.<Result> emptyIterator());
+        when(m.table.getScanner(any(org.apache.hadoop.hbase.client.Scan.class))).thenReturn(scanner);
+        HBaseMapper<Profile, String> mapper = m.executor.mapper(Profile.class, "profiles", NamingPolicy.CAMEL_CASE);
+
+        mapper.scan("info").count();
+        mapper.scan(Bytes.toBytes("other")).count();
+
+        final AnyScan anyScan = AnyScan.create().setCaching(100);
+        mapper.scan(anyScan, N.asList("email", "visits")).count();
+        mapper.scan(AnyScan.create().addFamily("info"), null).count();
+
+        ArgumentCaptor<org.apache.hadoop.hbase.client.Scan> scan = ArgumentCaptor.forClass(org.apache.hadoop.hbase.client.Scan.class);
+        verify(m.table, times(4)).getScanner(scan.capture());
+        assertTrue(scan.getAllValues().get(0).getFamilyMap().containsKey(Bytes.toBytes("info")));
+        assertNull(scan.getAllValues().get(0).getFamilyMap().get(Bytes.toBytes("info")));
+        assertTrue(scan.getAllValues().get(1).getFamilyMap().containsKey(Bytes.toBytes("other")));
+        assertNull(scan.getAllValues().get(1).getFamilyMap().get(Bytes.toBytes("other")));
+        assertEquals("info:email,stats:visits", columnsOf(scan.getAllValues().get(2).getFamilyMap()));
+        assertEquals(100, scan.getAllValues().get(2).getCaching());
+        assertFalse(anyScan.val().hasFamilies());
+        assertNull(scan.getAllValues().get(3).getFamilyMap().get(Bytes.toBytes("info")));
+
+        assertThrows(IllegalArgumentException.class, () -> mapper.scan(AnyScan.create().addFamily("info"), N.asList("email")));
+    }
+
     // ---------------------------------------------------------------------
     // put() — entity, collection of entities, AnyPut, list of AnyPut
     // ---------------------------------------------------------------------
@@ -391,6 +505,80 @@ public class HBaseMapperTest extends TestBase {
         }
     }
 
+    // ---------------------------------------------------------------------
+    // page() — keyset pagination with continuation tokens
+    // ---------------------------------------------------------------------
+
+    @Test
+    public void testPage_followsContinuationTokens() throws Exception {
+        Mocks m = new Mocks();
+        List<org.apache.hadoop.hbase.client.Scan> scans = new ArrayList<>();
+
+        when(m.table.getScanner(any(org.apache.hadoop.hbase.client.Scan.class))).thenAnswer(invocation -> {
+            org.apache.hadoop.hbase.client.Scan scan = invocation.getArgument(0);
+            scans.add(scan);
+
+            List<Result> rows = new ArrayList<>();
+
+            for (int i = 1; i <= 5; i++) {
+                byte[] row = Bytes.toBytes("u0" + i);
+                int cmp = Bytes.compareTo(row, scan.getStartRow());
+
+                if (cmp > 0 || (cmp == 0 && scan.includeStartRow())) {
+                    rows.add(Result.create(Arrays.<Cell> asList(new KeyValue(row, Bytes.toBytes("info"), Bytes.toBytes("user_name"), Bytes.toBytes("n" + i)))));
+                }
+            }
+
+            ResultScanner scanner = mock(ResultScanner.class);
+            when(scanner.iterator()).thenReturn(rows.iterator());
+            return scanner;
+        });
+
+        HBasePage<User> page = m.mapper.page(2);
+        assertEquals(Arrays.asList("u01", "u02"), N.map(page.content(), User::getUserId));
+        assertTrue(page.hasNext());
+
+        page = m.mapper.page(AnyScan.create(), 2, page.continuationToken());
+        assertEquals(Arrays.asList("u03", "u04"), N.map(page.content(), User::getUserId));
+
+        page = m.mapper.page(AnyScan.create(), 2, page.continuationToken());
+        assertEquals(Arrays.asList("u05"), N.map(page.content(), User::getUserId));
+        assertFalse(page.hasNext());
+        assertNull(page.continuationToken());
+
+        assertEquals(3, scans.size());
+        assertEquals(3, scans.get(1).getLimit());
+        assertTrue(scans.get(1).getFilter() instanceof PageFilter);
+        assertEquals(3, ((PageFilter) scans.get(1).getFilter()).getPageSize());
+        assertEquals("u02", Bytes.toString(scans.get(1).getStartRow()));
+        assertFalse(scans.get(1).includeStartRow());
+    }
+
+    @Test
+    public void testPage_combinesFilterAndValidatesArguments() throws Exception {
+        Mocks m = new Mocks();
+        ResultScanner scanner = mock(ResultScanner.class);
+        when(scanner.iterator()).thenAnswer(invocation -> Collections.<Result> emptyIterator());
+        when(m.table.getScanner(any(org.apache.hadoop.hbase.client.Scan.class))).thenReturn(scanner);
+
+        AnyScan anyScan = AnyScan.create().setFilter(new PrefixFilter(Bytes.toBytes("u")));
+        HBasePage<User> page = m.mapper.page(anyScan, 10, null);
+
+        assertTrue(page.content().isEmpty());
+        assertFalse(page.hasNext());
+        assertTrue(anyScan.val().getFilter() instanceof PrefixFilter);
+
+        ArgumentCaptor<org.apache.hadoop.hbase.client.Scan> scan = ArgumentCaptor.forClass(org.apache.hadoop.hbase.client.Scan.class);
+        verify(m.table).getScanner(scan.capture());
+        FilterList filters = (FilterList) scan.getValue().getFilter();
+        assertTrue(filters.getFilters().get(0) instanceof PrefixFilter);
+        assertTrue(filters.getFilters().get(1) instanceof PageFilter);
+
+        assertThrows(IllegalArgumentException.class, () -> m.mapper.page(0));
+        assertThrows(IllegalArgumentException.class, () -> m.mapper.page(AnyScan.create().setBatch(10), 10, null));
+        assertThrows(IllegalArgumentException.class, () -> m.mapper.page(AnyScan.create(), 10, "not a token!"));
+    }
+
     // ---------------------------------------------------------------------
     // coprocessorService (returns a channel — we just verify no NPE; the table.close()
     // is invoked once for the lookup)
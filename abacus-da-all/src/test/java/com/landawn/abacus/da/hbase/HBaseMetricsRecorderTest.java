@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.apache.hadoop.hbase.client.metrics.ScanMetrics;
+import org.junit.jupiter.api.Test;
+
+import com.landawn.abacus.da.TestBase;
+
+/**
+ * Unit tests for {@link HBaseMetricsRecorder}.
+ */
+public class HBaseMetricsRecorderTest extends TestBase {
+
+    @Test
+    public void test_aggregatesPerTableAndOperation() {
+        final HBaseMetricsRecorder recorder = new HBaseMetricsRecorder();
+
+        recorder.onOperation("users", "get", 1_000, 1, 100, null);
+        recorder.onOperation("users", "get", 3_000, 10, 900, new IOException("timeout"));
+        recorder.onOperation("users", "put", 5_000, 2, 50, null);
+        recorder.onOperation("orders", "get", 7_000, 1, 10, null);
+
+        final HBaseMetricsRecorder.Stats stats = recorder.getStats("users", "get");
+
+        assertEquals("users", stats.tableName());
+        assertEquals("get", stats.operation());
+        assertEquals(2, stats.count());
+        assertEquals(1, stats.failureCount());
+        assertEquals(11, stats.rowCount());
+        assertEquals(1_000, stats.byteCount());
+        assertEquals(4_000, stats.totalNanos());
+        assertEquals(2_000, stats.meanNanos());
+        assertEquals(3_000, stats.maxNanos());
+        assertEquals(3, recorder.getAllStats().size());
+        assertNull(recorder.getStats("users", "delete"));
+
+        recorder.reset();
+
+        assertTrue(recorder.getAllStats().isEmpty());
+    }
+
+    @Test
+    public void test_scan() {
+        final HBaseMetricsRecorder recorder = new HBaseMetricsRecorder();
+        final ScanMetrics scanMetrics = new ScanMetrics();
+        scanMetrics.countOfRPCcalls.set(4);
+        scanMetrics.countOfRegions.set(2);
+        scanMetrics.countOfBytesInResults.set(4096);
+
+        recorder.onScan("users", 10_000, 300, scanMetrics, null);
+        recorder.onScan("users", 20_000, 100, null, null);
+
+        final HBaseMetricsRecorder.Stats stats = recorder.getStats("users", "scan");
+
+        assertEquals(2, stats.count());
+        assertEquals(400, stats.rowCount());
+        assertEquals(4096, stats.byteCount());
+        assertEquals(4, stats.rpcCount());
+        assertEquals(2, stats.regionCount());
+    }
+
+    @Test
+    public void test_percentiles() {
+        final HBaseMetricsRecorder recorder = new HBaseMetricsRecorder();
+
+        for (int i = 0; i < 99; i++) {
+            recorder.onOperation("t", "get", 1_000, 1, 0, null);
+        }
+
+        recorder.onOperation("t", "get", 1_000_000, 1, 0, null);
+
+        final HBaseMetricsRecorder.Stats stats = recorder.getStats("t", "get");
+
+        assertEquals(1_023, stats.percentileNanos(0.5));
+        assertEquals(1_023, stats.percentileNanos(0.99));
+        assertEquals(1_000_000, stats.percentileNanos(1));
+        assertEquals(1_023, stats.percentileNanos(0));
+        assertThrows(IllegalArgumentException.class, () -> stats.percentileNanos(1.5));
+        assertEquals(0, new HBaseMetricsRecorder().getAllStats().size());
+    }
+
+    @Test
+    public void test_bucketOf() {
+        assertEquals(0, HBaseMetricsRecorder.bucketOf(0));
+        assertEquals(0, HBaseMetricsRecorder.bucketOf(1));
+        assertEquals(1, HBaseMetricsRecorder.bucketOf(2));
+        assertEquals(9, HBaseMetricsRecorder.bucketOf(1_000));
+        assertEquals(63, HBaseMetricsRecorder.bucketOf(Long.MAX_VALUE));
+    }
+}
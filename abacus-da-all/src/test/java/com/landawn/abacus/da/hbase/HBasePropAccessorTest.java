@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.landawn.abacus.annotation.Id;
+import com.landawn.abacus.da.TestBase;
+import com.landawn.abacus.da.hbase.annotation.ColumnFamily;
+import com.landawn.abacus.parser.ParserUtil;
+import com.landawn.abacus.parser.ParserUtil.PropInfo;
+import com.landawn.abacus.util.HBaseColumn;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Unit tests for {@link HBasePropAccessor} and the generated-accessor mode of {@link HBaseExecutor}.
+ */
+public class HBasePropAccessorTest extends TestBase {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Address {
+        private String city;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ColumnFamily("cf")
+    public static class Account {
+        @Id
+        private String id;
+        private int age;
+        private Long balance;
+        private Address address;
+        @ColumnFamily("v")
+        private List<HBaseColumn<String>> notes;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        HBaseExecutor.setGeneratedPropAccessorsEnabled(false);
+    }
+
+    @Test
+    public void test_generate_getterAndSetter() {
+        final PropInfo propInfo = ParserUtil.getBeanInfo(Account.class).getPropInfo("balance");
+        final HBasePropAccessor accessor = HBasePropAccessor.generate(propInfo);
+        final Account account = new Account();
+
+        assertTrue(accessor.hasGeneratedGetter());
+        assertTrue(accessor.hasGeneratedSetter());
+
+        accessor.setPropValue(account, 100L);
+        assertEquals(100L, account.getBalance());
+        assertEquals(100L, accessor.getPropValue(account));
+
+        accessor.setPropValue(account, null);
+        assertNull(account.getBalance());
+    }
+
+    @Test
+    public void test_generate_primitiveProperty() {
+        final PropInfo propInfo = ParserUtil.getBeanInfo(Account.class).getPropInfo("age");
+        final HBasePropAccessor accessor = HBasePropAccessor.generate(propInfo);
+        final Account account = new Account();
+
+        accessor.setPropValue(account, 42);
+        assertEquals(42, account.getAge());
+        assertEquals(42, accessor.getPropValue(account));
+    }
+
+    @Test
+    public void test_reflective() {
+        final PropInfo propInfo = ParserUtil.getBeanInfo(Account.class).getPropInfo("id");
+        final HBasePropAccessor accessor = HBasePropAccessor.reflective(propInfo);
+        final Account account = new Account();
+
+        assertFalse(accessor.hasGeneratedGetter());
+        assertFalse(accessor.hasGeneratedSetter());
+
+        accessor.setPropValue(account, "a-1");
+        assertEquals("a-1", accessor.getPropValue(account));
+    }
+
+    @Test
+    public void test_getPropAccessor_followsMode() {
+        final PropInfo propInfo = ParserUtil.getBeanInfo(Account.class).getPropInfo("id");
+
+        assertFalse(HBaseExecutor.isGeneratedPropAccessorsEnabled());
+        assertFalse(HBaseExecutor.getPropAccessor(Account.class, propInfo).hasGeneratedGetter());
+
+        HBaseExecutor.setGeneratedPropAccessorsEnabled(true);
+
+        assertTrue(HBaseExecutor.isGeneratedPropAccessorsEnabled());
+        assertTrue(HBaseExecutor.getPropAccessor(Account.class, propInfo).hasGeneratedGetter());
+        assertSame(HBaseExecutor.getPropAccessor(Account.class, propInfo), HBaseExecutor.getPropAccessor(Account.class, propInfo));
+    }
+
+    @Test
+    public void test_roundTrip_generatedMatchesReflective() {
+        final Account account = new Account("a-2", 30, 500L, new Address("Paris"), List.of(HBaseColumn.valueOf("n1", 7L)));
+
+        final Account reflective = roundTrip(account);
+
+        HBaseExecutor.setGeneratedPropAccessorsEnabled(true);
+
+        final Account generated = roundTrip(account);
+
+        assertEquals(account, reflective);
+        assertEquals(reflective, generated);
+    }
+
+    private static Account roundTrip(final Account account) {
+        final Put put = AnyPut.create(account).val();
+        final List<Cell> cells = new ArrayList<>();
+        put.getFamilyCellMap().values().forEach(cells::addAll);
+
+        return HBaseExecutor.toEntity(Result.create(cells), Account.class);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+
+import com.landawn.abacus.da.TestBase;
+
+/**
+ * Unit tests for {@link HBaseTableCache} and its use by {@link HBaseExecutor}.
+ */
+public class HBaseTableCacheTest extends TestBase {
+
+    private final Connection conn = mock(Connection.class);
+
+    @Test
+    public void test_toTableName_shared() {
+        assertSame(HBaseTableCache.toTableName("ns:users"), HBaseTableCache.toTableName("ns:users"));
+        assertEquals(TableName.valueOf("ns", "users"), HBaseTableCache.toTableName("ns:users"));
+        assertThrows(IllegalArgumentException.class, () -> HBaseTableCache.toTableName("bad table"));
+    }
+
+    @Test
+    public void test_reusesReleasedTable() throws IOException {
+        final Table table = mock(Table.class);
+        when(conn.getTable(any(TableName.class))).thenReturn(table, mock(Table.class));
+
+        final HBaseTableCache cache = new HBaseTableCache(conn, 2);
+
+        cache.release("t", cache.borrow("t"));
+        assertSame(table, cache.borrow("t"));
+
+        verify(conn, times(1)).getTable(any(TableName.class));
+        verify(table, never()).close();
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate());
+    }
+
+    @Test
+    public void test_concurrentBorrowsGetDistinctTables() throws IOException {
+        when(conn.getTable(any(TableName.class))).thenAnswer(invocation -> mock(Table.class));
+
+        final HBaseTableCache cache = new HBaseTableCache(conn, 2);
+
+        assertNotSame(cache.borrow("t"), cache.borrow("t"));
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void test_evictsBeyondMaxIdle() throws IOException {
+        when(conn.getTable(any(TableName.class))).thenAnswer(invocation -> mock(Table.class));
+
+        final HBaseTableCache cache = new HBaseTableCache(conn, 1);
+        final Table t1 = cache.borrow("t");
+        final Table t2 = cache.borrow("t");
+
+        cache.release("t", t1);
+        cache.release("t", t2);
+
+        verify(t1, never()).close();
+        verify(t2).close();
+        assertEquals(1, cache.getIdleTableCount());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void test_disabled() throws IOException {
+        final Table table = mock(Table.class);
+        when(conn.getTable(any(TableName.class))).thenReturn(table);
+
+        final HBaseTableCache cache = new HBaseTableCache(conn, 0);
+
+        cache.release("t", cache.borrow("t"));
+
+        verify(table).close();
+        assertEquals(0, cache.getIdleTableCount());
+        assertEquals(0.0, cache.getHitRate());
+    }
+
+    @Test
+    public void test_closeDrainsIdleTables() throws IOException {
+        final Table table = mock(Table.class);
+        when(conn.getTable(any(TableName.class))).thenReturn(table);
+
+        final HBaseTableCache cache = new HBaseTableCache(conn, 4);
+        final Table inUse = cache.borrow("t");
+
+        cache.close();
+        cache.release("t", inUse);
+
+        verify(table).close();
+        assertEquals(0, cache.getIdleTableCount());
+    }
+
+    @Test
+    public void test_executorReusesTablesAndDrainsOnClose() throws IOException {
+        final Table table = mock(Table.class);
+        when(conn.getAdmin()).thenReturn(mock(Admin.class));
+        when(conn.getTable(any(TableName.class))).thenReturn(table);
+        when(table.exists(any(Get.class))).thenReturn(true);
+
+        final HBaseExecutor executor = new HBaseExecutor(conn, HBaseExecutor.DEFAULT_ASYNC_EXECUTOR, 8);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(executor.exists("t", new Get(Bytes.toBytes("k" + i))));
+        }
+
+        verify(conn, times(1)).getTable(any(TableName.class));
+        verify(table, never()).close();
+        assertEquals(9, executor.tableCache().getHitCount());
+
+        executor.close();
+
+        verify(table).close();
+    }
+
+    @Test
+    public void test_rejectsNegativeMaxIdle() throws IOException {
+        when(conn.getAdmin()).thenReturn(mock(Admin.class));
+
+        assertThrows(IllegalArgumentException.class, () -> new HBaseExecutor(conn, HBaseExecutor.DEFAULT_ASYNC_EXECUTOR, -1));
+    }
+}
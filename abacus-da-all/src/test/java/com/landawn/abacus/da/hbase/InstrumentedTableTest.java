@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.client.metrics.ScanMetrics;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.landawn.abacus.da.TestBase;
+import com.landawn.abacus.exception.UncheckedIOException;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.stream.Stream;
+
+/**
+ * Unit tests for {@link InstrumentedTable} and {@link HBaseExecutor#setMetricsListener(HBaseMetricsListener)}.
+ */
+public class InstrumentedTableTest extends TestBase {
+
+    private final Connection conn = mock(Connection.class);
+    private final Table table = mock(Table.class);
+    private final HBaseMetricsRecorder recorder = new HBaseMetricsRecorder();
+    private HBaseExecutor executor;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        when(conn.getAdmin()).thenReturn(mock(Admin.class));
+        when(conn.getTable(any(TableName.class))).thenReturn(table);
+
+        executor = new HBaseExecutor(conn);
+        executor.setMetricsListener(recorder);
+    }
+
+    private static Result row(final String row) {
+        return Result.create(N.asList(new KeyValue(Bytes.toBytes(row), Bytes.toBytes("cf"), Bytes.toBytes("v"), Bytes.toBytes(row))));
+    }
+
+    @Test
+    public void test_operations() throws Exception {
+        when(table.get(any(Get.class))).thenReturn(row("a"));
+
+        executor.get("t", AnyGet.of("a"));
+        executor.put("t", N.asList(AnyPut.of("a").addColumn("cf", "v", "1"), AnyPut.of("b").addColumn("cf", "v", "2")));
+
+        final HBaseMetricsRecorder.Stats gets = recorder.getStats("t", "get");
+        assertEquals(1, gets.count());
+        assertEquals(1, gets.rowCount());
+        assertEquals(Result.getTotalSizeOfCells(row("a")), gets.byteCount());
+
+        final HBaseMetricsRecorder.Stats puts = recorder.getStats("t", "put");
+        assertEquals(1, puts.count());
+        assertEquals(2, puts.rowCount());
+        assertTrue(puts.byteCount() > 0);
+        assertEquals(0, puts.failureCount());
+    }
+
+    @Test
+    public void test_failure() throws Exception {
+        doThrow(new IOException("region unavailable")).when(table).put(anyList());
+
+        assertThrows(UncheckedIOException.class, () -> executor.put("t", N.asList(AnyPut.of("a").addColumn("cf", "v", "1"))));
+
+        assertEquals(1, recorder.getStats("t", "put").failureCount());
+    }
+
+    @Test
+    public void test_scan() throws Exception {
+        final ResultScanner scanner = mock(ResultScanner.class);
+        final ScanMetrics scanMetrics = new ScanMetrics();
+        scanMetrics.countOfRPCcalls.set(3);
+        scanMetrics.countOfRegions.set(2);
+        when(scanner.next()).thenReturn(row("a"), row("b"), null);
+        when(scanner.iterator()).thenCallRealMethod();
+        when(scanner.getScanMetrics()).thenReturn(scanMetrics);
+        when(table.getScanner(any(Scan.class))).thenReturn(scanner);
+
+        final Scan scan = new Scan();
+
+        try (Stream<Result> results = executor.scan("t", scan)) {
+            assertEquals(2, results.count());
+        }
+
+        final ArgumentCaptor<Scan> captor = ArgumentCaptor.forClass(Scan.class);
+        verify(table).getScanner(captor.capture());
+        assertTrue(captor.getValue().isScanMetricsEnabled());
+        assertFalse(scan.isScanMetricsEnabled());
+
+        final HBaseMetricsRecorder.Stats stats = recorder.getStats("t", "scan");
+        assertEquals(1, stats.count());
+        assertEquals(2, stats.rowCount());
+        assertEquals(3, stats.rpcCount());
+        assertEquals(2, stats.regionCount());
+    }
+
+    @Test
+    public void test_wrapAndUnwrap() {
+        final Table wrapped = executor.borrowTable("t");
+
+        assertNotSame(table, wrapped);
+        assertSame(table, InstrumentedTable.unwrap(wrapped));
+        assertSame(table, InstrumentedTable.unwrap(table));
+        assertSame(table, InstrumentedTable.wrap("t", table, null));
+        assertTrue(wrapped.equals(wrapped));
+
+        executor.releaseTable("t", wrapped);
+        executor.setMetricsListener(null);
+
+        assertSame(table, executor.borrowTable("t"));
+    }
+
+    @Test
+    public void test_listenerFailureIsIgnored() throws Exception {
+        when(table.get(any(Get.class))).thenReturn(row("a"));
+
+        executor.setMetricsListener((tableName, operation, elapsedNanos, rowCount, byteCount, failure) -> {
+            throw new IllegalStateException("listener");
+        });
+
+        assertFalse(executor.get("t", AnyGet.of("a")).isEmpty());
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.AdvancedScanResultConsumer;
+import org.apache.hadoop.hbase.client.AsyncConnection;
+import org.apache.hadoop.hbase.client.AsyncTable;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.RowMutations;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.landawn.abacus.annotation.Id;
+import com.landawn.abacus.da.TestBase;
+import com.landawn.abacus.da.hbase.annotation.ColumnFamily;
+import com.landawn.abacus.util.ContinuableFuture;
+import com.landawn.abacus.util.N;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Unit tests for {@link NativeAsyncHBaseExecutor}, using a mocked {@link AsyncConnection}.
+ */
+public class NativeAsyncHBaseExecutorTest extends TestBase {
+
+    @Data
+    @NoArgsConstructor
+    @ColumnFamily("cf")
+    public static class User {
+        @Id
+        private String id;
+        private String name;
+    }
+
+    private final AsyncConnection conn = mock(AsyncConnection.class);
+    @SuppressWarnings("unchecked")
+    private final AsyncTable<AdvancedScanResultConsumer> table = mock(AsyncTable.class);
+    private NativeAsyncHBaseExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        when(conn.getTable(any(TableName.class))).thenReturn(table);
+        executor = new NativeAsyncHBaseExecutor(conn);
+    }
+
+    private static Result result(final String row, final String name) {
+        return Result.create(N.asList(new KeyValue(Bytes.toBytes(row), Bytes.toBytes("cf"), Bytes.toBytes("name"), Bytes.toBytes(name))));
+    }
+
+    @Test
+    public void test_getTable_reused() {
+        assertSame(table, executor.getTable("users"));
+        assertSame(table, executor.getTable("users"));
+
+        verify(conn, times(1)).getTable(TableName.valueOf("users"));
+    }
+
+    @Test
+    public void test_getTable_concurrentFirstCallsShareOneTable() {
+        final CountDownLatch start = new CountDownLatch(1);
+        when(conn.getTable(TableName.valueOf("events"))).thenAnswer(invocation -> {
+            Thread.sleep(20);
+            return table;
+        });
+
+        final List<CompletableFuture<AsyncTable<AdvancedScanResultConsumer>>> futures = N.map(N.asList(1, 2, 3, 4, 5, 6, 7, 8),
+                i -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException(e);
+                    }
+
+                    return executor.getTable("events");
+                }));
+
+        start.countDown();
+
+        for (final CompletableFuture<AsyncTable<AdvancedScanResultConsumer>> future : futures) {
+            assertSame(table, future.join());
+        }
+
+        verify(conn, times(1)).getTable(TableName.valueOf("events"));
+    }
+
+    @Test
+    public void test_get_completedByTable() throws Exception {
+        final CompletableFuture<Result> pending = new CompletableFuture<>();
+        when(table.get(any(Get.class))).thenReturn(pending);
+
+        final ContinuableFuture<Result> future = executor.get("users", AnyGet.of("u1"));
+
+        assertFalse(future.isDone());
+
+        final Result result = result("u1", "Ann");
+        pending.complete(result);
+
+        assertSame(result, future.get());
+    }
+
+    @Test
+    public void test_get_toEntity() throws Exception {
+        when(table.get(any(Get.class))).thenReturn(CompletableFuture.completedFuture(result("u1", "Ann")));
+
+        final User user = executor.get("users", AnyGet.of("u1"), User.class).get();
+
+        assertEquals("u1", user.getId());
+        assertEquals("Ann", user.getName());
+    }
+
+    @Test
+    public void test_get_list_toEntities() throws Exception {
+        when(table.getAll(any())).thenReturn(CompletableFuture.completedFuture(N.asList(result("u1", "Ann"), result("u2", "Bob"))));
+
+        final List<User> users = executor.get("users", N.asList(AnyGet.of("u1"), AnyGet.of("u2")), User.class).get();
+
+        assertEquals(2, users.size());
+        assertEquals("Bob", users.get(1).getName());
+    }
+
+    @Test
+    public void test_emptyBatch_noRequest() throws Exception {
+        assertTrue(executor.exists("users", N.<Get> emptyList()).get().isEmpty());
+        assertNull(executor.put("users", N.<Put> emptyList()).get());
+
+        verify(table, never()).existsAll(any());
+        verify(table, never()).putAll(any());
+    }
+
+    @Test
+    public void test_failure_propagated() {
+        final CompletableFuture<Void> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("region unavailable"));
+        when(table.put(any(Put.class))).thenReturn(failed);
+
+        final ContinuableFuture<Void> future = executor.put("users", AnyPut.of("u1").addColumn("cf", "name", "Ann"));
+
+        final ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(IOException.class, e.getCause());
+    }
+
+    @Test
+    public void test_mutateRow() throws Exception {
+        when(table.mutateRow(any(RowMutations.class))).thenAnswer(invocation -> CompletableFuture.completedFuture(null));
+
+        final RowMutations rm = new RowMutations(Bytes.toBytes("u1"));
+        rm.add(new Put(Bytes.toBytes("u1")).addColumn(Bytes.toBytes("cf"), Bytes.toBytes("name"), Bytes.toBytes("Ann")));
+
+        assertNull(executor.mutateRow("users", rm).get());
+    }
+
+    @Test
+    public void test_incrementColumnValue() throws Exception {
+        when(table.incrementColumnValue(any(byte[].class), any(byte[].class), any(byte[].class), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(5L));
+
+        assertEquals(5L, executor.incrementColumnValue("users", "u1", "cf", "visits", 1L).get());
+    }
+
+    @Test
+    public void test_close() throws IOException {
+        executor.close();
+
+        verify(conn).close();
+    }
+}
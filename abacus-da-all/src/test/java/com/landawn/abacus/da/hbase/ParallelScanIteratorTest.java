@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+
+import com.landawn.abacus.da.TestBase;
+import com.landawn.abacus.exception.UncheckedIOException;
+import com.landawn.abacus.util.AsyncExecutor;
+import com.landawn.abacus.util.N;
+
+/**
+ * Unit tests for {@link ParallelScanIterator}, the sub-scan merger behind
+ * {@link HBaseExecutor#parallelScan(String, AnyScan, int, boolean)}.
+ */
+public class ParallelScanIteratorTest extends TestBase {
+
+    private static final byte[][] START_KEYS = { Bytes.toBytes(""), Bytes.toBytes("c"), Bytes.toBytes("f") };
+    private static final byte[][] END_KEYS = { Bytes.toBytes("c"), Bytes.toBytes("f"), Bytes.toBytes("") };
+
+    private final AsyncExecutor asyncExecutor = new AsyncExecutor(4, 4, 60L, TimeUnit.SECONDS);
+
+    @Test
+    public void test_split_fullTable() throws IOException {
+        final List<Scan> subScans = ParallelScanIterator.split(new Scan(), START_KEYS, END_KEYS);
+
+        assertEquals(3, subScans.size());
+        assertArrayEquals(Bytes.toBytes(""), subScans.get(0).getStartRow());
+        assertArrayEquals(Bytes.toBytes("c"), subScans.get(0).getStopRow());
+        assertArrayEquals(Bytes.toBytes("c"), subScans.get(1).getStartRow());
+        assertTrue(subScans.get(1).includeStartRow());
+        assertFalse(subScans.get(1).includeStopRow());
+        assertArrayEquals(Bytes.toBytes(""), subScans.get(2).getStopRow());
+    }
+
+    @Test
+    public void test_split_boundedRange() throws IOException {
+        final Scan scan = new Scan().withStartRow(Bytes.toBytes("d"), false).withStopRow(Bytes.toBytes("g"), true).addFamily(Bytes.toBytes("cf"));
+        final List<Scan> subScans = ParallelScanIterator.split(scan, START_KEYS, END_KEYS);
+
+        assertEquals(2, subScans.size());
+        assertArrayEquals(Bytes.toBytes("d"), subScans.get(0).getStartRow());
+        assertFalse(subScans.get(0).includeStartRow());
+        assertArrayEquals(Bytes.toBytes("f"), subScans.get(0).getStopRow());
+        assertFalse(subScans.get(0).includeStopRow());
+        assertArrayEquals(Bytes.toBytes("f"), subScans.get(1).getStartRow());
+        assertArrayEquals(Bytes.toBytes("g"), subScans.get(1).getStopRow());
+        assertTrue(subScans.get(1).includeStopRow());
+        assertTrue(subScans.get(1).hasFamilies());
+    }
+
+    @Test
+    public void test_split_stopRowOnRegionBoundary() throws IOException {
+        assertEquals(1, ParallelScanIterator.split(new Scan().withStopRow(Bytes.toBytes("c")), START_KEYS, END_KEYS).size());
+        assertEquals(2, ParallelScanIterator.split(new Scan().withStopRow(Bytes.toBytes("c"), true), START_KEYS, END_KEYS).size());
+        assertEquals(1, ParallelScanIterator.split(new Scan().withStartRow(Bytes.toBytes("f")), START_KEYS, END_KEYS).size());
+    }
+
+    @Test
+    public void test_ordered() throws IOException {
+        final List<Result> results = drain(newIterator(true, 2, null));
+
+        assertEquals(N.asList("a", "b", "c", "d", "e", "f", "g"), rows(results));
+    }
+
+    @Test
+    public void test_unordered() throws IOException {
+        final List<String> rows = rows(drain(newIterator(false, 3, null)));
+
+        Collections.sort(rows);
+        assertEquals(N.asList("a", "b", "c", "d", "e", "f", "g"), rows);
+    }
+
+    @Test
+    public void test_singleScanReadAhead() throws IOException {
+        final ParallelScanIterator iter = new ParallelScanIterator(mockExecutor(null, new ArrayList<>()), "t",
+                N.asList(new Scan().withStartRow(Bytes.toBytes("c"))), 1, true, asyncExecutor, 1);
+
+        assertEquals(N.asList("c", "d", "e"), rows(drain(iter)));
+    }
+
+    @Test
+    public void test_failure() throws IOException {
+        final ParallelScanIterator iter = newIterator(true, 3, "c");
+
+        assertThrows(UncheckedIOException.class, () -> drain(iter));
+        iter.closeResource();
+    }
+
+    @Test
+    public void test_interruptedSubScanFailsTheConsumer() throws IOException {
+        final HBaseExecutor hbaseExecutor = mock(HBaseExecutor.class);
+        final Table table = mock(Table.class);
+        final ResultScanner scanner = mock(ResultScanner.class);
+        final Iterator<String> rows = N.asList("a", "b", "c").iterator();
+
+        when(hbaseExecutor.getTable("t")).thenReturn(table);
+        when(hbaseExecutor.instrument(eq("t"), any(Table.class))).thenAnswer(invocation -> invocation.getArgument(1));
+        when(table.getScanner(any(Scan.class))).thenReturn(scanner);
+        when(scanner.next()).thenAnswer(invocation -> {
+            final String row = rows.next();
+
+            // the sub-scan task is interrupted, e.g. by the shutdown of its executor, while it queues "b".
+            if (row.equals("b")) {
+                Thread.currentThread().interrupt();
+            }
+
+            return result(row);
+        });
+
+        final ParallelScanIterator iter = new ParallelScanIterator(hbaseExecutor, "t", N.asList(new Scan()), 1, true, asyncExecutor,
+                ParallelScanIterator.BUFFER_SIZE_PER_SUB_SCAN);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assertEquals("a", Bytes.toString(iter.next().getRow()));
+            assertThrows(RuntimeException.class, iter::hasNext);
+        });
+
+        assertFalse(Thread.currentThread().isInterrupted());
+        verify(scanner, atLeastOnce()).close();
+        iter.closeResource();
+    }
+
+    @Test
+    public void test_close_closesScanners() throws IOException {
+        final List<ResultScanner> scanners = Collections.synchronizedList(new ArrayList<>());
+        final HBaseExecutor hbaseExecutor = mockExecutor(null, scanners);
+        final ParallelScanIterator iter = new ParallelScanIterator(hbaseExecutor, "t", ParallelScanIterator.split(new Scan(), START_KEYS, END_KEYS), 3,
+                true, asyncExecutor, ParallelScanIterator.BUFFER_SIZE_PER_SUB_SCAN);
+
+        assertTrue(iter.hasNext());
+        iter.closeResource();
+
+        assertFalse(iter.hasNext());
+
+        for (final ResultScanner scanner : scanners) {
+            verify(scanner, atLeastOnce()).close();
+        }
+    }
+
+    private ParallelScanIterator newIterator(final boolean ordered, final int parallelism, final String failingStartRow) throws IOException {
+        return new ParallelScanIterator(mockExecutor(failingStartRow, new ArrayList<>()), "t", ParallelScanIterator.split(new Scan(), START_KEYS, END_KEYS),
+                parallelism, ordered, asyncExecutor, ParallelScanIterator.BUFFER_SIZE_PER_SUB_SCAN);
+    }
+
+    private static HBaseExecutor mockExecutor(final String failingStartRow, final List<ResultScanner> scanners) throws IOException {
+        final HBaseExecutor hbaseExecutor = mock(HBaseExecutor.class);
+        final Table table = mock(Table.class);
+
+        when(hbaseExecutor.getTable("t")).thenReturn(table);
+        when(hbaseExecutor.instrument(eq("t"), any(Table.class))).thenAnswer(invocation -> invocation.getArgument(1));
+        when(table.getScanner(any(Scan.class))).thenAnswer(invocation -> {
+            final Scan scan = invocation.getArgument(0);
+            final String startRow = Bytes.toString(scan.getStartRow());
+
+            if (startRow.equals(failingStartRow)) {
+                throw new IOException("region unavailable");
+            }
+
+            final List<String> rows = switch (startRow) {
+                case "" -> N.asList("a", "b");
+                case "c" -> N.asList("c", "d", "e");
+                default -> N.asList("f", "g");
+            };
+
+            final Iterator<String> iter = rows.iterator();
+            final ResultScanner scanner = mock(ResultScanner.class);
+            when(scanner.next()).thenAnswer(inv -> iter.hasNext() ? result(iter.next()) : null);
+            scanners.add(scanner);
+
+            return scanner;
+        });
+
+        return hbaseExecutor;
+    }
+
+    private static Result result(final String row) {
+        return Result.create(N.asList(new KeyValue(Bytes.toBytes(row), Bytes.toBytes("cf"), Bytes.toBytes("q"), Bytes.toBytes(row))));
+    }
+
+    private static List<Result> drain(final ParallelScanIterator iter) {
+        final List<Result> results = new ArrayList<>();
+
+        while (iter.hasNext()) {
+            results.add(iter.next());
+        }
+
+        return results;
+    }
+
+    private static List<String> rows(final List<Result> results) {
+        final List<String> rows = new ArrayList<>();
+
+        for (final Result result : results) {
+            rows.add(Bytes.toString(result.getRow()));
+        }
+
+        return rows;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, Haiyang Li. All rights reserved.
+ */
+
+package com.landawn.abacus.da.hbase;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.landawn.abacus.annotation.Id;
+import com.landawn.abacus.da.TestBase;
+import com.landawn.abacus.da.hbase.HBaseExecutor.HBaseMapper;
+import com.landawn.abacus.da.hbase.annotation.ColumnFamily;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.NamingPolicy;
+import com.landawn.abacus.util.stream.Stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Unit tests for {@link RowKeyDistributor} and its use by {@link HBaseMapper}.
+ */
+public class RowKeyDistributorTest extends TestBase {
+
+    private static final RowKeyDistributor DISTRIBUTOR = RowKeyDistributor.hashPrefix(4);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ColumnFamily("cf")
+    public static class SaltedEvent {
+        @Id
+        private String id;
+        private String name;
+    }
+
+    @BeforeAll
+    public static void registerDistributor() {
+        HBaseExecutor.registerRowKeyProperty(SaltedEvent.class, "id", DISTRIBUTOR);
+    }
+
+    private static Result result(final byte[] row, final String name) {
+        return Result.create(N.asList(new KeyValue(row, Bytes.toBytes("cf"), Bytes.toBytes("name"), Bytes.toBytes(name))));
+    }
+
+    @Test
+    public void test_hashPrefix_roundTrip() {
+        final Set<Byte> buckets = new HashSet<>();
+
+        for (int i = 0; i < 100; i++) {
+            final byte[] rowKey = Bytes.toBytes("event-" + i);
+            final byte[] stored = DISTRIBUTOR.toStoredRowKey(rowKey);
+
+            assertEquals(rowKey.length + 1, stored.length);
+            assertTrue(stored[0] >= 0 && stored[0] < 4);
+            assertArrayEquals(stored, DISTRIBUTOR.toStoredRowKey(rowKey));
+            assertArrayEquals(rowKey, DISTRIBUTOR.toOriginalRowKey(stored));
+
+            buckets.add(stored[0]);
+        }
+
+        assertEquals(4, buckets.size());
+    }
+
+    @Test
+    public void test_hashPrefix_bucketCount() {
+        assertThrows(IllegalArgumentException.class, () -> RowKeyDistributor.hashPrefix(0));
+        assertThrows(IllegalArgumentException.class, () -> RowKeyDistributor.hashPrefix(257));
+        assertEquals(256, RowKeyDistributor.hashPrefix(256).toStoredScans(new Scan()).size());
+    }
+
+    @Test
+    public void test_toStoredScans_range() {
+        final Scan scan = new Scan().withStartRow(Bytes.toBytes("b")).withStopRow(Bytes.toBytes("d"), true);
+        final List<Scan> storedScans = DISTRIBUTOR.toStoredScans(scan);
+
+        assertEquals(4, storedScans.size());
+        assertArrayEquals(new byte[] { 2, 'b' }, storedScans.get(2).getStartRow());
+        assertArrayEquals(new byte[] { 2, 'd' }, storedScans.get(2).getStopRow());
+        assertTrue(storedScans.get(2).includeStopRow());
+    }
+
+    @Test
+    public void test_toStoredScans_fullTable() {
+        final List<Scan> storedScans = DISTRIBUTOR.toStoredScans(new Scan());
+
+        assertArrayEquals(new byte[] { 0 }, storedScans.get(0).getStartRow());
+        assertArrayEquals(new byte[] { 1 }, storedScans.get(0).getStopRow());
+        assertArrayEquals(new byte[] { 3 }, storedScans.get(3).getStartRow());
+        assertArrayEquals(new byte[] { 4 }, storedScans.get(3).getStopRow());
+        assertFalse(storedScans.get(3).includeStopRow());
+    }
+
+    @Test
+    public void test_mapper_putAndGet() throws IOException {
+        final Connection conn = mock(Connection.class);
+        final Table table = mock(Table.class);
+        when(conn.getAdmin()).thenReturn(mock(Admin.class));
+        when(conn.getTable(any(TableName.class))).thenReturn(table);
+
+        final byte[] stored = DISTRIBUTOR.toStoredRowKey(Bytes.toBytes("e1"));
+        when(table.get(any(Get.class))).thenReturn(result(stored, "login"));
+
+        final HBaseMapper<SaltedEvent, String> mapper = new HBaseExecutor(conn).mapper(SaltedEvent.class, "events", NamingPolicy.CAMEL_CASE);
+
+        mapper.put(new SaltedEvent("e1", "login"));
+
+        final ArgumentCaptor<Put> put = ArgumentCaptor.forClass(Put.class);
+        verify(table).put(put.capture());
+        assertArrayEquals(stored, put.getValue().getRow());
+
+        final SaltedEvent event = mapper.get("e1");
+
+        final ArgumentCaptor<Get> get = ArgumentCaptor.forClass(Get.class);
+        verify(table).get(get.capture());
+        assertArrayEquals(stored, get.getValue().getRow());
+        assertEquals("e1", event.getId());
+        assertEquals("login", event.getName());
+    }
+
+    @Test
+    public void test_mapper_scanMergesBuckets() throws IOException {
+        final Connection conn = mock(Connection.class);
+        final Table table = mock(Table.class);
+        when(conn.getAdmin()).thenReturn(mock(Admin.class));
+        when(conn.getTable(any(TableName.class))).thenReturn(table);
+
+        final List<List<Result>> buckets = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            buckets.add(new ArrayList<>());
+        }
+
+        for (int i = 10; i < 30; i++) {
+            final byte[] stored = DISTRIBUTOR.toStoredRowKey(Bytes.toBytes("e" + i));
+            buckets.get(stored[0]).add(result(stored, "n" + i));
+        }
+
+        when(table.getScanner(any(Scan.class))).thenAnswer(invocation -> {
+            final Scan scan = invocation.getArgument(0);
+            final ResultScanner scanner = mock(ResultScanner.class);
+            when(scanner.iterator()).thenReturn(buckets.get(scan.getStartRow()[0]).iterator());
+            return scanner;
+        });
+
+        final HBaseMapper<SaltedEvent, String> mapper = new HBaseExecutor(conn).mapper(SaltedEvent.class, "events", NamingPolicy.CAMEL_CASE);
+
+        final List<String> ids;
+
+        try (Stream<SaltedEvent> events = mapper.scan("cf")) {
+            ids = events.map(SaltedEvent::getId).toList();
+        }
+
+        final List<String> expected = new ArrayList<>();
+
+        for (int i = 10; i < 30; i++) {
+            expected.add("e" + i);
+        }
+
+        assertEquals(expected, ids);
+
+        try (Stream<SaltedEvent> events = mapper.scan(AnyScan.create().setLimit(5))) {
+            assertEquals(expected.subList(0, 5), events.map(SaltedEvent::getId).toList());
+        }
+    }
+}